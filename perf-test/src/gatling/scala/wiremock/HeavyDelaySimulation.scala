@@ -0,0 +1,44 @@
+package wiremock
+
+import io.gatling.core.Predef._
+import io.gatling.http.Predef._
+
+import scala.concurrent.duration._
+
+/**
+  * Keeps around RATE * 2 connections open at once against a stub with a 2 second fixed delay. Run
+  * with VIRTUAL_THREADS=true to serve them by blocking on virtual threads, rather than through the
+  * 50 container and asynchronous response threads.
+  */
+class HeavyDelaySimulation extends Simulation {
+
+  val loadTestConfiguration = LoadTestConfiguration.fromEnvironment()
+
+  before {
+    loadTestConfiguration.before()
+    loadTestConfiguration.heavyDelayStubScenario()
+  }
+
+  after {
+    loadTestConfiguration.after()
+  }
+
+  val httpConf = http
+    .baseURL(loadTestConfiguration.getBaseUrl)
+
+  val heavyDelayScenario = {
+    scenario("Heavy fixed delay GETs")
+      .exec(http("Delayed GETs")
+        .get("load-test/delayed")
+        .check(status.is(200)))
+  }
+
+  setUp(
+    heavyDelayScenario.inject(constantUsersPerSec(loadTestConfiguration.getRate) during(loadTestConfiguration.getDurationSeconds seconds))
+  ).protocols(httpConf)
+    .assertions(
+      global.successfulRequests.percent.gte(99),
+      global.responseTime.percentile3.lt(LoadTestConfiguration.HEAVY_DELAY_MILLISECONDS * 2)
+    )
+
+}
@@ -36,8 +36,9 @@ public class LoadTestConfiguration {
         Integer port = envInt("PORT", null);
         int durationSeconds = envInt("DURATION_SECONDS", 10);
         int rate = envInt("RATE", 200);
+        boolean virtualThreads = Boolean.parseBoolean(System.getenv("VIRTUAL_THREADS"));
 
-        return new LoadTestConfiguration(host, port, durationSeconds, rate);
+        return new LoadTestConfiguration(host, port, durationSeconds, rate, virtualThreads);
     }
 
     private static Integer envInt(String key, Integer defaultValue) {
@@ -50,15 +51,20 @@ public class LoadTestConfiguration {
     }
 
     public LoadTestConfiguration(String host, Integer port, int durationSeconds, int rate) {
+        this(host, port, durationSeconds, rate, false);
+    }
+
+    public LoadTestConfiguration(String host, Integer port, int durationSeconds, int rate, boolean virtualThreads) {
         System.out.println("Running test against host " + host + ", for " + durationSeconds + " seconds at rate " + rate);
 
         if (host == null || port == null) {
             wireMockServer = new WireMockServer(WireMockConfiguration.options()
                     .dynamicPort()
                     .dynamicHttpsPort()
-                    .asynchronousResponseEnabled(true)
+                    .asynchronousResponseEnabled(!virtualThreads)
                     .asynchronousResponseThreads(50)
                     .containerThreads(50)
+                    .virtualThreads(virtualThreads)
                     .maxRequestJournalEntries(1000)
                     .notifier(new Slf4jNotifier(false))
                     .extensions(new ResponseTemplateTransformer(false)));
@@ -154,6 +160,11 @@ public class LoadTestConfiguration {
         executorService.shutdown();
     }
 
+    public void heavyDelayStubScenario() {
+        wm.register(get(urlPathEqualTo("/load-test/delayed"))
+                .willReturn(ok(randomAscii(100, 2000)).withFixedDelay(HEAVY_DELAY_MILLISECONDS)));
+    }
+
     public void mixed100StubScenario() {
         // TODO: Optionally add delay
         wm.setGlobalRandomDelayVariable(new UniformDistribution(100, 2000));
@@ -239,6 +250,8 @@ public class LoadTestConfiguration {
         return rate;
     }
 
+    public static final int HEAVY_DELAY_MILLISECONDS = 2000;
+
     public static final String POSTED_JSON = "{\n" +
         "    \"things\": [\n" +
         "        {\n" +
@@ -36,7 +36,9 @@ import com.github.tomakehurst.wiremock.global.GlobalSettings;
 import com.github.tomakehurst.wiremock.http.CaseInsensitiveKey;
 import com.github.tomakehurst.wiremock.http.HttpServerFactory;
 import com.github.tomakehurst.wiremock.http.client.HttpClientFactory;
+import com.github.tomakehurst.wiremock.http.client.apache5.ApacheAsyncHttpClientFactory;
 import com.github.tomakehurst.wiremock.http.client.apache5.ApacheHttpClientFactory;
+import com.github.tomakehurst.wiremock.http.ssl.CertificateKeyType;
 import com.github.tomakehurst.wiremock.http.trafficlistener.ConsoleNotifyingWiremockNetworkTrafficListener;
 import com.github.tomakehurst.wiremock.http.trafficlistener.DoNothingWiremockNetworkTrafficListener;
 import com.github.tomakehurst.wiremock.http.trafficlistener.WiremockNetworkTrafficListener;
@@ -46,9 +48,13 @@ import com.github.tomakehurst.wiremock.security.Authenticator;
 import com.github.tomakehurst.wiremock.security.BasicAuthenticator;
 import com.github.tomakehurst.wiremock.security.NoAuthenticator;
 import com.github.tomakehurst.wiremock.store.DefaultStores;
+import com.github.tomakehurst.wiremock.store.InMemoryRequestJournalStore;
+import com.github.tomakehurst.wiremock.store.RequestJournalStore;
+import com.github.tomakehurst.wiremock.store.RingBufferRequestJournalStore;
 import com.github.tomakehurst.wiremock.store.Stores;
 import java.io.IOException;
 import java.io.StringWriter;
+import java.nio.file.Path;
 import java.util.*;
 import java.util.Optional;
 import java.util.Set;
@@ -118,6 +124,9 @@ public class CommandLineOptions implements Options {
   private static final String HTTPS_CA_KEYSTORE = "ca-keystore";
   private static final String HTTPS_CA_KEYSTORE_PASSWORD = "ca-keystore-password";
   private static final String HTTPS_CA_KEYSTORE_TYPE = "ca-keystore-type";
+  private static final String CERTIFICATE_KEY_TYPE = "certificate-key-type";
+  private static final String CERTIFICATE_CACHE_DIR = "certificate-cache-dir";
+  private static final String PRE_GENERATE_CERTIFICATES = "pre-generate-certificates";
   private static final String DISABLE_OPTIMIZE_XML_FACTORIES_LOADING =
       "disable-optimize-xml-factories-loading";
   private static final String DISABLE_STRICT_HTTP_HEADERS = "disable-strict-http-headers";
@@ -136,6 +145,23 @@ public class CommandLineOptions implements Options {
   private static final String WEBSOCKET_MAX_BINARY_MESSAGE_SIZE =
       "websocket-max-binary-message-size";
   private static final String SESSION_AWARE_SCENARIOS = "session-aware-scenarios";
+  private static final String SESSION_IDLE_TIMEOUT = "session-idle-timeout";
+  private static final String MAX_SESSIONS = "max-sessions";
+  private static final String INDEXED_STUB_MATCHING = "indexed-stub-matching";
+  private static final String RING_BUFFER_REQUEST_JOURNAL = "ring-buffer-request-journal";
+  private static final String VIRTUAL_THREADS = "virtual-threads";
+  private static final String MAX_BODY_FILE_CACHE_BYTES = "max-body-file-cache-bytes";
+  private static final String MAPPINGS_BUNDLE = "mappings-bundle";
+  private static final String EXPORT_MAPPINGS_BUNDLE = "export-mappings-bundle";
+  private static final String MAX_NEAR_MISS_DIAGNOSTICS_PER_SECOND =
+      "max-near-miss-diagnostics-per-second";
+  private static final String STREAM_PROXY_RESPONSES = "stream-proxy-responses";
+  private static final String ASYNC_HTTP_CLIENT = "async-http-client";
+  private static final String MAX_HTTP_CLIENT_CONNECTIONS_PER_ROUTE =
+      "max-http-client-connections-per-route";
+  private static final String HTTP_CLIENT_IDLE_CONNECTION_TIMEOUT =
+      "http-client-idle-connection-timeout";
+  private static final String HTTP_CLIENT_KEEP_ALIVE = "http-client-keep-alive";
 
   private final OptionSet optionSet;
 
@@ -360,6 +386,27 @@ public class CommandLineOptions implements Options {
         .availableIf(HTTPS_CA_KEYSTORE)
         .withRequiredArg()
         .defaultsTo("jks");
+    optionParser
+        .accepts(
+            CERTIFICATE_KEY_TYPE,
+            "Type of key (rsa or ec) to generate certificates with when proxying HTTPS. ec keys are much faster to generate and are used for clients that accept them.")
+        .availableIf(ENABLE_BROWSER_PROXYING)
+        .withRequiredArg()
+        .defaultsTo("rsa");
+    optionParser
+        .accepts(
+            CERTIFICATE_CACHE_DIR,
+            "Directory to keep certificates generated when proxying HTTPS in, so they are reused after a restart.")
+        .availableIf(ENABLE_BROWSER_PROXYING)
+        .withRequiredArg();
+    optionParser
+        .accepts(
+            PRE_GENERATE_CERTIFICATES,
+            "Comma separated list of host names to generate certificates for at startup when proxying HTTPS.")
+        .availableIf(ENABLE_BROWSER_PROXYING)
+        .withRequiredArg()
+        .ofType(String.class)
+        .withValuesSeparatedBy(",");
     optionParser
         .accepts(
             LOAD_RESOURCES_FROM_CLASSPATH,
@@ -424,6 +471,72 @@ public class CommandLineOptions implements Options {
     optionParser.accepts(
         SESSION_AWARE_SCENARIOS,
         "Enable session-aware scenarios for isolated state management per session");
+    optionParser
+        .accepts(
+            SESSION_IDLE_TIMEOUT,
+            "Milliseconds after which an idle session's scenario state is discarded. Defaults to never")
+        .withRequiredArg();
+    optionParser
+        .accepts(
+            MAX_SESSIONS,
+            "Maximum number of sessions to keep scenario state for, discarding the least recently used")
+        .withRequiredArg();
+    optionParser.accepts(
+        INDEXED_STUB_MATCHING,
+        "Index stubs by request method and URL so that only candidate stubs are evaluated per request");
+    optionParser.accepts(
+        RING_BUFFER_REQUEST_JOURNAL,
+        "Store the request journal in a fixed-size ring buffer. Requires --max-request-journal-entries");
+    optionParser.accepts(
+        VIRTUAL_THREADS,
+        "Handle requests and dispatch webhooks on virtual threads. Requires Java 21 or later");
+    optionParser
+        .accepts(
+            MAX_BODY_FILE_CACHE_BYTES,
+            "Cache body files in memory up to this many bytes in total. Defaults to 0 (no caching)")
+        .withRequiredArg();
+    optionParser
+        .accepts(
+            MAPPINGS_BUNDLE,
+            "Load stubs from this JSON bundle file instead of the mappings directory, if it "
+                + "exists. Removing a stub that came from the bundle only removes it from memory")
+        .withRequiredArg();
+    optionParser
+        .accepts(
+            EXPORT_MAPPINGS_BUNDLE,
+            "Write the stubs loaded at startup to a single JSON bundle file, for use with "
+                + "--mappings-bundle")
+        .withRequiredArg();
+    optionParser
+        .accepts(
+            MAX_NEAR_MISS_DIAGNOSTICS_PER_SECOND,
+            "Find near misses for at most this many unmatched requests per second. Defaults to 0"
+                + " (no limit)")
+        .withRequiredArg();
+    optionParser.accepts(
+        STREAM_PROXY_RESPONSES,
+        "Pass proxied response bodies on as they're received instead of reading them into memory");
+    optionParser.accepts(
+        ASYNC_HTTP_CLIENT,
+        "Use a non-blocking HTTP client, which can use HTTP/2, for proxying and webhooks");
+    optionParser
+        .accepts(
+            MAX_HTTP_CLIENT_CONNECTIONS_PER_ROUTE,
+            "Maximum connections for Http Client to any one host. Defaults to the maximum"
+                + " connections")
+        .withRequiredArg();
+    optionParser
+        .accepts(
+            HTTP_CLIENT_IDLE_CONNECTION_TIMEOUT,
+            "Milliseconds after which Http Client closes idle pooled connections. Defaults to"
+                + " never")
+        .withRequiredArg();
+    optionParser
+        .accepts(
+            HTTP_CLIENT_KEEP_ALIVE,
+            "Milliseconds Http Client keeps a connection for reuse when the response doesn't say."
+                + " Defaults to 3 minutes")
+        .withRequiredArg();
 
     optionParser.accepts(VERSION, "Prints wiremock version information and exits");
 
@@ -442,7 +555,9 @@ public class CommandLineOptions implements Options {
       fileSource = new SingleRootFileSource((String) optionSet.valueOf(ROOT_DIR));
     }
 
-    stores = new DefaultStores(fileSource);
+    stores =
+        new DefaultStores(
+            fileSource, optionSet.has(INDEXED_STUB_MATCHING), newRequestJournalStore());
 
     if (optionSet.has(PROXY_PASS_THROUGH)) {
       GlobalSettings newSettings =
@@ -457,11 +572,16 @@ public class CommandLineOptions implements Options {
     }
 
     filenameMaker = new FilenameMaker(getFilenameTemplateOption());
-    mappingsSource =
+    MappingsSource jsonFileMappingsSource =
         new JsonFileMappingsSource(
             fileSource.child(MAPPINGS_ROOT),
             fileSource.child(MESSAGE_MAPPINGS_ROOT),
             filenameMaker);
+    mappingsSource =
+        optionSet.has(MAPPINGS_BUNDLE)
+            ? new BundleMappingsSource(
+                Path.of((String) optionSet.valueOf(MAPPINGS_BUNDLE)), jsonFileMappingsSource)
+            : jsonFileMappingsSource;
     buildExtensions();
 
     actualHttpPort = null;
@@ -551,7 +671,9 @@ public class CommandLineOptions implements Options {
 
   @Override
   public HttpClientFactory httpClientFactory() {
-    return new ApacheHttpClientFactory();
+    return optionSet.has(ASYNC_HTTP_CLIENT)
+        ? new ApacheAsyncHttpClientFactory()
+        : new ApacheHttpClientFactory();
   }
 
   private boolean specifiesPortNumber() {
@@ -866,10 +988,18 @@ public class CommandLineOptions implements Options {
       }
       map.put(HTTPS_CA_KEYSTORE, keyStoreSettings.path());
       map.put(HTTPS_CA_KEYSTORE_TYPE, keyStoreSettings.type());
+      map.put(CERTIFICATE_KEY_TYPE, browserProxySettings.certificateKeyType());
+      if (browserProxySettings.certificateCacheDirectory() != null) {
+        map.put(CERTIFICATE_CACHE_DIR, browserProxySettings.certificateCacheDirectory());
+      }
     }
 
     map.put(DISABLE_BANNER, bannerDisabled());
 
+    if (optionSet.has(MAPPINGS_BUNDLE)) {
+      map.put(MAPPINGS_BUNDLE, optionSet.valueOf(MAPPINGS_BUNDLE));
+    }
+
     if (recordMappingsEnabled()) {
       map.put(RECORD_MAPPINGS, recordMappingsEnabled());
       map.put(MATCH_HEADERS, matchingHeaders());
@@ -1005,6 +1135,11 @@ public class CommandLineOptions implements Options {
         .trustAllProxyTargets(optionSet.has(TRUST_ALL_PROXY_TARGETS))
         .trustedProxyTargets((List<String>) optionSet.valuesOf(TRUST_PROXY_TARGET))
         .caKeyStoreSettings(keyStoreSettings)
+        .certificateKeyType(
+            CertificateKeyType.valueOf(
+                optionSet.valueOf(CERTIFICATE_KEY_TYPE).toString().toUpperCase()))
+        .certificateCacheDirectory((String) optionSet.valueOf(CERTIFICATE_CACHE_DIR))
+        .preGeneratedCertificateHosts((List<String>) optionSet.valuesOf(PRE_GENERATE_CERTIFICATES))
         .build();
   }
 
@@ -1108,4 +1243,86 @@ public class CommandLineOptions implements Options {
   public boolean getSessionAwareScenariosEnabled() {
     return optionSet.has(SESSION_AWARE_SCENARIOS);
   }
+
+  @Override
+  public long getSessionIdleTimeoutMillis() {
+    return optionSet.has(SESSION_IDLE_TIMEOUT)
+        ? Long.parseLong((String) optionSet.valueOf(SESSION_IDLE_TIMEOUT))
+        : 0;
+  }
+
+  @Override
+  public int getMaxSessions() {
+    return optionSet.has(MAX_SESSIONS)
+        ? Integer.parseInt((String) optionSet.valueOf(MAX_SESSIONS))
+        : 0;
+  }
+
+  @Override
+  public boolean getIndexedStubMatchingEnabled() {
+    return optionSet.has(INDEXED_STUB_MATCHING);
+  }
+
+  @Override
+  public boolean getRingBufferRequestJournalEnabled() {
+    return optionSet.has(RING_BUFFER_REQUEST_JOURNAL);
+  }
+
+  @Override
+  public boolean getVirtualThreadsEnabled() {
+    return optionSet.has(VIRTUAL_THREADS);
+  }
+
+  @Override
+  public long getMaxBodyFileCacheBytes() {
+    return optionSet.has(MAX_BODY_FILE_CACHE_BYTES)
+        ? Long.parseLong((String) optionSet.valueOf(MAX_BODY_FILE_CACHE_BYTES))
+        : 0;
+  }
+
+  @Override
+  public double getMaxNearMissDiagnosticsPerSecond() {
+    return optionSet.has(MAX_NEAR_MISS_DIAGNOSTICS_PER_SECOND)
+        ? Double.parseDouble((String) optionSet.valueOf(MAX_NEAR_MISS_DIAGNOSTICS_PER_SECOND))
+        : 0;
+  }
+
+  @Override
+  public boolean getProxyResponseStreamingEnabled() {
+    return optionSet.has(STREAM_PROXY_RESPONSES);
+  }
+
+  @Override
+  public int getMaxHttpClientConnectionsPerRoute() {
+    return optionSet.has(MAX_HTTP_CLIENT_CONNECTIONS_PER_ROUTE)
+        ? Integer.parseInt((String) optionSet.valueOf(MAX_HTTP_CLIENT_CONNECTIONS_PER_ROUTE))
+        : getMaxHttpClientConnections();
+  }
+
+  @Override
+  public long getHttpClientIdleConnectionTimeoutMillis() {
+    return optionSet.has(HTTP_CLIENT_IDLE_CONNECTION_TIMEOUT)
+        ? Long.parseLong((String) optionSet.valueOf(HTTP_CLIENT_IDLE_CONNECTION_TIMEOUT))
+        : 0;
+  }
+
+  @Override
+  public long getHttpClientKeepAliveMillis() {
+    return optionSet.has(HTTP_CLIENT_KEEP_ALIVE)
+        ? Long.parseLong((String) optionSet.valueOf(HTTP_CLIENT_KEEP_ALIVE))
+        : 0;
+  }
+
+  /**
+   * @return the file to write a bundle of the stubs loaded at startup to, or null
+   */
+  public String exportMappingsBundlePath() {
+    return (String) optionSet.valueOf(EXPORT_MAPPINGS_BUNDLE);
+  }
+
+  private RequestJournalStore newRequestJournalStore() {
+    return getRingBufferRequestJournalEnabled() && maxRequestJournalEntries().orElse(0) > 0
+        ? new RingBufferRequestJournalStore(maxRequestJournalEntries().get())
+        : new InMemoryRequestJournalStore();
+  }
 }
@@ -34,6 +34,7 @@ import com.github.tomakehurst.wiremock.matching.RequestPattern;
 import com.github.tomakehurst.wiremock.recording.RecordSpecBuilder;
 import com.github.tomakehurst.wiremock.recording.RecordingStatus;
 import com.github.tomakehurst.wiremock.stubbing.StubMapping;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Set;
 
@@ -118,6 +119,13 @@ public class WireMockServerRunner {
         out.println("extensions:                   " + String.join(",", loadedExtensionNames));
       }
 
+      String exportPath = options.exportMappingsBundlePath();
+      if (exportPath != null) {
+        List<StubMapping> stubMappings = wireMockServer.getStubMappings();
+        MappingsBundle.write(stubMappings, Path.of(exportPath));
+        out.println("Exported " + stubMappings.size() + " stub mappings to " + exportPath);
+      }
+
     } catch (FatalStartupException e) {
       System.err.println(e.getMessage());
       System.exit(1);
@@ -0,0 +1,118 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package benchmarks;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.matching.MockRequest.mockRequest;
+
+import com.github.tomakehurst.wiremock.http.Request;
+import com.github.tomakehurst.wiremock.http.RequestMethod;
+import com.github.tomakehurst.wiremock.matching.RequestPattern;
+import java.util.ArrayList;
+import java.util.List;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares checking stubs for an exact match, which stops at the first non-matching part of each
+ * request pattern, with computing every stub's full distance as is done for near misses.
+ */
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 2)
+@Fork(1)
+@Measurement(iterations = 5)
+public class BodyHeavyRequestMatchingBenchmark {
+
+  @State(Scope.Benchmark)
+  public static class BenchmarkState {
+
+    @Param({"100", "1000"})
+    public int stubCount;
+
+    private final List<RequestPattern> requestPatterns = new ArrayList<>();
+    private final List<Request> requests = new ArrayList<>();
+
+    @Setup
+    public void setup() {
+      // Every stub shares a method and URL, so only the tenant header tells them apart before
+      // the JSON body has to be compared.
+      for (int i = 0; i < stubCount; i++) {
+        requestPatterns.add(
+            post(urlPathEqualTo("/orders"))
+                .withHeader("X-Tenant", equalTo("tenant-" + i))
+                .withRequestBody(equalToJson(orderJson(i), true, false))
+                .withRequestBody(matchingJsonPath("$.items[?(@.quantity > 1)]"))
+                .build()
+                .getRequest());
+
+        requests.add(
+            mockRequest()
+                .method(RequestMethod.POST)
+                .url("/orders")
+                .header("X-Tenant", "tenant-" + i)
+                .body(orderJson(i)));
+      }
+    }
+
+    private static String orderJson(int id) {
+      return """
+          {
+            "id": %d,
+            "customer": { "name": "Customer %d", "email": "customer%d@example.com" },
+            "items": [
+              { "sku": "A-%d", "quantity": 2, "price": 12.5 },
+              { "sku": "B-%d", "quantity": 1, "price": 7.25 }
+            ]
+          }
+          """
+          .formatted(id, id, id, id, id);
+    }
+  }
+
+  @Benchmark
+  public long exactMatch(BenchmarkState state) {
+    final Request request = pickRandom(state.requests);
+    return state.requestPatterns.stream()
+        .filter(requestPattern -> requestPattern.match(request).isExactMatch())
+        .count();
+  }
+
+  @Benchmark
+  public double fullDistance(BenchmarkState state) {
+    final Request request = pickRandom(state.requests);
+    return state.requestPatterns.stream()
+        .mapToDouble(requestPattern -> requestPattern.match(request).getDistance())
+        .sum();
+  }
+
+  private static <T> T pickRandom(List<T> values) {
+    return values.get((int) (Math.random() * values.size()));
+  }
+
+  public static void main(String[] args) throws Exception {
+    Options opt =
+        new OptionsBuilder()
+            .include(BodyHeavyRequestMatchingBenchmark.class.getSimpleName())
+            .warmupIterations(2)
+            .forks(1)
+            .measurementIterations(5)
+            .build();
+
+    new Runner(opt).run();
+  }
+}
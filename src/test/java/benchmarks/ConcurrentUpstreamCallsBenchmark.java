@@ -0,0 +1,137 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package benchmarks;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.http.ImmutableRequest;
+import com.github.tomakehurst.wiremock.http.Request;
+import com.github.tomakehurst.wiremock.http.RequestMethod;
+import com.github.tomakehurst.wiremock.http.Response;
+import com.github.tomakehurst.wiremock.http.client.HttpClient;
+import com.github.tomakehurst.wiremock.http.client.HttpClientFactory;
+import com.github.tomakehurst.wiremock.http.client.apache5.ApacheAsyncHttpClientFactory;
+import com.github.tomakehurst.wiremock.http.client.apache5.ApacheHttpClientFactory;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures making a batch of concurrent calls to a slow upstream from a small, fixed pool of
+ * threads, as webhooks are dispatched. A blocking client can only have as many calls in flight as
+ * there are threads.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Fork(1)
+@Measurement(iterations = 5)
+public class ConcurrentUpstreamCallsBenchmark {
+
+  @State(Scope.Benchmark)
+  public static class BenchmarkState {
+
+    @Param({"blocking", "async"})
+    public String client;
+
+    @Param({"200"})
+    public int calls;
+
+    @Param({"4"})
+    public int threads;
+
+    private WireMockServer upstream;
+    private HttpClient httpClient;
+    private ExecutorService callerThreads;
+    private Request request;
+
+    @Setup
+    public void setup() {
+      upstream =
+          new WireMockServer(
+              wireMockConfig()
+                  .dynamicPort()
+                  .dynamicHttpsPort()
+                  .asynchronousResponseEnabled(true)
+                  .asynchronousResponseThreads(4)
+                  .disableRequestJournal());
+      upstream.start();
+      upstream.stubFor(any(anyUrl()).willReturn(ok("done").withFixedDelay(50)));
+
+      HttpClientFactory factory =
+          client.equals("async")
+              ? new ApacheAsyncHttpClientFactory()
+              : new ApacheHttpClientFactory();
+      httpClient =
+          factory.buildHttpClient(
+              wireMockConfig().maxHttpClientConnections(calls),
+              true,
+              Collections.emptyList(),
+              true);
+      callerThreads = Executors.newFixedThreadPool(threads);
+      request =
+          ImmutableRequest.create()
+              .withMethod(RequestMethod.POST)
+              .withAbsoluteUrl(upstream.url("/callback"))
+              .withBody("{}".getBytes())
+              .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+      callerThreads.shutdownNow();
+      upstream.stop();
+    }
+  }
+
+  @Benchmark
+  public int concurrentCalls(BenchmarkState state) {
+    @SuppressWarnings("unchecked")
+    CompletableFuture<Response>[] responses = new CompletableFuture[state.calls];
+    for (int i = 0; i < state.calls; i++) {
+      responses[i] =
+          CompletableFuture.supplyAsync(
+                  () -> state.httpClient.executeAsync(state.request), state.callerThreads)
+              .thenCompose(response -> response);
+    }
+
+    int ok = 0;
+    for (CompletableFuture<Response> response : responses) {
+      ok += response.join().getStatus() == 200 ? 1 : 0;
+    }
+    return ok;
+  }
+
+  public static void main(String[] args) throws Exception {
+    Options opt =
+        new OptionsBuilder()
+            .include(ConcurrentUpstreamCallsBenchmark.class.getSimpleName())
+            .warmupIterations(2)
+            .forks(1)
+            .measurementIterations(5)
+            .build();
+
+    new Runner(opt).run();
+  }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2024 Thomas Akehurst
+ * Copyright (C) 2024-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,6 +22,7 @@ import static com.github.tomakehurst.wiremock.stubbing.ServeEventFactory.newPost
 
 import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
 import com.github.tomakehurst.wiremock.extension.responsetemplating.ResponseTemplateTransformer;
+import com.github.tomakehurst.wiremock.http.ResponseDefinition;
 import com.github.tomakehurst.wiremock.matching.MockRequest;
 import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
 import com.github.tomakehurst.wiremock.stubbing.StubMapping;
@@ -37,10 +38,32 @@ public class HandlebarsOptimizedTemplateBenchmark {
   @State(Scope.Benchmark)
   public static class HandlebarsOptimizedTemplateBenchmarkState {
     private ResponseTemplateTransformer transformer;
+    private String largeMostlyStaticTemplate;
+    private StubMapping stubWithMostlyStaticHeaders;
+    private MockRequest requestWithManyHeaders;
 
     @Setup
     public void setup() {
       transformer = ExtensionFactoryUtils.buildTemplateTransformer(true);
+      largeMostlyStaticTemplate =
+          "{\"method\": \"{{request.method}}\", \"items\": ["
+              + "{\"name\": \"item\", \"value\": 12345},".repeat(50_000)
+              + "{\"url\": \"{{request.url}}\"}]}";
+
+      ResponseDefinitionBuilder response =
+          aResponse()
+              .withBody("{\"name\": \"item\", \"value\": 12345}".repeat(500))
+              .withHeader("X-Request-Path", "{{request.path}}");
+      for (int i = 0; i < 10; i++) {
+        response.withHeader("X-Static-" + i, "static value " + i);
+      }
+      stubWithMostlyStaticHeaders = get("/things").willReturn(response).build();
+      transformer.afterStubCreated(stubWithMostlyStaticHeaders);
+
+      requestWithManyHeaders = mockRequest().url("/things");
+      for (int i = 0; i < 30; i++) {
+        requestWithManyHeaders.header("X-Client-" + i, "client value " + i);
+      }
     }
   }
 
@@ -58,6 +81,24 @@ public class HandlebarsOptimizedTemplateBenchmark {
     return hasCorrectStart && hasCorrectLength;
   }
 
+  @Benchmark
+  @Threads(50)
+  public boolean transformLargeMostlyStaticBody(HandlebarsOptimizedTemplateBenchmarkState state) {
+    String result = transform(state.largeMostlyStaticTemplate, state.transformer);
+    return result.startsWith("{\"method\": \"GET\"") && result.endsWith("\"/\"}]}");
+  }
+
+  @Benchmark
+  @Threads(50)
+  public boolean transformStubWithMostlyStaticHeaders(
+      HandlebarsOptimizedTemplateBenchmarkState state) {
+    StubMapping stub = state.stubWithMostlyStaticHeaders;
+    ServeEvent serveEvent =
+        newPostMatchServeEvent(state.requestWithManyHeaders, stub.getResponse(), stub);
+    ResponseDefinition result = state.transformer.transform(serveEvent);
+    return result.getHeaders().getHeader("X-Request-Path").firstValue().equals("/things");
+  }
+
   private String transform(String responseBodyTemplate, ResponseTemplateTransformer transformer) {
     final ResponseDefinitionBuilder responseDefinitionBuilder =
         aResponse().withBody(responseBodyTemplate);
@@ -0,0 +1,78 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package benchmarks;
+
+import com.github.tomakehurst.wiremock.store.InMemoryObjectStore;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 2)
+@Fork(1)
+@Measurement(iterations = 5)
+public class InMemoryObjectStoreBenchmark {
+
+  @State(Scope.Benchmark)
+  public static class BenchmarkState {
+
+    @Param({"100", "10000", "100000"})
+    public int maxItems;
+
+    private InMemoryObjectStore store;
+
+    @Setup
+    public void setup() {
+      store = new InMemoryObjectStore(maxItems);
+      for (int i = 0; i < maxItems; i++) {
+        store.put(key(i), "value-" + i);
+      }
+    }
+  }
+
+  @Benchmark
+  @Threads(8)
+  public Optional<Object> get(BenchmarkState state) {
+    return state.store.get(key(ThreadLocalRandom.current().nextInt(state.maxItems)));
+  }
+
+  @Benchmark
+  @Threads(8)
+  public void putWithEviction(BenchmarkState state) {
+    // Half of these keys won't be present, so the store stays full and evicts on most puts
+    final int i = ThreadLocalRandom.current().nextInt(state.maxItems * 2);
+    state.store.put(key(i), "value-" + i);
+  }
+
+  private static String key(int i) {
+    return "key-" + i;
+  }
+
+  public static void main(String[] args) throws Exception {
+    Options opt =
+        new OptionsBuilder()
+            .include(InMemoryObjectStoreBenchmark.class.getSimpleName())
+            .warmupIterations(2)
+            .forks(1)
+            .measurementIterations(5)
+            .build();
+
+    new Runner(opt).run();
+  }
+}
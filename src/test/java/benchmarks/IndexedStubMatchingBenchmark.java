@@ -0,0 +1,110 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package benchmarks;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.matching.MockRequest.mockRequest;
+
+import com.github.tomakehurst.wiremock.http.Request;
+import com.github.tomakehurst.wiremock.http.RequestMethod;
+import com.github.tomakehurst.wiremock.store.InMemoryStubMappingStore;
+import com.github.tomakehurst.wiremock.store.IndexedInMemoryStubMappingStore;
+import com.github.tomakehurst.wiremock.store.StubMappingStore;
+import java.util.Map;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 2)
+@Fork(1)
+@Measurement(iterations = 5)
+public class IndexedStubMatchingBenchmark {
+
+  @State(Scope.Benchmark)
+  public static class BenchmarkState {
+
+    @Param({"1000", "10000", "100000"})
+    public int stubCount;
+
+    @Param({"false", "true"})
+    public boolean indexed;
+
+    private StubMappingStore store;
+
+    @Setup
+    public void setup() {
+      store = indexed ? new IndexedInMemoryStubMappingStore() : new InMemoryStubMappingStore();
+
+      // A mix of exact URL, exact path and path template stubs, plus a handful of regex stubs
+      // that can't be indexed and so are always evaluated.
+      for (int i = 0; i < stubCount; i++) {
+        switch (i % 4) {
+          case 0 -> store.add(get("/things/" + i).willReturn(ok()).build());
+          case 1 -> store.add(post(urlPathEqualTo("/things/" + i)).willReturn(ok()).build());
+          case 2 ->
+              store.add(
+                  get(urlPathTemplate("/things/" + i + "/parts/{id}")).willReturn(ok()).build());
+          default -> store.add(put("/things/" + i).willReturn(ok()).build());
+        }
+      }
+
+      for (int i = 0; i < 10; i++) {
+        store.add(get(urlMatching("/regex/" + i + "/.*")).willReturn(ok()).build());
+      }
+    }
+  }
+
+  @Benchmark
+  @Threads(8)
+  public long matched(BenchmarkState state) {
+    final int id = pickRandom(state.stubCount);
+    final Request request =
+        switch (id % 4) {
+          case 0 -> mockRequest().method(RequestMethod.GET).url("/things/" + id);
+          case 1 -> mockRequest().method(RequestMethod.POST).url("/things/" + id + "?q=1");
+          case 2 -> mockRequest().method(RequestMethod.GET).url("/things/" + id + "/parts/abc");
+          default -> mockRequest().method(RequestMethod.PUT).url("/things/" + id);
+        };
+
+    return state.store.findAllMatchingRequest(request, Map.of(), subEvent -> {}).count();
+  }
+
+  @Benchmark
+  @Threads(8)
+  public long unmatched(BenchmarkState state) {
+    final Request request =
+        mockRequest().method(RequestMethod.GET).url("/nothing/" + pickRandom(state.stubCount));
+    return state.store.findAllMatchingRequest(request, Map.of(), subEvent -> {}).count();
+  }
+
+  private static int pickRandom(int bound) {
+    return (int) (Math.random() * bound);
+  }
+
+  public static void main(String[] args) throws Exception {
+    Options opt =
+        new OptionsBuilder()
+            .include(IndexedStubMatchingBenchmark.class.getSimpleName())
+            .warmupIterations(2)
+            .forks(1)
+            .measurementIterations(5)
+            .build();
+
+    new Runner(opt).run();
+  }
+}
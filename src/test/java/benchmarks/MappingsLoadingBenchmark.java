@@ -0,0 +1,119 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package benchmarks;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+
+import com.github.tomakehurst.wiremock.common.Json;
+import com.github.tomakehurst.wiremock.common.SingleRootFileSource;
+import com.github.tomakehurst.wiremock.common.filemaker.FilenameMaker;
+import com.github.tomakehurst.wiremock.standalone.BundleMappingsSource;
+import com.github.tomakehurst.wiremock.standalone.JsonFileMappingsSource;
+import com.github.tomakehurst.wiremock.standalone.MappingsBundle;
+import com.github.tomakehurst.wiremock.stubbing.InMemoryStubMappings;
+import com.github.tomakehurst.wiremock.stubbing.StubMapping;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures how long startup takes to load a directory full of mapping files, or a bundle. For
+ * cold-start times, run it in single shot mode with no warmup, e.g. {@code -bm ss -wi 0 -i 1 -f 5}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Fork(1)
+@Measurement(iterations = 5)
+public class MappingsLoadingBenchmark {
+
+  @State(Scope.Benchmark)
+  public static class BenchmarkState {
+
+    @Param({"1000", "10000", "60000"})
+    public int stubCount;
+
+    private Path mappingsDirectory;
+    private Path bundleFile;
+
+    @Setup
+    public void setup() throws IOException {
+      mappingsDirectory = Files.createTempDirectory("mappings-loading-benchmark");
+      List<StubMapping> stubs = new ArrayList<>();
+      for (int i = 0; i < stubCount; i++) {
+        StubMapping stub =
+            post(urlPathEqualTo("/things/" + i))
+                .withHeader("Content-Type", containing("json"))
+                .withRequestBody(matchingJsonPath("$.items[?(@.id == " + i + ")]"))
+                .willReturn(okJson("{\"id\": " + i + "}"))
+                .build();
+        Files.writeString(mappingsDirectory.resolve("mapping-" + i + ".json"), Json.write(stub));
+        stubs.add(stub);
+      }
+      bundleFile = Files.createTempFile("mappings-loading-benchmark", ".bundle");
+      MappingsBundle.write(stubs, bundleFile);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+      try (Stream<Path> files = Files.walk(mappingsDirectory)) {
+        files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+      }
+      Files.delete(bundleFile);
+    }
+  }
+
+  @Benchmark
+  public int loadMappings(BenchmarkState state) {
+    InMemoryStubMappings stubMappings = new InMemoryStubMappings();
+    jsonFileMappingsSource(state).loadMappingsInto(stubMappings);
+    return stubMappings.getAll().size();
+  }
+
+  @Benchmark
+  public int loadMappingsFromBundle(BenchmarkState state) {
+    InMemoryStubMappings stubMappings = new InMemoryStubMappings();
+    new BundleMappingsSource(state.bundleFile, jsonFileMappingsSource(state))
+        .loadMappingsInto(stubMappings);
+    return stubMappings.getAll().size();
+  }
+
+  private static JsonFileMappingsSource jsonFileMappingsSource(BenchmarkState state) {
+    return new JsonFileMappingsSource(
+        new SingleRootFileSource(state.mappingsDirectory.toFile()), new FilenameMaker());
+  }
+
+  public static void main(String[] args) throws Exception {
+    Options opt =
+        new OptionsBuilder()
+            .include(MappingsLoadingBenchmark.class.getSimpleName())
+            .warmupIterations(2)
+            .forks(1)
+            .measurementIterations(5)
+            .build();
+
+    new Runner(opt).run();
+  }
+}
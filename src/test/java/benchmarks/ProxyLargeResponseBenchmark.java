@@ -0,0 +1,123 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package benchmarks;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures proxying a large response body. The origin writes the body from a small reused buffer,
+ * so that allocation is dominated by the proxy.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Fork(1)
+@Measurement(iterations = 5)
+public class ProxyLargeResponseBenchmark {
+
+  @State(Scope.Benchmark)
+  public static class BenchmarkState {
+
+    @Param({"67108864"})
+    public int bodySize;
+
+    @Param({"false", "true"})
+    public boolean streaming;
+
+    private HttpServer origin;
+    private WireMockServer proxy;
+    private final byte[] readBuffer = new byte[8192];
+
+    @Setup
+    public void setup() throws IOException {
+      origin = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+      byte[] chunk = new byte[8192];
+      origin.createContext(
+          "/",
+          exchange -> {
+            exchange.sendResponseHeaders(200, bodySize);
+            try (OutputStream out = exchange.getResponseBody()) {
+              for (int written = 0; written < bodySize; written += chunk.length) {
+                out.write(chunk, 0, Math.min(chunk.length, bodySize - written));
+              }
+            }
+          });
+      origin.start();
+
+      proxy =
+          new WireMockServer(
+              wireMockConfig()
+                  .dynamicPort()
+                  .withRootDirectory(Files.createTempDirectory("proxy-benchmark").toString())
+                  .maxRequestJournalEntries(10)
+                  .maxLoggedResponseSize(1024)
+                  .streamProxyResponses(streaming));
+      proxy.start();
+      proxy.stubFor(
+          any(anyUrl())
+              .willReturn(
+                  aResponse().proxiedFrom("http://localhost:" + origin.getAddress().getPort())));
+    }
+
+    @TearDown
+    public void tearDown() {
+      proxy.stop();
+      origin.stop(0);
+    }
+  }
+
+  @Benchmark
+  public long proxyLargeResponse(BenchmarkState state) throws IOException {
+    HttpURLConnection connection =
+        (HttpURLConnection) new URL(state.proxy.url("/large")).openConnection();
+    long total = 0;
+    try (InputStream in = connection.getInputStream()) {
+      int read;
+      while ((read = in.read(state.readBuffer)) != -1) {
+        total += read;
+      }
+    }
+    return total;
+  }
+
+  public static void main(String[] args) throws Exception {
+    Options opt =
+        new OptionsBuilder()
+            .include(ProxyLargeResponseBenchmark.class.getSimpleName())
+            .warmupIterations(2)
+            .forks(1)
+            .measurementIterations(5)
+            .build();
+
+    new Runner(opt).run();
+  }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package benchmarks;
+
+import static com.github.tomakehurst.wiremock.matching.MockRequest.mockRequest;
+
+import com.github.tomakehurst.wiremock.http.Request;
+import com.github.tomakehurst.wiremock.http.RequestMethod;
+import com.github.tomakehurst.wiremock.store.InMemoryRequestJournalStore;
+import com.github.tomakehurst.wiremock.store.RequestJournalStore;
+import com.github.tomakehurst.wiremock.store.RingBufferRequestJournalStore;
+import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
+import com.github.tomakehurst.wiremock.verification.RequestJournal;
+import com.github.tomakehurst.wiremock.verification.StoreBackedRequestJournal;
+import java.util.Map;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/** Records requests into a full, size-limited journal, so that every request evicts another. */
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 2)
+@Fork(1)
+@Measurement(iterations = 5)
+public class RequestJournalBenchmark {
+
+  @State(Scope.Benchmark)
+  public static class BenchmarkState {
+
+    @Param({"10000", "100000"})
+    public int maxEntries;
+
+    @Param({"deque", "ringBuffer"})
+    public String storeType;
+
+    private RequestJournal journal;
+
+    private final Request request =
+        mockRequest().method(RequestMethod.GET).url("/things/1").header("Accept", "text/plain");
+
+    @Setup
+    public void setup() {
+      final RequestJournalStore store =
+          storeType.equals("ringBuffer")
+              ? new RingBufferRequestJournalStore(maxEntries)
+              : new InMemoryRequestJournalStore();
+      journal = new StoreBackedRequestJournal(maxEntries, Map.of(), store);
+
+      for (int i = 0; i < maxEntries; i++) {
+        journal.requestReceived(ServeEvent.of(request));
+      }
+    }
+  }
+
+  @Benchmark
+  @Threads(8)
+  public ServeEvent recordRequest(BenchmarkState state) {
+    final ServeEvent serveEvent = ServeEvent.of(state.request);
+    state.journal.requestReceived(serveEvent);
+    state.journal.serveCompleted(serveEvent);
+    return serveEvent;
+  }
+
+  public static void main(String[] args) throws Exception {
+    Options opt =
+        new OptionsBuilder()
+            .include(RequestJournalBenchmark.class.getSimpleName())
+            .warmupIterations(2)
+            .forks(1)
+            .measurementIterations(5)
+            .build();
+
+    new Runner(opt).run();
+  }
+}
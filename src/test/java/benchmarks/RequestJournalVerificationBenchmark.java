@@ -0,0 +1,105 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package benchmarks;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.matching.MockRequest.mockRequest;
+
+import com.github.tomakehurst.wiremock.http.RequestMethod;
+import com.github.tomakehurst.wiremock.matching.RequestPattern;
+import com.github.tomakehurst.wiremock.store.InMemoryRequestJournalStore;
+import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
+import com.github.tomakehurst.wiremock.verification.RequestJournal;
+import com.github.tomakehurst.wiremock.verification.StoreBackedRequestJournal;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/** Counts requests by method and URL in a journal of requests spread over many paths. */
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 2)
+@Fork(1)
+@Measurement(iterations = 5)
+public class RequestJournalVerificationBenchmark {
+
+  private static final int DISTINCT_PATHS = 1000;
+
+  @State(Scope.Benchmark)
+  public static class BenchmarkState {
+
+    @Param({"10000", "50000"})
+    public int journalSize;
+
+    @Param({"false", "true"})
+    public boolean indexed;
+
+    private RequestJournal journal;
+
+    @Setup
+    public void setup() {
+      final InMemoryRequestJournalStore store =
+          indexed
+              ? new InMemoryRequestJournalStore()
+              : new InMemoryRequestJournalStore() {
+                @Override
+                public Stream<ServeEvent> findAllCandidates(RequestPattern requestPattern) {
+                  return getAll();
+                }
+              };
+      journal = new StoreBackedRequestJournal(null, Map.of(), store);
+
+      for (int i = 0; i < journalSize; i++) {
+        final RequestMethod method = i % 2 == 0 ? RequestMethod.GET : RequestMethod.POST;
+        journal.requestReceived(
+            ServeEvent.of(
+                mockRequest().method(method).url("/things/" + (i % DISTINCT_PATHS) + "?page=1")));
+      }
+    }
+  }
+
+  @Benchmark
+  @Threads(8)
+  public int countByUrl(BenchmarkState state) {
+    return state.journal.countRequestsMatching(
+        getRequestedFor(urlEqualTo("/things/" + pickRandom(DISTINCT_PATHS) + "?page=1")).build());
+  }
+
+  @Benchmark
+  @Threads(8)
+  public int countByPath(BenchmarkState state) {
+    return state.journal.countRequestsMatching(
+        postRequestedFor(urlPathEqualTo("/things/" + pickRandom(DISTINCT_PATHS))).build());
+  }
+
+  private static int pickRandom(int bound) {
+    return (int) (Math.random() * bound);
+  }
+
+  public static void main(String[] args) throws Exception {
+    Options opt =
+        new OptionsBuilder()
+            .include(RequestJournalVerificationBenchmark.class.getSimpleName())
+            .warmupIterations(2)
+            .forks(1)
+            .measurementIterations(5)
+            .build();
+
+    new Runner(opt).run();
+  }
+}
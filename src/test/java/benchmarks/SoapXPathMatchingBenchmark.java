@@ -0,0 +1,129 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package benchmarks;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.matching.MockRequest.mockRequest;
+
+import com.github.tomakehurst.wiremock.common.RequestCache;
+import com.github.tomakehurst.wiremock.http.Request;
+import com.github.tomakehurst.wiremock.http.RequestMethod;
+import com.github.tomakehurst.wiremock.matching.MatchesXPathPattern;
+import com.github.tomakehurst.wiremock.matching.RequestPattern;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Matches SOAP requests against stubs that differ only by XPath expressions over the body, as is
+ * typical when a single SOAP endpoint serves many operations.
+ */
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 2)
+@Fork(1)
+@Measurement(iterations = 5)
+public class SoapXPathMatchingBenchmark {
+
+  private static final Map<String, String> NAMESPACES =
+      Map.of(
+          "soap", "http://schemas.xmlsoap.org/soap/envelope/",
+          "ord", "https://example.com/orders");
+
+  @State(Scope.Benchmark)
+  public static class BenchmarkState {
+
+    @Param({"10", "100"})
+    public int stubCount;
+
+    private final List<RequestPattern> requestPatterns = new ArrayList<>();
+    private final List<Request> requests = new ArrayList<>();
+
+    @Setup
+    public void setup() {
+      for (int i = 0; i < stubCount; i++) {
+        requestPatterns.add(
+            post(urlPathEqualTo("/soap"))
+                .withRequestBody(matchingXPath("/soap:Envelope/soap:Body/ord:GetOrder", NAMESPACES))
+                .withRequestBody(
+                    new MatchesXPathPattern(
+                        "/soap:Envelope/soap:Body/ord:GetOrder/ord:id/text()",
+                        NAMESPACES,
+                        equalTo(String.valueOf(i))))
+                .withRequestBody(matchingXPath("//customer[@tier='gold']"))
+                .build()
+                .getRequest());
+
+        requests.add(mockRequest().method(RequestMethod.POST).url("/soap").body(soapRequest(i)));
+      }
+    }
+
+    private static String soapRequest(int id) {
+      return """
+          <soap:Envelope xmlns:soap="http://schemas.xmlsoap.org/soap/envelope/">
+            <soap:Header>
+              <auth>token-%d</auth>
+            </soap:Header>
+            <soap:Body>
+              <ord:GetOrder xmlns:ord="https://example.com/orders">
+                <ord:id>%d</ord:id>
+                <customer tier="gold">
+                  <name>Customer %d</name>
+                  <email>customer%d@example.com</email>
+                </customer>
+                <lines>
+                  <line sku="A-%d" quantity="2"/>
+                  <line sku="B-%d" quantity="1"/>
+                </lines>
+              </ord:GetOrder>
+            </soap:Body>
+          </soap:Envelope>
+          """
+          .formatted(id, id, id, id, id, id);
+    }
+  }
+
+  @Benchmark
+  public long matchAllStubs(BenchmarkState state) {
+    final Request request = pickRandom(state.requests);
+    try {
+      return state.requestPatterns.stream()
+          .filter(requestPattern -> requestPattern.match(request).isExactMatch())
+          .count();
+    } finally {
+      RequestCache.onRequestEnd();
+    }
+  }
+
+  private static <T> T pickRandom(List<T> values) {
+    return values.get((int) (Math.random() * values.size()));
+  }
+
+  public static void main(String[] args) throws Exception {
+    Options opt =
+        new OptionsBuilder()
+            .include(SoapXPathMatchingBenchmark.class.getSimpleName())
+            .warmupIterations(2)
+            .forks(1)
+            .measurementIterations(5)
+            .build();
+
+    new Runner(opt).run();
+  }
+}
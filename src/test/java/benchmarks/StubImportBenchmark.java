@@ -0,0 +1,108 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package benchmarks;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static java.util.stream.Collectors.toList;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.stubbing.StubImport;
+import com.github.tomakehurst.wiremock.stubbing.StubMapping;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/** Measures bulk stub admin operations: importing a large set of stubs, then removing them. */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Fork(1)
+@Measurement(iterations = 5)
+public class StubImportBenchmark {
+
+  @State(Scope.Benchmark)
+  public static class BenchmarkState {
+
+    @Param({"10000", "50000"})
+    public int stubCount;
+
+    private List<StubMapping> stubs;
+    private WireMockServer wireMockServer;
+
+    @Setup(Level.Trial)
+    public void createStubs() {
+      stubs =
+          IntStream.range(0, stubCount)
+              .mapToObj(
+                  i ->
+                      get(urlPathEqualTo("/things/" + i))
+                          .withId(UUID.randomUUID())
+                          .willReturn(okJson("{\"id\": " + i + "}"))
+                          .build())
+              .collect(toList());
+    }
+
+    @Setup(Level.Iteration)
+    public void createServer() throws IOException {
+      Path rootDirectory = Files.createTempDirectory("stub-import-benchmark");
+      wireMockServer =
+          new WireMockServer(wireMockConfig().withRootDirectory(rootDirectory.toString()));
+    }
+  }
+
+  @Benchmark
+  public int importThenRemoveStubs(BenchmarkState state) {
+    WireMockServer wireMockServer = state.wireMockServer;
+    wireMockServer.importStubs(new StubImport(state.stubs, StubImport.Options.DEFAULTS));
+    int imported = wireMockServer.getStubMappings().size();
+    for (StubMapping stub : state.stubs) {
+      wireMockServer.removeStub(stub.getId());
+    }
+    return imported;
+  }
+
+  @Benchmark
+  public int importReplacingAllStubs(BenchmarkState state) {
+    WireMockServer wireMockServer = state.wireMockServer;
+    wireMockServer.importStubs(new StubImport(state.stubs, StubImport.Options.DEFAULTS));
+    wireMockServer.importStubs(
+        new StubImport(
+            state.stubs.subList(0, state.stubCount / 2),
+            new StubImport.Options(StubImport.Options.DuplicatePolicy.OVERWRITE, true)));
+    return wireMockServer.getStubMappings().size();
+  }
+
+  public static void main(String[] args) throws Exception {
+    Options opt =
+        new OptionsBuilder()
+            .include(StubImportBenchmark.class.getSimpleName())
+            .warmupIterations(3)
+            .forks(1)
+            .measurementIterations(5)
+            .build();
+
+    new Runner(opt).run();
+  }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package benchmarks;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.common.Notifier;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/** Measures serving a flood of requests that match none of the stubs. */
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 2)
+@Fork(1)
+@Measurement(iterations = 5)
+public class UnmatchedRequestBenchmark {
+
+  @State(Scope.Benchmark)
+  public static class BenchmarkState {
+
+    @Param({"1000", "10000"})
+    public int stubCount;
+
+    @Param({"0", "10"})
+    public double maxNearMissDiagnosticsPerSecond;
+
+    private WireMockServer wireMockServer;
+    private HttpClient client;
+
+    @Setup
+    public void setup() throws IOException {
+      Path rootDirectory = Files.createTempDirectory("unmatched-request-benchmark");
+      wireMockServer =
+          new WireMockServer(
+              wireMockConfig()
+                  .dynamicPort()
+                  .withRootDirectory(rootDirectory.toString())
+                  .maxRequestJournalEntries(1000)
+                  .notifier(new QuietNotifier())
+                  .maxNearMissDiagnosticsPerSecond(maxNearMissDiagnosticsPerSecond));
+      wireMockServer.start();
+
+      for (int i = 0; i < stubCount; i++) {
+        wireMockServer.stubFor(
+            post(urlPathEqualTo("/things/" + i))
+                .withHeader("Content-Type", equalTo("application/json"))
+                .withRequestBody(matchingJsonPath("$.name", equalTo("thing " + i)))
+                .willReturn(ok()));
+      }
+
+      client = HttpClient.newHttpClient();
+    }
+
+    @TearDown
+    public void tearDown() {
+      wireMockServer.stop();
+    }
+  }
+
+  @Benchmark
+  @Threads(8)
+  public int unmatched(BenchmarkState state) throws Exception {
+    int id = ThreadLocalRandom.current().nextInt(state.stubCount);
+    HttpRequest request =
+        HttpRequest.newBuilder(URI.create(state.wireMockServer.url("/things/" + id)))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString("{\"name\": \"other thing\"}"))
+            .build();
+    return state.client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+  }
+
+  private static class QuietNotifier implements Notifier {
+
+    @Override
+    public void info(String message) {}
+
+    @Override
+    public void error(String message) {}
+
+    @Override
+    public void error(String message, Throwable t) {}
+  }
+
+  public static void main(String[] args) throws Exception {
+    Options opt =
+        new OptionsBuilder()
+            .include(UnmatchedRequestBenchmark.class.getSimpleName())
+            .warmupIterations(2)
+            .forks(1)
+            .measurementIterations(5)
+            .build();
+
+    new Runner(opt).run();
+  }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2016-2025 Thomas Akehurst
+ * Copyright (C) 2016-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -29,6 +29,7 @@ import static org.hamcrest.Matchers.not;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 
+import com.github.tomakehurst.wiremock.admin.model.GetServeEventsResult;
 import com.github.tomakehurst.wiremock.common.Errors;
 import com.github.tomakehurst.wiremock.common.FileSource;
 import com.github.tomakehurst.wiremock.common.Json;
@@ -37,6 +38,7 @@ import com.github.tomakehurst.wiremock.extension.Parameters;
 import com.github.tomakehurst.wiremock.global.GlobalSettings;
 import com.github.tomakehurst.wiremock.http.UniformDistribution;
 import com.github.tomakehurst.wiremock.junit.Stubbing;
+import com.github.tomakehurst.wiremock.standalone.MappingsBundle;
 import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
 import com.github.tomakehurst.wiremock.stubbing.StubMapping;
 import com.github.tomakehurst.wiremock.testsupport.TestHttpHeader;
@@ -46,6 +48,7 @@ import com.toomuchcoding.jsonassert.JsonVerifiable;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.Duration;
 import java.time.Instant;
@@ -312,6 +315,80 @@ class AdminApiTest extends AcceptanceTestBase {
     check.field("requests").hasSize(3);
   }
 
+  @Test
+  void getLoggedRequestsAfterCursor() {
+    for (int i = 1; i <= 5; i++) {
+      testClient.get("/received-request/" + i);
+    }
+    String firstPage = testClient.get("/__admin/requests?limit=2").content();
+    UUID cursor = Json.read(firstPage, GetServeEventsResult.class).getRequests().get(1).getId();
+
+    String body = testClient.get("/__admin/requests?after=" + cursor + "&limit=2").content();
+
+    JsonVerifiable check = JsonAssertion.assertThat(body);
+    check.field("meta").field("total").isEqualTo(5);
+    check.field("requests").hasSize(2);
+    check
+        .field("requests")
+        .elementWithIndex(0)
+        .field("request")
+        .field("url")
+        .isEqualTo("/received-request/3");
+    check
+        .field("requests")
+        .elementWithIndex(1)
+        .field("request")
+        .field("url")
+        .isEqualTo("/received-request/2");
+  }
+
+  @Test
+  void getLoggedRequestsAfterUnknownCursorReturnsBadRequest() {
+    WireMockResponse response = testClient.get("/__admin/requests?after=" + UUID.randomUUID());
+
+    assertThat(response.statusCode(), is(400));
+    JsonAssertion.assertThat(response.content())
+        .field("errors")
+        .elementWithIndex(0)
+        .field("source")
+        .field("pointer")
+        .isEqualTo("after");
+  }
+
+  @Test
+  void getLoggedRequestsAsNdjson() {
+    for (int i = 1; i <= 3; i++) {
+      testClient.get("/received-request/" + i);
+    }
+
+    WireMockResponse response = testClient.get("/__admin/requests?format=ndjson");
+
+    assertThat(response.firstHeader("Content-Type"), is("application/x-ndjson"));
+    List<String> lines = response.content().lines().toList();
+    assertThat(lines, hasSize(3));
+    assertThat(
+        Json.read(lines.get(0), ServeEvent.class).getRequest().getUrl(),
+        is("/received-request/3"));
+  }
+
+  @Test
+  void getAllStubMappingsInCompactFormat() {
+    dsl.stubFor(get(urlEqualTo("/things/1")).willReturn(aResponse().withStatus(418)));
+
+    String body = testClient.get("/__admin/mappings?format=compact").content();
+
+    assertThat(body, not(containsString("\n")));
+    assertThat(body, startsWith("{\"mappings\":[{"));
+    assertThat(body, endsWith("\"meta\":{\"total\":1}}"));
+  }
+
+  @Test
+  void getAllStubMappingsWithInvalidFormatReturnsUnprocessableEntity() {
+    WireMockResponse response = testClient.get("/__admin/mappings?format=xml");
+
+    assertThat(response.statusCode(), is(422));
+  }
+
   @Test
   void getLoggedRequestById() {
     for (int i = 1; i <= 3; i++) {
@@ -1389,6 +1466,24 @@ class AdminApiTest extends AcceptanceTestBase {
     check.field("mappings").hasSize(1).elementWithIndex(0).field("id").isEqualTo(stub2.getId());
   }
 
+  @Test
+  void downloadsABundleOfAllStubMappings() throws IOException {
+    StubMapping stub1 = wm.stubFor(get("/one"));
+    StubMapping stub2 = wm.stubFor(get("/two"));
+
+    WireMockResponse response = testClient.get("/__admin/mappings/bundle");
+    assertThat(response.statusCode(), is(200));
+    assertThat(response.firstHeader("Content-Type"), is("application/octet-stream"));
+
+    Path bundle = Files.createTempFile("stubs", ".bundle");
+    Files.write(bundle, response.binaryContent());
+    try {
+      assertThat(MappingsBundle.read(bundle), contains(stub1, stub2));
+    } finally {
+      Files.delete(bundle);
+    }
+  }
+
   @Test
   void removeUnmatchedStubMappingsWithNoMappings() {
     WireMockResponse response = testClient.delete("/__admin/mappings/unmatched");
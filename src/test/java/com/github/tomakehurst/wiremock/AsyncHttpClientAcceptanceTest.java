@@ -0,0 +1,168 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static com.github.tomakehurst.wiremock.http.RequestMethod.POST;
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.wiremock.webhooks.Webhooks.webhook;
+
+import com.github.tomakehurst.wiremock.common.NetworkAddressRules;
+import com.github.tomakehurst.wiremock.http.client.apache5.ApacheAsyncHttpClientFactory;
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+import com.github.tomakehurst.wiremock.stubbing.SubEvent;
+import com.github.tomakehurst.wiremock.testsupport.WireMockResponse;
+import com.github.tomakehurst.wiremock.testsupport.WireMockTestClient;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+public class AsyncHttpClientAcceptanceTest {
+
+  @RegisterExtension
+  public WireMockExtension origin =
+      WireMockExtension.newInstance().options(options().dynamicPort().dynamicHttpsPort()).build();
+
+  @RegisterExtension
+  public WireMockExtension proxy =
+      WireMockExtension.newInstance()
+          .options(
+              options()
+                  .dynamicPort()
+                  .httpClientFactory(new ApacheAsyncHttpClientFactory())
+                  .limitProxyTargets(NetworkAddressRules.builder().deny("10.1.2.3").build()))
+          .build();
+
+  WireMockTestClient testClient;
+
+  @BeforeEach
+  public void init() {
+    testClient = new WireMockTestClient(proxy.getPort());
+  }
+
+  @Test
+  public void proxiesRequestsAndResponsesWithTheirBodies() {
+    origin.stubFor(
+        post("/things").willReturn(created().withHeader("X-Origin", "yes").withBody("Created")));
+    proxy.stubFor(any(anyUrl()).willReturn(aResponse().proxiedFrom(origin.baseUrl())));
+
+    WireMockResponse response =
+        testClient.postWithBody("/things", "{\"name\":\"thing\"}", "application/json");
+
+    assertThat(response.statusCode(), is(201));
+    // HTTP/2 header names are lower case
+    assertThat(response.firstHeader("x-origin"), is("yes"));
+    assertThat(response.content(), is("Created"));
+    origin.verify(
+        postRequestedFor(urlEqualTo("/things"))
+            .withHeader("Content-Type", containing("application/json"))
+            .withRequestBody(equalToJson("{\"name\":\"thing\"}")));
+  }
+
+  @Test
+  public void negotiatesHttp2WithOriginsThatSupportIt() {
+    origin.stubFor(get(anyUrl()).willReturn(ok("Negotiated")));
+    proxy.stubFor(
+        get("/secure")
+            .willReturn(aResponse().proxiedFrom(origin.getRuntimeInfo().getHttpsBaseUrl())));
+    proxy.stubFor(get("/plain").willReturn(aResponse().proxiedFrom(origin.baseUrl())));
+
+    assertThat(testClient.get("/secure").content(), is("Negotiated"));
+    assertThat(testClient.get("/plain").content(), is("Negotiated"));
+
+    assertThat(
+        origin.getAllServeEvents().stream().map(event -> event.getRequest().getProtocol()).toList(),
+        everyItem(is("HTTP/2.0")));
+  }
+
+  @Test
+  public void refusesToProxyToProhibitedAddresses() {
+    proxy.stubFor(any(anyUrl()).willReturn(aResponse().proxiedFrom("http://10.1.2.3")));
+
+    WireMockResponse response = testClient.get("/");
+
+    assertThat(response.statusCode(), is(500));
+    assertThat(
+        response.content(), is("The target proxy address is denied in WireMock's configuration."));
+  }
+
+  @Test
+  public void firesWebhooksAndRecordsTheirResponses() {
+    origin.stubFor(post("/callback").willReturn(ok("Called back")));
+    proxy.stubFor(
+        get("/trigger")
+            .willReturn(ok())
+            .withServeEventListener(
+                "webhook",
+                webhook()
+                    .withMethod(POST)
+                    .withUrl(origin.url("/callback"))
+                    .withBody("{ \"result\": \"SUCCESS\" }")));
+
+    testClient.get("/trigger");
+
+    List<String> subEventTypes =
+        await()
+            .until(
+                () ->
+                    proxy.getAllServeEvents().get(0).getSubEvents().stream()
+                        .map(SubEvent::getType)
+                        .toList(),
+                hasItem("WEBHOOK_RESPONSE"));
+    assertThat(subEventTypes, hasItem("WEBHOOK_REQUEST"));
+    origin.verify(
+        postRequestedFor(urlEqualTo("/callback"))
+            .withRequestBody(equalToJson("{ \"result\": \"SUCCESS\" }")));
+  }
+
+  @Test
+  public void stopsTheClientsThreadsWhenTheServerStopsAndRestartsThemWithIt() {
+    origin.stubFor(get(anyUrl()).willReturn(ok("Proxied")));
+    WireMockServer server =
+        new WireMockServer(
+            options().dynamicPort().httpClientFactory(new ApacheAsyncHttpClientFactory()));
+    server.start();
+    server.stubFor(get(anyUrl()).willReturn(aResponse().proxiedFrom(origin.baseUrl())));
+
+    Set<Thread> threadsBefore = Thread.getAllStackTraces().keySet();
+    assertThat(new WireMockTestClient(server.port()).get("/thing").content(), is("Proxied"));
+    List<Thread> clientThreads =
+        Thread.getAllStackTraces().keySet().stream()
+            .filter(thread -> !threadsBefore.contains(thread))
+            .filter(thread -> thread.getName().startsWith("httpclient-"))
+            .toList();
+    assertThat(clientThreads, is(not(empty())));
+
+    server.stop();
+    await().until(() -> clientThreads.stream().noneMatch(Thread::isAlive));
+
+    server.start();
+    try {
+      assertThat(new WireMockTestClient(server.port()).get("/thing").content(), is("Proxied"));
+    } finally {
+      server.stop();
+    }
+  }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
+
+import com.github.tomakehurst.wiremock.common.BodyFileCache;
+import com.github.tomakehurst.wiremock.testsupport.WireMockTestClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class BodyFileCacheAcceptanceTest {
+
+  @TempDir Path root;
+
+  WireMockServer wm;
+  WireMockTestClient client;
+  Path filesDir;
+
+  @BeforeEach
+  void init() throws Exception {
+    filesDir = Files.createDirectories(root.resolve("__files"));
+    wm =
+        new WireMockServer(
+            wireMockConfig()
+                .dynamicPort()
+                .withRootDirectory(root.toString())
+                .maxBodyFileCacheBytes(1024 * 1024));
+    wm.start();
+    client = new WireMockTestClient(wm.port());
+  }
+
+  @AfterEach
+  void stopServer() {
+    wm.stop();
+  }
+
+  @Test
+  void servesBodyFilesFromTheCacheUntilTheyChange() throws Exception {
+    Path file = filesDir.resolve("plain.txt");
+    Files.writeString(file, "Original");
+    wm.stubFor(get("/plain").willReturn(ok().withBodyFile("plain.txt")));
+
+    assertThat(client.get("/plain").content(), is("Original"));
+    assertThat(client.get("/plain").content(), is("Original"));
+
+    Files.writeString(file, "Changed");
+    Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis() + 10_000));
+
+    assertThat(client.get("/plain").content(), is("Changed"));
+
+    BodyFileCache cache = wm.getBodyFileCache().get();
+    assertThat(cache.getMissCount(), is(2L));
+    assertThat(cache.getHitCount(), greaterThan(0L));
+  }
+
+  @Test
+  void servesCachedContentsRatherThanTheFileOnDisk() throws Exception {
+    Path file = filesDir.resolve("large.bin");
+    Files.write(file, "a".repeat(64 * 1024).getBytes());
+    FileTime lastModified = Files.getLastModifiedTime(file);
+    wm.stubFor(get("/large").willReturn(ok().withBodyFile("large.bin")));
+
+    assertThat(client.get("/large").content(), startsWith("aaaa"));
+
+    // Same size and modification time, so the cached contents are still taken to be current
+    Files.write(file, "b".repeat(64 * 1024).getBytes());
+    Files.setLastModifiedTime(file, lastModified);
+
+    assertThat(client.get("/large").content(), is("a".repeat(64 * 1024)));
+    assertThat(wm.getBodyFileCache().get().getHitCount(), greaterThan(0L));
+  }
+
+  @Test
+  void templatedBodyFilesAreReadThroughTheCache() throws Exception {
+    Files.writeString(filesDir.resolve("templated.txt"), "Path: {{request.path}}");
+    wm.stubFor(
+        get(urlPathMatching("/templated/.*"))
+            .willReturn(ok().withBodyFile("templated.txt").withTransformers("response-template")));
+
+    assertThat(client.get("/templated/1").content(), is("Path: /templated/1"));
+    assertThat(client.get("/templated/2").content(), is("Path: /templated/2"));
+
+    BodyFileCache cache = wm.getBodyFileCache().get();
+    assertThat(cache.getMissCount(), is(1L));
+    assertThat(cache.getHitCount(), greaterThan(0L));
+  }
+
+  @Test
+  void bodyFileCacheIsDisabledByDefault() {
+    WireMockServer uncached = new WireMockServer(wireMockConfig().dynamicPort());
+
+    assertThat(uncached.getBodyFileCache().isPresent(), is(false));
+  }
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+
+import com.github.tomakehurst.wiremock.admin.model.GetConnectionPoolStatsResult;
+import com.github.tomakehurst.wiremock.common.Json;
+import com.github.tomakehurst.wiremock.http.client.ConnectionPoolStats;
+import com.github.tomakehurst.wiremock.http.client.apache5.ApacheAsyncHttpClientFactory;
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+import com.github.tomakehurst.wiremock.testsupport.WireMockResponse;
+import com.github.tomakehurst.wiremock.testsupport.WireMockTestClient;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+public class ConnectionPoolAcceptanceTest {
+
+  @RegisterExtension
+  public WireMockExtension origin =
+      WireMockExtension.newInstance().options(options().dynamicPort()).build();
+
+  @RegisterExtension
+  public WireMockExtension slowOrigin =
+      WireMockExtension.newInstance().options(options().dynamicPort()).build();
+
+  @RegisterExtension
+  public WireMockExtension proxy =
+      WireMockExtension.newInstance()
+          .options(
+              options()
+                  .dynamicPort()
+                  .disableConnectionReuse(false)
+                  .maxHttpClientConnections(6)
+                  .maxHttpClientConnectionsPerRoute(4))
+          .build();
+
+  @RegisterExtension
+  public WireMockExtension evictingProxy =
+      WireMockExtension.newInstance()
+          .options(
+              options()
+                  .dynamicPort()
+                  .disableConnectionReuse(false)
+                  .httpClientIdleConnectionTimeoutMillis(200))
+          .build();
+
+  @RegisterExtension
+  public WireMockExtension asyncProxy =
+      WireMockExtension.newInstance()
+          .options(
+              options()
+                  .dynamicPort()
+                  .httpClientFactory(new ApacheAsyncHttpClientFactory())
+                  .disableConnectionReuse(false)
+                  .maxHttpClientConnections(20)
+                  .maxHttpClientConnectionsPerRoute(5))
+          .build();
+
+  @Test
+  public void reportsProxyConnectionPoolUsageForEachRouteViaTheAdminApi() {
+    origin.stubFor(get(anyUrl()).willReturn(ok("Proxied")));
+    proxy.stubFor(get(anyUrl()).willReturn(aResponse().proxiedFrom(origin.baseUrl())));
+    WireMockTestClient testClient = new WireMockTestClient(proxy.getPort());
+
+    assertThat(testClient.get("/thing").content(), is("Proxied"));
+
+    WireMockResponse response = testClient.get("/__admin/connection-pools");
+    assertThat(response.statusCode(), is(200));
+    ConnectionPoolStats stats =
+        Json.read(response.content(), GetConnectionPoolStatsResult.class).getPools().get("proxy");
+    assertThat(stats.getTotal().getMax(), is(6));
+    assertThat(stats.getTotal().getLeased(), is(0));
+    assertThat(stats.getTotal().getAvailable(), is(1));
+
+    ConnectionPoolStats.Usage route = stats.getRoutes().get(directRoute(origin.baseUrl()));
+    assertThat(route.getMax(), is(4));
+    assertThat(route.getLeased(), is(0));
+    assertThat(route.getPending(), is(0));
+    assertThat(route.getAvailable(), is(1));
+  }
+
+  @Test
+  public void aSlowUpstreamCannotTakeEveryConnectionInThePool() {
+    slowOrigin.stubFor(get(anyUrl()).willReturn(ok("Slow").withFixedDelay(2000)));
+    origin.stubFor(get(anyUrl()).willReturn(ok("Fast")));
+    proxy.stubFor(get("/slow").willReturn(aResponse().proxiedFrom(slowOrigin.baseUrl())));
+    proxy.stubFor(get("/fast").willReturn(aResponse().proxiedFrom(origin.baseUrl())));
+    WireMockTestClient testClient = new WireMockTestClient(proxy.getPort());
+
+    ExecutorService executor = Executors.newFixedThreadPool(6);
+    try {
+      for (int i = 0; i < 6; i++) {
+        executor.submit(() -> testClient.get("/slow"));
+      }
+
+      // Only 4 of the 6 connections can go to the slow upstream, and the rest wait
+      await()
+          .atMost(Duration.ofSeconds(5))
+          .until(() -> proxyRouteUsage(slowOrigin.baseUrl()).getPending(), is(2));
+      assertThat(proxyRouteUsage(slowOrigin.baseUrl()).getLeased(), is(4));
+
+      assertThat(testClient.get("/fast").content(), is("Fast"));
+      assertThat(proxyRouteUsage(slowOrigin.baseUrl()).getLeased(), is(4));
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void closesConnectionsThatHaveBeenIdleForTooLong() {
+    origin.stubFor(get(anyUrl()).willReturn(ok()));
+    evictingProxy.stubFor(get(anyUrl()).willReturn(aResponse().proxiedFrom(origin.baseUrl())));
+
+    new WireMockTestClient(evictingProxy.getPort()).get("/thing");
+
+    await()
+        .atMost(Duration.ofSeconds(5))
+        .until(
+            () ->
+                evictingProxy
+                    .getConnectionPoolStats()
+                    .getPools()
+                    .get("proxy")
+                    .getTotal()
+                    .getAvailable(),
+            is(0));
+  }
+
+  @Test
+  public void reportsAsyncClientConnectionPoolUsage() {
+    origin.stubFor(get(anyUrl()).willReturn(ok("Proxied")));
+    asyncProxy.stubFor(get(anyUrl()).willReturn(aResponse().proxiedFrom(origin.baseUrl())));
+
+    assertThat(new WireMockTestClient(asyncProxy.getPort()).get("/thing").content(), is("Proxied"));
+
+    // The connection is released just after the response is handed over
+    ConnectionPoolStats.Usage route =
+        await()
+            .atMost(Duration.ofSeconds(5))
+            .until(
+                () ->
+                    asyncProxy
+                        .getConnectionPoolStats()
+                        .getPools()
+                        .get("proxy")
+                        .getRoutes()
+                        .get(directRoute(origin.baseUrl())),
+                usage -> usage.getAvailable() == 1);
+    assertThat(route.getMax(), is(5));
+  }
+
+  @Test
+  public void doesNotReportPoolsOfClientsThatHaveNotBeenUsed() {
+    assertThat(proxy.getConnectionPoolStats().getPools(), not(hasKey("extensions")));
+  }
+
+  private ConnectionPoolStats.Usage proxyRouteUsage(String baseUrl) {
+    return proxy
+        .getConnectionPoolStats()
+        .getPools()
+        .get("proxy")
+        .getRoutes()
+        .get(directRoute(baseUrl));
+  }
+
+  private static String directRoute(String baseUrl) {
+    return "{}->[" + baseUrl + "]";
+  }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.ok;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import com.github.tomakehurst.wiremock.core.Options.ChunkedEncodingPolicy;
+import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+import com.github.tomakehurst.wiremock.testsupport.WireMockResponse;
+import com.github.tomakehurst.wiremock.testsupport.WireMockTestClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class LargeBodyFileAcceptanceTest {
+
+  static final int FILE_SIZE = 8 * 1024 * 1024 + 17;
+
+  @TempDir Path root;
+
+  byte[] contents;
+  WireMockServer wm;
+  WireMockTestClient client;
+
+  @BeforeEach
+  void init() throws Exception {
+    contents = new byte[FILE_SIZE];
+    new Random(42).nextBytes(contents);
+    Files.write(Files.createDirectories(root.resolve("__files")).resolve("large.bin"), contents);
+  }
+
+  @AfterEach
+  void stopServer() {
+    wm.stop();
+  }
+
+  @Test
+  void sendsTheContentLengthOfLargeBodyFilesWhenChunkingIsDisabled() {
+    start(ChunkedEncodingPolicy.NEVER);
+
+    WireMockResponse response = client.get("/large");
+
+    assertThat(response.firstHeader("Content-Length"), is(String.valueOf(FILE_SIZE)));
+    assertThat(response.firstHeader("Transfer-Encoding"), nullValue());
+    assertThat(Arrays.equals(response.binaryContent(), contents), is(true));
+  }
+
+  @Test
+  void chunksLargeBodyFilesWhenChunkingIsEnabled() {
+    start(ChunkedEncodingPolicy.ALWAYS);
+
+    WireMockResponse response = client.get("/large");
+
+    assertThat(response.firstHeader("Transfer-Encoding"), is("chunked"));
+    assertThat(Arrays.equals(response.binaryContent(), contents), is(true));
+  }
+
+  @Test
+  void servesLargeBodyFilesWhenTheBodyFileCacheIsEnabled() {
+    start(configWith(ChunkedEncodingPolicy.NEVER).maxBodyFileCacheBytes(FILE_SIZE * 10L));
+
+    for (int i = 0; i < 3; i++) {
+      assertThat(Arrays.equals(client.get("/large").binaryContent(), contents), is(true));
+    }
+  }
+
+  private void start(ChunkedEncodingPolicy chunkedEncodingPolicy) {
+    start(configWith(chunkedEncodingPolicy));
+  }
+
+  private WireMockConfiguration configWith(ChunkedEncodingPolicy chunkedEncodingPolicy) {
+    return wireMockConfig()
+        .dynamicPort()
+        .withRootDirectory(root.toString())
+        .useChunkedTransferEncoding(chunkedEncodingPolicy);
+  }
+
+  private void start(WireMockConfiguration config) {
+    wm = new WireMockServer(config);
+    wm.start();
+    wm.stubFor(get("/large").willReturn(ok().withBodyFile("large.bin")));
+    client = new WireMockTestClient(wm.port());
+  }
+}
@@ -33,8 +33,12 @@ import com.github.tomakehurst.wiremock.common.NetworkAddressRules;
 import com.github.tomakehurst.wiremock.common.ProxySettings;
 import com.github.tomakehurst.wiremock.core.Options;
 import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+import com.github.tomakehurst.wiremock.extension.ResponseTransformerV2;
 import com.github.tomakehurst.wiremock.extension.responsetemplating.ResponseTemplateTransformer;
+import com.github.tomakehurst.wiremock.http.Response;
+import com.github.tomakehurst.wiremock.http.client.apache5.ApacheAsyncHttpClientFactory;
 import com.github.tomakehurst.wiremock.http.client.apache5.ApacheHttpClientFactory;
+import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
 import com.github.tomakehurst.wiremock.testsupport.TestHttpHeader;
 import com.github.tomakehurst.wiremock.testsupport.WireMockResponse;
 import com.github.tomakehurst.wiremock.testsupport.WireMockTestClient;
@@ -889,6 +893,72 @@ public class ProxyAcceptanceTest {
     assertThat(response.firstHeader("Content-Type"), is("text/plain"));
   }
 
+  @Test
+  public void streamsProxiedResponseBodiesKeepingOnlyTheLoggedSizeInTheJournal() {
+    init(wireMockConfig().streamProxyResponses(true).maxLoggedResponseSize(10));
+    String body = "0123456789".repeat(100_000);
+    target.register(get("/large").willReturn(ok(body)));
+    proxy.register(get("/large").willReturn(aResponse().proxiedFrom(targetServiceBaseUrl)));
+
+    WireMockResponse response = testClient.get("/large");
+
+    assertThat(response.statusCode(), is(200));
+    assertThat(response.content(), is(body));
+    assertThat(
+        proxyingService.getAllServeEvents().get(0).getResponse().getBodyAsString(),
+        is("0123456789"));
+  }
+
+  @Test
+  public void streamsProxiedResponseBodiesWithTheAsyncClient() {
+    init(
+        wireMockConfig()
+            .httpClientFactory(new ApacheAsyncHttpClientFactory())
+            .streamProxyResponses(true)
+            .maxLoggedResponseSize(10));
+    String body = "0123456789".repeat(100_000);
+    target.register(get("/large").willReturn(ok(body)));
+    proxy.register(get("/large").willReturn(aResponse().proxiedFrom(targetServiceBaseUrl)));
+
+    for (int i = 0; i < 3; i++) {
+      WireMockResponse response = testClient.get("/large");
+      assertThat(response.statusCode(), is(200));
+      assertThat(response.content(), is(body));
+    }
+    assertThat(
+        proxyingService.getAllServeEvents().get(0).getResponse().getBodyAsString(),
+        is("0123456789"));
+  }
+
+  @Test
+  public void readsProxiedResponseBodiesIntoMemoryWhenTheyWillBeTransformed() {
+    init(
+        wireMockConfig()
+            .streamProxyResponses(true)
+            .extensions(
+                new ResponseTransformerV2() {
+                  @Override
+                  public Response transform(Response response, ServeEvent serveEvent) {
+                    return Response.Builder.like(response)
+                        .but()
+                        .body(response.getBodyAsString().toUpperCase())
+                        .build();
+                  }
+
+                  @Override
+                  public String getName() {
+                    return "upper-case";
+                  }
+                }));
+    target.register(get("/transformed").willReturn(ok("proxied content")));
+    proxy.register(
+        get("/transformed").willReturn(aResponse().proxiedFrom(targetServiceBaseUrl)));
+
+    WireMockResponse response = testClient.get("/transformed");
+
+    assertThat(response.content(), is("PROXIED CONTENT"));
+  }
+
   private void register200StubOnProxyAndTarget(String url) {
     target.register(get(urlEqualTo(url)).willReturn(aResponse().withStatus(200)));
     proxy.register(get(urlEqualTo(url)).willReturn(aResponse().proxiedFrom(targetServiceBaseUrl)));
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2017-2025 Thomas Akehurst
+ * Copyright (C) 2017-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,6 +20,7 @@ import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThan;
 
 import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
 import com.github.tomakehurst.wiremock.http.client.apache5.ApacheHttpClientFactory;
@@ -110,14 +111,43 @@ public class ResponseDelayAsynchronousAcceptanceTest {
     }
   }
 
+  @Test
+  public void dribblesMoreConcurrentResponsesThanThereAreAsynchronousResponseThreads()
+      throws Exception {
+    String body = "chunked-body-to-return";
+    stubFor(
+        get("/delayed")
+            .willReturn(
+                ok().withBody(body).withChunkedDribbleDelay(5, SHORTER_THAN_SOCKET_TIMEOUT)));
+
+    // If each dribbled response held one of the 10 threads, the last would take at least 10 times
+    // as long as the dribble delay. The socket timeout is relaxed to allow for connecting this
+    // many clients at once.
+    List<Future<TimedHttpResponse>> responses =
+        httpClientExecutor.invokeAll(
+            getHttpRequestCallables(100, SOCKET_TIMEOUT_MILLISECONDS * 10));
+
+    for (Future<TimedHttpResponse> response : responses) {
+      TimedHttpResponse timedResponse = response.get();
+      assertThat(timedResponse.status, is(200));
+      assertThat(timedResponse.body, is(body));
+      assertThat(timedResponse.milliseconds, lessThan(SHORTER_THAN_SOCKET_TIMEOUT * 10L));
+    }
+  }
+
   private List<Callable<TimedHttpResponse>> getHttpRequestCallables(int requestCount) {
+    return getHttpRequestCallables(requestCount, SOCKET_TIMEOUT_MILLISECONDS);
+  }
+
+  private List<Callable<TimedHttpResponse>> getHttpRequestCallables(
+      int requestCount, int socketTimeoutMillis) {
     List<Callable<TimedHttpResponse>> requests = new ArrayList<>();
     for (int i = 0; i < requestCount; i++) {
       final Stopwatch stopwatch = Stopwatch.createStarted();
       requests.add(
           () -> {
             CloseableHttpResponse response =
-                ApacheHttpClientFactory.createClient(SOCKET_TIMEOUT_MILLISECONDS)
+                ApacheHttpClientFactory.createClient(socketTimeoutMillis)
                     .execute(new HttpGet(wireMockRule.url("/delayed")));
             int status = response.getCode();
             String body = EntityUtils.toString(response.getEntity());
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2017-2025 Thomas Akehurst
+ * Copyright (C) 2017-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -28,8 +28,16 @@ import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.lessThan;
 
 import com.github.tomakehurst.wiremock.http.client.apache5.ApacheHttpClientFactory;
+import com.github.tomakehurst.wiremock.jetty.JettyHttpServerFactory;
+import com.github.tomakehurst.wiremock.jetty.JettySettings;
 import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.apache.hc.client5.http.classic.methods.HttpGet;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 import org.apache.hc.core5.http.ClassicHttpResponse;
@@ -46,13 +54,22 @@ public class ResponseDribbleAcceptanceTest {
 
   private static final byte[] BODY_BYTES = "the long sentence being sent".getBytes();
 
+  private static final int CONTAINER_THREADS = 8;
+
   public static final double TOLERANCE = 0.333; // Quite big, but this helps reduce CI failures
 
   @RegisterExtension
   public WireMockExtension wireMockRule =
       WireMockExtension.newInstance()
           .configureStaticDsl(true)
-          .options(options().port(DYNAMIC_PORT).httpsPort(DYNAMIC_PORT))
+          .options(
+              options()
+                  .port(DYNAMIC_PORT)
+                  .httpsPort(DYNAMIC_PORT)
+                  .httpServerFactory(
+                      new JettyHttpServerFactory(
+                          JettySettings.Builder.aJettySettings().withAcceptors(1).build()))
+                  .containerThreads(CONTAINER_THREADS))
           .build();
 
   private CloseableHttpClient httpClient;
@@ -128,6 +145,45 @@ public class ResponseDribbleAcceptanceTest {
     assertThat(duration, lessThan(SOCKET_TIMEOUT_MILLISECONDS));
   }
 
+  @Test
+  public void dribblesMoreConcurrentResponsesThanThereAreContainerThreads() throws Exception {
+    doNotRunOnMacOSXInCI();
+
+    final int TOTAL_TIME = 500;
+    final int REQUEST_COUNT = CONTAINER_THREADS * 10;
+
+    stubFor(
+        get("/concurrentDribble")
+            .willReturn(ok().withBody(BODY_BYTES).withChunkedDribbleDelay(2, TOTAL_TIME)));
+
+    // Asynchronous responses are off, so if each dribbled response held a container thread the
+    // requests would be served a few at a time and the batch would take more than ten times as long
+    // as one response. The allowance over a single response's time covers setting up the clients.
+    ExecutorService clientExecutor = Executors.newFixedThreadPool(REQUEST_COUNT);
+    List<Callable<byte[]>> requests = new ArrayList<>();
+    for (int i = 0; i < REQUEST_COUNT; i++) {
+      requests.add(
+          () -> {
+            try (CloseableHttpClient client =
+                ApacheHttpClientFactory.createClient(SOCKET_TIMEOUT_MILLISECONDS * 10)) {
+              ClassicHttpResponse response =
+                  client.execute(new HttpGet(wireMockRule.url("/concurrentDribble")));
+              return response.getEntity().getContent().readAllBytes();
+            }
+          });
+    }
+
+    long start = System.currentTimeMillis();
+    List<Future<byte[]>> responses = clientExecutor.invokeAll(requests);
+    for (Future<byte[]> response : responses) {
+      assertThat(response.get(), is(BODY_BYTES));
+    }
+    long duration = System.currentTimeMillis() - start;
+    clientExecutor.shutdown();
+
+    assertThat(duration, lessThan(TOTAL_TIME * 10L));
+  }
+
   private static Matcher<Double> isWithinTolerance(double value, double tolerance) {
     double maxDelta = value * tolerance;
     return closeTo(value, maxDelta);
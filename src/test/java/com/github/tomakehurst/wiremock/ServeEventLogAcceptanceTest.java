@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2012-2025 Thomas Akehurst
+ * Copyright (C) 2012-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -222,6 +222,21 @@ public class ServeEventLogAcceptanceTest extends AcceptanceTestBase {
     assertThat(serveEvents.get(1).getRequest().getUrl(), is("/two"));
   }
 
+  @Test
+  public void countsServeEventsThatMatchedStubIdOrWereUnmatched() {
+    wm.stubFor(get("/one").willReturn(ok()));
+    StubMapping stub2 = wm.stubFor(get("/two").willReturn(ok()));
+
+    testClient.get("/two");
+    testClient.get("/one");
+    testClient.get("/two");
+    testClient.get("/three");
+
+    assertThat(countAllServeEvents(ServeEventQuery.forStubMapping(stub2)), is(2));
+    assertThat(countAllServeEvents(ALL_UNMATCHED), is(1));
+    assertThat(countAllServeEvents(ServeEventQuery.ALL), is(4));
+  }
+
   private Matcher<LoggedRequest> withUrl(final String url) {
     return new TypeSafeMatcher<>() {
       @Override
@@ -24,7 +24,9 @@ import static java.net.HttpURLConnection.HTTP_OK;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
 
+import com.github.tomakehurst.wiremock.admin.model.GetScenarioSessionsResult;
 import com.github.tomakehurst.wiremock.client.WireMock;
+import com.github.tomakehurst.wiremock.common.Json;
 import com.github.tomakehurst.wiremock.stubbing.SessionId;
 import com.github.tomakehurst.wiremock.testsupport.TestHttpHeader;
 import com.github.tomakehurst.wiremock.testsupport.WireMockResponse;
@@ -387,6 +389,26 @@ public class SessionAwareScenariosAcceptanceTest {
     assertThat(setCookieHeader, is(nullValue()));
   }
 
+  @Test
+  public void countsTheSessionsHoldingScenarioStateViaTheAdminApi() {
+    givenThat(
+        put(urlEqualTo("/counted"))
+            .willReturn(aResponse().withStatus(HTTP_OK))
+            .inScenario("Counted")
+            .willSetStateTo("Changed")
+            .whenScenarioStateIs(STARTED));
+
+    testClient.put("/counted", withHeader(SessionId.HEADER_NAME, "counted-1"));
+    testClient.put("/counted", withHeader(SessionId.HEADER_NAME, "counted-2"));
+
+    WireMockResponse response = testClient.get("/__admin/scenarios/sessions");
+    assertThat(response.statusCode(), is(HTTP_OK));
+    assertThat(
+        Json.read(response.content(), GetScenarioSessionsResult.class).getActiveSessionCount(),
+        is(2));
+    assertThat(wireMockServer.getScenarioSessions().getActiveSessionCount(), is(2));
+  }
+
   private String extractSessionCookie(String setCookieHeader) {
     // Extract just the cookie name=value part
     String[] parts = setCookieHeader.split(";");
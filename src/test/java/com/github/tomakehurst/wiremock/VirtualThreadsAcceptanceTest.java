@@ -0,0 +1,109 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static com.github.tomakehurst.wiremock.http.RequestMethod.POST;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.wiremock.webhooks.Webhooks.webhook;
+
+import com.github.tomakehurst.wiremock.common.VirtualThreads;
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+import com.github.tomakehurst.wiremock.testsupport.WireMockTestClient;
+import com.google.common.base.Stopwatch;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+public class VirtualThreadsAcceptanceTest {
+
+  private static final int CONTAINER_THREADS = 20;
+  private static final int DELAY_MILLISECONDS = 500;
+
+  @RegisterExtension
+  public WireMockExtension targetServer =
+      WireMockExtension.newInstance().options(options().dynamicPort()).build();
+
+  @RegisterExtension
+  public WireMockExtension wm =
+      WireMockExtension.newInstance()
+          .options(
+              options()
+                  .dynamicPort()
+                  .containerThreads(CONTAINER_THREADS)
+                  .asynchronousResponseEnabled(false)
+                  .virtualThreads(true))
+          .build();
+
+  private final ExecutorService clientExecutor = Executors.newCachedThreadPool();
+
+  @AfterEach
+  public void shutdown() {
+    clientExecutor.shutdownNow();
+  }
+
+  @Test
+  public void servesStubsAndFiresWebhooks() {
+    targetServer.stubFor(post("/callback").willReturn(ok()));
+    wm.stubFor(
+        get("/trigger")
+            .willReturn(ok("triggered"))
+            .withServeEventListener(
+                "webhook", webhook().withMethod(POST).withUrl(targetServer.url("/callback"))));
+
+    WireMockTestClient client = new WireMockTestClient(wm.getPort());
+    assertThat(client.get("/trigger").content(), is("triggered"));
+
+    await()
+        .atMost(5, SECONDS)
+        .untilAsserted(() -> targetServer.verify(1, postRequestedFor(urlEqualTo("/callback"))));
+  }
+
+  @Test
+  public void servesMoreConcurrentDelayedRequestsThanThereAreContainerThreads() throws Exception {
+    assumeTrue(VirtualThreads.areSupported());
+
+    wm.stubFor(get("/delayed").willReturn(ok("delayed").withFixedDelay(DELAY_MILLISECONDS)));
+
+    WireMockTestClient client = new WireMockTestClient(wm.getPort());
+    List<Callable<Long>> requests = new ArrayList<>();
+    for (int i = 0; i < CONTAINER_THREADS * 10; i++) {
+      requests.add(
+          () -> {
+            Stopwatch stopwatch = Stopwatch.createStarted();
+            assertThat(client.get("/delayed").statusCode(), is(200));
+            return stopwatch.elapsed().toMillis();
+          });
+    }
+
+    // On platform threads the later requests would queue behind at least ten rounds of delays
+    for (Future<Long> elapsed : clientExecutor.invokeAll(requests)) {
+      assertThat(elapsed.get(), lessThan(DELAY_MILLISECONDS * 10L));
+    }
+  }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.common;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class BodyFileCacheTest {
+
+  @TempDir Path root;
+
+  BodyFileCache cache;
+  FileSource files;
+
+  @BeforeEach
+  void init() {
+    cache = new BodyFileCache(1024);
+    files = cache.cachingFilesIn(new SingleRootFileSource(root.toFile()));
+  }
+
+  @Test
+  void readsFilesFromDiskOnlyOnceWhileUnchanged() throws Exception {
+    Files.writeString(root.resolve("body.txt"), "cached");
+
+    assertThat(files.getTextFileNamed("body.txt").readContentsAsString(), is("cached"));
+    assertThat(files.getTextFileNamed("body.txt").readContentsAsString(), is("cached"));
+    assertThat(readStream(files.getBinaryFileNamed("body.txt")), is("cached"));
+
+    assertThat(cache.getMissCount(), is(1L));
+    assertThat(cache.getHitCount(), is(2L));
+    assertThat(cache.getSizeBytes(), is(6L));
+  }
+
+  @Test
+  void rereadsFilesThatHaveChangedOnDisk() throws Exception {
+    Path file = root.resolve("body.txt");
+    Files.writeString(file, "first");
+    files.getTextFileNamed("body.txt").readContentsAsString();
+
+    Files.writeString(file, "second");
+    Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis() + 10_000));
+
+    assertThat(files.getTextFileNamed("body.txt").readContentsAsString(), is("second"));
+    assertThat(cache.getMissCount(), is(2L));
+  }
+
+  @Test
+  void invalidatesFilesWrittenThroughTheFileSource() {
+    files.writeTextFile("body.txt", "first");
+    files.getTextFileNamed("body.txt").readContentsAsString();
+
+    files.writeTextFile("body.txt", "other");
+
+    assertThat(files.getTextFileNamed("body.txt").readContentsAsString(), is("other"));
+  }
+
+  @Test
+  void childFileSourcesShareTheCache() throws Exception {
+    Files.createDirectory(root.resolve("sub"));
+    Files.writeString(root.resolve("sub/body.txt"), "nested");
+
+    files.child("sub").getTextFileNamed("body.txt").readContentsAsString();
+    files.getTextFileNamed("sub/body.txt").readContentsAsString();
+
+    assertThat(cache.getHitCount(), is(1L));
+  }
+
+  @Test
+  void doesNotCacheFilesTooLargeToShareTheCache() throws Exception {
+    Files.write(root.resolve("large.bin"), new byte[200]);
+
+    assertThat(files.getBinaryFileNamed("large.bin").readContents().length, is(200));
+    assertThat(files.getBinaryFileNamed("large.bin").getStream().readAllBytes().length, is(200));
+
+    assertThat(cache.getHitCount(), is(0L));
+    assertThat(cache.getSizeBytes(), is(0L));
+  }
+
+  @Test
+  void stopsServingDeletedFiles() throws Exception {
+    Files.writeString(root.resolve("body.txt"), "deleted");
+    files.getTextFileNamed("body.txt").readContentsAsString();
+
+    Files.delete(root.resolve("body.txt"));
+
+    assertThrows(
+        FileNotFoundException.class, () -> files.getBinaryFileNamed("body.txt").readContents());
+    assertThat(cache.getSizeBytes(), is(0L));
+  }
+
+  @Test
+  void cachedContentsCannotBeModifiedByCallers() throws Exception {
+    Files.writeString(root.resolve("body.txt"), "abc");
+
+    files.getBinaryFileNamed("body.txt").readContents()[0] = 'x';
+
+    assertThat(files.getTextFileNamed("body.txt").readContentsAsString(), is("abc"));
+  }
+
+  private static String readStream(BinaryFile file) throws Exception {
+    try (InputStream stream = file.getStream()) {
+      return new String(stream.readAllBytes(), UTF_8);
+    }
+  }
+}
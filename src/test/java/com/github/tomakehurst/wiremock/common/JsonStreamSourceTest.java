@@ -0,0 +1,134 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.common;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.ok;
+import static com.github.tomakehurst.wiremock.testsupport.MockRequestBuilder.aRequest;
+import static com.github.tomakehurst.wiremock.verification.LoggedRequest.createFrom;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+
+import com.github.tomakehurst.wiremock.admin.LimitAndOffsetPaginator;
+import com.github.tomakehurst.wiremock.admin.model.GetServeEventsResult;
+import com.github.tomakehurst.wiremock.admin.model.ListStubMappingsResult;
+import com.github.tomakehurst.wiremock.common.JsonStreamSource.Format;
+import com.github.tomakehurst.wiremock.http.ResponseDefinition;
+import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
+import com.github.tomakehurst.wiremock.stubbing.StubMapping;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+public class JsonStreamSourceTest {
+
+  @Test
+  void prettyPrintedServeEventsAreTheSameAsWhenWrittenInOneGo() {
+    GetServeEventsResult result = serveEventsResult(3);
+
+    String streamed = read(result.toJsonStream(Format.PRETTY));
+
+    assertThat(streamed, is(Json.write(result)));
+  }
+
+  @Test
+  void prettyPrintedStubMappingsAreTheSameAsWhenWrittenInOneGo() {
+    List<StubMapping> mappings =
+        IntStream.range(0, 3)
+            .mapToObj(i -> get("/things/" + i).willReturn(ok("thing " + i)).build())
+            .collect(Collectors.toList());
+    ListStubMappingsResult result =
+        new ListStubMappingsResult(LimitAndOffsetPaginator.none(mappings));
+
+    String streamed = read(result.toJsonStream(Format.PRETTY));
+
+    assertThat(streamed, is(Json.write(result)));
+  }
+
+  @Test
+  void writesEmptyArray() {
+    GetServeEventsResult result = serveEventsResult(0);
+
+    String streamed = read(result.toJsonStream(Format.PRETTY));
+
+    assertThat(streamed, is(Json.write(result)));
+  }
+
+  @Test
+  void compactFormatHasNoWhitespaceBetweenTokens() {
+    GetServeEventsResult result = serveEventsResult(2);
+
+    String streamed = read(result.toJsonStream(Format.COMPACT));
+
+    assertThat(streamed, not(containsString("\n")));
+    assertThat(Json.node(streamed), is(Json.node(Json.write(result))));
+  }
+
+  @Test
+  void ndjsonFormatWritesOneItemPerLine() {
+    GetServeEventsResult result = serveEventsResult(3);
+
+    String streamed = read(result.toJsonStream(Format.NDJSON));
+
+    List<String> lines = streamed.lines().collect(Collectors.toList());
+    assertThat(lines.size(), is(3));
+    assertThat(streamed.endsWith("\n"), is(true));
+    for (int i = 0; i < lines.size(); i++) {
+      assertThat(
+          Json.read(lines.get(i), ServeEvent.class).getId(),
+          is(result.getRequests().get(i).getId()));
+    }
+  }
+
+  @Test
+  void canBeReadOneByteAtATimeAndMoreThanOnce() throws IOException {
+    JsonStreamSource source = serveEventsResult(2).toJsonStream(Format.COMPACT);
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (InputStream in = source.getStream()) {
+      int b;
+      while ((b = in.read()) != -1) {
+        out.write(b);
+      }
+    }
+
+    assertThat(out.toString(UTF_8), is(read(source)));
+  }
+
+  private static GetServeEventsResult serveEventsResult(int count) {
+    List<ServeEvent> serveEvents =
+        IntStream.range(0, count)
+            .mapToObj(i -> createFrom(aRequest().withUrl("/things/" + i).build()))
+            .map(request -> ServeEvent.of(request).withResponseDefinition(ResponseDefinition.ok()))
+            .collect(Collectors.toList());
+    return GetServeEventsResult.requestJournalEnabled(LimitAndOffsetPaginator.none(serveEvents));
+  }
+
+  private static String read(JsonStreamSource source) {
+    try (InputStream in = source.getStream()) {
+      return new String(in.readAllBytes(), UTF_8);
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+}
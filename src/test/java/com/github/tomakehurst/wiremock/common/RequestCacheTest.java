@@ -0,0 +1,85 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.common;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.tomakehurst.wiremock.common.xml.Xml;
+import com.github.tomakehurst.wiremock.common.xml.XmlDocument;
+import com.github.tomakehurst.wiremock.common.xml.XmlException;
+import java.util.Map;
+import javax.xml.parsers.DocumentBuilderFactory;
+import org.junit.jupiter.api.Test;
+import org.w3c.dom.Document;
+
+public class RequestCacheTest {
+
+  RequestCache requestCache = new RequestCache();
+
+  @Test
+  void parsesEachJsonValueOnlyOnce() {
+    JsonNode first = requestCache.getJsonNode("{\"id\": 1}");
+    JsonNode second = requestCache.getJsonNode("{\"id\": 1}");
+    JsonNode other = requestCache.getJsonNode("{\"id\": 2}");
+
+    assertThat(second, sameInstance(first));
+    assertThat(other, not(sameInstance(first)));
+  }
+
+  @Test
+  void parsesEachJsonDocumentOnlyOnce() {
+    Object first = requestCache.getJsonDocument("{\"id\": 1}");
+
+    assertThat(requestCache.getJsonDocument("{\"id\": 1}"), sameInstance(first));
+    assertThat(first, instanceOf(Map.class));
+  }
+
+  @Test
+  void parsesEachXmlValueOnlyOnce() {
+    XmlDocument first = requestCache.getXmlDocument("<thing id=\"1\"/>");
+
+    assertThat(requestCache.getXmlDocument("<thing id=\"1\"/>"), sameInstance(first));
+  }
+
+  @Test
+  void parsesXmlDomOnceForEachDocumentBuilderFactory() {
+    DocumentBuilderFactory factory = Xml.newDocumentBuilderFactory();
+    DocumentBuilderFactory otherFactory = Xml.newDocumentBuilderFactory();
+    Document first = requestCache.getXmlDom("<thing id=\"1\"/>", factory);
+
+    assertThat(requestCache.getXmlDom("<thing id=\"1\"/>", factory), sameInstance(first));
+    assertThat(
+        requestCache.getXmlDom("<thing id=\"1\"/>", otherFactory), not(sameInstance(first)));
+  }
+
+  @Test
+  void remembersParseFailures() {
+    JsonException first = assertThrows(JsonException.class, () -> requestCache.getJsonNode("{"));
+    JsonException second = assertThrows(JsonException.class, () -> requestCache.getJsonNode("{"));
+    assertThat(second, sameInstance(first));
+
+    XmlException xmlFailure =
+        assertThrows(XmlException.class, () -> requestCache.getXmlDocument("<oops"));
+    assertThat(
+        assertThrows(XmlException.class, () -> requestCache.getXmlDocument("<oops")),
+        sameInstance(xmlFailure));
+  }
+}
@@ -26,6 +26,7 @@ import static org.hamcrest.Matchers.is;
 import com.github.tomakehurst.wiremock.matching.RequestPattern;
 import com.github.tomakehurst.wiremock.stubbing.StubMapping;
 import java.util.Iterator;
+import java.util.Optional;
 import org.hamcrest.Description;
 import org.hamcrest.Matcher;
 import org.hamcrest.TypeSafeMatcher;
@@ -80,11 +81,12 @@ public class SortedConcurrentPrioritisableSetTest {
     mappingSet.add(aMapping(3, "/priority3/1"));
     mappingSet.add(aMapping(3, "/priority3/2"));
     mappingSet.add(aMapping(6, "/priority6/1"));
-    mappingSet.add(aMapping(1, "/priority1/1"));
+    StubMapping last = mappingSet.add(aMapping(1, "/priority1/1"));
 
     mappingSet.clear();
 
     assertThat("Mapping set should be empty", mappingSet.iterator().hasNext(), is(false));
+    assertThat(mappingSet.get(last.getId()), is(Optional.empty()));
   }
 
   @Test
@@ -99,6 +101,37 @@ public class SortedConcurrentPrioritisableSetTest {
     assertThat(mappingSet.iterator().hasNext(), is(false));
   }
 
+  @Test
+  public void removeOnlyRemovesTheMappingWithTheGivenId() {
+    StubMapping one = mappingSet.add(aMapping(1, "/one"));
+    StubMapping two = mappingSet.add(aMapping(1, "/two"));
+
+    assertThat(mappingSet.remove(one.getId()), is(true));
+    assertThat(mappingSet.remove(one.getId()), is(false));
+    assertThat(mappingSet.remove(null), is(false));
+
+    assertThat(mappingSet, hasExactly(requestUrlIs("/two")));
+    assertThat(mappingSet.get(one.getId()), is(Optional.empty()));
+    assertThat(mappingSet.get(two.getId()), is(Optional.of(two)));
+  }
+
+  @Test
+  public void findsReplacedMappingsById() {
+    StubMapping existingMapping = mappingSet.add(aMapping(1, "/priority1/1"));
+    StubMapping sameId = existingMapping.transform(b -> b.setPriority(2));
+    StubMapping newId = aMapping(3, "/priority3/1");
+
+    mappingSet.replace(existingMapping, sameId);
+    assertThat(mappingSet.get(existingMapping.getId()), is(Optional.of(sameId)));
+
+    mappingSet.replace(sameId, newId);
+    assertThat(mappingSet.get(existingMapping.getId()), is(Optional.empty()));
+    assertThat(mappingSet.get(newId.getId()), is(Optional.of(newId)));
+
+    mappingSet.remove(newId.getId());
+    assertThat(mappingSet.iterator().hasNext(), is(false));
+  }
+
   @Test
   public void testReplace() throws Exception {
 
@@ -0,0 +1,42 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+public class VirtualThreadsTest {
+
+  @Test
+  void supportedFromJava21() {
+    assertThat(VirtualThreads.areSupported()).isEqualTo(Runtime.version().feature() >= 21);
+  }
+
+  @Test
+  void executorRunsTasksWhenSupported() throws Exception {
+    Optional<ExecutorService> executor = VirtualThreads.newVirtualThreadPerTaskExecutor();
+    assertThat(executor.isPresent()).isEqualTo(VirtualThreads.areSupported());
+
+    if (executor.isPresent()) {
+      assertThat(executor.get().submit(() -> "done").get(5, TimeUnit.SECONDS)).isEqualTo("done");
+      executor.get().shutdown();
+    }
+  }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2020-2025 Thomas Akehurst
+ * Copyright (C) 2020-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,12 +16,25 @@
 package com.github.tomakehurst.wiremock.common.xml;
 
 import static com.github.tomakehurst.wiremock.testsupport.WireMatchers.equalsMultiLine;
+import static java.util.stream.Collectors.toList;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 import com.github.tomakehurst.wiremock.common.ListOrSingle;
+import com.github.tomakehurst.wiremock.common.VirtualThreads;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.stream.IntStream;
+import javax.xml.xpath.XPathExpression;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.condition.DisabledForJreRange;
 import org.junit.jupiter.api.condition.JRE;
@@ -67,6 +80,72 @@ public class XmlTest {
     assertThat(nodes.get(0).getAttributes().get("fl:group"), is("555"));
   }
 
+  @Test
+  public void findsNodesByPrefixedXPathInNamespaceAwareAndUnawareDocuments() {
+    String xml =
+        "<s:Envelope xmlns:s=\"http://schemas.xmlsoap.org/soap/envelope/\">\n"
+            + "    <s:Body><t:thing xmlns:t=\"https://things.biz\">One</t:thing></s:Body>\n"
+            + "</s:Envelope>";
+    CompiledXPath xPath =
+        new CompiledXPath(
+            "/soap:Envelope/soap:Body/things:thing/text()",
+            Map.of(
+                "soap", "http://schemas.xmlsoap.org/soap/envelope/",
+                "things", "https://things.biz"));
+
+    XmlDocument namespaceAware = Xml.parseNamespaceAware(xml);
+    XmlDocument namespaceUnaware = Xml.parse(xml);
+
+    assertThat(namespaceAware.isNamespaceAware(), is(true));
+    assertThat(namespaceAware.findNodes(xPath).getFirst().toString(), is("One"));
+    assertThat(namespaceUnaware.findNodes(xPath).getFirst().toString(), is("One"));
+  }
+
+  @Test
+  public void compiledXPathCanBeEvaluatedAgainstManyDocuments() {
+    CompiledXPath xPath = new CompiledXPath("//thing/text()");
+
+    assertThat(Xml.parse("<things><thing>1</thing></things>").findNodes(xPath).size(), is(1));
+    assertThat(
+        Xml.parse("<things><thing>1</thing><thing>2</thing></things>").findNodes(xPath).size(),
+        is(2));
+  }
+
+  @Test
+  public void compiledXPathIsReusedAcrossVirtualThreads() throws Exception {
+    Optional<ExecutorService> virtualThreads = VirtualThreads.newVirtualThreadPerTaskExecutor();
+    assumeTrue(virtualThreads.isPresent(), "Virtual threads need Java 21 or later");
+    ExecutorService executor = virtualThreads.get();
+    CompiledXPath xPath = new CompiledXPath("//thing/text()");
+    XmlDocument document = Xml.parse("<things><thing>1</thing></things>");
+    Set<XPathExpression> compiled = Collections.newSetFromMap(new ConcurrentHashMap<>());
+
+    try {
+      // Each task runs on a new virtual thread, as each request does
+      for (int i = 0; i < 50; i++) {
+        executor.submit(() -> xPath.evaluate(compiled::add)).get();
+      }
+      assertThat(compiled.size(), is(1));
+
+      List<Future<Integer>> results =
+          IntStream.range(0, 200)
+              .mapToObj(i -> executor.submit(() -> document.findNodes(xPath).size()))
+              .collect(toList());
+      for (Future<Integer> result : results) {
+        assertThat(result.get(), is(1));
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void throwsWhenCompiledXPathIsInvalid() {
+    CompiledXPath xPath = new CompiledXPath("//thing[");
+
+    assertThrows(XPathException.class, () -> Xml.parse("<thing/>").findNodes(xPath));
+  }
+
   @Test
   public void prettyPrintsDocument() {
     String xml = "<one><two><three name='3'/></two></one>";
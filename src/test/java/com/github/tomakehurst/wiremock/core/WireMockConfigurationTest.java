@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2017-2025 Thomas Akehurst
+ * Copyright (C) 2017-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -55,4 +55,31 @@ public class WireMockConfigurationTest {
     Options config = WireMockConfiguration.wireMockConfig();
     assertThat(config.getWebhookThreadPoolSize(), is(DEFAULT_WEBHOOK_THREADPOOL_SIZE));
   }
+
+  @Test
+  void virtualThreadsAreDisabledUnlessSpecified() {
+    assertThat(WireMockConfiguration.wireMockConfig().getVirtualThreadsEnabled(), is(false));
+    assertThat(
+        WireMockConfiguration.wireMockConfig().virtualThreads(true).getVirtualThreadsEnabled(),
+        is(true));
+  }
+
+  @Test
+  void sessionsAreUnlimitedUnlessSpecified() {
+    WireMockConfiguration defaults = WireMockConfiguration.wireMockConfig();
+    assertThat(defaults.getSessionIdleTimeoutMillis(), is(0L));
+    assertThat(defaults.getMaxSessions(), is(0));
+
+    WireMockConfiguration limited =
+        WireMockConfiguration.wireMockConfig().sessionIdleTimeoutMillis(60_000).maxSessions(500);
+    assertThat(limited.getSessionIdleTimeoutMillis(), is(60_000L));
+    assertThat(limited.getMaxSessions(), is(500));
+  }
+
+  @Test
+  void bodyFileCacheIsDisabledUnlessSpecified() {
+    WireMockConfiguration config = WireMockConfiguration.wireMockConfig();
+    assertThat(config.getMaxBodyFileCacheBytes(), is(0L));
+    assertThat(config.maxBodyFileCacheBytes(4096).getMaxBodyFileCacheBytes(), is(4096L));
+  }
 }
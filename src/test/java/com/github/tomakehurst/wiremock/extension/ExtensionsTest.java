@@ -158,6 +158,11 @@ class ExtensionsTest {
       throw new UnsupportedOperationException();
     }
 
+    @Override
+    public VerificationResult countServeEvents(ServeEventQuery query) {
+      throw new UnsupportedOperationException();
+    }
+
     @Override
     public VerificationResult countRequestsMatching(RequestPattern requestPattern) {
       throw new UnsupportedOperationException();
@@ -219,6 +224,11 @@ class ExtensionsTest {
       throw new UnsupportedOperationException();
     }
 
+    @Override
+    public GetScenarioSessionsResult getScenarioSessions() {
+      throw new UnsupportedOperationException();
+    }
+
     @Override
     public void updateGlobalSettings(GlobalSettings settings) {
       throw new UnsupportedOperationException();
@@ -304,6 +314,11 @@ class ExtensionsTest {
       throw new UnsupportedOperationException();
     }
 
+    @Override
+    public GetConnectionPoolStatsResult getConnectionPoolStats() {
+      throw new UnsupportedOperationException();
+    }
+
     @Override
     public SendChannelMessageResult sendChannelMessage(
         ChannelType type, RequestPattern requestPattern, MessageDefinition message) {
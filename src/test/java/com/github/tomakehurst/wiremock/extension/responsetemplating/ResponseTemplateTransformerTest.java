@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2016-2025 Thomas Akehurst
+ * Copyright (C) 2016-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,6 +18,7 @@ package com.github.tomakehurst.wiremock.extension.responsetemplating;
 import static com.github.tomakehurst.wiremock.client.WireMock.*;
 import static com.github.tomakehurst.wiremock.matching.MockRequest.mockRequest;
 import static com.github.tomakehurst.wiremock.stubbing.ServeEventFactory.newPostMatchServeEvent;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.time.temporal.ChronoUnit.DAYS;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
@@ -25,6 +26,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import com.github.jknack.handlebars.Helper;
 import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+import com.github.tomakehurst.wiremock.common.Json;
 import com.github.tomakehurst.wiremock.extension.Parameters;
 import com.github.tomakehurst.wiremock.extension.ResponseDefinitionTransformerV2;
 import com.github.tomakehurst.wiremock.http.Request;
@@ -69,6 +71,27 @@ public class ResponseTemplateTransformerTest {
     assertThat(transformedResponseDef.getBody(), is("Multi 1: one, Multi 2: two, Single 1: 1234"));
   }
 
+  @Test
+  public void rendersNonAsciiTemplatedBodiesAsUtf8() {
+    ResponseDefinition transformedResponseDef =
+        transform(
+            mockRequest().url("/things?name=Zoë"),
+            aResponse().withBody("Grüße, {{request.query.name}} ✓"));
+
+    assertThat(transformedResponseDef.getBody(), is("Grüße, Zoë ✓"));
+    assertThat(transformedResponseDef.getByteBody(), is("Grüße, Zoë ✓".getBytes(UTF_8)));
+  }
+
+  @Test
+  public void rendersTemplatedJsonBodies() {
+    ResponseDefinition transformedResponseDef =
+        transform(
+            mockRequest().url("/things"),
+            aResponse().withJsonBody(Json.node("{\"path\": \"{{request.path}}\"}")));
+
+    assertThat(transformedResponseDef.getJsonBody().get("path").textValue(), is("/things"));
+  }
+
   @Test
   public void showsNothingWhenNoQueryParamsPresent() {
     ResponseDefinition transformedResponseDef =
@@ -859,6 +882,45 @@ public class ResponseTemplateTransformerTest {
     assertThat(transformer.getCacheSize(), is(0L));
   }
 
+  @Test
+  public void compilesTemplatesWhenStubIsCreated() {
+    transformer.afterStubCreated(
+        get("/")
+            .willReturn(ok("{{request.path}}").withHeader("X-Path", "{{request.path}}"))
+            .build());
+
+    assertThat(transformer.getCacheSize(), is(2L));
+  }
+
+  @Test
+  public void onlyCompilesHeaderValuesContainingTemplates() {
+    ResponseDefinition transformedResponseDef =
+        transform(
+            mockRequest().url("/things"),
+            aResponse()
+                .withBody("{{request.path}}")
+                .withHeader("X-Static", "static")
+                .withHeader("X-Templated", "static", "{{request.path}}"));
+
+    assertThat(
+        transformedResponseDef.getHeaders().getHeader("X-Static").firstValue(), is("static"));
+    assertThat(
+        transformedResponseDef.getHeaders().getHeader("X-Templated").values(),
+        contains("static", "/things"));
+    assertThat(transformer.getCacheSize(), is(2L));
+  }
+
+  @Test
+  public void returnsResponsesWithoutTemplatesUnchanged() {
+    final ResponseDefinitionBuilder responseDefinitionBuilder =
+        aResponse().withBody("No templates here").withHeader("X-Static", "static");
+    final StubMapping stub = get("/").willReturn(responseDefinitionBuilder).build();
+    final ServeEvent serveEvent =
+        newPostMatchServeEvent(mockRequest(), responseDefinitionBuilder, stub);
+
+    assertThat(transform(serveEvent), sameInstance(serveEvent.getResponseDefinition()));
+  }
+
   @Test
   public void honoursCacheSizeLimit() {
     transformer = ExtensionFactoryUtils.buildTemplateTransformer(3L);
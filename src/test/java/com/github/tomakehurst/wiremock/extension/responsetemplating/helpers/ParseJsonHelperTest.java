@@ -232,6 +232,20 @@ public class ParseJsonHelperTest extends HandlebarsHelperTestBase {
     assertThat(result, aMapWithSize(0));
   }
 
+  @Test
+  @SuppressWarnings("unchecked")
+  public void changesToTheResultDoNotReachTheRequestsParsedDocument() throws Exception {
+    String inputJson = "{\"items\": [\"one\"]}";
+    Map<String, Object> first =
+        (Map<String, Object>) render(inputJson, new Object[] {}, TagType.VAR);
+    ((List<Object>) first.get("items")).add("two");
+    first.put("extra", "value");
+
+    assertThat(requestCache.getJsonDocument(inputJson), is(Map.of("items", List.of("one"))));
+    assertThat(
+        render(inputJson, new Object[] {}, TagType.VAR), is(Map.of("items", List.of("one"))));
+  }
+
   private Object render(Object context, Object[] params, TagType tagType) throws IOException {
     return render(
         context,
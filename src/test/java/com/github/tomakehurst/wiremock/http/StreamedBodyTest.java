@@ -0,0 +1,99 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.http;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.github.tomakehurst.wiremock.common.Limit;
+import com.github.tomakehurst.wiremock.common.StreamSources;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import org.junit.jupiter.api.Test;
+
+public class StreamedBodyTest {
+
+  @Test
+  public void keepsTheStartOfTheBodyUpToTheLimitAsItIsRead() throws IOException {
+    StreamedBody body =
+        new StreamedBody(StreamSources.forString("0123456789", UTF_8), new Limit(4));
+    assertThat(body.getCaptured(), nullValue());
+
+    try (InputStream stream = body.getStream()) {
+      assertThat(new String(stream.readNBytes(2), UTF_8), is("01"));
+      assertThat(new String(body.getCaptured(), UTF_8), is("01"));
+      assertThat(new String(stream.readAllBytes(), UTF_8), is("23456789"));
+    }
+
+    assertThat(new String(body.getCaptured(), UTF_8), is("0123"));
+  }
+
+  @Test
+  public void keepsTheWholeOfASmallBodyWhenUnlimited() throws IOException {
+    StreamedBody body =
+        new StreamedBody(StreamSources.forString("0123456789", UTF_8), Limit.UNLIMITED);
+
+    try (InputStream stream = body.getStream()) {
+      stream.read();
+      stream.readAllBytes();
+    }
+
+    assertThat(new String(body.getCaptured(), UTF_8), is("0123456789"));
+  }
+
+  @Test
+  public void keepsAFixedAmountOfALargeBodyWhenUnlimited() throws IOException {
+    byte[] large = new byte[StreamedBody.UNLIMITED_CAPTURE_BYTES * 3];
+    StreamedBody body = new StreamedBody(() -> new ByteArrayInputStream(large), Limit.UNLIMITED);
+
+    try (InputStream stream = body.getStream()) {
+      assertThat(stream.readAllBytes().length, is(large.length));
+    }
+
+    assertThat(body.getCaptured().length, is(StreamedBody.UNLIMITED_CAPTURE_BYTES));
+  }
+
+  @Test
+  public void canOnlyBeReadOnce() {
+    StreamedBody body =
+        new StreamedBody(StreamSources.forString("0123456789", UTF_8), Limit.UNLIMITED);
+    body.getStream();
+
+    assertThrows(IllegalStateException.class, body::getStream);
+  }
+
+  @Test
+  public void loggedResponseShowsTheStreamedBodyAsItIsSent() throws IOException {
+    Response response =
+        Response.response()
+            .streamedBody(
+                new StreamedBody(StreamSources.forString("0123456789", UTF_8), new Limit(5)))
+            .build();
+    LoggedResponse loggedResponse = LoggedResponse.from(response, Limit.UNLIMITED);
+    assertThat(loggedResponse.getBodyAsString(), is(""));
+
+    try (InputStream stream = response.getBodyStream()) {
+      stream.transferTo(OutputStream.nullOutputStream());
+    }
+
+    assertThat(loggedResponse.getBodyAsString(), is("01234"));
+  }
+}
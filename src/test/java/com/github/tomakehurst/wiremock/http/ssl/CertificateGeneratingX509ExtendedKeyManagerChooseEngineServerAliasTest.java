@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2020-2021 Thomas Akehurst
+ * Copyright (C) 2020-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -100,6 +100,25 @@ public class CertificateGeneratingX509ExtendedKeyManagerChooseEngineServerAliasT
     assertArrayEquals(certificateChain, generatingKeyManager.getCertificateChain(sameKeyAlias));
   }
 
+  @Test
+  public void generatesPreferredKeyTypeEvenWhenKeyStoreHasNoKeyOfThatType() throws Exception {
+
+    KeyStore keyStore = readKeyStore(KEY_STORE_WITH_CA_PATH, "password");
+    String hostname = "example.com";
+
+    // given
+    CertificateGeneratingX509ExtendedKeyManager generatingKeyManager =
+        keyManagerFor(keyStore, "password".toCharArray(), CertificateKeyType.EC);
+
+    // when
+    SSLEngine sslEngineMock = getSslEngineWithSessionFor(hostname);
+    String keyAlias = generatingKeyManager.chooseEngineServerAlias("EC", null, sslEngineMock);
+
+    // then
+    assertEquals("example.com#ec", keyAlias);
+    assertEquals("EC", generatingKeyManager.getPrivateKey(keyAlias).getAlgorithm());
+  }
+
   private PublicKey getPublicKey(RSAPrivateCrtKey privateKey)
       throws NoSuchAlgorithmException, InvalidKeySpecException {
     RSAPublicKeySpec publicKeySpec =
@@ -121,6 +140,12 @@ public class CertificateGeneratingX509ExtendedKeyManagerChooseEngineServerAliasT
   private CertificateGeneratingX509ExtendedKeyManager keyManagerFor(
       KeyStore keyStore, char[] keyStorePassword)
       throws NoSuchAlgorithmException, KeyStoreException, UnrecoverableKeyException {
+    return keyManagerFor(keyStore, keyStorePassword, CertificateKeyType.RSA);
+  }
+
+  private CertificateGeneratingX509ExtendedKeyManager keyManagerFor(
+      KeyStore keyStore, char[] keyStorePassword, CertificateKeyType preferredKeyType)
+      throws NoSuchAlgorithmException, KeyStoreException, UnrecoverableKeyException {
     KeyManagerFactory keyManagerFactory =
         KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
     keyManagerFactory.init(keyStore, keyStorePassword);
@@ -129,7 +154,7 @@ public class CertificateGeneratingX509ExtendedKeyManagerChooseEngineServerAliasT
 
     return new CertificateGeneratingX509ExtendedKeyManager(
         keyManager,
-        new DynamicKeyStore(x509KeyStore),
+        new DynamicKeyStore(x509KeyStore, preferredKeyType, null),
         new ApacheHttpHostNameMatcher(),
         new TestNotifier());
   }
@@ -0,0 +1,146 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.http.ssl;
+
+import static com.github.tomakehurst.wiremock.testsupport.TestFiles.KEY_STORE_WITH_CA_PATH;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.io.FileInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyStore;
+import java.security.cert.X509Certificate;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+import javax.net.ssl.SNIHostName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class DynamicKeyStoreTest {
+
+  static final SNIHostName EXAMPLE_COM = new SNIHostName("example.com");
+
+  @TempDir Path tempDir;
+
+  @Test
+  void generatesOneCertificatePerHostForConcurrentHandshakes() throws Exception {
+    DynamicKeyStore dynamicKeyStore = new DynamicKeyStore(x509KeyStore());
+    int threads = 8;
+    CountDownLatch start = new CountDownLatch(1);
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      List<Future<X509Certificate[]>> results =
+          IntStream.range(0, threads)
+              .mapToObj(
+                  i ->
+                      executor.submit(
+                          () -> {
+                            start.await();
+                            String alias =
+                                dynamicKeyStore.generateCertificateIfNecessary("RSA", EXAMPLE_COM);
+                            return dynamicKeyStore.getCertificateChain(alias);
+                          }))
+              .collect(toList());
+      start.countDown();
+
+      X509Certificate[] first = results.get(0).get();
+      for (Future<X509Certificate[]> result : results) {
+        assertThat(result.get(), sameInstance(first));
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void generatesEcCertificatesSignedByTheCertificateAuthority() throws Exception {
+    X509KeyStore x509KeyStore = x509KeyStore();
+    DynamicKeyStore dynamicKeyStore =
+        new DynamicKeyStore(x509KeyStore, CertificateKeyType.EC, null);
+
+    String alias = dynamicKeyStore.generateCertificateIfNecessary("EC", EXAMPLE_COM);
+
+    assertThat(alias, is("example.com#ec"));
+    assertThat(dynamicKeyStore.getPrivateKey(alias).getAlgorithm(), is("EC"));
+    X509Certificate[] chain = dynamicKeyStore.getCertificateChain(alias);
+    assertThat(chain[0].getPublicKey().getAlgorithm(), is("EC"));
+    chain[0].verify(x509KeyStore.getCertificateAuthority().certificateChain()[0].getPublicKey());
+  }
+
+  @Test
+  void reusesCertificatesCachedOnDiskAfterARestart() throws Exception {
+    DynamicKeyStore beforeRestart =
+        new DynamicKeyStore(x509KeyStore(), CertificateKeyType.EC, tempDir);
+    beforeRestart.preGenerateCertificates(List.of("example.com"));
+
+    DynamicKeyStore afterRestart =
+        new DynamicKeyStore(x509KeyStore(), CertificateKeyType.EC, tempDir);
+    String alias = afterRestart.generateCertificateIfNecessary("EC", EXAMPLE_COM);
+
+    assertThat(Files.exists(tempDir.resolve("example.com#ec.p12")), is(true));
+    assertThat(
+        afterRestart.getCertificateChain(alias)[0],
+        is(beforeRestart.getCertificateChain(alias)[0]));
+  }
+
+  @Test
+  void ignoresCachedCertificatesIssuedByAnotherCertificateAuthority() throws Exception {
+    CertificateAuthority otherAuthority = CertificateAuthority.generateCertificateAuthority();
+    CertChainAndKey otherCertificate =
+        otherAuthority.generateCertificate(CertificateKeyType.RSA, EXAMPLE_COM);
+    new CertificateFileCache(tempDir, otherAuthority, "password".toCharArray())
+        .save("example.com", otherCertificate);
+
+    DynamicKeyStore dynamicKeyStore =
+        new DynamicKeyStore(x509KeyStore(), CertificateKeyType.RSA, tempDir);
+    String alias = dynamicKeyStore.generateCertificateIfNecessary("RSA", EXAMPLE_COM);
+
+    X509Certificate[] chain = dynamicKeyStore.getCertificateChain(alias);
+    assertThat(chain[1], not(otherAuthority.certificateChain()[0]));
+  }
+
+  @Test
+  void preGeneratesCertificatesForEachHost() throws Exception {
+    DynamicKeyStore dynamicKeyStore =
+        new DynamicKeyStore(x509KeyStore(), CertificateKeyType.EC, null);
+
+    dynamicKeyStore.preGenerateCertificates(List.of("one.example.com", "two.example.com"));
+
+    assertThat(
+        List.of(
+            dynamicKeyStore.getPrivateKey("one.example.com#ec"),
+            dynamicKeyStore.getPrivateKey("two.example.com#ec")),
+        everyItem(notNullValue()));
+  }
+
+  static X509KeyStore x509KeyStore() throws Exception {
+    KeyStore keyStore = KeyStore.getInstance(KeyStore.getDefaultType());
+    try (FileInputStream in = new FileInputStream(KEY_STORE_WITH_CA_PATH)) {
+      keyStore.load(in, "password".toCharArray());
+    }
+    return new X509KeyStore(keyStore, "password".toCharArray());
+  }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2016-2024 Thomas Akehurst
+ * Copyright (C) 2016-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,7 +17,10 @@ package com.github.tomakehurst.wiremock.matching;
 
 import static com.github.tomakehurst.wiremock.matching.WeightedMatchResult.weight;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
 
 import com.github.tomakehurst.wiremock.stubbing.SubEvent;
 import org.junit.jupiter.api.Test;
@@ -116,6 +119,45 @@ public class MatchResultTest {
     assertThat(matchResult.isExactMatch(), is(false));
   }
 
+  @Test
+  void sharesExactAndNoMatchResultsWithoutSubEvents() {
+    assertThat(MatchResult.exactMatch(), sameInstance(MatchResult.of(true)));
+    assertThat(MatchResult.noMatch(), sameInstance(MatchResult.of(false)));
+    assertThat(
+        MatchResult.exactMatch(SubEvent.info("1")), not(sameInstance(MatchResult.exactMatch())));
+    assertThat(MatchResult.exactMatch().getSubEvents(), is(empty()));
+  }
+
+  @Test
+  void collectsSubEventsAppendedWhileMatching() {
+    MatchResult matchResult =
+        new MatchResult() {
+          @Override
+          public boolean isExactMatch() {
+            appendSubEvent(SubEvent.warning("Evaluated exact match"));
+            return true;
+          }
+
+          @Override
+          public double getDistance() {
+            return 0;
+          }
+        };
+
+    assertThat(matchResult.getSubEvents(), is(empty()));
+    assertThat(MatchResult.aggregate(matchResult).getSubEvents().size(), is(1));
+  }
+
+  @Test
+  void aggregatesWeightedDistanceCorrectly() {
+    MatchResult matchResult =
+        MatchResult.aggregateWeighted(
+            weight(MatchResult.exactMatch(), 3.0), weight(MatchResult.partialMatch(0.5), 1.0));
+
+    assertThat(matchResult.getDistance(), is(0.125));
+    assertThat(matchResult.getSubEvents(), is(empty()));
+  }
+
   public static class ExceptionThrowingMatchResult extends MatchResult {
 
     @Override
@@ -43,6 +43,27 @@ public class MatchesJsonPathPatternTest {
     RequestCache.disable();
   }
 
+  @Test
+  public void readsNumbersTheSameWayWhenTheRequestCacheIsOn() {
+    RequestCache.onRequestEnd();
+    try {
+      assertNumberMatches("{ \"price\": 1.50 }", "$.price", "1.5");
+      assertNumberMatches("{ \"value\": 1e2 }", "$.value", "100.0");
+      assertNumberMatches("{ \"rate\": 0.10 }", "$.rate", "0.1");
+    } finally {
+      RequestCache.disable();
+    }
+  }
+
+  private static void assertNumberMatches(String json, String jsonPath, String expected) {
+    // As if a template helper had already parsed the same body during this request
+    RequestCache.getCurrent().getJsonDocument(json);
+
+    assertTrue(
+        matchingJsonPath(jsonPath, equalTo(expected)).match(json).isExactMatch(),
+        "Expected " + jsonPath + " in " + json + " to read as " + expected);
+  }
+
   @Test
   public void matchesABasicJsonPathWhenTheExpectedElementIsAnEmptyObject() {
     StringValuePattern pattern = WireMock.matchingJsonPath("$.empty");
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2016-2025 Thomas Akehurst
+ * Copyright (C) 2016-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -60,9 +60,11 @@ import com.github.tomakehurst.wiremock.http.FormParameter;
 import com.github.tomakehurst.wiremock.http.RequestMethod;
 import com.github.tomakehurst.wiremock.junit5.EnabledIfJettyVersion;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 import org.hamcrest.Description;
 import org.hamcrest.Matcher;
@@ -118,6 +120,47 @@ class RequestPatternTest {
     assertTrue(matchResult.isExactMatch());
   }
 
+  @Test
+  void doesNotEvaluateBodyPatternsWhenCheckingExactMatchOfRequestWithNonMatchingHeader() {
+    AtomicInteger bodyEvaluations = new AtomicInteger();
+    RequestPattern requestPattern =
+        newRequestPattern(PUT, urlPathEqualTo("/my/url"))
+            .withHeader("My-Header", equalTo("my-expected-header-val"))
+            .withRequestBody(
+                new ContentPattern<byte[]>("the-body".getBytes()) {
+                  @Override
+                  public MatchResult match(byte[] value) {
+                    bodyEvaluations.incrementAndGet();
+                    return MatchResult.of(Arrays.equals(expectedValue, value));
+                  }
+
+                  @Override
+                  public String getName() {
+                    return "counting";
+                  }
+
+                  @Override
+                  public String getExpected() {
+                    return "the-body";
+                  }
+                })
+            .build();
+
+    MatchResult matchResult =
+        requestPattern.match(
+            mockRequest()
+                .method(PUT)
+                .header("My-Header", "wrong-header-val")
+                .url("/my/url")
+                .body("the-body"));
+
+    assertFalse(matchResult.isExactMatch());
+    assertThat(bodyEvaluations.get(), is(0));
+
+    assertThat(matchResult.getDistance(), greaterThan(0.0));
+    assertThat(bodyEvaluations.get(), is(1));
+  }
+
   @Test
   void doesNotMatchWhenHeaderDoesNotMatch() {
     RequestPattern requestPattern =
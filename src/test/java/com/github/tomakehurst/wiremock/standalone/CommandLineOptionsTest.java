@@ -39,11 +39,16 @@ import com.github.tomakehurst.wiremock.extension.*;
 import com.github.tomakehurst.wiremock.http.CaseInsensitiveKey;
 import com.github.tomakehurst.wiremock.http.Request;
 import com.github.tomakehurst.wiremock.http.ResponseDefinition;
+import com.github.tomakehurst.wiremock.http.client.apache5.ApacheAsyncHttpClientFactory;
+import com.github.tomakehurst.wiremock.http.client.apache5.ApacheHttpClientFactory;
+import com.github.tomakehurst.wiremock.http.ssl.CertificateKeyType;
 import com.github.tomakehurst.wiremock.http.trafficlistener.ConsoleNotifyingWiremockNetworkTrafficListener;
 import com.github.tomakehurst.wiremock.jetty.JettyHttpServerFactory;
 import com.github.tomakehurst.wiremock.matching.MatchResult;
 import com.github.tomakehurst.wiremock.matching.RequestMatcherExtension;
 import com.github.tomakehurst.wiremock.security.Authenticator;
+import com.github.tomakehurst.wiremock.store.InMemoryRequestJournalStore;
+import com.github.tomakehurst.wiremock.store.RingBufferRequestJournalStore;
 import java.util.Collections;
 import java.util.Optional;
 import java.util.Set;
@@ -292,6 +297,22 @@ public class CommandLineOptionsTest {
     assertThat(optionsNoMax.maxRequestJournalEntries().isPresent(), is(false));
   }
 
+  @Test
+  public void usesRingBufferRequestJournalStoreWhenEnabledWithMaxEntries() {
+    CommandLineOptions options =
+        new CommandLineOptions(
+            "--ring-buffer-request-journal", "--max-request-journal-entries", "2");
+    assertThat(options.getRingBufferRequestJournalEnabled(), is(true));
+    assertThat(
+        options.getStores().getRequestJournalStore(),
+        instanceOf(RingBufferRequestJournalStore.class));
+
+    CommandLineOptions optionsNoMax = new CommandLineOptions("--ring-buffer-request-journal");
+    assertThat(
+        optionsNoMax.getStores().getRequestJournalStore(),
+        instanceOf(InMemoryRequestJournalStore.class));
+  }
+
   @Test
   public void returnPreserveHostHeaderTrueWhenPresent() {
     CommandLineOptions options = new CommandLineOptions("--preserve-host-header");
@@ -741,6 +762,34 @@ public class CommandLineOptionsTest {
     assertThat(caKeyStore.type(), is("jks"));
   }
 
+  @Test
+  public void setsCertificateGenerationOptions() {
+    CommandLineOptions options =
+        new CommandLineOptions(
+            "--enable-browser-proxying",
+            "--certificate-key-type",
+            "ec",
+            "--certificate-cache-dir",
+            "/my/certificates",
+            "--pre-generate-certificates",
+            "example.com,wiremock.org");
+    BrowserProxySettings browserProxySettings = options.browserProxySettings();
+    assertThat(browserProxySettings.certificateKeyType(), is(CertificateKeyType.EC));
+    assertThat(browserProxySettings.certificateCacheDirectory(), is("/my/certificates"));
+    assertThat(
+        browserProxySettings.preGeneratedCertificateHosts(),
+        is(asList("example.com", "wiremock.org")));
+  }
+
+  @Test
+  public void defaultsCertificateGenerationOptions() {
+    BrowserProxySettings browserProxySettings =
+        new CommandLineOptions("--enable-browser-proxying").browserProxySettings();
+    assertThat(browserProxySettings.certificateKeyType(), is(CertificateKeyType.RSA));
+    assertThat(browserProxySettings.certificateCacheDirectory(), is(nullValue()));
+    assertThat(browserProxySettings.preGeneratedCertificateHosts(), is(empty()));
+  }
+
   @Test
   public void printsBothActualPortsOnlyWhenHttpsEnabled() {
     CommandLineOptions options = new CommandLineOptions();
@@ -793,6 +842,19 @@ public class CommandLineOptionsTest {
     assertThat(mappingsSaver, instanceOf(JsonFileMappingsSource.class));
   }
 
+  @Test
+  public void mappingsBundleSetsMappingsSourceToLoadFromTheBundle() {
+    CommandLineOptions options =
+        new CommandLineOptions(
+            "--mappings-bundle",
+            "stubs.bundle",
+            "--export-mappings-bundle",
+            "exported.bundle");
+
+    assertThat(options.mappingsSaver(), instanceOf(BundleMappingsSource.class));
+    assertThat(options.exportMappingsBundlePath(), is("exported.bundle"));
+  }
+
   @Test
   public void loadResourcesFromClasspathSetsFileSourceToUseClasspath() {
     CommandLineOptions options =
@@ -987,6 +1049,87 @@ public class CommandLineOptionsTest {
     assertThat(options.getWebhookThreadPoolSize(), is(DEFAULT_WEBHOOK_THREADPOOL_SIZE));
   }
 
+  @Test
+  public void enablesVirtualThreadsWhenSpecified() {
+    assertThat(new CommandLineOptions("--virtual-threads").getVirtualThreadsEnabled(), is(true));
+    assertThat(new CommandLineOptions().getVirtualThreadsEnabled(), is(false));
+  }
+
+  @Test
+  public void returnsSessionLimitsWhenSpecified() {
+    CommandLineOptions options =
+        new CommandLineOptions("--session-idle-timeout", "30000", "--max-sessions", "1000");
+    assertThat(options.getSessionIdleTimeoutMillis(), is(30000L));
+    assertThat(options.getMaxSessions(), is(1000));
+  }
+
+  @Test
+  public void returnsMaxBodyFileCacheBytesWhenSpecified() {
+    assertThat(
+        new CommandLineOptions("--max-body-file-cache-bytes", "1048576").getMaxBodyFileCacheBytes(),
+        is(1048576L));
+    assertThat(new CommandLineOptions().getMaxBodyFileCacheBytes(), is(0L));
+  }
+
+  @Test
+  public void returnsMaxNearMissDiagnosticsPerSecondWhenSpecified() {
+    CommandLineOptions options =
+        new CommandLineOptions("--max-near-miss-diagnostics-per-second", "20");
+    assertThat(options.getMaxNearMissDiagnosticsPerSecond(), is(20.0));
+    assertThat(new CommandLineOptions().getMaxNearMissDiagnosticsPerSecond(), is(0.0));
+  }
+
+  @Test
+  public void enablesProxyResponseStreamingWhenSpecified() {
+    assertThat(
+        new CommandLineOptions("--stream-proxy-responses").getProxyResponseStreamingEnabled(),
+        is(true));
+    assertThat(new CommandLineOptions().getProxyResponseStreamingEnabled(), is(false));
+  }
+
+  @Test
+  public void usesTheAsyncHttpClientWhenSpecified() {
+    assertThat(
+        new CommandLineOptions("--async-http-client").httpClientFactory(),
+        instanceOf(ApacheAsyncHttpClientFactory.class));
+    assertThat(
+        new CommandLineOptions().httpClientFactory(), instanceOf(ApacheHttpClientFactory.class));
+  }
+
+  @Test
+  public void returnsHttpClientPoolSettingsWhenSpecified() {
+    CommandLineOptions options =
+        new CommandLineOptions(
+            "--max-http-client-connections",
+            "100",
+            "--max-http-client-connections-per-route",
+            "10",
+            "--http-client-idle-connection-timeout",
+            "30000",
+            "--http-client-keep-alive",
+            "60000");
+
+    assertThat(options.getMaxHttpClientConnectionsPerRoute(), is(10));
+    assertThat(options.getHttpClientIdleConnectionTimeoutMillis(), is(30000L));
+    assertThat(options.getHttpClientKeepAliveMillis(), is(60000L));
+  }
+
+  @Test
+  public void httpClientConnectionsPerRouteDefaultToTheOverallMaximum() {
+    CommandLineOptions options = new CommandLineOptions("--max-http-client-connections", "100");
+
+    assertThat(options.getMaxHttpClientConnectionsPerRoute(), is(100));
+    assertThat(options.getHttpClientIdleConnectionTimeoutMillis(), is(0L));
+    assertThat(options.getHttpClientKeepAliveMillis(), is(0L));
+  }
+
+  @Test
+  public void sessionsAreUnlimitedByDefault() {
+    CommandLineOptions options = new CommandLineOptions();
+    assertThat(options.getSessionIdleTimeoutMillis(), is(0L));
+    assertThat(options.getMaxSessions(), is(0));
+  }
+
   public static class ResponseDefinitionTransformerExt1 extends ResponseDefinitionTransformer {
 
     @Override
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2016-2025 Thomas Akehurst
+ * Copyright (C) 2016-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -40,6 +40,7 @@ import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
 import java.util.*;
+import java.util.stream.Collectors;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -269,4 +270,42 @@ class JsonFileMappingsSourceTest {
     assertTrue(maybeStub.isPresent());
     assertThat(maybeStub.get().getId().toString(), is("edf19376-0e08-4b27-8632-fb7852c9e62d"));
   }
+
+  @Test
+  void loadsManyMappingFilesInTheOrderTheyAreListed() throws Exception {
+    for (int i = 0; i < 200; i++) {
+      Files.writeString(
+          new File(tempDir, "mapping-" + i + ".json").toPath(),
+          Json.write(get("/things/" + i).willReturn(ok()).build()));
+    }
+
+    load();
+
+    List<String> listedUrls =
+        new SingleRootFileSource(tempDir)
+            .listFilesRecursively().stream()
+                .map(file -> Json.read(file.readContentsAsString(), StubMapping.class))
+                .map(stub -> stub.getRequest().getUrl())
+                .collect(Collectors.toList());
+    List<String> loadedUrls =
+        stubMappings.getAll().stream()
+            .sorted(Comparator.comparingLong(StubMapping::getInsertionIndex))
+            .map(stub -> stub.getRequest().getUrl())
+            .collect(Collectors.toList());
+    assertThat(loadedUrls, is(listedUrls));
+  }
+
+  @Test
+  void reportsTheFileThatCouldNotBeParsed() throws Exception {
+    for (int i = 0; i < 20; i++) {
+      Files.writeString(
+          new File(tempDir, "mapping-" + i + ".json").toPath(),
+          Json.write(get("/things/" + i).willReturn(ok()).build()));
+    }
+    Files.writeString(new File(tempDir, "broken.json").toPath(), "{ \"request\": ");
+
+    MappingFileException exception = assertThrows(MappingFileException.class, this::load);
+
+    assertThat(exception.getMessage(), containsString("broken.json"));
+  }
 }
@@ -0,0 +1,141 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.standalone;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.github.tomakehurst.wiremock.common.SingleRootFileSource;
+import com.github.tomakehurst.wiremock.common.filemaker.FilenameMaker;
+import com.github.tomakehurst.wiremock.stubbing.InMemoryStubMappings;
+import com.github.tomakehurst.wiremock.stubbing.StubMapping;
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class MappingsBundleTest {
+
+  @TempDir Path tempDir;
+
+  @Test
+  void readsBackTheStubsThatWereWrittenInInsertionOrder() {
+    InMemoryStubMappings stubMappings = new InMemoryStubMappings();
+    IntStream.range(0, 100)
+        .mapToObj(
+            i ->
+                post(urlPathTemplate("/things/{id}"))
+                    .atPriority(i % 3 + 1)
+                    .withRequestBody(matchingJsonPath("$.items[" + i + "]"))
+                    .willReturn(okJson("{\"id\": " + i + "}"))
+                    .build())
+        .forEach(stubMappings::addMapping);
+    Path bundle = tempDir.resolve("stubs.bundle");
+
+    MappingsBundle.write(stubMappings.getAll(), bundle);
+    List<StubMapping> read = MappingsBundle.read(bundle);
+
+    assertThat(read, is(inInsertionOrder(stubMappings.getAll())));
+  }
+
+  @Test
+  void rejectsFilesThatAreNotBundles() throws Exception {
+    Path notABundle = Files.writeString(tempDir.resolve("stubs.bundle"), "{}");
+
+    MappingFileException exception =
+        assertThrows(MappingFileException.class, () -> MappingsBundle.read(notABundle));
+
+    assertThat(exception.getMessage(), containsString("Not a version 1 stub mappings bundle"));
+  }
+
+  @Test
+  void rejectsTruncatedBundles() throws Exception {
+    byte[] bundle = MappingsBundle.toByteArray(List.of(get("/things").build()));
+    Path truncated =
+        Files.write(
+            tempDir.resolve("stubs.bundle"), Arrays.copyOf(bundle, bundle.length - 1));
+
+    MappingFileException exception =
+        assertThrows(MappingFileException.class, () -> MappingsBundle.read(truncated));
+
+    assertThat(exception.getMessage(), containsString("Bundle is truncated or corrupt"));
+  }
+
+  @Test
+  void sourceLoadsStubsFromTheBundleInsteadOfMappingFiles() throws Exception {
+    JsonFileMappingsSource jsonFileMappingsSource = jsonFileMappingsSource();
+    jsonFileMappingsSource.save(get("/from-file").build());
+    StubMapping fromBundle = get("/from-bundle").build();
+    Path bundle = tempDir.resolve("stubs.bundle");
+    MappingsBundle.write(List.of(fromBundle), bundle);
+
+    InMemoryStubMappings stubMappings = new InMemoryStubMappings();
+    BundleMappingsSource source = new BundleMappingsSource(bundle, jsonFileMappingsSource);
+    source.loadMappingsInto(stubMappings);
+
+    assertThat(urlsOf(stubMappings.getAll()), is(List.of("/from-bundle")));
+
+    source.remove(fromBundle.getId());
+    assertThat(Files.exists(bundle), is(true));
+  }
+
+  @Test
+  void sourceFallsBackToMappingFilesWhenThereIsNoBundle() throws Exception {
+    JsonFileMappingsSource jsonFileMappingsSource = jsonFileMappingsSource();
+    jsonFileMappingsSource.save(get("/from-file").build());
+
+    InMemoryStubMappings stubMappings = new InMemoryStubMappings();
+    new BundleMappingsSource(tempDir.resolve("missing.bundle"), jsonFileMappingsSource)
+        .loadMappingsInto(stubMappings);
+
+    assertThat(urlsOf(stubMappings.getAll()), is(List.of("/from-file")));
+  }
+
+  @Test
+  void writesAnEmptyBundle() {
+    Path bundle = tempDir.resolve("stubs.bundle");
+
+    MappingsBundle.write(List.of(), bundle);
+
+    assertThat(MappingsBundle.read(bundle), is(empty()));
+  }
+
+  private JsonFileMappingsSource jsonFileMappingsSource() throws Exception {
+    File mappingsDirectory = Files.createDirectory(tempDir.resolve("mappings")).toFile();
+    return new JsonFileMappingsSource(
+        new SingleRootFileSource(mappingsDirectory), new FilenameMaker());
+  }
+
+  private static List<StubMapping> inInsertionOrder(List<StubMapping> stubMappings) {
+    return stubMappings.stream()
+        .sorted(Comparator.comparingLong(StubMapping::getInsertionIndex))
+        .collect(toList());
+  }
+
+  private static List<String> urlsOf(List<StubMapping> stubMappings) {
+    return stubMappings.stream().map(stub -> stub.getRequest().getUrl()).collect(toList());
+  }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2024 Thomas Akehurst
+ * Copyright (C) 2024-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,6 +22,9 @@ import static org.hamcrest.Matchers.*;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 import org.junit.jupiter.api.Test;
 
@@ -91,6 +94,27 @@ public class InMemoryObjectStoreTest {
     assertThat(store.getAllKeys().collect(toList()), hasItems("three", "four", "five"));
   }
 
+  @Test
+  void respectsSpecifiedLimitWhenPuttingAndGettingConcurrently() throws Exception {
+    InMemoryObjectStore store = new InMemoryObjectStore(100);
+
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    for (int thread = 0; thread < 8; thread++) {
+      final int offset = thread * 1000;
+      executor.submit(
+          () -> {
+            for (int i = 0; i < 1000; i++) {
+              store.put("key-" + (offset + i), i);
+              store.get("key-" + (offset + i / 2));
+            }
+          });
+    }
+    executor.shutdown();
+    assertThat(executor.awaitTermination(10, TimeUnit.SECONDS), is(true));
+
+    assertThat(store.getAllKeys().count(), is(100L));
+  }
+
   @Test
   void clearRemovesAllItems() {
     InMemoryObjectStore store = new InMemoryObjectStore(3);
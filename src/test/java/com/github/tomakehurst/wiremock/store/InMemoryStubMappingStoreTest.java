@@ -0,0 +1,62 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.store;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.ok;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import com.github.tomakehurst.wiremock.stubbing.StubMapping;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+public class InMemoryStubMappingStoreTest {
+
+  InMemoryStubMappingStore store = new InMemoryStubMappingStore();
+
+  @Test
+  void getsStubsById() {
+    StubMapping one = store.add(get("/one").build());
+    StubMapping two = store.add(get("/two").build());
+
+    assertThat(store.get(one.getId()), is(Optional.of(one)));
+    assertThat(store.get(two.getId()), is(Optional.of(two)));
+  }
+
+  @Test
+  void getsTheReplacementAfterAStubIsReplaced() {
+    StubMapping original = store.add(get("/one").build());
+    StubMapping updated = original.transform(builder -> builder.setResponse(ok("updated").build()));
+
+    store.replace(original, updated);
+
+    assertThat(store.get(original.getId()), is(Optional.of(updated)));
+  }
+
+  @Test
+  void getsNothingAfterAStubIsRemovedOrTheStoreIsCleared() {
+    StubMapping removed = store.add(get("/one").build());
+    StubMapping cleared = store.add(get("/two").build());
+
+    store.remove(removed.getId());
+    assertThat(store.get(removed.getId()), is(Optional.empty()));
+    assertThat(store.get(cleared.getId()), is(Optional.of(cleared)));
+
+    store.clear();
+    assertThat(store.get(cleared.getId()), is(Optional.empty()));
+  }
+}
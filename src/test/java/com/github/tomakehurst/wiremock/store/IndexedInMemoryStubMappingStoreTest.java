@@ -0,0 +1,136 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.store;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.http.RequestMethod.GET;
+import static com.github.tomakehurst.wiremock.http.RequestMethod.HEAD;
+import static com.github.tomakehurst.wiremock.http.RequestMethod.POST;
+import static com.github.tomakehurst.wiremock.matching.MockRequest.mockRequest;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+
+import com.github.tomakehurst.wiremock.http.RequestMethod;
+import com.github.tomakehurst.wiremock.matching.UrlPattern;
+import com.github.tomakehurst.wiremock.stubbing.StubMapping;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+public class IndexedInMemoryStubMappingStoreTest {
+
+  IndexedInMemoryStubMappingStore store = new IndexedInMemoryStubMappingStore();
+
+  @Test
+  void findsStubsByExactUrlAndMethod() {
+    StubMapping getThing = store.add(get("/things/1").build());
+    store.add(post("/things/1").build());
+    store.add(get("/things/2").build());
+
+    assertThat(findMatching(GET, "/things/1"), contains(getThing));
+  }
+
+  @Test
+  void findsStubsByExactPathIgnoringQuery() {
+    StubMapping stub = store.add(get(urlPathEqualTo("/things")).build());
+
+    assertThat(findMatching(GET, "/things?limit=10"), contains(stub));
+    assertThat(findMatching(GET, "/other?limit=10"), empty());
+  }
+
+  @Test
+  void findsStubsByPathTemplate() {
+    StubMapping byId = store.add(get(urlPathTemplate("/things/{id}")).build());
+    StubMapping byPrefixedId = store.add(get(urlPathTemplate("/things/abc{id}")).build());
+    StubMapping nested = store.add(get(urlPathTemplate("/things/{id}/parts/{partId}")).build());
+
+    assertThat(findMatching(GET, "/things/123"), contains(byId));
+    assertThat(findMatching(GET, "/things/abc123"), contains(byPrefixedId, byId));
+    assertThat(findMatching(GET, "/things/123/parts/456"), contains(nested));
+    assertThat(findMatching(GET, "/stuff/123"), empty());
+  }
+
+  @Test
+  void alwaysEvaluatesStubsWithUnindexableUrlsOrMethods() {
+    StubMapping regex = store.add(get(urlMatching("/things/.*")).build());
+    StubMapping anyMethod = store.add(any(urlEqualTo("/things/1")).build());
+    StubMapping anyUrl = store.add(post(anyUrl()).build());
+    StubMapping caseInsensitive =
+        store.add(get(new UrlPattern(equalToIgnoreCase("/THINGS/1"), false)).build());
+
+    assertThat(findMatching(GET, "/things/1"), contains(caseInsensitive, anyMethod, regex));
+    assertThat(findMatching(POST, "/things/1"), contains(anyUrl, anyMethod));
+  }
+
+  @Test
+  void indexesStubsMatchingOneOfSeveralMethods() {
+    StubMapping getOrHead =
+        store.add(request(RequestMethod.GET_OR_HEAD, urlEqualTo("/things")).build());
+
+    assertThat(findMatching(HEAD, "/things"), contains(getOrHead));
+    assertThat(findMatching(GET, "/things"), contains(getOrHead));
+    assertThat(findMatching(POST, "/things"), empty());
+  }
+
+  @Test
+  void returnsCandidatesFromDifferentIndexesInPriorityThenReverseInsertionOrder() {
+    StubMapping exact = store.add(get("/things/1").atPriority(5).build());
+    StubMapping template = store.add(get(urlPathTemplate("/things/{id}")).atPriority(1).build());
+    StubMapping regex = store.add(get(urlMatching("/things/.*")).atPriority(5).build());
+    StubMapping path = store.add(get(urlPathEqualTo("/things/1")).atPriority(3).build());
+
+    assertThat(findMatching(GET, "/things/1"), contains(template, path, regex, exact));
+  }
+
+  @Test
+  void stopsFindingRemovedStubs() {
+    StubMapping stub = store.add(get("/things/1").build());
+    store.remove(stub.getId());
+
+    assertThat(findMatching(GET, "/things/1"), empty());
+  }
+
+  @Test
+  void findsReplacementStubAtItsNewUrl() {
+    StubMapping existing = store.add(get("/things/1").build());
+    StubMapping updated =
+        get("/things/2")
+            .withId(existing.getId())
+            .build()
+            .transform(b -> b.setInsertionIndex(existing.getInsertionIndex()));
+    store.replace(existing, updated);
+
+    assertThat(findMatching(GET, "/things/1"), empty());
+    assertThat(findMatching(GET, "/things/2"), contains(updated));
+  }
+
+  @Test
+  void stopsFindingStubsAfterClear() {
+    store.add(get("/things/1").build());
+    store.add(get(urlMatching("/things/.*")).build());
+    store.clear();
+
+    assertThat(findMatching(GET, "/things/1"), empty());
+  }
+
+  private List<StubMapping> findMatching(RequestMethod method, String url) {
+    return store
+        .findAllMatchingRequest(mockRequest().method(method).url(url), Map.of(), subEvent -> {})
+        .collect(toList());
+  }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.store;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.testsupport.MockRequestBuilder.aRequest;
+import static com.github.tomakehurst.wiremock.verification.LoggedRequest.createFrom;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.github.tomakehurst.wiremock.http.ResponseDefinition;
+import com.github.tomakehurst.wiremock.matching.RequestPattern;
+import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+public class RingBufferRequestJournalStoreTest {
+
+  RingBufferRequestJournalStore store = new RingBufferRequestJournalStore(3);
+
+  @Test
+  void returnsEventsNewestFirst() {
+    ServeEvent one = anEvent("/1");
+    ServeEvent two = anEvent("/2");
+    store.add(one);
+    store.add(two);
+
+    assertThat(store.getAll().collect(toList()), contains(two, one));
+    assertThat(store.size(), is(2L));
+  }
+
+  @Test
+  void evictsOldestEventWhenFull() {
+    ServeEvent one = anEvent("/1");
+    ServeEvent two = anEvent("/2");
+    ServeEvent three = anEvent("/3");
+    ServeEvent four = anEvent("/4");
+    store.add(one);
+    store.add(two);
+    store.add(three);
+    store.add(four);
+
+    assertThat(store.getAll().collect(toList()), contains(four, three, two));
+    assertThat(store.size(), is(3L));
+    assertThat(store.get(one.getId()).isPresent(), is(false));
+  }
+
+  @Test
+  void removesEventById() {
+    ServeEvent one = anEvent("/1");
+    ServeEvent two = anEvent("/2");
+    store.add(one);
+    store.add(two);
+
+    store.remove(one.getId());
+
+    assertThat(store.getAll().collect(toList()), contains(two));
+    assertThat(store.getAllKeys().collect(toList()), contains(two.getId()));
+    assertThat(store.size(), is(1L));
+  }
+
+  @Test
+  void removesOldestEventWhenRemovingLast() {
+    ServeEvent one = anEvent("/1");
+    ServeEvent two = anEvent("/2");
+    ServeEvent three = anEvent("/3");
+    store.add(one);
+    store.add(two);
+    store.add(three);
+    store.remove(one.getId());
+
+    store.removeLast();
+
+    assertThat(store.getAll().collect(toList()), contains(three));
+  }
+
+  @Test
+  void replacesEventInPlace() {
+    ServeEvent one = anEvent("/1");
+    ServeEvent two = anEvent("/2");
+    store.add(one);
+    store.add(two);
+
+    ServeEvent completed = one.withResponseDefinition(ResponseDefinition.ok());
+    ServeEvent unknown = anEvent("/unknown");
+    store.put(one.getId(), completed);
+    store.put(unknown.getId(), unknown);
+
+    assertThat(store.getAll().collect(toList()), contains(two, completed));
+    assertThat(store.get(one.getId()).get(), is(completed));
+  }
+
+  @Test
+  void clearsAllEvents() {
+    store.add(anEvent("/1"));
+    store.add(anEvent("/2"));
+
+    store.clear();
+
+    assertThat(store.getAll().collect(toList()), empty());
+    assertThat(store.size(), is(0L));
+  }
+
+  @Test
+  void keepsSizeConsistentUnderConcurrentAdds() throws Exception {
+    RingBufferRequestJournalStore store = new RingBufferRequestJournalStore(100);
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    List<ServeEvent> events = new ArrayList<>();
+    for (int i = 0; i < 10_000; i++) {
+      events.add(anEvent("/" + i));
+    }
+
+    events.forEach(event -> executor.submit(() -> store.add(event)));
+    executor.shutdown();
+    executor.awaitTermination(10, TimeUnit.SECONDS);
+
+    assertThat(store.size(), is(100L));
+    assertThat(store.getAll().count(), is(100L));
+  }
+
+  @Test
+  void findsCandidatesByPathAmongRetainedEventsOnly() {
+    ServeEvent one = anEvent("/things");
+    ServeEvent two = anEvent("/things?page=2");
+    ServeEvent three = anEvent("/other");
+    ServeEvent four = anEvent("/things");
+    store.add(one);
+    store.add(two);
+    store.add(three);
+    store.add(four);
+
+    RequestPattern pattern = getRequestedFor(urlPathEqualTo("/things")).build();
+    assertThat(store.findAllCandidates(pattern).collect(toList()), contains(four, two));
+
+    store.remove(four.getId());
+    assertThat(store.findAllCandidates(pattern).collect(toList()), contains(two));
+  }
+
+  @Test
+  void rejectsCapacityLessThanOne() {
+    assertThrows(IllegalArgumentException.class, () -> new RingBufferRequestJournalStore(0));
+  }
+
+  private static ServeEvent anEvent(String url) {
+    return ServeEvent.of(createFrom(aRequest().withUrl(url).build()));
+  }
+}
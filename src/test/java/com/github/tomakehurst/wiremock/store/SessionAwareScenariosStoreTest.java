@@ -0,0 +1,164 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.store;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.ok;
+import static com.github.tomakehurst.wiremock.stubbing.Scenario.STARTED;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+import com.github.tomakehurst.wiremock.stubbing.SessionAwareScenarios;
+import com.github.tomakehurst.wiremock.stubbing.SessionId;
+import com.github.tomakehurst.wiremock.stubbing.StubMapping;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+public class SessionAwareScenariosStoreTest {
+
+  static final StubMapping STEP_ONE =
+      get("/steps")
+          .inScenario("steps")
+          .whenScenarioStateIs(STARTED)
+          .willSetStateTo("step_2")
+          .willReturn(ok())
+          .build();
+
+  static final StubMapping STEP_TWO =
+      get("/steps")
+          .inScenario("steps")
+          .whenScenarioStateIs("step_2")
+          .willReturn(ok())
+          .build();
+
+  AtomicLong now = new AtomicLong(1_000);
+
+  @Test
+  void sessionsThatDoNotChangeScenarioStateHoldNoState() {
+    SessionAwareScenariosStore store = new SessionAwareScenariosStore(0, 0, now::get);
+    SessionAwareScenarios scenarios = scenariosIn(store);
+
+    SessionId session = SessionId.of("read-only");
+    assertThat(scenarios.mappingMatchesScenarioState(session, STEP_ONE), is(true));
+    assertThat(scenarios.getByName(session, "steps"), is(nullValue()));
+
+    assertThat(store.getActiveSessionCount(), is(0));
+  }
+
+  @Test
+  void sessionStateIsCopiedFromTheGlobalScenarioOnFirstChange() {
+    SessionAwareScenariosStore store = new SessionAwareScenariosStore(0, 0, now::get);
+    SessionAwareScenarios scenarios = scenariosIn(store);
+
+    SessionId session = SessionId.of("changes");
+    scenarios.onStubServed(session, STEP_ONE);
+
+    assertThat(store.getActiveSessions(), contains("changes"));
+    assertThat(scenarios.getByName(session, "steps").getState(), is("step_2"));
+    assertThat(scenarios.getByName(session, "steps").getMappings(), hasItems(STEP_ONE, STEP_TWO));
+    assertThat(scenarios.getByName("steps").getState(), is(STARTED));
+  }
+
+  @Test
+  void expiresSessionsThatHaveBeenIdleForLongerThanTheTimeout() {
+    SessionAwareScenariosStore store = new SessionAwareScenariosStore(100, 0, now::get);
+    SessionAwareScenarios scenarios = scenariosIn(store);
+
+    scenarios.onStubServed(SessionId.of("idle"), STEP_ONE);
+    now.addAndGet(50);
+    scenarios.onStubServed(SessionId.of("active"), STEP_ONE);
+    now.addAndGet(50);
+
+    assertThat(store.getActiveSessions(), contains("active"));
+
+    // Reading a session's state counts as using it
+    assertThat(scenarios.mappingMatchesScenarioState(SessionId.of("active"), STEP_TWO), is(true));
+    now.addAndGet(99);
+    assertThat(store.hasSession("active"), is(true));
+
+    now.addAndGet(1);
+    assertThat(store.getActiveSessionCount(), is(0));
+    assertThat(scenarios.mappingMatchesScenarioState(SessionId.of("active"), STEP_ONE), is(true));
+  }
+
+  @Test
+  void evictsTheLeastRecentlyUsedSessionsBeyondTheLimit() {
+    SessionAwareScenariosStore store = new SessionAwareScenariosStore(0, 2, now::get);
+    SessionAwareScenarios scenarios = scenariosIn(store);
+
+    scenarios.onStubServed(SessionId.of("one"), STEP_ONE);
+    scenarios.onStubServed(SessionId.of("two"), STEP_ONE);
+    scenarios.mappingMatchesScenarioState(SessionId.of("one"), STEP_TWO);
+    scenarios.onStubServed(SessionId.of("three"), STEP_ONE);
+
+    assertThat(store.getActiveSessions(), containsInAnyOrder("one", "three"));
+    assertThat(store.getActiveSessionCount(), is(2));
+  }
+
+  @Test
+  void keepsTheGlobalScenariosWhenSessionsAreEvicted() {
+    SessionAwareScenariosStore store = new SessionAwareScenariosStore(100, 1, now::get);
+    SessionAwareScenarios scenarios = scenariosIn(store);
+
+    scenarios.onStubServed(SessionId.of("one"), STEP_ONE);
+    scenarios.onStubServed(SessionId.of("two"), STEP_ONE);
+    now.addAndGet(1_000);
+
+    assertThat(store.getActiveSessionCount(), is(0));
+    assertThat(store.getAllKeys().toList(), contains("steps"));
+    assertThat(scenarios.getByName("steps").getPossibleStates(), hasItems(STARTED, "step_2"));
+  }
+
+  @Test
+  void keysIncludeTheSessionForSessionScenarios() {
+    SessionAwareScenariosStore store = new SessionAwareScenariosStore(0, 0, now::get);
+    SessionAwareScenarios scenarios = scenariosIn(store);
+
+    scenarios.onStubServed(SessionId.of("abc"), STEP_ONE);
+
+    assertThat(store.getAllKeys().toList(), containsInAnyOrder("steps", "abc::steps"));
+    assertThat(store.get("abc::steps").get().getState(), is("step_2"));
+
+    store.remove("abc::steps");
+    assertThat(store.get("abc::steps").isPresent(), is(false));
+  }
+
+  @Test
+  void staysWithinTheSessionLimitWhenSessionsAreCreatedConcurrently() throws Exception {
+    SessionAwareScenariosStore store = new SessionAwareScenariosStore(0, 10, now::get);
+    SessionAwareScenarios scenarios = scenariosIn(store);
+
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    for (int i = 0; i < 1_000; i++) {
+      SessionId session = SessionId.of("session-" + i);
+      executor.submit(() -> scenarios.onStubServed(session, STEP_ONE));
+    }
+    executor.shutdown();
+    assertThat(executor.awaitTermination(10, TimeUnit.SECONDS), is(true));
+
+    assertThat(store.getActiveSessionCount(), is(10));
+  }
+
+  private static SessionAwareScenarios scenariosIn(SessionAwareScenariosStore store) {
+    SessionAwareScenarios scenarios = new SessionAwareScenarios(store);
+    scenarios.onStubMappingAdded(STEP_ONE);
+    scenarios.onStubMappingAdded(STEP_TWO);
+    return scenarios;
+  }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2023 Thomas Akehurst
+ * Copyright (C) 2023-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,8 +19,11 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Optional;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 class FileSourceBlobStoreTest {
   private static final String DIRECTORY_PATH =
@@ -47,4 +50,13 @@ class FileSourceBlobStoreTest {
           assertEquals(Optional.empty(), result);
         });
   }
+
+  @Test
+  public void streamSourceExposesTheFileItReads(@TempDir Path tempDir) throws Exception {
+    Path file = Files.writeString(tempDir.resolve("body.txt"), "content");
+    FileSourceBlobStore fileSourceBlobStore = new FileSourceBlobStore(tempDir.toString());
+
+    assertEquals(Optional.of(file), fileSourceBlobStore.getStreamSource("body.txt").getFile());
+    assertEquals(Optional.empty(), fileSourceBlobStore.getStreamSource("missing").getFile());
+  }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2016-2025 Thomas Akehurst
+ * Copyright (C) 2016-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,17 +16,25 @@
 package com.github.tomakehurst.wiremock.stubbing;
 
 import static com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder.responseDefinition;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.ok;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
 import static com.github.tomakehurst.wiremock.http.RequestMethod.ANY;
+import static com.github.tomakehurst.wiremock.http.RequestMethod.GET;
+import static com.github.tomakehurst.wiremock.matching.MockRequest.mockRequest;
 import static com.github.tomakehurst.wiremock.matching.RequestPatternBuilder.newRequestPattern;
+import static com.github.tomakehurst.wiremock.stubbing.Scenario.STARTED;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import com.github.tomakehurst.wiremock.matching.MatchResult;
 import com.github.tomakehurst.wiremock.matching.RequestPattern;
+import com.github.tomakehurst.wiremock.verification.LoggedRequest;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -95,6 +103,51 @@ public class InMemoryStubMappingsTest {
     }
   }
 
+  @Test
+  public void stopsEvaluatingStubsOnceTheHighestPriorityMatchIsFound() {
+    AtomicInteger lowerPriorityEvaluations = new AtomicInteger();
+    StubMapping highPriority = get("/things").atPriority(1).willReturn(ok()).build();
+    StubMapping lowPriority =
+        get("/things")
+            .atPriority(5)
+            .andMatching(
+                request -> {
+                  lowerPriorityEvaluations.incrementAndGet();
+                  return MatchResult.exactMatch();
+                })
+            .willReturn(ok())
+            .build();
+    inMemoryStubMappings.addMapping(lowPriority);
+    inMemoryStubMappings.addMapping(highPriority);
+
+    ServeEvent serveEvent = inMemoryStubMappings.serveFor(serveEventFor("/things"));
+
+    assertThat(serveEvent.getStubMapping().getId(), is(highPriority.getId()));
+    assertThat(lowerPriorityEvaluations.get(), is(0));
+  }
+
+  @Test
+  public void prefersLowerPriorityScenarioStubInMatchingStateOverScenarioIndependentStub() {
+    StubMapping scenarioIndependent = get("/things").atPriority(1).willReturn(ok()).build();
+    StubMapping scenarioDependent =
+        get("/things")
+            .atPriority(5)
+            .inScenario("things")
+            .whenScenarioStateIs(STARTED)
+            .willReturn(ok())
+            .build();
+    inMemoryStubMappings.addMapping(scenarioIndependent);
+    inMemoryStubMappings.addMapping(scenarioDependent);
+
+    ServeEvent serveEvent = inMemoryStubMappings.serveFor(serveEventFor("/things"));
+
+    assertThat(serveEvent.getStubMapping().getId(), is(scenarioDependent.getId()));
+  }
+
+  private static ServeEvent serveEventFor(String url) {
+    return ServeEvent.of(LoggedRequest.createFrom(mockRequest().method(GET).url(url)));
+  }
+
   private StubMapping aMapping(Integer priority, String url) {
     RequestPattern requestPattern = newRequestPattern(ANY, urlEqualTo(url)).build();
 
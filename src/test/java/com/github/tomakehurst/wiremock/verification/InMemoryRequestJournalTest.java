@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2014-2025 Thomas Akehurst
+ * Copyright (C) 2014-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,17 +16,23 @@
 package com.github.tomakehurst.wiremock.verification;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.http.RequestMethod.GET;
+import static com.github.tomakehurst.wiremock.http.RequestMethod.POST;
 import static com.github.tomakehurst.wiremock.matching.RequestMatcherExtension.ALWAYS;
 import static com.github.tomakehurst.wiremock.testsupport.MockRequestBuilder.aRequest;
 import static com.github.tomakehurst.wiremock.verification.LoggedRequest.createFrom;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.is;
 
 import com.github.tomakehurst.wiremock.extension.Parameters;
+import com.github.tomakehurst.wiremock.http.RequestMethod;
 import com.github.tomakehurst.wiremock.matching.RequestMatcherExtension;
 import com.github.tomakehurst.wiremock.matching.RequestPattern;
 import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
+import com.github.tomakehurst.wiremock.stubbing.StubMapping;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -112,6 +118,69 @@ public class InMemoryRequestJournalTest {
         is(0));
   }
 
+  @Test
+  public void countsAndFindsRequestsByMethodAndPath() {
+    RequestJournal journal = new InMemoryRequestJournal(null, NO_CUSTOM_MATCHERS);
+
+    journal.requestReceived(serveEventFor(GET, "/things"));
+    journal.requestReceived(serveEventFor(POST, "/things"));
+    journal.requestReceived(serveEventFor(GET, "/things?page=2"));
+    journal.requestReceived(serveEventFor(GET, "/other"));
+
+    assertThat(
+        journal.countRequestsMatching(getRequestedFor(urlPathEqualTo("/things")).build()), is(2));
+    assertThat(
+        journal.countRequestsMatching(postRequestedFor(urlEqualTo("/things")).build()), is(1));
+    assertThat(
+        journal.countRequestsMatching(getRequestedFor(urlEqualTo("/things?page=2")).build()),
+        is(1));
+    assertThat(journal.countRequestsMatching(getRequestedFor(urlMatching("/th.*")).build()), is(2));
+    assertThat(journal.countRequestsMatching(anyRequestedFor(anyUrl()).build()), is(4));
+
+    List<LoggedRequest> requests =
+        journal.getRequestsMatching(getRequestedFor(urlPathEqualTo("/things")).build());
+    assertThat(requests.get(0).getUrl(), is("/things"));
+    assertThat(requests.get(1).getUrl(), is("/things?page=2"));
+  }
+
+  @Test
+  public void removesOnlyEventsMatchingRequestPattern() {
+    RequestJournal journal = new InMemoryRequestJournal(null, NO_CUSTOM_MATCHERS);
+
+    journal.requestReceived(serveEventFor(GET, "/things"));
+    journal.requestReceived(serveEventFor(POST, "/things"));
+    journal.requestReceived(serveEventFor(GET, "/things?page=2"));
+
+    List<ServeEvent> removed =
+        journal.removeEventsMatching(getRequestedFor(urlPathEqualTo("/things")).build());
+
+    assertThat(removed.size(), is(2));
+    assertThat(journal.countRequestsMatching(RequestPattern.ANYTHING), is(1));
+    assertThat(
+        journal.countRequestsMatching(getRequestedFor(urlPathEqualTo("/things")).build()), is(0));
+  }
+
+  @Test
+  public void getsServeEventsForStubNewestFirst() {
+    RequestJournal journal = new InMemoryRequestJournal(null, NO_CUSTOM_MATCHERS);
+    StubMapping stub = get("/things").build();
+    ServeEvent first = serveEventFor(GET, "/things").withStubMapping(stub);
+    ServeEvent second = serveEventFor(GET, "/things").withStubMapping(stub);
+
+    journal.requestReceived(first);
+    journal.requestReceived(serveEventFor(GET, "/other"));
+    journal.requestReceived(second);
+
+    assertThat(journal.getServeEventsForStub(stub.getId()), contains(second, first));
+
+    journal.removeEvent(second.getId());
+    assertThat(journal.getServeEventsForStub(stub.getId()), contains(first));
+  }
+
+  private static ServeEvent serveEventFor(RequestMethod method, String url) {
+    return ServeEvent.of(createFrom(aRequest().withMethod(method).withUrl(url).build()));
+  }
+
   private void assertOnlyLastTwoRequestsLeft(RequestJournal journal) {
     assertThat(
         journal.countRequestsMatching(getRequestedFor(urlEqualTo("/logging1")).build()), is(0));
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2016-2025 Thomas Akehurst
+ * Copyright (C) 2016-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -180,6 +180,24 @@ public class NearMissCalculatorTest {
     assertThat(nearest.get(1).getStubMapping().getRequest().getUrl(), is("/otherpath"));
   }
 
+  @Test
+  public void equallyNearMissesAreReturnedInStubOrderBehindNearerOnes() {
+    givenStubMappings(
+        get(urlEqualTo("/wrong-1")).willReturn(aResponse()),
+        get(urlEqualTo("/wrong-2")).willReturn(aResponse()),
+        get(urlEqualTo("/wrong-3")).willReturn(aResponse()),
+        get(urlEqualTo("/wrong-4")).willReturn(aResponse()),
+        get(urlEqualTo("/righ")).willReturn(aResponse()));
+
+    List<NearMiss> nearest =
+        nearMissCalculator.findNearestTo(mockRequest().url("/right").asLoggedRequest());
+
+    assertThat(nearest.size(), is(NEAR_MISS_COUNT));
+    assertThat(nearest.get(0).getStubMapping().getRequest().getUrl(), is("/righ"));
+    assertThat(nearest.get(1).getStubMapping().getRequest().getUrl(), is("/wrong-1"));
+    assertThat(nearest.get(2).getStubMapping().getRequest().getUrl(), is("/wrong-2"));
+  }
+
   private void givenStubMappings(final MappingBuilder... mappingBuilders) {
     final List<StubMapping> mappings =
         Arrays.stream(mappingBuilders).map(MappingBuilder::build).collect(Collectors.toList());
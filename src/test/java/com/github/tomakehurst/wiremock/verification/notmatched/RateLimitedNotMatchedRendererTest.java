@@ -0,0 +1,122 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.verification.notmatched;
+
+import static com.github.tomakehurst.wiremock.matching.MockRequest.mockRequest;
+import static com.github.tomakehurst.wiremock.verification.notmatched.RateLimitedNotMatchedRenderer.DIAGNOSTICS_SKIPPED_MESSAGE;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+import com.github.tomakehurst.wiremock.core.Admin;
+import com.github.tomakehurst.wiremock.http.ResponseDefinition;
+import com.github.tomakehurst.wiremock.matching.MockRequest;
+import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
+import com.google.common.util.concurrent.RateLimiter;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+public class RateLimitedNotMatchedRendererTest {
+
+  CountingRenderer delegate = new CountingRenderer();
+
+  @Test
+  public void rendersEveryRequestWhileUnderTheLimit() {
+    RateLimitedNotMatchedRenderer renderer =
+        new RateLimitedNotMatchedRenderer(delegate, RateLimiter.create(1000));
+
+    assertThat(bodyOf(renderer.render(null, serveEventFor(mockRequest().url("/one")))), is("1"));
+    assertThat(bodyOf(renderer.render(null, serveEventFor(mockRequest().url("/two")))), is("2"));
+    assertThat(delegate.count.get(), is(2));
+  }
+
+  @Test
+  public void reusesTheResponseForAnIdenticalRequestWhenOverTheLimit() {
+    RateLimitedNotMatchedRenderer renderer =
+        new RateLimitedNotMatchedRenderer(delegate, RateLimiter.create(0.001));
+
+    renderer.render(null, serveEventFor(mockRequest().url("/one").body("body")));
+    ResponseDefinition response =
+        renderer.render(null, serveEventFor(mockRequest().url("/one").body("body")));
+
+    assertThat(bodyOf(response), is("1"));
+    assertThat(delegate.count.get(), is(1));
+  }
+
+  @Test
+  public void returnsAShortResponseForANewRequestWhenOverTheLimit() {
+    RateLimitedNotMatchedRenderer renderer =
+        new RateLimitedNotMatchedRenderer(delegate, RateLimiter.create(0.001));
+
+    renderer.render(null, serveEventFor(mockRequest().url("/one").body("body")));
+    ResponseDefinition response =
+        renderer.render(null, serveEventFor(mockRequest().url("/one").body("other body")));
+
+    assertThat(response.getStatus(), is(404));
+    assertThat(bodyOf(response), is(DIAGNOSTICS_SKIPPED_MESSAGE));
+    assertThat(delegate.count.get(), is(1));
+  }
+
+  @Test
+  public void doesNotReuseTheResponseForARequestWithDifferentHeadersWhenOverTheLimit() {
+    RateLimitedNotMatchedRenderer renderer =
+        new RateLimitedNotMatchedRenderer(delegate, RateLimiter.create(0.001));
+
+    renderer.render(null, serveEventFor(mockRequest().url("/one").header("X-Tenant", "a")));
+    ResponseDefinition differentHeader =
+        renderer.render(null, serveEventFor(mockRequest().url("/one").header("X-Tenant", "b")));
+    ResponseDefinition sameHeader =
+        renderer.render(null, serveEventFor(mockRequest().url("/one").header("X-Tenant", "a")));
+
+    assertThat(bodyOf(differentHeader), is(DIAGNOSTICS_SKIPPED_MESSAGE));
+    assertThat(bodyOf(sameHeader), is("1"));
+    assertThat(delegate.count.get(), is(1));
+  }
+
+  @Test
+  public void doesNotReuseTheResponseForARequestWithDifferentCookiesWhenOverTheLimit() {
+    RateLimitedNotMatchedRenderer renderer =
+        new RateLimitedNotMatchedRenderer(delegate, RateLimiter.create(0.001));
+
+    renderer.render(null, serveEventFor(mockRequest().url("/one").cookie("session", "a")));
+    ResponseDefinition response =
+        renderer.render(null, serveEventFor(mockRequest().url("/one").cookie("session", "b")));
+
+    assertThat(bodyOf(response), is(DIAGNOSTICS_SKIPPED_MESSAGE));
+    assertThat(delegate.count.get(), is(1));
+  }
+
+  private static ServeEvent serveEventFor(MockRequest request) {
+    return ServeEvent.of(request.asLoggedRequest());
+  }
+
+  private static String bodyOf(ResponseDefinition responseDefinition) {
+    return responseDefinition.getTextBody();
+  }
+
+  private static class CountingRenderer extends NotMatchedRenderer {
+
+    final AtomicInteger count = new AtomicInteger();
+
+    @Override
+    protected ResponseDefinition render(Admin admin, ServeEvent serveEvent) {
+      return ResponseDefinitionBuilder.responseDefinition()
+          .withStatus(404)
+          .withBody(String.valueOf(count.incrementAndGet()))
+          .build();
+    }
+  }
+}
@@ -171,6 +171,7 @@ public class WireMockServer implements Container, Stubbing, Admin {
 
   public void stop() {
     httpServer.stop();
+    wireMockApp.closeHttpClients();
   }
 
   public WireMockServer startServer() {
@@ -443,6 +444,11 @@ public class WireMockServer implements Container, Stubbing, Admin {
     wireMockApp.resetMappings();
   }
 
+  @Override
+  public VerificationResult countServeEvents(ServeEventQuery query) {
+    return wireMockApp.countServeEvents(query);
+  }
+
   @Override
   public VerificationResult countRequestsMatching(RequestPattern requestPattern) {
     return wireMockApp.countRequestsMatching(requestPattern);
@@ -499,6 +505,11 @@ public class WireMockServer implements Container, Stubbing, Admin {
     wireMockApp.setScenarioState(name, state);
   }
 
+  @Override
+  public GetScenarioSessionsResult getScenarioSessions() {
+    return wireMockApp.getScenarioSessions();
+  }
+
   @Override
   public FindNearMissesResult findTopNearMissesFor(LoggedRequest loggedRequest) {
     return wireMockApp.findTopNearMissesFor(loggedRequest);
@@ -589,6 +600,11 @@ public class WireMockServer implements Container, Stubbing, Admin {
     return wireMockApp.getGlobalSettings();
   }
 
+  @Override
+  public GetConnectionPoolStatsResult getConnectionPoolStats() {
+    return wireMockApp.getConnectionPoolStats();
+  }
+
   public void checkForUnmatchedRequests() {
     List<LoggedRequest> unmatchedRequests = findAllUnmatchedRequests();
     if (!unmatchedRequests.isEmpty()) {
@@ -605,6 +621,13 @@ public class WireMockServer implements Container, Stubbing, Admin {
     return wireMockApp.getLoadedExtensionNames();
   }
 
+  /**
+   * @return the body file cache, if enabled via {@link Options#getMaxBodyFileCacheBytes()}
+   */
+  public Optional<BodyFileCache> getBodyFileCache() {
+    return wireMockApp.getBodyFileCache();
+  }
+
   @Override
   public SendChannelMessageResult sendChannelMessage(
       ChannelType type, RequestPattern requestPattern, MessageDefinition message) {
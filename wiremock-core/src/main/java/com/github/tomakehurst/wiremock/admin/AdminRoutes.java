@@ -66,6 +66,7 @@ public class AdminRoutes {
     router.add(POST, "/mappings/save", new SaveMappingsTask());
     router.add(POST, "/mappings/reset", new ResetToDefaultMappingsTask());
     router.add(GET, "/mappings/unmatched", new GetUnmatchedStubMappingsTask());
+    router.add(GET, "/mappings/bundle", new GetStubMappingsBundleTask());
     router.add(DELETE, "/mappings/unmatched", new RemoveUnmatchedStubMappingsTask());
     router.add(GET, "/mappings/{id}", new GetStubMappingTask());
     router.add(PUT, "/mappings/{id}", new EditStubMappingTask());
@@ -82,10 +83,12 @@ public class AdminRoutes {
 
     router.add(GET, "/scenarios", new GetAllScenariosTask());
     router.add(POST, "/scenarios/reset", new ResetScenariosTask());
+    router.add(GET, "/scenarios/sessions", new GetScenarioSessionsTask());
     router.add(PUT, "/scenarios/{name}/state", new SetScenarioStateTask());
 
     router.add(GET, "/requests", new GetAllRequestsTask());
     router.add(DELETE, "/requests", new ResetRequestsTask());
+    router.add(GET, "/requests/count", new GetServeEventCountTask());
     router.add(POST, "/requests/count", new GetRequestCountTask());
     router.add(POST, "/requests/find", new FindRequestsTask());
     router.add(GET, "/requests/unmatched", new FindUnmatchedRequestsTask());
@@ -109,6 +112,8 @@ public class AdminRoutes {
     router.add(POST, "/settings", new GlobalSettingsUpdateTask());
     router.add(PATCH, "/settings/extended", new PatchExtendedSettingsTask());
 
+    router.add(GET, "/connection-pools", new GetConnectionPoolStatsTask());
+
     router.add(POST, "/shutdown", new ShutdownServerTask());
 
     router.add(GET, "/docs/swagger", new GetSwaggerSpecTask());
@@ -17,9 +17,12 @@ package com.github.tomakehurst.wiremock.admin;
 
 import com.github.tomakehurst.wiremock.common.Errors;
 import com.github.tomakehurst.wiremock.common.InvalidInputException;
+import com.github.tomakehurst.wiremock.common.JsonStreamSource;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeParseException;
 import java.util.Date;
+import java.util.Locale;
+import java.util.UUID;
 import org.wiremock.url.Query;
 import org.wiremock.url.QueryParamValue;
 
@@ -41,4 +44,28 @@ public class Conversions {
           Errors.validation(key, parameter.decode() + " is not a valid ISO8601 date"));
     }
   }
+
+  public static UUID toUuid(Query query, String key) {
+    QueryParamValue parameter = query.getFirst(key);
+    try {
+      return parameter != null ? UUID.fromString(parameter.decode()) : null;
+    } catch (IllegalArgumentException e) {
+      throw new InvalidInputException(
+          Errors.validation(key, parameter.decode() + " is not a valid UUID"));
+    }
+  }
+
+  public static JsonStreamSource.Format toJsonFormat(Query query, String key) {
+    QueryParamValue parameter = query.getFirst(key);
+    try {
+      return parameter != null
+          ? JsonStreamSource.Format.valueOf(parameter.decode().toUpperCase(Locale.ROOT))
+          : JsonStreamSource.Format.PRETTY;
+    } catch (IllegalArgumentException e) {
+      throw new InvalidInputException(
+          Errors.validation(
+              key,
+              parameter.decode() + " is not a valid format, expected pretty, compact or ndjson"));
+    }
+  }
 }
@@ -0,0 +1,81 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.admin;
+
+import static com.github.tomakehurst.wiremock.admin.Conversions.toInt;
+import static com.github.tomakehurst.wiremock.admin.Conversions.toUuid;
+import static com.github.tomakehurst.wiremock.common.ParameterUtils.checkParameter;
+import static com.github.tomakehurst.wiremock.common.ParameterUtils.getFirstNonNull;
+
+import com.github.tomakehurst.wiremock.common.Errors;
+import com.github.tomakehurst.wiremock.common.InvalidInputException;
+import com.github.tomakehurst.wiremock.http.Request;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+import org.wiremock.url.Query;
+
+/**
+ * Selects up to {@code limit} items following the one with the {@code after} ID, so a client can
+ * page through a list by passing the ID of the last item it received. Unlike an offset, the cursor
+ * stays put when items are added to the front of the list between pages.
+ */
+public class CursorPaginator<T> implements Paginator<T> {
+
+  private final List<T> source;
+  private final Integer limit;
+  private final int start;
+
+  public CursorPaginator(List<T> source, Function<T, UUID> getId, UUID after, Integer limit) {
+    checkParameter(limit == null || limit >= 0, "limit must be 0 or greater");
+    this.source = source;
+    this.limit = limit;
+    this.start = after == null ? 0 : indexOf(source, getId, after) + 1;
+  }
+
+  public static boolean isRequested(Request request) {
+    return request.getPathAndQueryWithoutPrefix().getQueryOrEmpty().getFirst("after") != null;
+  }
+
+  public static <T> CursorPaginator<T> fromRequest(
+      List<T> source, Function<T, UUID> getId, Request request) {
+    Query query = request.getPathAndQueryWithoutPrefix().getQueryOrEmpty();
+    return new CursorPaginator<>(source, getId, toUuid(query, "after"), toInt(query, "limit"));
+  }
+
+  private static <T> int indexOf(List<T> source, Function<T, UUID> getId, UUID id) {
+    int index = 0;
+    for (T item : source) {
+      if (id.equals(getId.apply(item))) {
+        return index;
+      }
+      index++;
+    }
+
+    throw new InvalidInputException(Errors.validation("after", "No item found with ID " + id));
+  }
+
+  @Override
+  public List<T> select() {
+    int end = start + Math.min(getFirstNonNull(limit, source.size()), source.size() - start);
+    return source.subList(start, end);
+  }
+
+  @Override
+  public int getTotal() {
+    return source.size();
+  }
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.admin.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.github.tomakehurst.wiremock.http.client.ConnectionPoolStats;
+import java.util.Map;
+
+public class GetConnectionPoolStatsResult {
+
+  private final Map<String, ConnectionPoolStats> pools;
+
+  public GetConnectionPoolStatsResult(
+      @JsonProperty("pools") Map<String, ConnectionPoolStats> pools) {
+    this.pools = pools;
+  }
+
+  public Map<String, ConnectionPoolStats> getPools() {
+    return pools;
+  }
+}
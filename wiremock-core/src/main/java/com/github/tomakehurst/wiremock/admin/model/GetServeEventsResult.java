@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2016-2025 Thomas Akehurst
+ * Copyright (C) 2016-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,8 +19,11 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.github.tomakehurst.wiremock.admin.Paginator;
+import com.github.tomakehurst.wiremock.common.JsonStreamSource;
 import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 public class GetServeEventsResult extends RequestJournalDependentResult<ServeEvent> {
 
@@ -52,4 +55,12 @@ public class GetServeEventsResult extends RequestJournalDependentResult<ServeEve
   public List<ServeEvent> getServeEvents() {
     return select();
   }
+
+  /** Serialises the serve events one at a time as the returned source is read. */
+  public JsonStreamSource toJsonStream(JsonStreamSource.Format format) {
+    Map<String, Object> otherFields = new LinkedHashMap<>();
+    otherFields.put("meta", getMeta());
+    otherFields.put("requestJournalDisabled", isRequestJournalDisabled());
+    return new JsonStreamSource("requests", getRequests(), otherFields, format);
+  }
 }
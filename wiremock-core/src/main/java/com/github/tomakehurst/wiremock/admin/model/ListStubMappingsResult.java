@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2013-2025 Thomas Akehurst
+ * Copyright (C) 2013-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,9 +17,11 @@ package com.github.tomakehurst.wiremock.admin.model;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
-import com.github.tomakehurst.wiremock.admin.LimitAndOffsetPaginator;
+import com.github.tomakehurst.wiremock.admin.Paginator;
+import com.github.tomakehurst.wiremock.common.JsonStreamSource;
 import com.github.tomakehurst.wiremock.stubbing.StubMapping;
 import java.util.List;
+import java.util.Map;
 
 public class ListStubMappingsResult extends PaginatedResult<StubMapping> {
 
@@ -29,11 +31,16 @@ public class ListStubMappingsResult extends PaginatedResult<StubMapping> {
     super(mappings, meta);
   }
 
-  public ListStubMappingsResult(LimitAndOffsetPaginator<StubMapping> paginator) {
+  public ListStubMappingsResult(Paginator<StubMapping> paginator) {
     super(paginator);
   }
 
   public List<StubMapping> getMappings() {
     return select();
   }
+
+  /** Serialises the mappings one at a time as the returned source is read. */
+  public JsonStreamSource toJsonStream(JsonStreamSource.Format format) {
+    return new JsonStreamSource("mappings", getMappings(), Map.of("meta", getMeta()), format);
+  }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2016-2025 Thomas Akehurst
+ * Copyright (C) 2016-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,32 +16,43 @@
 package com.github.tomakehurst.wiremock.admin.tasks;
 
 import static com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder.jsonResponse;
-import static com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder.responseDefinition;
+import static com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder.streamedJsonResponse;
 import static java.net.HttpURLConnection.HTTP_BAD_REQUEST;
-import static java.net.HttpURLConnection.HTTP_OK;
 
 import com.github.tomakehurst.wiremock.admin.AdminTask;
+import com.github.tomakehurst.wiremock.admin.Conversions;
+import com.github.tomakehurst.wiremock.admin.CursorPaginator;
 import com.github.tomakehurst.wiremock.admin.LimitAndSinceDatePaginator;
+import com.github.tomakehurst.wiremock.admin.Paginator;
 import com.github.tomakehurst.wiremock.admin.model.GetServeEventsResult;
 import com.github.tomakehurst.wiremock.admin.model.ServeEventQuery;
 import com.github.tomakehurst.wiremock.common.InvalidInputException;
-import com.github.tomakehurst.wiremock.common.Json;
+import com.github.tomakehurst.wiremock.common.JsonStreamSource;
 import com.github.tomakehurst.wiremock.common.url.PathParams;
 import com.github.tomakehurst.wiremock.core.Admin;
+import com.github.tomakehurst.wiremock.http.Request;
 import com.github.tomakehurst.wiremock.http.ResponseDefinition;
 import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
+import java.util.List;
 
 public class GetAllRequestsTask implements AdminTask {
 
   @Override
   public ResponseDefinition execute(Admin admin, ServeEvent serveEvent, PathParams pathParams) {
-    ServeEventQuery query = ServeEventQuery.fromRequest(serveEvent.getRequest());
+    Request request = serveEvent.getRequest();
+    ServeEventQuery query = ServeEventQuery.fromRequest(request);
     GetServeEventsResult serveEventsResult = admin.getServeEvents(query);
-    LimitAndSinceDatePaginator paginator;
+    List<ServeEvent> serveEvents = serveEventsResult.getRequests();
+    Paginator<ServeEvent> paginator;
+    JsonStreamSource.Format format;
     try {
       paginator =
-          LimitAndSinceDatePaginator.fromRequest(
-              serveEventsResult.getRequests(), serveEvent.getRequest());
+          CursorPaginator.isRequested(request)
+              ? CursorPaginator.fromRequest(serveEvents, ServeEvent::getId, request)
+              : LimitAndSinceDatePaginator.fromRequest(serveEvents, request);
+      format =
+          Conversions.toJsonFormat(
+              request.getPathAndQueryWithoutPrefix().getQueryOrEmpty(), "format");
     } catch (InvalidInputException e) {
       return jsonResponse(e.getErrors(), HTTP_BAD_REQUEST);
     }
@@ -49,10 +60,6 @@ public class GetAllRequestsTask implements AdminTask {
     GetServeEventsResult result =
         new GetServeEventsResult(paginator, serveEventsResult.isRequestJournalDisabled());
 
-    return responseDefinition()
-        .withStatus(HTTP_OK)
-        .withBody(Json.write(result))
-        .withHeader("Content-Type", "application/json")
-        .build();
+    return streamedJsonResponse(result.toJsonStream(format));
   }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2016-2025 Thomas Akehurst
+ * Copyright (C) 2016-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,24 +15,38 @@
  */
 package com.github.tomakehurst.wiremock.admin.tasks;
 
+import static com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder.streamedJsonResponse;
+
 import com.github.tomakehurst.wiremock.admin.AdminTask;
+import com.github.tomakehurst.wiremock.admin.Conversions;
+import com.github.tomakehurst.wiremock.admin.CursorPaginator;
 import com.github.tomakehurst.wiremock.admin.LimitAndOffsetPaginator;
+import com.github.tomakehurst.wiremock.admin.Paginator;
 import com.github.tomakehurst.wiremock.admin.model.ListStubMappingsResult;
-import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+import com.github.tomakehurst.wiremock.common.JsonStreamSource;
 import com.github.tomakehurst.wiremock.common.url.PathParams;
 import com.github.tomakehurst.wiremock.core.Admin;
+import com.github.tomakehurst.wiremock.http.Request;
 import com.github.tomakehurst.wiremock.http.ResponseDefinition;
 import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
+import com.github.tomakehurst.wiremock.stubbing.StubMapping;
+import java.util.List;
+import org.wiremock.url.Query;
 
 public class GetAllStubMappingsTask implements AdminTask {
 
   @Override
   public ResponseDefinition execute(Admin admin, ServeEvent serveEvent, PathParams pathParams) {
-    ListStubMappingsResult result =
-        new ListStubMappingsResult(
-            LimitAndOffsetPaginator.fromRequest(
-                admin.listAllStubMappings().getMappings(), serveEvent.getRequest()));
+    Request request = serveEvent.getRequest();
+    Query query = request.getPathAndQueryWithoutPrefix().getQueryOrEmpty();
+    JsonStreamSource.Format format = Conversions.toJsonFormat(query, "format");
+
+    List<StubMapping> mappings = admin.listAllStubMappings().getMappings();
+    Paginator<StubMapping> paginator =
+        CursorPaginator.isRequested(request)
+            ? CursorPaginator.fromRequest(mappings, StubMapping::getId, request)
+            : LimitAndOffsetPaginator.fromRequest(mappings, request);
 
-    return ResponseDefinitionBuilder.jsonResponse(result);
+    return streamedJsonResponse(new ListStubMappingsResult(paginator).toJsonStream(format));
   }
 }
@@ -178,17 +178,10 @@ public class HttpAdminClient implements Admin {
 
   @Override
   public GetServeEventsResult getServeEvents(ServeEventQuery query) {
-    final QueryParams queryParams = new QueryParams();
-    queryParams.add("unmatched", String.valueOf(query.isOnlyUnmatched()));
-
-    if (query.getStubMappingId() != null) {
-      queryParams.add("matchingStub", query.getStubMappingId().toString());
-    }
-
     return executeRequest(
         adminRoutes.requestSpecForTask(GetAllRequestsTask.class),
         PathParams.empty(),
-        queryParams,
+        queryParamsFor(query),
         null,
         GetServeEventsResult.class);
   }
@@ -201,6 +194,16 @@ public class HttpAdminClient implements Admin {
         SingleServedStubResult.class);
   }
 
+  @Override
+  public VerificationResult countServeEvents(ServeEventQuery query) {
+    return executeRequest(
+        adminRoutes.requestSpecForTask(GetServeEventCountTask.class),
+        PathParams.empty(),
+        queryParamsFor(query),
+        null,
+        VerificationResult.class);
+  }
+
   @Override
   public VerificationResult countRequestsMatching(RequestPattern requestPattern) {
     String body =
@@ -276,6 +279,13 @@ public class HttpAdminClient implements Admin {
         Void.class);
   }
 
+  @Override
+  public GetScenarioSessionsResult getScenarioSessions() {
+    return executeRequest(
+        adminRoutes.requestSpecForTask(GetScenarioSessionsTask.class),
+        GetScenarioSessionsResult.class);
+  }
+
   @Override
   public FindNearMissesResult findTopNearMissesFor(LoggedRequest loggedRequest) {
     String body =
@@ -399,6 +409,13 @@ public class HttpAdminClient implements Admin {
         adminRoutes.requestSpecForTask(GetGlobalSettingsTask.class), GetGlobalSettingsResult.class);
   }
 
+  @Override
+  public GetConnectionPoolStatsResult getConnectionPoolStats() {
+    return executeRequest(
+        adminRoutes.requestSpecForTask(GetConnectionPoolStatsTask.class),
+        GetConnectionPoolStatsResult.class);
+  }
+
   public int port() {
     return port;
   }
@@ -423,6 +440,17 @@ public class HttpAdminClient implements Admin {
     return safelyExecuteRequest(url, get);
   }
 
+  private static QueryParams queryParamsFor(ServeEventQuery query) {
+    final QueryParams queryParams = new QueryParams();
+    queryParams.add("unmatched", String.valueOf(query.isOnlyUnmatched()));
+
+    if (query.getStubMappingId() != null) {
+      queryParams.add("matchingStub", query.getStubMappingId().toString());
+    }
+
+    return queryParams;
+  }
+
   private void executeRequest(RequestSpec requestSpec) {
     executeRequest(requestSpec, PathParams.empty(), null, Void.class);
   }
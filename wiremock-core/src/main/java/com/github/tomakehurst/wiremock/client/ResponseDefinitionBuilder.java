@@ -21,6 +21,7 @@ import static java.util.Arrays.asList;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.github.tomakehurst.wiremock.common.Json;
+import com.github.tomakehurst.wiremock.common.JsonStreamSource;
 import com.github.tomakehurst.wiremock.extension.Parameters;
 import com.github.tomakehurst.wiremock.http.*;
 import java.util.*;
@@ -56,6 +57,14 @@ public class ResponseDefinitionBuilder {
         .build();
   }
 
+  public static ResponseDefinition streamedJsonResponse(JsonStreamSource body) {
+    return new ResponseDefinitionBuilder()
+        .withResponseBody(Body.streamed(body))
+        .withStatus(HTTP_OK)
+        .withHeader(CONTENT_TYPE, body.getFormat().getContentType())
+        .build();
+  }
+
   public ResponseDefinitionBuilder but() {
     return this;
   }
@@ -861,6 +861,16 @@ public class WireMock {
     return admin.getServeEvents(query).getRequests();
   }
 
+  public static int countAllServeEvents(ServeEventQuery query) {
+    return defaultInstance.get().countServeEvents(query);
+  }
+
+  public int countServeEvents(ServeEventQuery query) {
+    VerificationResult result = admin.countServeEvents(query);
+    result.assertRequestJournalEnabled();
+    return result.getCount();
+  }
+
   public static void removeServeEvent(UUID eventId) {
     defaultInstance.get().removeEvent(eventId);
   }
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2011-2025 Thomas Akehurst
+ * Copyright (C) 2011-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,6 +20,8 @@ import static com.github.tomakehurst.wiremock.common.Exceptions.throwUnchecked;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
+import java.nio.file.Path;
+import java.util.Optional;
 
 public class BinaryFile implements InputStreamSource {
 
@@ -50,6 +52,11 @@ public class BinaryFile implements InputStreamSource {
     return name();
   }
 
+  @Override
+  public Optional<Path> getFile() {
+    return "file".equals(uri.getScheme()) ? Optional.of(Path.of(uri)) : Optional.empty();
+  }
+
   @Override
   public InputStream getStream() {
     try {
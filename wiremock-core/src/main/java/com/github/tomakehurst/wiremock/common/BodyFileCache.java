@@ -0,0 +1,169 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.common;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Holds the contents of recently read files in memory, up to a total size in bytes, so that body
+ * files served on every request aren't re-read from disk each time. Files on the filesystem are
+ * checked for changes to their modification time and size before cached contents are used. Files
+ * from elsewhere, e.g. inside a JAR, are assumed not to change.
+ */
+public class BodyFileCache {
+
+  private final long maxBytes;
+  private final long maxFileBytes;
+  private final Cache<URI, Entry> cache;
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  public BodyFileCache(long maxBytes) {
+    this.maxBytes = maxBytes;
+    // Stops a single large file flushing everything else from the cache
+    this.maxFileBytes = maxBytes / 8;
+    this.cache =
+        CacheBuilder.newBuilder()
+            .maximumWeight(maxBytes)
+            .weigher((URI uri, Entry entry) -> entry.contents.length)
+            .build();
+  }
+
+  /**
+   * @return a file source that reads files through this cache and invalidates cached files when
+   *     they're written or deleted through it
+   */
+  public FileSource cachingFilesIn(FileSource fileSource) {
+    return new CachingFileSource(fileSource, this);
+  }
+
+  public long getMaxBytes() {
+    return maxBytes;
+  }
+
+  public long getSizeBytes() {
+    return cache.asMap().values().stream().mapToLong(entry -> entry.contents.length).sum();
+  }
+
+  public long getHitCount() {
+    return hits.sum();
+  }
+
+  public long getMissCount() {
+    return misses.sum();
+  }
+
+  public void invalidateAll() {
+    cache.invalidateAll();
+  }
+
+  byte[] readContents(BinaryFile file) {
+    final URI uri = file.getUri();
+    final Stamp stamp = Stamp.of(uri);
+    final Entry entry = cache.getIfPresent(uri);
+    if (entry != null && entry.stamp.equals(stamp)) {
+      hits.increment();
+      return entry.contents;
+    }
+
+    misses.increment();
+    if (entry != null) {
+      cache.invalidate(uri);
+    }
+
+    final byte[] contents = file.readContents();
+    if (stamp != null && contents.length <= maxFileBytes) {
+      cache.put(uri, new Entry(stamp, contents));
+    }
+    return contents;
+  }
+
+  InputStream getStream(BinaryFile file) {
+    final Stamp stamp = Stamp.of(file.getUri());
+    if (stamp != null && stamp.size > maxFileBytes) {
+      misses.increment();
+      return file.getStream();
+    }
+
+    return new ByteArrayInputStream(readContents(file));
+  }
+
+  void invalidate(BinaryFile file) {
+    cache.invalidate(file.getUri());
+  }
+
+  private static class Entry {
+    final Stamp stamp;
+    final byte[] contents;
+
+    Entry(Stamp stamp, byte[] contents) {
+      this.stamp = stamp;
+      this.contents = contents;
+    }
+  }
+
+  private static class Stamp {
+    private static final Stamp UNCHANGING = new Stamp(0, 0);
+
+    final long lastModifiedMillis;
+    final long size;
+
+    Stamp(long lastModifiedMillis, long size) {
+      this.lastModifiedMillis = lastModifiedMillis;
+      this.size = size;
+    }
+
+    /**
+     * @return the file's current modification time and size, or null if it doesn't exist
+     */
+    static Stamp of(URI uri) {
+      if (!"file".equals(uri.getScheme())) {
+        return UNCHANGING;
+      }
+
+      try {
+        final BasicFileAttributes attributes =
+            Files.readAttributes(Path.of(uri), BasicFileAttributes.class);
+        return new Stamp(attributes.lastModifiedTime().toMillis(), attributes.size());
+      } catch (IOException e) {
+        return null;
+      }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) return true;
+      if (o == null || getClass() != o.getClass()) return false;
+      Stamp stamp = (Stamp) o;
+      return lastModifiedMillis == stamp.lastModifiedMillis && size == stamp.size;
+    }
+
+    @Override
+    public int hashCode() {
+      return Long.hashCode(lastModifiedMillis) * 31 + Long.hashCode(size);
+    }
+  }
+}
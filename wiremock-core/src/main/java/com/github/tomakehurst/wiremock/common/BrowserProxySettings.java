@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2020-2025 Thomas Akehurst
+ * Copyright (C) 2020-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,6 +18,7 @@ package com.github.tomakehurst.wiremock.common;
 import static java.util.Collections.emptyList;
 
 import com.github.tomakehurst.wiremock.common.ssl.KeyStoreSettings;
+import com.github.tomakehurst.wiremock.http.ssl.CertificateKeyType;
 import java.io.File;
 import java.util.List;
 import java.util.Objects;
@@ -41,16 +42,40 @@ public final class BrowserProxySettings {
   private final boolean trustAllProxyTargets;
   private final List<String> trustedProxyTargets;
   private final KeyStoreSettings caKeyStoreSettings;
+  private final CertificateKeyType certificateKeyType;
+  private final String certificateCacheDirectory;
+  private final List<String> preGeneratedCertificateHosts;
 
   public BrowserProxySettings(
       boolean enabled,
       boolean trustAllProxyTargets,
       List<String> trustedProxyTargets,
       KeyStoreSettings caKeyStoreSettings) {
+    this(
+        enabled,
+        trustAllProxyTargets,
+        trustedProxyTargets,
+        caKeyStoreSettings,
+        CertificateKeyType.RSA,
+        null,
+        emptyList());
+  }
+
+  public BrowserProxySettings(
+      boolean enabled,
+      boolean trustAllProxyTargets,
+      List<String> trustedProxyTargets,
+      KeyStoreSettings caKeyStoreSettings,
+      CertificateKeyType certificateKeyType,
+      String certificateCacheDirectory,
+      List<String> preGeneratedCertificateHosts) {
     this.enabled = enabled;
     this.trustAllProxyTargets = trustAllProxyTargets;
     this.trustedProxyTargets = trustedProxyTargets;
     this.caKeyStoreSettings = caKeyStoreSettings;
+    this.certificateKeyType = certificateKeyType;
+    this.certificateCacheDirectory = certificateCacheDirectory;
+    this.preGeneratedCertificateHosts = preGeneratedCertificateHosts;
   }
 
   public boolean enabled() {
@@ -69,6 +94,27 @@ public final class BrowserProxySettings {
     return caKeyStoreSettings;
   }
 
+  /**
+   * @return the type of key to generate certificates with, for clients that accept it
+   */
+  public CertificateKeyType certificateKeyType() {
+    return certificateKeyType;
+  }
+
+  /**
+   * @return a directory to keep generated certificates in across restarts, or null for none
+   */
+  public String certificateCacheDirectory() {
+    return certificateCacheDirectory;
+  }
+
+  /**
+   * @return host names to generate certificates for at startup rather than on first use
+   */
+  public List<String> preGeneratedCertificateHosts() {
+    return preGeneratedCertificateHosts;
+  }
+
   @Override
   public String toString() {
     return "BrowserProxySettings{"
@@ -81,6 +127,13 @@ public final class BrowserProxySettings {
         + ", caKeyStore='"
         + caKeyStoreSettings.path()
         + '\''
+        + ", certificateKeyType="
+        + certificateKeyType
+        + ", certificateCacheDirectory='"
+        + certificateCacheDirectory
+        + '\''
+        + ", preGeneratedCertificateHosts="
+        + preGeneratedCertificateHosts
         + '}';
   }
 
@@ -92,12 +145,22 @@ public final class BrowserProxySettings {
     return enabled == that.enabled
         && trustAllProxyTargets == that.trustAllProxyTargets
         && Objects.equals(trustedProxyTargets, that.trustedProxyTargets)
-        && Objects.equals(caKeyStoreSettings, that.caKeyStoreSettings);
+        && Objects.equals(caKeyStoreSettings, that.caKeyStoreSettings)
+        && certificateKeyType == that.certificateKeyType
+        && Objects.equals(certificateCacheDirectory, that.certificateCacheDirectory)
+        && Objects.equals(preGeneratedCertificateHosts, that.preGeneratedCertificateHosts);
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(enabled, trustAllProxyTargets, trustedProxyTargets, caKeyStoreSettings);
+    return Objects.hash(
+        enabled,
+        trustAllProxyTargets,
+        trustedProxyTargets,
+        caKeyStoreSettings,
+        certificateKeyType,
+        certificateCacheDirectory,
+        preGeneratedCertificateHosts);
   }
 
   public static final class Builder {
@@ -107,6 +170,9 @@ public final class BrowserProxySettings {
     private List<String> trustedProxyTargets = emptyList();
 
     private KeyStoreSettings caKeyStoreSettings = KeyStoreSettings.NO_STORE;
+    private CertificateKeyType certificateKeyType = CertificateKeyType.RSA;
+    private String certificateCacheDirectory = null;
+    private List<String> preGeneratedCertificateHosts = emptyList();
 
     public Builder enabled(boolean enabled) {
       this.enabled = enabled;
@@ -128,9 +194,30 @@ public final class BrowserProxySettings {
       return this;
     }
 
+    public Builder certificateKeyType(CertificateKeyType certificateKeyType) {
+      this.certificateKeyType = certificateKeyType;
+      return this;
+    }
+
+    public Builder certificateCacheDirectory(String certificateCacheDirectory) {
+      this.certificateCacheDirectory = certificateCacheDirectory;
+      return this;
+    }
+
+    public Builder preGeneratedCertificateHosts(List<String> preGeneratedCertificateHosts) {
+      this.preGeneratedCertificateHosts = preGeneratedCertificateHosts;
+      return this;
+    }
+
     public BrowserProxySettings build() {
       return new BrowserProxySettings(
-          enabled, trustAllProxyTargets, trustedProxyTargets, caKeyStoreSettings);
+          enabled,
+          trustAllProxyTargets,
+          trustedProxyTargets,
+          caKeyStoreSettings,
+          certificateKeyType,
+          certificateCacheDirectory,
+          preGeneratedCertificateHosts);
     }
   }
 }
@@ -0,0 +1,131 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.common;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+class CachingFileSource implements FileSource {
+
+  private final FileSource delegate;
+  private final BodyFileCache cache;
+
+  CachingFileSource(FileSource delegate, BodyFileCache cache) {
+    this.delegate = delegate;
+    this.cache = cache;
+  }
+
+  @Override
+  public BinaryFile getBinaryFileNamed(String name) {
+    return new CachedFile(delegate.getBinaryFileNamed(name), cache);
+  }
+
+  @Override
+  public TextFile getTextFileNamed(String name) {
+    return new CachedFile(delegate.getTextFileNamed(name), cache);
+  }
+
+  @Override
+  public void createIfNecessary() {
+    delegate.createIfNecessary();
+  }
+
+  @Override
+  public FileSource child(String subDirectoryName) {
+    return new CachingFileSource(delegate.child(subDirectoryName), cache);
+  }
+
+  @Override
+  public String getPath() {
+    return delegate.getPath();
+  }
+
+  @Override
+  public URI getUri() {
+    return delegate.getUri();
+  }
+
+  @Override
+  public List<TextFile> listFilesRecursively() {
+    return delegate.listFilesRecursively();
+  }
+
+  @Override
+  public void writeTextFile(String name, String contents) {
+    delegate.writeTextFile(name, contents);
+    cache.invalidate(delegate.getBinaryFileNamed(name));
+  }
+
+  @Override
+  public void writeBinaryFile(String name, byte[] contents) {
+    delegate.writeBinaryFile(name, contents);
+    cache.invalidate(delegate.getBinaryFileNamed(name));
+  }
+
+  @Override
+  public boolean exists() {
+    return delegate.exists();
+  }
+
+  @Override
+  public void deleteFile(String name) {
+    delegate.deleteFile(name);
+    cache.invalidate(delegate.getBinaryFileNamed(name));
+  }
+
+  private static class CachedFile extends TextFile {
+
+    private final BinaryFile file;
+    private final BodyFileCache cache;
+
+    CachedFile(BinaryFile file, BodyFileCache cache) {
+      super(file.getUri());
+      this.file = file;
+      this.cache = cache;
+    }
+
+    @Override
+    public byte[] readContents() {
+      return cache.readContents(file).clone();
+    }
+
+    @Override
+    public String readContentsAsString() {
+      return new String(cache.readContents(file), UTF_8);
+    }
+
+    @Override
+    public InputStream getStream() {
+      return cache.getStream(file);
+    }
+
+    @Override
+    public String name() {
+      return file.name();
+    }
+
+    /** Hides the file on disk, so that its contents are always read through the cache. */
+    @Override
+    public Optional<Path> getFile() {
+      return Optional.empty();
+    }
+  }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2018-2025 Thomas Akehurst
+ * Copyright (C) 2018-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,7 +16,17 @@
 package com.github.tomakehurst.wiremock.common;
 
 import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Optional;
 
 public interface InputStreamSource {
   InputStream getStream();
+
+  /**
+   * @return the file on disk that the stream reads, if it reads one as-is, so that a container
+   *     that can send files from their channel can do so instead of reading the stream
+   */
+  default Optional<Path> getFile() {
+    return Optional.empty();
+  }
 }
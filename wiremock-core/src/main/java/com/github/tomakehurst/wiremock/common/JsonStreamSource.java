@@ -0,0 +1,198 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.common;
+
+import static com.github.tomakehurst.wiremock.common.Exceptions.throwUnchecked;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * A JSON object with one potentially very large array field, written a single array item at a time
+ * as the stream is read. This means the whole document never has to be held in memory, unlike
+ * {@link Json#write(Object)}.
+ *
+ * <p>The array field comes first, followed by the other fields in iteration order. In {@link
+ * Format#NDJSON} format only the array items are written, one per line.
+ */
+public class JsonStreamSource implements InputStreamSource {
+
+  public enum Format {
+    PRETTY("application/json"),
+    COMPACT("application/json"),
+    NDJSON("application/x-ndjson");
+
+    private final String contentType;
+
+    Format(String contentType) {
+      this.contentType = contentType;
+    }
+
+    public String getContentType() {
+      return contentType;
+    }
+  }
+
+  private final String arrayFieldName;
+  private final Iterable<?> items;
+  private final Map<String, ?> otherFields;
+  private final Format format;
+
+  public JsonStreamSource(
+      String arrayFieldName, Iterable<?> items, Map<String, ?> otherFields, Format format) {
+    this.arrayFieldName = arrayFieldName;
+    this.items = items;
+    this.otherFields = otherFields;
+    this.format = format;
+  }
+
+  public Format getFormat() {
+    return format;
+  }
+
+  @Override
+  public InputStream getStream() {
+    try {
+      return new JsonGeneratingInputStream();
+    } catch (IOException e) {
+      return throwUnchecked(e, InputStream.class);
+    }
+  }
+
+  private enum Stage {
+    START,
+    ITEMS,
+    END,
+    DONE
+  }
+
+  private class JsonGeneratingInputStream extends InputStream {
+
+    private final Buffer buffer = new Buffer();
+    private final ObjectWriter writer;
+    private final JsonGenerator generator;
+    private final Iterator<?> iterator;
+
+    private Stage stage = Stage.START;
+    private int position;
+
+    JsonGeneratingInputStream() throws IOException {
+      writer = Json.getObjectMapper().writerWithView(Json.PublicView.class);
+      generator = writer.createGenerator(buffer);
+      if (format == Format.PRETTY) {
+        generator.setPrettyPrinter(new DefaultPrettyPrinter());
+      } else if (format == Format.NDJSON) {
+        generator.setRootValueSeparator(null);
+      }
+      iterator = items.iterator();
+    }
+
+    @Override
+    public int read() throws IOException {
+      return fill() ? buffer.bytes()[position++] & 0xFF : -1;
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) throws IOException {
+      if (length == 0) {
+        return 0;
+      }
+      if (!fill()) {
+        return -1;
+      }
+
+      int count = Math.min(length, buffer.size() - position);
+      System.arraycopy(buffer.bytes(), position, bytes, offset, count);
+      position += count;
+      return count;
+    }
+
+    @Override
+    public void close() throws IOException {
+      stage = Stage.DONE;
+      generator.close();
+    }
+
+    private boolean fill() throws IOException {
+      while (position >= buffer.size()) {
+        if (stage == Stage.DONE) {
+          return false;
+        }
+
+        buffer.reset();
+        position = 0;
+        writeNext();
+        generator.flush();
+      }
+      return true;
+    }
+
+    private void writeNext() throws IOException {
+      switch (stage) {
+        case START:
+          if (format != Format.NDJSON) {
+            generator.writeStartObject();
+            generator.writeFieldName(arrayFieldName);
+            generator.writeStartArray();
+          }
+          stage = Stage.ITEMS;
+          break;
+        case ITEMS:
+          if (iterator.hasNext()) {
+            writer.writeValue(generator, iterator.next());
+            if (format == Format.NDJSON) {
+              generator.writeRaw('\n');
+            }
+          } else {
+            stage = Stage.END;
+          }
+          break;
+        case END:
+          if (format != Format.NDJSON) {
+            generator.writeEndArray();
+            for (Map.Entry<String, ?> field : otherFields.entrySet()) {
+              generator.writeFieldName(field.getKey());
+              writer.writeValue(generator, field.getValue());
+            }
+            generator.writeEndObject();
+          }
+          generator.close();
+          stage = Stage.DONE;
+          break;
+        default:
+          break;
+      }
+    }
+  }
+
+  /** Exposes its internal array, so that generated bytes can be read without copying them. */
+  private static class Buffer extends ByteArrayOutputStream {
+
+    Buffer() {
+      super(8192);
+    }
+
+    byte[] bytes() {
+      return buf;
+    }
+  }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2020-2025 Thomas Akehurst
+ * Copyright (C) 2020-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,13 +15,19 @@
  */
 package com.github.tomakehurst.wiremock.common;
 
+import static com.github.tomakehurst.wiremock.common.RequestCache.Key.keyFor;
 import static java.util.Arrays.asList;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.tomakehurst.wiremock.common.xml.Xml;
+import com.github.tomakehurst.wiremock.common.xml.XmlDocument;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.function.Supplier;
+import javax.xml.parsers.DocumentBuilderFactory;
+import org.w3c.dom.Document;
 
 public class RequestCache {
 
@@ -77,6 +83,78 @@ public class RequestCache {
     return (T) cache.computeIfAbsent(key, k -> supplier.get());
   }
 
+  /**
+   * Parses the JSON at most once per request, so that every body matcher and template helper
+   * looking at the same body shares one tree. The returned node must not be modified.
+   */
+  public JsonNode getJsonNode(String json) {
+    return getParsed(keyFor(JsonNode.class, json), () -> Json.read(json, JsonNode.class));
+  }
+
+  /**
+   * Parses the JSON at most once per request into plain maps, lists and values, the form that the
+   * jsonPath and parseJson template helpers work with. The returned value must not be modified.
+   */
+  public Object getJsonDocument(String json) {
+    return getParsed(keyFor(Object.class, json), () -> Json.read(json, Object.class));
+  }
+
+  /** Parses the XML at most once per request. The returned document must not be modified. */
+  public XmlDocument getXmlDocument(String xml) {
+    return getParsed(keyFor(XmlDocument.class, xml), () -> Xml.parse(xml));
+  }
+
+  /**
+   * Parses the XML with namespace support at most once per request, for XPath expressions that use
+   * namespaces. The returned document must not be modified.
+   */
+  public XmlDocument getNamespaceAwareXmlDocument(String xml) {
+    return getParsed(
+        keyFor(XmlDocument.class, "namespaceAware", xml), () -> Xml.parseNamespaceAware(xml));
+  }
+
+  /**
+   * Parses the XML at most once per request and document builder configuration. The returned
+   * document must not be modified.
+   */
+  public Document getXmlDom(String xml, DocumentBuilderFactory documentBuilderFactory) {
+    return getParsed(
+        keyFor(Document.class, documentBuilderFactory, xml),
+        () -> Xml.read(xml, documentBuilderFactory));
+  }
+
+  // Failures are cached too, so that an unparseable body is only attempted once
+  private <T> T getParsed(Key key, Supplier<T> parser) {
+    final ParseResult<T> parseResult = get(key, () -> ParseResult.of(parser));
+    return parseResult.getOrThrow();
+  }
+
+  private static class ParseResult<T> {
+    private final T value;
+    private final RuntimeException exception;
+
+    static <T> ParseResult<T> of(Supplier<T> parser) {
+      try {
+        return new ParseResult<>(parser.get(), null);
+      } catch (RuntimeException e) {
+        return new ParseResult<>(null, e);
+      }
+    }
+
+    private ParseResult(T value, RuntimeException exception) {
+      this.value = value;
+      this.exception = exception;
+    }
+
+    T getOrThrow() {
+      if (exception != null) {
+        throw exception;
+      }
+
+      return value;
+    }
+  }
+
   public static class Key {
     private final Class<?> forClass;
     private final List<?> elements;
@@ -20,7 +20,10 @@ import static com.github.tomakehurst.wiremock.common.Prioritisable.DEFAULT_PRIOR
 
 import java.util.Comparator;
 import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Stream;
@@ -29,13 +32,15 @@ public class SortedConcurrentPrioritisableSet<T extends Prioritisable> implement
 
   private final AtomicLong insertionCount;
   private final ConcurrentSkipListSet<T> set;
+  private final Map<UUID, T> itemsById;
 
   public SortedConcurrentPrioritisableSet() {
     insertionCount = new AtomicLong();
     set = new ConcurrentSkipListSet<>(sortedByPriorityThenReverseInsertionOrder());
+    itemsById = new ConcurrentHashMap<>();
   }
 
-  private Comparator<Prioritisable> sortedByPriorityThenReverseInsertionOrder() {
+  public static Comparator<Prioritisable> sortedByPriorityThenReverseInsertionOrder() {
     return (one, two) -> {
       int priorityComparison = comparePriorityWith(one, two);
       if (priorityComparison != 0) {
@@ -61,19 +66,30 @@ public class SortedConcurrentPrioritisableSet<T extends Prioritisable> implement
     return set.stream();
   }
 
+  public Optional<T> get(UUID id) {
+    return id != null ? Optional.ofNullable(itemsById.get(id)) : Optional.empty();
+  }
+
   public T add(T mapping) {
     mapping = mapping.withInsertionIndex(insertionCount.getAndIncrement());
-    boolean actuallyAdded = set.add(mapping);
+    set.add(mapping);
+    index(mapping);
     return mapping;
   }
 
   public boolean remove(final UUID mappingId) {
-    return set.removeIf(mapping -> mappingId != null && mappingId.equals(mapping.getId()));
+    T mapping = mappingId != null ? itemsById.remove(mappingId) : null;
+    return mapping != null && set.remove(mapping);
   }
 
   public T replace(T existingItem, T newItem) {
     if (set.remove(existingItem)) {
       set.add(newItem);
+      UUID existingId = existingItem.getId();
+      if (existingId != null && !existingId.equals(newItem.getId())) {
+        itemsById.remove(existingId);
+      }
+      index(newItem);
     }
 
     return newItem;
@@ -81,6 +97,13 @@ public class SortedConcurrentPrioritisableSet<T extends Prioritisable> implement
 
   public void clear() {
     set.clear();
+    itemsById.clear();
+  }
+
+  private void index(T item) {
+    if (item.getId() != null) {
+      itemsById.put(item.getId(), item);
+    }
   }
 
   @Override
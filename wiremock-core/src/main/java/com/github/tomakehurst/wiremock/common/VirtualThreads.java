@@ -0,0 +1,63 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.common;
+
+import java.lang.reflect.Method;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Access to JDK virtual threads without requiring a JDK that has them. WireMock targets Java 17, so
+ * they are looked up reflectively and are only available when running on Java 21 or later.
+ */
+public class VirtualThreads {
+
+  private static final Method NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR = findFactoryMethod();
+
+  private VirtualThreads() {}
+
+  public static boolean areSupported() {
+    final Optional<ExecutorService> executor = newVirtualThreadPerTaskExecutor();
+    executor.ifPresent(ExecutorService::shutdown);
+    return executor.isPresent();
+  }
+
+  /**
+   * @return an executor that starts a new virtual thread for each task, or empty if the running JDK
+   *     does not support virtual threads
+   */
+  public static Optional<ExecutorService> newVirtualThreadPerTaskExecutor() {
+    if (NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR == null) {
+      return Optional.empty();
+    }
+
+    try {
+      return Optional.of((ExecutorService) NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR.invoke(null));
+    } catch (ReflectiveOperationException e) {
+      // Java 19 and 20 have the method but throw unless preview features are enabled
+      return Optional.empty();
+    }
+  }
+
+  private static Method findFactoryMethod() {
+    try {
+      return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+    } catch (NoSuchMethodException e) {
+      return null;
+    }
+  }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2016-2025 Thomas Akehurst
+ * Copyright (C) 2016-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,7 @@
 package com.github.tomakehurst.wiremock.common.xml;
 
 import static com.github.tomakehurst.wiremock.common.Exceptions.throwUnchecked;
+import static com.github.tomakehurst.wiremock.common.Exceptions.uncheck;
 import static javax.xml.transform.OutputKeys.INDENT;
 import static javax.xml.transform.OutputKeys.OMIT_XML_DECLARATION;
 
@@ -42,6 +43,9 @@ public class Xml {
   public static final DocumentBuilderFactory DEFAULT_DOCUMENT_BUILDER_FACTORY =
       newDocumentBuilderFactory();
 
+  private static final DocumentBuilderFactory NAMESPACE_AWARE_DOCUMENT_BUILDER_FACTORY =
+      newNamespaceAwareDocumentBuilderFactory();
+
   private Xml() {
     // Hide constructor
   }
@@ -126,9 +130,19 @@ public class Xml {
   }
 
   public static XmlDocument parse(String xml, DocumentBuilder db) {
+    return parse(xml, db, false);
+  }
+
+  /** Parses with namespace support, for evaluating XPath expressions that use namespaces. */
+  public static XmlDocument parseNamespaceAware(String xml) {
+    return parse(
+        xml, uncheck(NAMESPACE_AWARE_DOCUMENT_BUILDER_FACTORY::newDocumentBuilder, null), true);
+  }
+
+  private static XmlDocument parse(String xml, DocumentBuilder db, boolean namespaceAware) {
     try {
       InputSource source = new InputSource(new StringReader(xml));
-      return new XmlDocument(db.parse(source));
+      return new XmlDocument(db.parse(source), namespaceAware);
     } catch (SAXException | IOException e) {
       throw new XmlException(Errors.single(50, e.getMessage()));
     }
@@ -143,12 +157,22 @@ public class Xml {
   }
 
   public static DocumentBuilderFactory newDocumentBuilderFactory() {
+    return newDocumentBuilderFactory(DocumentBuilderFactory.newDefaultInstance());
+  }
+
+  private static DocumentBuilderFactory newNamespaceAwareDocumentBuilderFactory() {
+    // The wrapping factories don't pass this setting on, so it has to go on the inner one
+    DocumentBuilderFactory namespaceAware = DocumentBuilderFactory.newDefaultInstance();
+    namespaceAware.setNamespaceAware(true);
+    return newDocumentBuilderFactory(namespaceAware);
+  }
+
+  private static DocumentBuilderFactory newDocumentBuilderFactory(DocumentBuilderFactory inner) {
     try {
       DocumentBuilderFactory dbf =
           new BuilderPerThreadDocumentBuilderFactory(
               new SilentErrorDocumentBuilderFactory(
-                  new SkipResolvingEntitiesDocumentBuilderFactory(
-                      DocumentBuilderFactory.newDefaultInstance())));
+                  new SkipResolvingEntitiesDocumentBuilderFactory(inner)));
       dbf.setFeature("http://xml.org/sax/features/validation", false);
       dbf.setFeature("http://apache.org/xml/features/nonvalidating/load-dtd-grammar", false);
       dbf.setFeature("http://apache.org/xml/features/nonvalidating/load-external-dtd", false);
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2020-2025 Thomas Akehurst
+ * Copyright (C) 2020-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,13 +16,10 @@
 package com.github.tomakehurst.wiremock.common.xml;
 
 import com.github.tomakehurst.wiremock.common.ListOrSingle;
-import java.util.HashMap;
 import java.util.Map;
-import javax.xml.XMLConstants;
-import javax.xml.namespace.NamespaceContext;
 import javax.xml.transform.dom.DOMSource;
-import javax.xml.xpath.XPath;
 import javax.xml.xpath.XPathEvaluationResult;
+import javax.xml.xpath.XPathExpression;
 import javax.xml.xpath.XPathExpressionException;
 import org.w3c.dom.Document;
 import org.xmlunit.util.Convert;
@@ -30,10 +27,24 @@ import org.xmlunit.util.Convert;
 public class XmlDocument extends XmlDomNode {
 
   private final Document document;
+  private final boolean namespaceAware;
 
   public XmlDocument(Document document) {
+    this(document, false);
+  }
+
+  /**
+   * @param namespaceAware whether the document was parsed with namespace support, in which case
+   *     XPath expressions using namespace prefixes can be evaluated against it directly
+   */
+  public XmlDocument(Document document, boolean namespaceAware) {
     super(document);
     this.document = document;
+    this.namespaceAware = namespaceAware;
+  }
+
+  public boolean isNamespaceAware() {
+    return namespaceAware;
   }
 
   public ListOrSingle<XmlNode> findNodes(String xPathExpression) {
@@ -41,20 +52,25 @@ public class XmlDocument extends XmlDomNode {
   }
 
   public ListOrSingle<XmlNode> findNodes(String xPathExpression, Map<String, String> namespaces) {
-    try {
-      final XPath xPath = XPATH_CACHE.get();
-      xPath.reset();
+    final Map<String, String> namespacesOrNull =
+        namespaces == null || namespaces.isEmpty() ? null : namespaces;
+    return findNodes(
+        CompiledXPath.compile(xPathExpression, namespacesOrNull), namespacesOrNull != null);
+  }
+
+  public ListOrSingle<XmlNode> findNodes(CompiledXPath xPath) {
+    return xPath.evaluate(compiled -> findNodes(compiled, xPath.hasNamespaces()));
+  }
 
+  private ListOrSingle<XmlNode> findNodes(XPathExpression xPath, boolean usesNamespaces) {
+    try {
       XPathEvaluationResult<?> xPathEvaluationResult;
-      if (namespaces != null) {
-        Map<String, String> fullNamespaces = addStandardNamespaces(namespaces);
-        NamespaceContext namespaceContext = Convert.toNamespaceContext(fullNamespaces);
-        xPath.setNamespaceContext(namespaceContext);
+      if (usesNamespaces && !namespaceAware) {
+        // Namespace prefixes can only be resolved against a namespace aware DOM
         xPathEvaluationResult =
-            xPath.evaluateExpression(
-                xPathExpression, Convert.toInputSource(new DOMSource(document)));
+            xPath.evaluateExpression(Convert.toInputSource(new DOMSource(document)));
       } else {
-        xPathEvaluationResult = xPath.evaluateExpression(xPathExpression, document);
+        xPathEvaluationResult = xPath.evaluateExpression(document);
       }
 
       return toListOrSingle(xPathEvaluationResult);
@@ -62,22 +78,4 @@ public class XmlDocument extends XmlDomNode {
       throw XPathException.fromXPathException(e);
     }
   }
-
-  private static Map<String, String> addStandardNamespaces(Map<String, String> namespaces) {
-    Map<String, String> result = new HashMap<String, String>();
-    for (String prefix : namespaces.keySet()) {
-      String uri = namespaces.get(prefix);
-      // according to the Javadocs only the constants defined in
-      // XMLConstants are allowed as prefixes for the following
-      // two URIs
-      if (!XMLConstants.XML_NS_URI.equals(uri)
-          && !XMLConstants.XMLNS_ATTRIBUTE_NS_URI.equals(uri)) {
-        result.put(prefix, uri);
-      }
-    }
-    result.put(XMLConstants.XML_NS_PREFIX, XMLConstants.XML_NS_URI);
-    result.put(XMLConstants.XMLNS_ATTRIBUTE, XMLConstants.XMLNS_ATTRIBUTE_NS_URI);
-
-    return result;
-  }
 }
@@ -65,6 +65,8 @@ public interface Admin {
 
   GetServeEventsResult getServeEvents(ServeEventQuery query);
 
+  VerificationResult countServeEvents(ServeEventQuery query);
+
   SingleServedStubResult getServedStub(UUID id);
 
   VerificationResult countRequestsMatching(RequestPattern requestPattern);
@@ -91,6 +93,8 @@ public interface Admin {
 
   void setScenarioState(String name, String state);
 
+  GetScenarioSessionsResult getScenarioSessions();
+
   void updateGlobalSettings(GlobalSettings settings);
 
   SnapshotRecordResult snapshotRecord();
@@ -125,6 +129,8 @@ public interface Admin {
 
   GetGlobalSettingsResult getGlobalSettings();
 
+  GetConnectionPoolStatsResult getConnectionPoolStats();
+
   /**
    * Sends a message to all channels of the specified type matching the given request pattern.
    *
@@ -169,4 +169,48 @@ public interface Options {
   default boolean getSessionAwareScenariosEnabled() {
     return false;
   }
+
+  default long getSessionIdleTimeoutMillis() {
+    return 0;
+  }
+
+  default int getMaxSessions() {
+    return 0;
+  }
+
+  default boolean getIndexedStubMatchingEnabled() {
+    return false;
+  }
+
+  default boolean getRingBufferRequestJournalEnabled() {
+    return false;
+  }
+
+  default boolean getVirtualThreadsEnabled() {
+    return false;
+  }
+
+  default long getMaxBodyFileCacheBytes() {
+    return 0;
+  }
+
+  default double getMaxNearMissDiagnosticsPerSecond() {
+    return 0;
+  }
+
+  default int getMaxHttpClientConnectionsPerRoute() {
+    return getMaxHttpClientConnections();
+  }
+
+  default long getHttpClientIdleConnectionTimeoutMillis() {
+    return 0;
+  }
+
+  default long getHttpClientKeepAliveMillis() {
+    return 0;
+  }
+
+  default boolean getProxyResponseStreamingEnabled() {
+    return false;
+  }
 }
@@ -20,6 +20,7 @@ import static com.github.tomakehurst.wiremock.common.ParameterUtils.getFirstNonN
 import com.github.tomakehurst.wiremock.admin.AdminRoutes;
 import com.github.tomakehurst.wiremock.admin.LimitAndOffsetPaginator;
 import com.github.tomakehurst.wiremock.admin.model.*;
+import com.github.tomakehurst.wiremock.common.BodyFileCache;
 import com.github.tomakehurst.wiremock.common.BrowserProxySettings;
 import com.github.tomakehurst.wiremock.common.FileSource;
 import com.github.tomakehurst.wiremock.common.xml.Xml;
@@ -28,8 +29,10 @@ import com.github.tomakehurst.wiremock.extension.requestfilter.RequestFilter;
 import com.github.tomakehurst.wiremock.extension.requestfilter.RequestFilterV2;
 import com.github.tomakehurst.wiremock.global.GlobalSettings;
 import com.github.tomakehurst.wiremock.http.*;
+import com.github.tomakehurst.wiremock.http.client.ConnectionPoolStats;
 import com.github.tomakehurst.wiremock.http.client.HttpClient;
 import com.github.tomakehurst.wiremock.http.client.HttpClientFactory;
+import com.github.tomakehurst.wiremock.http.client.LazyHttpClient;
 import com.github.tomakehurst.wiremock.matching.RequestMatcherExtension;
 import com.github.tomakehurst.wiremock.matching.RequestPattern;
 import com.github.tomakehurst.wiremock.matching.StringValuePattern;
@@ -44,11 +47,16 @@ import com.github.tomakehurst.wiremock.message.MessageStubRequestHandler;
 import com.github.tomakehurst.wiremock.message.RequestInitiatedMessageChannel;
 import com.github.tomakehurst.wiremock.recording.*;
 import com.github.tomakehurst.wiremock.standalone.MappingsLoader;
+import com.github.tomakehurst.wiremock.store.BlobStore;
 import com.github.tomakehurst.wiremock.store.DefaultStores;
+import com.github.tomakehurst.wiremock.store.SessionAwareScenariosStore;
 import com.github.tomakehurst.wiremock.store.SettingsStore;
 import com.github.tomakehurst.wiremock.store.Stores;
+import com.github.tomakehurst.wiremock.store.files.FileSourceBlobStore;
 import com.github.tomakehurst.wiremock.stubbing.*;
 import com.github.tomakehurst.wiremock.verification.*;
+import com.github.tomakehurst.wiremock.verification.notmatched.NotMatchedRenderer;
+import com.github.tomakehurst.wiremock.verification.notmatched.RateLimitedNotMatchedRenderer;
 import com.jayway.jsonpath.JsonPathException;
 import com.jayway.jsonpath.spi.cache.CacheProvider;
 import com.jayway.jsonpath.spi.cache.NOOPCache;
@@ -68,6 +76,7 @@ public class WireMockApp implements StubServer, Admin {
   private static final AtomicBoolean FACTORIES_LOADING_OPTIMIZED = new AtomicBoolean(false);
 
   private final Stores stores;
+  private final BodyFileCache bodyFileCache;
   private final Scenarios scenarios;
   private final StubMappings stubMappings;
   private final RequestJournal requestJournal;
@@ -89,6 +98,9 @@ public class WireMockApp implements StubServer, Admin {
 
   private Extensions extensions;
 
+  private HttpClient reverseProxyClient;
+  private HttpClient forwardProxyClient;
+
   public WireMockApp(Options options, Container container) {
     if (!options.getDisableOptimizeXmlFactoriesLoading()
         && Boolean.FALSE.equals(FACTORIES_LOADING_OPTIMIZED.get())) {
@@ -108,6 +120,10 @@ public class WireMockApp implements StubServer, Admin {
     this.options = options;
     this.stores = options.getStores();
     this.stores.start();
+    this.bodyFileCache =
+        options.getMaxBodyFileCacheBytes() > 0
+            ? new BodyFileCache(options.getMaxBodyFileCacheBytes())
+            : null;
 
     this.browserProxyingEnabled = options.browserProxySettings().enabled();
     this.defaultMappingsLoader = options.mappingsLoader();
@@ -121,7 +137,7 @@ public class WireMockApp implements StubServer, Admin {
             this,
             options,
             stores,
-            options.filesRoot().child(FILES_ROOT));
+            withBodyFileCache(options.filesRoot().child(FILES_ROOT)));
     extensions.load();
 
     Map<String, RequestMatcherExtension> customMatchers =
@@ -159,7 +175,9 @@ public class WireMockApp implements StubServer, Admin {
 
     scenarios =
         options.getSessionAwareScenariosEnabled()
-            ? new SessionAwareScenarios()
+            ? new SessionAwareScenarios(
+                new SessionAwareScenariosStore(
+                    options.getSessionIdleTimeoutMillis(), options.getMaxSessions()))
             : new InMemoryScenarios(stores.getScenariosStore());
     stubMappings =
         new StoreBackedStubMappings(
@@ -197,6 +215,7 @@ public class WireMockApp implements StubServer, Admin {
       Container container) {
 
     this.stores = new DefaultStores(rootFileSource);
+    this.bodyFileCache = null;
 
     this.browserProxyingEnabled = browserProxyingEnabled;
     this.defaultMappingsLoader = defaultMappingsLoader;
@@ -270,21 +289,24 @@ public class WireMockApp implements StubServer, Admin {
             .setExtensions(extensions)
             .load();
 
-    final HttpClient reverseProxyClient =
-        httpClientFactory.buildHttpClient(options, true, Collections.emptyList(), true);
-    final HttpClient forwardProxyClient =
-        httpClientFactory.buildHttpClient(
-            options,
-            browserProxySettings.trustAllProxyTargets(),
-            browserProxySettings.trustAllProxyTargets()
-                ? Collections.emptyList()
-                : browserProxySettings.trustedProxyTargets(),
-            false);
+    reverseProxyClient =
+        new LazyHttpClient(
+            () -> httpClientFactory.buildHttpClient(options, true, Collections.emptyList(), true));
+    forwardProxyClient =
+        new LazyHttpClient(
+            () ->
+                httpClientFactory.buildHttpClient(
+                    options,
+                    browserProxySettings.trustAllProxyTargets(),
+                    browserProxySettings.trustAllProxyTargets()
+                        ? Collections.emptyList()
+                        : browserProxySettings.trustedProxyTargets(),
+                    false));
 
     return new StubRequestHandler(
         this,
         new StubResponseRenderer(
-            options.getStores().getFilesBlobStore(),
+            getFilesBlobStoreWithBodyFileCache(),
             settingsStore,
             new ProxyResponseRenderer(
                 options.shouldPreserveHostHeader(),
@@ -293,7 +315,9 @@ public class WireMockApp implements StubServer, Admin {
                 options.getStubCorsEnabled(),
                 options.getSupportedProxyEncodings(),
                 reverseProxyClient,
-                forwardProxyClient),
+                forwardProxyClient,
+                options.getProxyResponseStreamingEnabled(),
+                options.getDataTruncationSettings()),
             List.copyOf(extensions.ofType(ResponseTransformer.class).values()),
             List.copyOf(extensions.ofType(ResponseTransformerV2.class).values())),
         this,
@@ -304,7 +328,14 @@ public class WireMockApp implements StubServer, Admin {
         getV2StubRequestFilters(),
         options.getStubRequestLoggingDisabled(),
         options.getDataTruncationSettings(),
-        options.getNotMatchedRendererFactory().apply(extensions));
+        buildNotMatchedRenderer());
+  }
+
+  private NotMatchedRenderer buildNotMatchedRenderer() {
+    NotMatchedRenderer renderer = options.getNotMatchedRendererFactory().apply(extensions);
+    return options.getMaxNearMissDiagnosticsPerSecond() > 0
+        ? new RateLimitedNotMatchedRenderer(renderer, options.getMaxNearMissDiagnosticsPerSecond())
+        : renderer;
   }
 
   public MessageStubRequestHandler buildMessageStubRequestHandler() {
@@ -510,7 +541,7 @@ public class WireMockApp implements StubServer, Admin {
   @Override
   public GetServeEventsResult getServeEvents(ServeEventQuery query) {
     try {
-      final List<ServeEvent> serveEvents = query.filter(requestJournal.getAllServeEvents());
+      final List<ServeEvent> serveEvents = query.filter(serveEventsFor(query));
       return GetServeEventsResult.requestJournalEnabled(LimitAndOffsetPaginator.none(serveEvents));
     } catch (RequestJournalDisabledException e) {
       return GetServeEventsResult.requestJournalDisabled(
@@ -518,6 +549,21 @@ public class WireMockApp implements StubServer, Admin {
     }
   }
 
+  @Override
+  public VerificationResult countServeEvents(ServeEventQuery query) {
+    try {
+      return VerificationResult.withCount(query.filter(serveEventsFor(query)).size());
+    } catch (RequestJournalDisabledException e) {
+      return VerificationResult.withRequestJournalDisabled();
+    }
+  }
+
+  private List<ServeEvent> serveEventsFor(ServeEventQuery query) {
+    return query.getStubMappingId() != null
+        ? requestJournal.getServeEventsForStub(query.getStubMappingId())
+        : requestJournal.getAllServeEvents();
+  }
+
   @Override
   public SingleServedStubResult getServedStub(UUID id) {
     return SingleServedStubResult.fromOptional(requestJournal.getServeEvent(id));
@@ -603,6 +649,11 @@ public class WireMockApp implements StubServer, Admin {
     scenarios.setSingle(name, state);
   }
 
+  @Override
+  public GetScenarioSessionsResult getScenarioSessions() {
+    return new GetScenarioSessionsResult(scenarios.getActiveSessionCount());
+  }
+
   @Override
   public FindNearMissesResult findTopNearMissesFor(LoggedRequest loggedRequest) {
     return new FindNearMissesResult(nearMissCalculator.findNearestTo(loggedRequest));
@@ -618,6 +669,38 @@ public class WireMockApp implements StubServer, Admin {
     return new GetGlobalSettingsResult(settingsStore.get());
   }
 
+  @Override
+  public GetConnectionPoolStatsResult getConnectionPoolStats() {
+    Map<String, ConnectionPoolStats> pools = new LinkedHashMap<>();
+    addConnectionPoolStats(pools, "proxy", reverseProxyClient);
+    addConnectionPoolStats(pools, "browserProxy", forwardProxyClient);
+    addConnectionPoolStats(pools, "extensions", extensions.getDefaultHttpClient());
+    return new GetConnectionPoolStatsResult(pools);
+  }
+
+  /**
+   * Closes the proxy and extension HTTP clients, releasing their connections and threads. They're
+   * built again if they're used after this.
+   */
+  public void closeHttpClients() {
+    closeHttpClient(reverseProxyClient);
+    closeHttpClient(forwardProxyClient);
+    closeHttpClient(extensions.getDefaultHttpClient());
+  }
+
+  private static void closeHttpClient(HttpClient httpClient) {
+    if (httpClient != null) {
+      httpClient.close();
+    }
+  }
+
+  private static void addConnectionPoolStats(
+      Map<String, ConnectionPoolStats> pools, String name, HttpClient httpClient) {
+    if (httpClient != null) {
+      httpClient.getConnectionPoolStats().ifPresent(stats -> pools.put(name, stats));
+    }
+  }
+
   @Override
   public void updateGlobalSettings(GlobalSettings newSettings) {
     GlobalSettings oldSettings = settingsStore.get();
@@ -646,6 +729,25 @@ public class WireMockApp implements StubServer, Admin {
     return extensions;
   }
 
+  public Optional<BodyFileCache> getBodyFileCache() {
+    return Optional.ofNullable(bodyFileCache);
+  }
+
+  private FileSource withBodyFileCache(FileSource files) {
+    return bodyFileCache != null ? bodyFileCache.cachingFilesIn(files) : files;
+  }
+
+  private BlobStore getFilesBlobStoreWithBodyFileCache() {
+    final BlobStore filesBlobStore = stores.getFilesBlobStore();
+    // Other blob stores have no way of telling whether a cached file is still current
+    if (filesBlobStore instanceof FileSourceBlobStore) {
+      return new FileSourceBlobStore(
+          withBodyFileCache(((FileSourceBlobStore) filesBlobStore).getFileSource()));
+    }
+
+    return filesBlobStore;
+  }
+
   @Override
   public void shutdownServer() {
     extensions.stopAll();
@@ -744,7 +846,7 @@ public class WireMockApp implements StubServer, Admin {
     }
 
     if (importOptions.getDeleteAllNotInImport()) {
-      List<UUID> ids = mappings.stream().map(StubMapping::getId).collect(Collectors.toList());
+      Set<UUID> ids = mappings.stream().map(StubMapping::getId).collect(Collectors.toSet());
       for (StubMapping mapping : listAllStubMappings().getMappings()) {
         if (!ids.contains(mapping.getId())) {
           removeStubMapping(mapping, false);
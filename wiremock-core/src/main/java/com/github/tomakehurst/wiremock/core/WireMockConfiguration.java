@@ -37,18 +37,24 @@ import com.github.tomakehurst.wiremock.global.GlobalSettings;
 import com.github.tomakehurst.wiremock.http.CaseInsensitiveKey;
 import com.github.tomakehurst.wiremock.http.HttpServerFactory;
 import com.github.tomakehurst.wiremock.http.client.HttpClientFactory;
+import com.github.tomakehurst.wiremock.http.ssl.CertificateKeyType;
 import com.github.tomakehurst.wiremock.http.trafficlistener.DoNothingWiremockNetworkTrafficListener;
 import com.github.tomakehurst.wiremock.http.trafficlistener.WiremockNetworkTrafficListener;
 import com.github.tomakehurst.wiremock.security.Authenticator;
 import com.github.tomakehurst.wiremock.security.BasicAuthenticator;
 import com.github.tomakehurst.wiremock.security.NoAuthenticator;
+import com.github.tomakehurst.wiremock.standalone.BundleMappingsSource;
 import com.github.tomakehurst.wiremock.standalone.JsonFileMappingsSource;
 import com.github.tomakehurst.wiremock.standalone.MappingsLoader;
 import com.github.tomakehurst.wiremock.standalone.MappingsSource;
 import com.github.tomakehurst.wiremock.store.DefaultStores;
+import com.github.tomakehurst.wiremock.store.InMemoryRequestJournalStore;
+import com.github.tomakehurst.wiremock.store.RequestJournalStore;
+import com.github.tomakehurst.wiremock.store.RingBufferRequestJournalStore;
 import com.github.tomakehurst.wiremock.store.Stores;
 import com.github.tomakehurst.wiremock.verification.notmatched.NotMatchedRenderer;
 import com.github.tomakehurst.wiremock.verification.notmatched.PlainTextStubNotMatchedRenderer;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -85,6 +91,9 @@ public class WireMockConfiguration implements Options {
   private KeyStoreSettings caKeyStoreSettings = null;
   private boolean trustAllProxyTargets = false;
   private final List<String> trustedProxyTargets = new ArrayList<>();
+  private CertificateKeyType certificateKeyType = CertificateKeyType.RSA;
+  private String certificateCacheDirectory = null;
+  private final List<String> preGeneratedCertificateHosts = new ArrayList<>();
 
   private ProxySettings proxySettings = ProxySettings.NO_PROXY;
   private FileSource filesRoot = new SingleRootFileSource("src/test/resources");
@@ -148,14 +157,38 @@ public class WireMockConfiguration implements Options {
   private long webSocketMaxBinaryMessageSize = DEFAULT_WEBSOCKET_MAX_BINARY_MESSAGE_SIZE;
 
   private boolean sessionAwareScenariosEnabled = false;
+  private long sessionIdleTimeoutMillis = 0;
+  private int maxSessions = 0;
+
+  private boolean indexedStubMatchingEnabled = false;
+
+  private boolean ringBufferRequestJournalEnabled = false;
+
+  private boolean virtualThreadsEnabled = false;
+
+  private long maxBodyFileCacheBytes = 0;
+
+  private String mappingsBundlePath;
+
+  private double maxNearMissDiagnosticsPerSecond = 0;
+
+  private boolean proxyResponseStreamingEnabled = false;
+
+  private Integer maxHttpClientConnectionsPerRoute;
+  private long httpClientIdleConnectionTimeoutMillis = 0;
+  private long httpClientKeepAliveMillis = 0;
 
   private MappingsSource getMappingsSource() {
     if (mappingsSource == null) {
-      mappingsSource =
+      MappingsSource jsonFileMappingsSource =
           new JsonFileMappingsSource(
               filesRoot.child(MAPPINGS_ROOT),
               filesRoot.child(MESSAGE_MAPPINGS_ROOT),
               getFilenameMaker());
+      mappingsSource =
+          mappingsBundlePath != null
+              ? new BundleMappingsSource(Path.of(mappingsBundlePath), jsonFileMappingsSource)
+              : jsonFileMappingsSource;
     }
 
     return mappingsSource;
@@ -512,6 +545,25 @@ public class WireMockConfiguration implements Options {
     return this;
   }
 
+  public WireMockConfiguration certificateKeyType(CertificateKeyType certificateKeyType) {
+    this.certificateKeyType = certificateKeyType;
+    return this;
+  }
+
+  public WireMockConfiguration certificateCacheDirectory(String certificateCacheDirectory) {
+    this.certificateCacheDirectory = certificateCacheDirectory;
+    return this;
+  }
+
+  public WireMockConfiguration preGenerateCertificatesFor(String... hostNames) {
+    return preGenerateCertificatesFor(asList(hostNames));
+  }
+
+  public WireMockConfiguration preGenerateCertificatesFor(List<String> hostNames) {
+    this.preGeneratedCertificateHosts.addAll(hostNames);
+    return this;
+  }
+
   public WireMockConfiguration disableOptimizeXmlFactoriesLoading(
       boolean disableOptimizeXmlFactoriesLoading) {
     this.disableOptimizeXmlFactoriesLoading = disableOptimizeXmlFactoriesLoading;
@@ -635,12 +687,18 @@ public class WireMockConfiguration implements Options {
   @Override
   public Stores getStores() {
     if (stores == null) {
-      stores = new DefaultStores(filesRoot);
+      stores = new DefaultStores(filesRoot, indexedStubMatchingEnabled, newRequestJournalStore());
     }
 
     return stores;
   }
 
+  private RequestJournalStore newRequestJournalStore() {
+    return ringBufferRequestJournalEnabled && maxRequestJournalEntries.orElse(0) > 0
+        ? new RingBufferRequestJournalStore(maxRequestJournalEntries.get())
+        : new InMemoryRequestJournalStore();
+  }
+
   @Override
   public FileSource filesRoot() {
     return filesRoot;
@@ -806,6 +864,9 @@ public class WireMockConfiguration implements Options {
         .trustAllProxyTargets(trustAllProxyTargets)
         .trustedProxyTargets(trustedProxyTargets)
         .caKeyStoreSettings(keyStoreSettings)
+        .certificateKeyType(certificateKeyType)
+        .certificateCacheDirectory(certificateCacheDirectory)
+        .preGeneratedCertificateHosts(preGeneratedCertificateHosts)
         .build();
   }
 
@@ -888,4 +949,176 @@ public class WireMockConfiguration implements Options {
   public boolean getSessionAwareScenariosEnabled() {
     return sessionAwareScenariosEnabled;
   }
+
+  /**
+   * Discards a session's scenario state once the session has been idle for this long. Defaults to
+   * 0, which keeps it indefinitely.
+   */
+  public WireMockConfiguration sessionIdleTimeoutMillis(long sessionIdleTimeoutMillis) {
+    this.sessionIdleTimeoutMillis = sessionIdleTimeoutMillis;
+    return this;
+  }
+
+  @Override
+  public long getSessionIdleTimeoutMillis() {
+    return sessionIdleTimeoutMillis;
+  }
+
+  /**
+   * Limits the number of sessions whose scenario state is kept, discarding the least recently used
+   * beyond that. Defaults to 0, which means no limit.
+   */
+  public WireMockConfiguration maxSessions(int maxSessions) {
+    this.maxSessions = maxSessions;
+    return this;
+  }
+
+  @Override
+  public int getMaxSessions() {
+    return maxSessions;
+  }
+
+  public WireMockConfiguration indexedStubMatching(boolean enabled) {
+    this.indexedStubMatchingEnabled = enabled;
+    return this;
+  }
+
+  @Override
+  public boolean getIndexedStubMatchingEnabled() {
+    return indexedStubMatchingEnabled;
+  }
+
+  /**
+   * Stores the request journal in a fixed-size ring buffer sized by {@link
+   * #maxRequestJournalEntries(int)}, making journal eviction constant time. Has no effect unless a
+   * maximum number of entries is set.
+   */
+  public WireMockConfiguration ringBufferRequestJournal(boolean enabled) {
+    this.ringBufferRequestJournalEnabled = enabled;
+    return this;
+  }
+
+  @Override
+  public boolean getRingBufferRequestJournalEnabled() {
+    return ringBufferRequestJournalEnabled;
+  }
+
+  /**
+   * Handles requests, including proxying, and dispatches webhooks on virtual threads, so that
+   * blocking delays and calls don't limit the number of concurrent requests. Needs Java 21 or
+   * later; platform threads are used otherwise.
+   */
+  public WireMockConfiguration virtualThreads(boolean enabled) {
+    this.virtualThreadsEnabled = enabled;
+    return this;
+  }
+
+  @Override
+  public boolean getVirtualThreadsEnabled() {
+    return virtualThreadsEnabled;
+  }
+
+  /**
+   * Keeps the contents of body files in memory, up to this many bytes in total, rather than reading
+   * them from disk on every request. Files are checked for changes before cached contents are used.
+   * Defaults to 0, which disables the cache.
+   */
+  public WireMockConfiguration maxBodyFileCacheBytes(long maxBodyFileCacheBytes) {
+    this.maxBodyFileCacheBytes = maxBodyFileCacheBytes;
+    return this;
+  }
+
+  @Override
+  public long getMaxBodyFileCacheBytes() {
+    return maxBodyFileCacheBytes;
+  }
+
+  /**
+   * Loads stubs from a bundle file written by {@link
+   * com.github.tomakehurst.wiremock.standalone.MappingsBundle}, rather than from the mappings
+   * directory, if the file exists. The bundle is never changed, so removing a stub that came from
+   * it only removes it from memory. Has no effect if a custom mapping source is set.
+   */
+  public WireMockConfiguration mappingsBundle(String path) {
+    this.mappingsBundlePath = path;
+    return this;
+  }
+
+  /**
+   * Finds the near misses for at most this many unmatched requests per second. Beyond that, the
+   * response rendered for an identical recent request is reused if there is one, or else a short
+   * response without the diff is returned. Defaults to 0, which disables the limit.
+   */
+  public WireMockConfiguration maxNearMissDiagnosticsPerSecond(double maxPerSecond) {
+    this.maxNearMissDiagnosticsPerSecond = maxPerSecond;
+    return this;
+  }
+
+  @Override
+  public double getMaxNearMissDiagnosticsPerSecond() {
+    return maxNearMissDiagnosticsPerSecond;
+  }
+
+  /**
+   * Passes proxied response bodies on to the client as they're received, rather than reading each
+   * one into memory first. Only as much of each body as {@link #maxLoggedResponseSize(int)} allows
+   * is kept in the request journal. Bodies of responses that will be transformed are still read
+   * into memory, and request listeners mustn't read streamed bodies.
+   */
+  public WireMockConfiguration streamProxyResponses(boolean enabled) {
+    this.proxyResponseStreamingEnabled = enabled;
+    return this;
+  }
+
+  @Override
+  public boolean getProxyResponseStreamingEnabled() {
+    return proxyResponseStreamingEnabled;
+  }
+
+  /**
+   * Limits the connections the HTTP client makes to any one host, so that a slow host can't take
+   * every connection in the pool. Defaults to {@link #maxHttpClientConnections(int)}.
+   */
+  public WireMockConfiguration maxHttpClientConnectionsPerRoute(int maxConnectionsPerRoute) {
+    this.maxHttpClientConnectionsPerRoute = maxConnectionsPerRoute;
+    return this;
+  }
+
+  @Override
+  public int getMaxHttpClientConnectionsPerRoute() {
+    return maxHttpClientConnectionsPerRoute != null
+        ? maxHttpClientConnectionsPerRoute
+        : maxHttpClientConnections;
+  }
+
+  /**
+   * Closes the HTTP client's pooled connections once they've been idle for this long, and those
+   * past their keep-alive, from a background thread. Defaults to 0, which leaves them until they're
+   * next leased. Only has an effect when connection reuse is enabled, see {@link
+   * #disableConnectionReuse(boolean)}.
+   */
+  public WireMockConfiguration httpClientIdleConnectionTimeoutMillis(long timeoutMillis) {
+    this.httpClientIdleConnectionTimeoutMillis = timeoutMillis;
+    return this;
+  }
+
+  @Override
+  public long getHttpClientIdleConnectionTimeoutMillis() {
+    return httpClientIdleConnectionTimeoutMillis;
+  }
+
+  /**
+   * How long the HTTP client keeps a connection for reuse when the upstream's response doesn't say.
+   * Defaults to 0, which uses the client's default of 3 minutes. Only has an effect when connection
+   * reuse is enabled.
+   */
+  public WireMockConfiguration httpClientKeepAliveMillis(long keepAliveMillis) {
+    this.httpClientKeepAliveMillis = keepAliveMillis;
+    return this;
+  }
+
+  @Override
+  public long getHttpClientKeepAliveMillis() {
+    return httpClientKeepAliveMillis;
+  }
 }
@@ -22,6 +22,7 @@ import static java.util.stream.Collectors.toMap;
 import com.github.jknack.handlebars.Helper;
 import com.github.tomakehurst.wiremock.common.Exceptions;
 import com.github.tomakehurst.wiremock.common.FileSource;
+import com.github.tomakehurst.wiremock.common.VirtualThreads;
 import com.github.tomakehurst.wiremock.core.Admin;
 import com.github.tomakehurst.wiremock.core.Options;
 import com.github.tomakehurst.wiremock.extension.responsetemplating.LazyTemplateEngine;
@@ -35,6 +36,8 @@ import com.github.tomakehurst.wiremock.http.client.LazyHttpClientFactory;
 import com.github.tomakehurst.wiremock.proxy.ProxiedHostnameRewriteResponseTransformer;
 import com.github.tomakehurst.wiremock.store.Stores;
 import java.util.*;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -57,6 +60,7 @@ public class Extensions implements WireMockServices {
   private TemplateEngine templateEngine;
 
   private HttpClientFactory httpClientFactory;
+  private final HttpClient defaultHttpClient;
 
   private final Map<String, Extension> loadedExtensions;
 
@@ -72,6 +76,9 @@ public class Extensions implements WireMockServices {
     this.stores = stores;
     this.files = files;
 
+    defaultHttpClient =
+        new LazyHttpClient(
+            () -> httpClientFactory.buildHttpClient(options, true, Collections.emptyList(), true));
     loadedExtensions = new LinkedHashMap<>();
   }
 
@@ -201,10 +208,23 @@ public class Extensions implements WireMockServices {
         new Webhooks(
             this,
             Executors.newScheduledThreadPool(options.getWebhookThreadPoolSize()),
+            webhookDispatcher(),
             webhookTransformers);
     loadedExtensions.put(webhooks.getName(), webhooks);
   }
 
+  private Executor webhookDispatcher() {
+    if (options.getVirtualThreadsEnabled()) {
+      final Optional<ExecutorService> virtualThreads =
+          VirtualThreads.newVirtualThreadPerTaskExecutor();
+      if (virtualThreads.isPresent()) {
+        return virtualThreads.get();
+      }
+    }
+
+    return Runnable::run;
+  }
+
   private void configureProxiedHostnameRewrite() {
     final ProxiedHostnameRewriteResponseTransformer proxiedHostnameRewriteTransformer =
         new ProxiedHostnameRewriteResponseTransformer();
@@ -249,8 +269,7 @@ public class Extensions implements WireMockServices {
 
   @Override
   public HttpClient getDefaultHttpClient() {
-    return new LazyHttpClient(
-        () -> httpClientFactory.buildHttpClient(options, true, Collections.emptyList(), true));
+    return defaultHttpClient;
   }
 
   public int getCount() {
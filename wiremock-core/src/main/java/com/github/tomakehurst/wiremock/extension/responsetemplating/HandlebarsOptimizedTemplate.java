@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2019-2025 Thomas Akehurst
+ * Copyright (C) 2019-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,12 +15,17 @@
  */
 package com.github.tomakehurst.wiremock.extension.responsetemplating;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+
 import com.github.jknack.handlebars.Context;
 import com.github.jknack.handlebars.Handlebars;
 import com.github.jknack.handlebars.Template;
 import com.github.tomakehurst.wiremock.common.Exceptions;
 import com.github.tomakehurst.wiremock.common.RequestCache;
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStreamWriter;
 import java.io.StringWriter;
 import java.io.Writer;
 
@@ -32,6 +37,9 @@ public class HandlebarsOptimizedTemplate {
   private String templateContent;
   private String endContent;
 
+  private final byte[] startContentBytes;
+  private final byte[] endContentBytes;
+
   public HandlebarsOptimizedTemplate(final Handlebars handlebars, final String content) {
     startContent = content;
     templateContent = "";
@@ -49,7 +57,17 @@ public class HandlebarsOptimizedTemplate {
       }
     }
 
-    this.template = uncheckedCompileTemplate(handlebars, templateContent);
+    this.template =
+        templateContent.isEmpty() ? null : uncheckedCompileTemplate(handlebars, templateContent);
+    this.startContentBytes = startContent.getBytes(UTF_8);
+    this.endContentBytes = endContent.getBytes(UTF_8);
+  }
+
+  /**
+   * @return true if the content has no template expressions, so rendering it needs no model
+   */
+  public boolean isStatic() {
+    return template == null;
   }
 
   private static Template uncheckedCompileTemplate(Handlebars handlebars, String templateContent) {
@@ -61,19 +79,56 @@ public class HandlebarsOptimizedTemplate {
   }
 
   public String apply(Object contextData) {
-    final RequestCache requestCache = RequestCache.getCurrent();
-    Context context = Context.newBuilder(contextData).combine("requestCache", requestCache).build();
+    if (isStatic()) {
+      return startContent;
+    }
 
-    return startContent + applyTemplate(context) + endContent;
+    final StringWriter writer = new StringWriter(estimatedOutputLength());
+    Exceptions.uncheck(() -> apply(contextData, writer));
+    return writer.toString();
   }
 
-  private String applyTemplate(Context context) {
-    return Exceptions.uncheck(
+  /**
+   * Renders to UTF-8 bytes without building the output up as a string first. The text before and
+   * after the template expressions is encoded once, when the template is compiled. The whole output
+   * is still held in memory.
+   */
+  public byte[] applyAsUtf8Bytes(Object contextData) {
+    if (isStatic()) {
+      return startContentBytes.clone();
+    }
+
+    final ByteArrayOutputStream out =
+        new ByteArrayOutputStream(
+            startContentBytes.length + templateContent.length() * 2 + endContentBytes.length);
+    out.writeBytes(startContentBytes);
+    Exceptions.uncheck(
         () -> {
-          Writer stringWriter = new StringWriter(template.text().length() * 2);
-          template.apply(context, stringWriter);
-          return stringWriter.toString();
-        },
-        String.class);
+          try (Writer writer = new BufferedWriter(new OutputStreamWriter(out, UTF_8))) {
+            template.apply(buildContext(contextData), writer);
+          }
+        });
+    out.writeBytes(endContentBytes);
+    return out.toByteArray();
+  }
+
+  public void apply(Object contextData, Writer writer) throws IOException {
+    if (isStatic()) {
+      writer.write(startContent);
+      return;
+    }
+
+    writer.write(startContent);
+    template.apply(buildContext(contextData), writer);
+    writer.write(endContent);
+  }
+
+  private static Context buildContext(Object contextData) {
+    final RequestCache requestCache = RequestCache.getCurrent();
+    return Context.newBuilder(contextData).combine("requestCache", requestCache).build();
+  }
+
+  private int estimatedOutputLength() {
+    return startContent.length() + templateContent.length() * 2 + endContent.length();
   }
 }
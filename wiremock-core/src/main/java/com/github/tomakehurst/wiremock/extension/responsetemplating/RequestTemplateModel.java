@@ -15,21 +15,23 @@
  */
 package com.github.tomakehurst.wiremock.extension.responsetemplating;
 
+import com.github.tomakehurst.wiremock.common.Lazy;
 import com.github.tomakehurst.wiremock.common.ListOrSingle;
 import com.github.tomakehurst.wiremock.http.Body;
 import com.github.tomakehurst.wiremock.http.RequestMethod;
 import java.util.Map;
+import java.util.function.Supplier;
 
 public class RequestTemplateModel {
 
   private final String id;
   private final RequestLine requestLine;
-  private final Map<String, ListOrSingle<String>> headers;
-  private final Map<String, ListOrSingle<String>> cookies;
+  private final Lazy<Map<String, ListOrSingle<String>>> headers;
+  private final Lazy<Map<String, ListOrSingle<String>>> cookies;
 
   private final boolean isMultipart;
-  private final Body body;
-  private final Map<String, RequestPartTemplateModel> parts;
+  private final Lazy<Body> body;
+  private final Lazy<Map<String, RequestPartTemplateModel>> parts;
 
   protected RequestTemplateModel(
       String id,
@@ -39,13 +41,25 @@ public class RequestTemplateModel {
       boolean isMultipart,
       Body body,
       Map<String, RequestPartTemplateModel> parts) {
+    this(id, requestLine, () -> headers, () -> cookies, isMultipart, () -> body, () -> parts);
+  }
+
+  /** Only builds the parts of the model that templates actually use, the first time they do. */
+  RequestTemplateModel(
+      String id,
+      RequestLine requestLine,
+      Supplier<Map<String, ListOrSingle<String>>> headers,
+      Supplier<Map<String, ListOrSingle<String>>> cookies,
+      boolean isMultipart,
+      Supplier<Body> body,
+      Supplier<Map<String, RequestPartTemplateModel>> parts) {
     this.id = id;
     this.requestLine = requestLine;
-    this.headers = headers;
-    this.cookies = cookies;
+    this.headers = Lazy.lazy(headers);
+    this.cookies = Lazy.lazy(cookies);
     this.isMultipart = isMultipart;
-    this.body = body;
-    this.parts = parts;
+    this.body = Lazy.lazy(body);
+    this.parts = Lazy.lazy(parts);
   }
 
   public String getId() {
@@ -97,23 +111,23 @@ public class RequestTemplateModel {
   }
 
   public Map<String, ListOrSingle<String>> getHeaders() {
-    return headers;
+    return headers.get();
   }
 
   public Map<String, ListOrSingle<String>> getCookies() {
-    return cookies;
+    return cookies.get();
   }
 
   public String getBody() {
-    return body.asString();
+    return body.get().asString();
   }
 
   public String getBodyAsBase64() {
-    return body.asBase64();
+    return body.get().asBase64();
   }
 
   public boolean isBinary() {
-    return body.isBinary();
+    return body.get().isBinary();
   }
 
   public boolean isMultipart() {
@@ -121,7 +135,7 @@ public class RequestTemplateModel {
   }
 
   public Map<String, RequestPartTemplateModel> getParts() {
-    return parts;
+    return parts.get();
   }
 
   public String getClientIp() {
@@ -0,0 +1,196 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.extension.responsetemplating;
+
+import static java.util.stream.Collectors.toList;
+
+import com.github.jknack.handlebars.Handlebars;
+import com.github.tomakehurst.wiremock.http.HttpHeader;
+import com.github.tomakehurst.wiremock.http.HttpHeaders;
+import com.github.tomakehurst.wiremock.http.ResponseDefinition;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * The parts of a response definition that can contain templates, compiled once per response
+ * definition rather than looked up on every request. Values without template expressions are kept
+ * as they are, so rendering them doesn't need the template model.
+ */
+class ResponseTemplatePlan {
+
+  private final HandlebarsOptimizedTemplate inlineBody;
+  private final TemplatedValue bodyFileName;
+  private final List<TemplatedHeader> headers;
+  private final TemplatedValue proxyBaseUrl;
+  private final List<TemplatedHeader> additionalProxyRequestHeaders;
+  private final boolean isStatic;
+
+  private ResponseTemplatePlan(
+      HandlebarsOptimizedTemplate inlineBody,
+      TemplatedValue bodyFileName,
+      List<TemplatedHeader> headers,
+      TemplatedValue proxyBaseUrl,
+      List<TemplatedHeader> additionalProxyRequestHeaders) {
+    this.inlineBody = inlineBody;
+    this.bodyFileName = bodyFileName;
+    this.headers = headers;
+    this.proxyBaseUrl = proxyBaseUrl;
+    this.additionalProxyRequestHeaders = additionalProxyRequestHeaders;
+    this.isStatic =
+        (inlineBody == null || inlineBody.isStatic())
+            && bodyFileName == null
+            && headers.stream().allMatch(TemplatedHeader::isStatic)
+            && (proxyBaseUrl == null || proxyBaseUrl.isStatic())
+            && additionalProxyRequestHeaders.stream().allMatch(TemplatedHeader::isStatic);
+  }
+
+  static ResponseTemplatePlan compile(
+      ResponseDefinition responseDefinition, TemplateEngine templateEngine) {
+    HandlebarsOptimizedTemplate inlineBody = null;
+    TemplatedValue bodyFileName = null;
+    if (responseDefinition.specifiesTextBodyContent()) {
+      inlineBody =
+          templateEngine.getTemplate(
+              HttpTemplateCacheKey.forInlineBody(responseDefinition),
+              responseDefinition.getTextBody());
+    } else if (responseDefinition.specifiesBodyFile()) {
+      String fileName = responseDefinition.getBodyFileName();
+      bodyFileName =
+          new TemplatedValue(
+              fileName,
+              isTemplated(fileName) ? templateEngine.getUncachedTemplate(fileName) : null);
+    }
+
+    TemplatedValue proxyBaseUrl = null;
+    List<TemplatedHeader> additionalProxyRequestHeaders = List.of();
+    if (responseDefinition.getProxyBaseUrl() != null) {
+      String url = responseDefinition.getProxyBaseUrl();
+      proxyBaseUrl =
+          new TemplatedValue(
+              url,
+              isTemplated(url)
+                  ? templateEngine.getTemplate(
+                      HttpTemplateCacheKey.forProxyUrl(responseDefinition), url)
+                  : null);
+      additionalProxyRequestHeaders =
+          compileHeaders(
+              responseDefinition,
+              responseDefinition.getAdditionalProxyRequestHeaders(),
+              templateEngine);
+    }
+
+    return new ResponseTemplatePlan(
+        inlineBody,
+        bodyFileName,
+        compileHeaders(responseDefinition, responseDefinition.getHeaders(), templateEngine),
+        proxyBaseUrl,
+        additionalProxyRequestHeaders);
+  }
+
+  private static List<TemplatedHeader> compileHeaders(
+      ResponseDefinition responseDefinition, HttpHeaders headers, TemplateEngine templateEngine) {
+    return headers.all().stream()
+        .map(
+            header -> {
+              List<TemplatedValue> values = new ArrayList<>();
+              int index = 0;
+              for (String value : header.values()) {
+                Object key =
+                    HttpTemplateCacheKey.forHeader(responseDefinition, header.key(), index++);
+                values.add(
+                    new TemplatedValue(
+                        value, isTemplated(value) ? templateEngine.getTemplate(key, value) : null));
+              }
+              return new TemplatedHeader(header.key(), values);
+            })
+        .collect(toList());
+  }
+
+  private static boolean isTemplated(String value) {
+    return value.contains(Handlebars.DELIM_START);
+  }
+
+  /**
+   * @return true if nothing in the response definition would change when rendered
+   */
+  boolean isStatic() {
+    return isStatic;
+  }
+
+  HandlebarsOptimizedTemplate getInlineBody() {
+    return inlineBody;
+  }
+
+  String renderBodyFileName(Supplier<Map<String, Object>> model) {
+    return bodyFileName.render(model);
+  }
+
+  HttpHeaders renderHeaders(Supplier<Map<String, Object>> model) {
+    return renderHeaders(headers, model);
+  }
+
+  String renderProxyBaseUrl(Supplier<Map<String, Object>> model) {
+    return proxyBaseUrl != null ? proxyBaseUrl.render(model) : null;
+  }
+
+  HttpHeaders renderAdditionalProxyRequestHeaders(Supplier<Map<String, Object>> model) {
+    return renderHeaders(additionalProxyRequestHeaders, model);
+  }
+
+  private static HttpHeaders renderHeaders(
+      List<TemplatedHeader> headers, Supplier<Map<String, Object>> model) {
+    return new HttpHeaders(headers.stream().map(header -> header.render(model)).collect(toList()));
+  }
+
+  private static class TemplatedHeader {
+    private final String key;
+    private final List<TemplatedValue> values;
+
+    TemplatedHeader(String key, List<TemplatedValue> values) {
+      this.key = key;
+      this.values = values;
+    }
+
+    boolean isStatic() {
+      return values.stream().allMatch(TemplatedValue::isStatic);
+    }
+
+    HttpHeader render(Supplier<Map<String, Object>> model) {
+      return new HttpHeader(
+          key, values.stream().map(value -> value.render(model)).collect(toList()));
+    }
+  }
+
+  private static class TemplatedValue {
+    private final String value;
+    private final HandlebarsOptimizedTemplate template;
+
+    TemplatedValue(String value, HandlebarsOptimizedTemplate template) {
+      this.value = value;
+      this.template = template;
+    }
+
+    boolean isStatic() {
+      return template == null || template.isStatic();
+    }
+
+    String render(Supplier<Map<String, Object>> model) {
+      return isStatic() ? value : template.apply(model.get());
+    }
+  }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2016-2025 Thomas Akehurst
+ * Copyright (C) 2016-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,17 +19,22 @@ import static com.github.tomakehurst.wiremock.client.WireMock.serverError;
 
 import com.github.jknack.handlebars.HandlebarsException;
 import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+import com.github.tomakehurst.wiremock.common.Exceptions;
 import com.github.tomakehurst.wiremock.common.FileSource;
 import com.github.tomakehurst.wiremock.common.JsonException;
+import com.github.tomakehurst.wiremock.common.Lazy;
 import com.github.tomakehurst.wiremock.common.TextFile;
 import com.github.tomakehurst.wiremock.extension.*;
 import com.github.tomakehurst.wiremock.http.*;
 import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
 import com.github.tomakehurst.wiremock.stubbing.StubMapping;
 import com.github.tomakehurst.wiremock.stubbing.SubEvent;
-import java.nio.charset.StandardCharsets;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.ExecutionError;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.ExecutionException;
 
 public class ResponseTemplateTransformer
     implements StubLifecycleListener, ResponseDefinitionTransformerV2 {
@@ -42,6 +47,9 @@ public class ResponseTemplateTransformer
 
   private final List<TemplateModelDataProviderExtension> templateModelDataProviders;
 
+  private final Lazy<Optional<Cache<ResponseDefinition, ResponseTemplatePlan>>> plans =
+      Lazy.lazy(this::buildPlanCache);
+
   public ResponseTemplateTransformer(
       TemplateEngine templateEngine,
       boolean global,
@@ -70,23 +78,32 @@ public class ResponseTemplateTransformer
       final ResponseDefinition responseDefinition = serveEvent.getResponseDefinition();
       final Parameters parameters = responseDefinition.getTransformerParameters();
 
+      final ResponseTemplatePlan plan = getPlan(responseDefinition);
+      if (plan.isStatic()) {
+        return responseDefinition;
+      }
+
+      final Lazy<Map<String, Object>> model =
+          Lazy.lazy(
+              () -> {
+                final Map<String, Object> requestModel =
+                    templateEngine.buildModelForRequest(serveEvent);
+                requestModel.putAll(
+                    addExtraModelElements(request, responseDefinition, files, parameters));
+                return requestModel;
+              });
+
       ResponseDefinitionBuilder newResponseDefBuilder =
           ResponseDefinitionBuilder.like(responseDefinition);
 
-      final Map<String, Object> model = templateEngine.buildModelForRequest(serveEvent);
-      model.putAll(addExtraModelElements(request, responseDefinition, files, parameters));
-
-      if (responseDefinition.specifiesTextBodyContent()) {
-        boolean isJsonBody = responseDefinition.getReponseBody().isJson();
-        HandlebarsOptimizedTemplate bodyTemplate =
-            templateEngine.getTemplate(
-                HttpTemplateCacheKey.forInlineBody(responseDefinition),
-                responseDefinition.getTextBody());
-        applyTemplatedResponseBody(newResponseDefBuilder, model, bodyTemplate, isJsonBody);
+      if (plan.getInlineBody() != null) {
+        if (!plan.getInlineBody().isStatic()) {
+          boolean isJsonBody = responseDefinition.getReponseBody().isJson();
+          applyTemplatedResponseBody(
+              newResponseDefBuilder, model, plan.getInlineBody(), isJsonBody);
+        }
       } else if (responseDefinition.specifiesBodyFile()) {
-        HandlebarsOptimizedTemplate filePathTemplate =
-            templateEngine.getUncachedTemplate(responseDefinition.getBodyFileName());
-        String compiledFilePath = uncheckedApplyTemplate(filePathTemplate, model);
+        String compiledFilePath = plan.renderBodyFileName(model::get);
 
         boolean disableBodyFileTemplating =
             parameters.getBoolean("disableBodyFileTemplating", false);
@@ -102,59 +119,13 @@ public class ResponseTemplateTransformer
         }
       }
 
-      {
-        List<HttpHeader> newResponseHeaders =
-            responseDefinition.getHeaders().all().stream()
-                .map(
-                    header -> {
-                      ArrayList<String> valueListBuilder = new ArrayList<>();
-                      int index = 0;
-                      for (String headerValue : header.values()) {
-                        HandlebarsOptimizedTemplate template =
-                            templateEngine.getTemplate(
-                                HttpTemplateCacheKey.forHeader(
-                                    responseDefinition, header.key(), index++),
-                                headerValue);
-                        valueListBuilder.add(uncheckedApplyTemplate(template, model));
-                      }
-
-                      return new HttpHeader(header.key(), valueListBuilder);
-                    })
-                .collect(Collectors.toList());
-        newResponseDefBuilder.withHeaders(new HttpHeaders(newResponseHeaders));
-      }
+      newResponseDefBuilder.withHeaders(plan.renderHeaders(model::get));
 
       if (responseDefinition.getProxyBaseUrl() != null) {
-        HandlebarsOptimizedTemplate proxyBaseUrlTemplate =
-            templateEngine.getTemplate(
-                HttpTemplateCacheKey.forProxyUrl(responseDefinition),
-                responseDefinition.getProxyBaseUrl());
-        String newProxyBaseUrl = uncheckedApplyTemplate(proxyBaseUrlTemplate, model);
-
         ResponseDefinitionBuilder.ProxyResponseDefinitionBuilder newProxyResponseDefBuilder =
-            newResponseDefBuilder.proxiedFrom(newProxyBaseUrl);
-
-        {
-          List<HttpHeader> newResponseHeaders =
-              responseDefinition.getAdditionalProxyRequestHeaders().all().stream()
-                  .map(
-                      header -> {
-                        ArrayList<String> valueListBuilder = new ArrayList<>();
-                        int index = 0;
-                        for (String headerValue : header.values()) {
-                          HandlebarsOptimizedTemplate template =
-                              templateEngine.getTemplate(
-                                  HttpTemplateCacheKey.forHeader(
-                                      responseDefinition, header.key(), index++),
-                                  headerValue);
-                          valueListBuilder.add(uncheckedApplyTemplate(template, model));
-                        }
-                        return new HttpHeader(header.key(), valueListBuilder);
-                      })
-                  .collect(Collectors.toList());
-          newProxyResponseDefBuilder.withAdditionalRequestHeaders(
-              new HttpHeaders(newResponseHeaders));
-        }
+            newResponseDefBuilder.proxiedFrom(plan.renderProxyBaseUrl(model::get));
+        newProxyResponseDefBuilder.withAdditionalRequestHeaders(
+            plan.renderAdditionalProxyRequestHeaders(model::get));
 
         return newProxyResponseDefBuilder.build();
       } else {
@@ -196,28 +167,78 @@ public class ResponseTemplateTransformer
 
   private void applyTemplatedResponseBody(
       ResponseDefinitionBuilder newResponseDefBuilder,
-      Map<String, Object> model,
+      Lazy<Map<String, Object>> model,
       HandlebarsOptimizedTemplate bodyTemplate,
       boolean isJsonBody) {
-    String bodyString = uncheckedApplyTemplate(bodyTemplate, model);
-    Body body =
-        isJsonBody
-            ? Body.fromJsonBytes(bodyString.getBytes(StandardCharsets.UTF_8))
-            : Body.fromOneOf(null, bodyString, null, null);
+    byte[] bodyBytes = bodyTemplate.applyAsUtf8Bytes(bodyTemplate.isStatic() ? null : model.get());
+    Body body = isJsonBody ? Body.fromJsonBytes(bodyBytes) : Body.fromTextBytes(bodyBytes);
     newResponseDefBuilder.withResponseBody(body);
   }
 
-  private String uncheckedApplyTemplate(HandlebarsOptimizedTemplate template, Object context) {
-    return template.apply(context);
+  private ResponseTemplatePlan getPlan(ResponseDefinition responseDefinition) {
+    final Optional<Cache<ResponseDefinition, ResponseTemplatePlan>> plans = this.plans.get();
+    if (plans.isEmpty()) {
+      return ResponseTemplatePlan.compile(responseDefinition, templateEngine);
+    }
+
+    try {
+      return plans
+          .get()
+          .get(
+              responseDefinition,
+              () -> ResponseTemplatePlan.compile(responseDefinition, templateEngine));
+    } catch (ExecutionException | UncheckedExecutionException | ExecutionError e) {
+      return Exceptions.throwUnchecked(e.getCause(), null);
+    }
+  }
+
+  private Optional<Cache<ResponseDefinition, ResponseTemplatePlan>> buildPlanCache() {
+    final Long maxCacheEntries = templateEngine.getMaxCacheEntries();
+    if (maxCacheEntries != null && maxCacheEntries < 1) {
+      return Optional.empty();
+    }
+
+    // Weak keys are compared by identity, which avoids hashing whole response bodies per request
+    CacheBuilder<Object, Object> cacheBuilder = CacheBuilder.newBuilder().weakKeys();
+    if (maxCacheEntries != null) {
+      cacheBuilder.maximumSize(maxCacheEntries);
+    }
+    return Optional.of(cacheBuilder.build());
+  }
+
+  @Override
+  public void afterStubCreated(StubMapping stub) {
+    precompile(stub);
+  }
+
+  @Override
+  public void afterStubEdited(StubMapping oldStub, StubMapping newStub) {
+    plans.get().ifPresent(plans -> plans.invalidate(oldStub.getResponse()));
+    precompile(newStub);
+  }
+
+  private void precompile(StubMapping stub) {
+    final ResponseDefinition responseDefinition = stub.getResponse();
+    if (!global && !responseDefinition.hasTransformer(this)) {
+      return;
+    }
+
+    try {
+      getPlan(responseDefinition);
+    } catch (HandlebarsException e) {
+      // Reported when the stub is served
+    }
   }
 
   @Override
   public void afterStubRemoved(StubMapping stub) {
+    plans.get().ifPresent(plans -> plans.invalidate(stub.getResponse()));
     templateEngine.invalidateCache();
   }
 
   @Override
   public void afterStubsReset() {
+    plans.get().ifPresent(Cache::invalidateAll);
     templateEngine.invalidateCache();
   }
 
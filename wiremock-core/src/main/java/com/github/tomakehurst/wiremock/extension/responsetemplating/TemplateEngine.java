@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2021-2025 Thomas Akehurst
+ * Copyright (C) 2021-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -163,21 +163,25 @@ public class TemplateEngine {
 
   private static RequestTemplateModel buildRequestModel(Request request) {
     RequestLine requestLine = RequestLine.fromRequest(request);
-    Map<String, ListOrSingle<String>> adaptedHeaders = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
-    adaptedHeaders.putAll(
-        Maps.toMap(
-            request.getAllHeaderKeys(), input -> ListOrSingle.of(request.header(input).values())));
-    Map<String, ListOrSingle<String>> adaptedCookies =
-        Maps.transformValues(request.getCookies(), cookie -> ListOrSingle.of(cookie.getValues()));
 
     return new RequestTemplateModel(
         request.getId() != null ? request.getId().toString() : null,
         requestLine,
-        adaptedHeaders,
-        adaptedCookies,
+        () -> buildHeadersModel(request),
+        () ->
+            Maps.transformValues(
+                request.getCookies(), cookie -> ListOrSingle.of(cookie.getValues())),
         request.isMultipart(),
-        Body.ofBinaryOrText(request.getBody(), request.contentTypeHeader()),
-        buildRequestPartModel(request));
+        () -> Body.ofBinaryOrText(request.getBody(), request.contentTypeHeader()),
+        () -> buildRequestPartModel(request));
+  }
+
+  private static Map<String, ListOrSingle<String>> buildHeadersModel(Request request) {
+    Map<String, ListOrSingle<String>> adaptedHeaders = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    adaptedHeaders.putAll(
+        Maps.toMap(
+            request.getAllHeaderKeys(), input -> ListOrSingle.of(request.header(input).values())));
+    return adaptedHeaders;
   }
 
   private static Map<String, RequestPartTemplateModel> buildRequestPartModel(Request request) {
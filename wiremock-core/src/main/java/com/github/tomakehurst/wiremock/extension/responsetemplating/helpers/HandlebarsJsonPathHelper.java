@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2017-2025 Thomas Akehurst
+ * Copyright (C) 2017-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,6 +18,7 @@ package com.github.tomakehurst.wiremock.extension.responsetemplating.helpers;
 import static com.github.tomakehurst.wiremock.common.ParameterUtils.getFirstNonNull;
 
 import com.github.jknack.handlebars.Options;
+import com.github.tomakehurst.wiremock.common.JsonException;
 import com.github.tomakehurst.wiremock.common.RequestCache;
 import com.jayway.jsonpath.DocumentContext;
 import com.jayway.jsonpath.InvalidJsonException;
@@ -49,6 +50,8 @@ public class HandlebarsJsonPathHelper extends HandlebarsHelper<Object> {
       return JsonData.create(result);
     } catch (InvalidJsonException e) {
       return this.handleError(input + " is not valid JSON", e.getJson(), e);
+    } catch (JsonException e) {
+      return this.handleError(input + " is not valid JSON", input.toString(), e);
     } catch (InvalidPathException e) {
       return this.handleError(jsonPathString + " is not a valid JSONPath expression", e);
     }
@@ -78,11 +81,13 @@ public class HandlebarsJsonPathHelper extends HandlebarsHelper<Object> {
 
   private DocumentContext getJsonDocument(Object json, Options options) {
     RequestCache requestCache = getRequestCache(options);
-    RequestCache.Key cacheKey = RequestCache.Key.keyFor(DocumentContext.class, json);
+    RequestCache.Key cacheKey = RequestCache.Key.keyFor(DocumentContext.class, "jsonPath", json);
     DocumentContext document = requestCache.get(cacheKey);
     if (document == null) {
       document =
-          json instanceof String ? parseContext.parse((String) json) : parseContext.parse(json);
+          json instanceof String
+              ? parseContext.parse(requestCache.getJsonDocument((String) json))
+              : parseContext.parse(json);
       requestCache.put(cacheKey, document);
     }
 
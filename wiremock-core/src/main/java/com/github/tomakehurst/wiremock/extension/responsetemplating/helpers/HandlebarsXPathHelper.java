@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2017-2025 Thomas Akehurst
+ * Copyright (C) 2017-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,6 +19,8 @@ import com.github.jknack.handlebars.Options;
 import com.github.tomakehurst.wiremock.common.ListOrSingle;
 import com.github.tomakehurst.wiremock.common.RequestCache;
 import com.github.tomakehurst.wiremock.common.xml.*;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import java.io.IOException;
 
 /**
@@ -27,6 +29,10 @@ import java.io.IOException;
  */
 public class HandlebarsXPathHelper extends HandlebarsHelper<String> {
 
+  // Expressions usually come straight from the template, so are worth compiling once
+  private final Cache<String, CompiledXPath> compiledXPaths =
+      CacheBuilder.newBuilder().maximumSize(1000).build();
+
   @Override
   public Object apply(final String inputXml, final Options options) throws IOException {
     if (inputXml == null) {
@@ -67,7 +73,9 @@ public class HandlebarsXPathHelper extends HandlebarsHelper<String> {
     ListOrSingle<XmlNode> nodes = requestCache.get(cacheKey);
 
     if (nodes == null) {
-      nodes = doc.findNodes(xPathExpression);
+      CompiledXPath xPath =
+          compiledXPaths.asMap().computeIfAbsent(xPathExpression, CompiledXPath::new);
+      nodes = doc.findNodes(xPath);
       requestCache.put(cacheKey, nodes);
     }
 
@@ -75,15 +83,7 @@ public class HandlebarsXPathHelper extends HandlebarsHelper<String> {
   }
 
   private XmlDocument getXmlDocument(String xml, Options options) {
-    RequestCache requestCache = getRequestCache(options);
-    RequestCache.Key cacheKey = RequestCache.Key.keyFor(XmlDocument.class, xml);
-    XmlDocument document = requestCache.get(cacheKey);
-    if (document == null) {
-      document = Xml.parse(xml);
-      requestCache.put(cacheKey, document);
-    }
-
-    return document;
+    return getRequestCache(options).getXmlDocument(xml);
   }
 
   /**
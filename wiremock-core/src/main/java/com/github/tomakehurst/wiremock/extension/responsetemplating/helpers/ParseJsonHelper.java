@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2021-2025 Thomas Akehurst
+ * Copyright (C) 2021-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,7 +20,9 @@ import com.github.jknack.handlebars.Options;
 import com.github.jknack.handlebars.TagType;
 import com.github.tomakehurst.wiremock.common.Json;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -59,11 +61,7 @@ public class ParseJsonHelper extends HandlebarsHelper<Object> {
       if (jsonAsStringWithoutSpace.equals("{}") || jsonAsStringWithoutSpace.isEmpty()) {
         result = new HashMap<String, Object>();
       } else {
-        if (jsonAsString.startsWith("[") && jsonAsString.endsWith("]")) {
-          result = Json.read(jsonAsString, new TypeReference<List<Object>>() {});
-        } else {
-          result = Json.read(jsonAsString, new TypeReference<Map<String, Object>>() {});
-        }
+        result = parse(json.toString(), jsonAsString, options);
       }
     }
 
@@ -74,4 +72,34 @@ public class ParseJsonHelper extends HandlebarsHelper<Object> {
 
     return result;
   }
+
+  // Copies the document parsed for the jsonPath helper, so templates can't change the shared one
+  private static Object parse(String json, String trimmedJson, Options options) {
+    final Object document = getRequestCache(options).getJsonDocument(json);
+    if (trimmedJson.startsWith("[") && trimmedJson.endsWith("]")) {
+      return document instanceof List
+          ? copy(document)
+          : Json.read(trimmedJson, new TypeReference<List<Object>>() {});
+    }
+
+    return document instanceof Map
+        ? copy(document)
+        : Json.read(trimmedJson, new TypeReference<Map<String, Object>>() {});
+  }
+
+  private static Object copy(Object value) {
+    if (value instanceof Map) {
+      final Map<String, Object> copy = new LinkedHashMap<>();
+      ((Map<?, ?>) value).forEach((key, child) -> copy.put((String) key, copy(child)));
+      return copy;
+    }
+
+    if (value instanceof List) {
+      final List<Object> copy = new ArrayList<>();
+      ((List<?>) value).forEach(child -> copy.add(copy(child)));
+      return copy;
+    }
+
+    return value;
+  }
 }
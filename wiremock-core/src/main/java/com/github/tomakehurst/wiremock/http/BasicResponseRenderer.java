@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2011-2025 Thomas Akehurst
+ * Copyright (C) 2011-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -24,10 +24,14 @@ public class BasicResponseRenderer implements ResponseRenderer {
   @Override
   public Response render(ServeEvent serveEvent) {
     ResponseDefinition responseDefinition = serveEvent.getResponseDefinition();
-    return response()
-        .status(responseDefinition.getStatus())
-        .headers(responseDefinition.getHeaders())
-        .body(responseDefinition.getByteBody())
-        .build();
+    Response.Builder response =
+        response().status(responseDefinition.getStatus()).headers(responseDefinition.getHeaders());
+
+    Body body = responseDefinition.getReponseBody();
+    if (body.isStreamed()) {
+      return response.streamedBody(body.getStreamSource()).build();
+    }
+
+    return response.body(responseDefinition.getByteBody()).build();
   }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2015-2025 Thomas Akehurst
+ * Copyright (C) 2015-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,8 +22,11 @@ import static com.github.tomakehurst.wiremock.common.Strings.stringFromBytes;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.NullNode;
 import com.github.tomakehurst.wiremock.common.ContentTypes;
+import com.github.tomakehurst.wiremock.common.Exceptions;
+import com.github.tomakehurst.wiremock.common.InputStreamSource;
 import com.github.tomakehurst.wiremock.common.Json;
 import com.github.tomakehurst.wiremock.common.Strings;
+import java.io.InputStream;
 import java.util.Arrays;
 import java.util.Objects;
 
@@ -32,6 +35,7 @@ public class Body {
   private final byte[] content;
   private final boolean binary;
   private final boolean json;
+  private final InputStreamSource streamSource;
 
   public Body(byte[] content) {
     this(content, true);
@@ -41,30 +45,53 @@ public class Body {
     this.content = Strings.bytesFromString(content);
     binary = false;
     json = false;
+    streamSource = null;
   }
 
   private Body(byte[] content, boolean binary) {
     this.content = content;
     this.binary = binary;
     json = false;
+    streamSource = null;
   }
 
   private Body(byte[] content, boolean binary, boolean json) {
     this.content = content;
     this.binary = binary;
     this.json = json;
+    streamSource = null;
   }
 
   private Body(JsonNode content) {
     this.content = Json.toByteArray(content);
     binary = false;
     json = true;
+    streamSource = null;
+  }
+
+  private Body(InputStreamSource streamSource) {
+    content = null;
+    binary = false;
+    json = false;
+    this.streamSource = streamSource;
+  }
+
+  /**
+   * A body generated as it's written to the response, rather than held in memory. Reading it as
+   * bytes or a string generates it in full.
+   */
+  public static Body streamed(InputStreamSource streamSource) {
+    return new Body(streamSource);
   }
 
   public static Body fromJsonBytes(byte[] bytes) {
     return bytes != null ? new Body(bytes, false, true) : none();
   }
 
+  public static Body fromTextBytes(byte[] bytes) {
+    return bytes != null ? new Body(bytes, false) : none();
+  }
+
   public static Body ofBinaryOrText(byte[] content, ContentTypeHeader contentTypeHeader) {
     return new Body(
         content, !ContentTypes.determineIsTextFromMimeType(contentTypeHeader.mimeTypePart()));
@@ -86,15 +113,26 @@ public class Body {
   }
 
   public String asString() {
-    return content != null ? stringFromBytes(content) : null;
+    byte[] bytes = asBytes();
+    return bytes != null ? stringFromBytes(bytes) : null;
   }
 
   public byte[] asBytes() {
-    return content != null ? content : null;
+    if (streamSource != null) {
+      return Exceptions.uncheck(
+          () -> {
+            try (InputStream stream = streamSource.getStream()) {
+              return stream.readAllBytes();
+            }
+          },
+          byte[].class);
+    }
+
+    return content;
   }
 
   public String asBase64() {
-    return encodeBase64(content);
+    return encodeBase64(asBytes());
   }
 
   public boolean isBinary() {
@@ -110,7 +148,15 @@ public class Body {
   }
 
   public boolean isAbsent() {
-    return content == null;
+    return content == null && streamSource == null;
+  }
+
+  public boolean isStreamed() {
+    return streamSource != null;
+  }
+
+  public InputStreamSource getStreamSource() {
+    return streamSource;
   }
 
   public boolean isPresent() {
@@ -122,7 +168,9 @@ public class Body {
     if (this == o) return true;
     if (o == null || getClass() != o.getClass()) return false;
     Body body = (Body) o;
-    return Objects.equals(binary, body.binary) && Arrays.equals(content, body.content);
+    return Objects.equals(binary, body.binary)
+        && Arrays.equals(content, body.content)
+        && Objects.equals(streamSource, body.streamSource);
   }
 
   @Override
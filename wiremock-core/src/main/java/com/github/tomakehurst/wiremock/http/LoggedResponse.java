@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2016-2025 Thomas Akehurst
+ * Copyright (C) 2016-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -30,6 +30,7 @@ public class LoggedResponse {
   private final int status;
   private final HttpHeaders headers;
   private final byte[] body;
+  private final StreamedBody streamedBody;
   private final Fault fault;
 
   public LoggedResponse(
@@ -38,23 +39,30 @@ public class LoggedResponse {
       @JsonProperty("bodyAsBase64") String bodyAsBase64,
       @JsonProperty("fault") Fault fault,
       @JsonProperty("body") String ignoredBodyOnlyUsedForBinding) {
-    this(status, headers, Encoding.decodeBase64(bodyAsBase64), fault);
+    this(status, headers, Encoding.decodeBase64(bodyAsBase64), null, fault);
   }
 
-  private LoggedResponse(int status, HttpHeaders headers, byte[] body, Fault fault) {
+  private LoggedResponse(
+      int status, HttpHeaders headers, byte[] body, StreamedBody streamedBody, Fault fault) {
     this.status = status;
     this.headers = headers;
     this.body = body;
+    this.streamedBody = streamedBody;
     this.fault = fault;
   }
 
+  /**
+   * A streamed body is logged as it's sent, as far as the body size limit it was created with
+   * allows, so is empty until sending starts.
+   */
   public static LoggedResponse from(Response response, Limit responseBodySizeLimit) {
     return new LoggedResponse(
         response.getStatus(),
         response.getHeaders() == null || response.getHeaders().all().isEmpty()
             ? null
             : response.getHeaders(),
-        response.getBody(responseBodySizeLimit),
+        response.isBodyStreamed() ? null : response.getBody(responseBodySizeLimit),
+        response.getStreamedBody(),
         response.getFault());
   }
 
@@ -74,6 +82,7 @@ public class LoggedResponse {
    */
   @JsonProperty("body")
   public String getBodyAsString() {
+    byte[] body = getBody();
     if (body == null) {
       return "";
     }
@@ -95,12 +104,12 @@ public class LoggedResponse {
 
   @JsonIgnore
   public byte[] getBody() {
-    return body;
+    return streamedBody != null ? streamedBody.getCaptured() : body;
   }
 
   @JsonProperty("bodyAsBase64")
   public String getBodyAsBase64() {
-    return Encoding.encodeBase64(body);
+    return Encoding.encodeBase64(getBody());
   }
 
   public Fault getFault() {
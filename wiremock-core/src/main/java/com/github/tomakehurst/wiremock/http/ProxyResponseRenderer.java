@@ -18,6 +18,7 @@ package com.github.tomakehurst.wiremock.http;
 import static com.github.tomakehurst.wiremock.http.Response.response;
 import static java.net.HttpURLConnection.HTTP_INTERNAL_ERROR;
 
+import com.github.tomakehurst.wiremock.common.DataTruncationSettings;
 import com.github.tomakehurst.wiremock.common.ProhibitedNetworkAddressException;
 import com.github.tomakehurst.wiremock.global.GlobalSettings;
 import com.github.tomakehurst.wiremock.http.client.HttpClient;
@@ -41,6 +42,8 @@ public class ProxyResponseRenderer implements ResponseRenderer {
   private final SettingsStore settingsStore;
   private final boolean stubCorsEnabled;
   private final Set<String> supportedEncodings;
+  private final boolean streamResponseBodies;
+  private final DataTruncationSettings dataTruncationSettings;
 
   @SuppressWarnings("unused")
   public ProxyResponseRenderer(
@@ -70,11 +73,41 @@ public class ProxyResponseRenderer implements ResponseRenderer {
       HttpClient reverseProxyClient,
       HttpClient forwardProxyClient) {
 
+    this(
+        preserveHostHeader,
+        hostHeaderValue,
+        settingsStore,
+        stubCorsEnabled,
+        supportedEncodings,
+        reverseProxyClient,
+        forwardProxyClient,
+        false,
+        DataTruncationSettings.DEFAULTS);
+  }
+
+  /**
+   * @param streamResponseBodies whether to pass upstream response bodies on as they're received,
+   *     rather than reading them into memory first. Only as much of each body as the data
+   *     truncation settings allow is kept for the request journal.
+   */
+  public ProxyResponseRenderer(
+      boolean preserveHostHeader,
+      String hostHeaderValue,
+      SettingsStore settingsStore,
+      boolean stubCorsEnabled,
+      Set<String> supportedEncodings,
+      HttpClient reverseProxyClient,
+      HttpClient forwardProxyClient,
+      boolean streamResponseBodies,
+      DataTruncationSettings dataTruncationSettings) {
+
     this.settingsStore = settingsStore;
     this.preserveHostHeader = preserveHostHeader;
     this.hostHeaderValue = hostHeaderValue;
     this.stubCorsEnabled = stubCorsEnabled;
     this.supportedEncodings = supportedEncodings;
+    this.streamResponseBodies = streamResponseBodies;
+    this.dataTruncationSettings = dataTruncationSettings;
 
     this.forwardProxyClient = forwardProxyClient;
     this.reverseProxyClient = reverseProxyClient;
@@ -82,6 +115,14 @@ public class ProxyResponseRenderer implements ResponseRenderer {
 
   @Override
   public Response render(ServeEvent serveEvent) {
+    return render(serveEvent, true);
+  }
+
+  /**
+   * @param streamBody false if the response body must be readable more than once, for instance
+   *     because it will be transformed, so shouldn't be streamed even if streaming is enabled
+   */
+  Response render(ServeEvent serveEvent, boolean streamBody) {
     ResponseDefinition responseDefinition = serveEvent.getResponseDefinition();
 
     AbsoluteUrl proxyUrl = getProxyUrl(serveEvent);
@@ -117,8 +158,18 @@ public class ProxyResponseRenderer implements ResponseRenderer {
     HttpClient client = chooseClient(serveEvent.getRequest().isBrowserProxyRequest());
 
     try {
-      final Response httpResponse = client.execute(request);
-      return Response.Builder.like(httpResponse)
+      final Response httpResponse =
+          streamResponseBodies && streamBody
+              ? client.executeStreaming(request)
+              : client.execute(request);
+      final Response.Builder responseBuilder = Response.Builder.like(httpResponse);
+      if (httpResponse.isBodyStreamed()) {
+        responseBuilder.streamedBody(
+            new StreamedBody(
+                httpResponse::getBodyStream, dataTruncationSettings.getMaxResponseBodySize()));
+      }
+
+      return responseBuilder
           .fromProxy(true)
           .headers(headersFrom(httpResponse, responseDefinition))
           .configureDelay(
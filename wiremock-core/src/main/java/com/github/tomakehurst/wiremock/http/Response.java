@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2011-2025 Thomas Akehurst
+ * Copyright (C) 2011-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -23,6 +23,7 @@ import static java.net.HttpURLConnection.HTTP_OK;
 import com.github.tomakehurst.wiremock.common.*;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Path;
 import java.util.Optional;
 
 public class Response {
@@ -30,6 +31,7 @@ public class Response {
   private final int status;
   private final String statusMessage;
   private final InputStreamSource bodyStreamSource;
+  private final boolean bodyStreamed;
   private final HttpHeaders headers;
   private final boolean configured;
   private final Fault fault;
@@ -43,6 +45,7 @@ public class Response {
         HTTP_NOT_FOUND,
         null,
         StreamSources.empty(),
+        false,
         noHeaders(),
         false,
         null,
@@ -60,6 +63,7 @@ public class Response {
       int status,
       String statusMessage,
       InputStreamSource bodyStreamSource,
+      boolean bodyStreamed,
       HttpHeaders headers,
       boolean configured,
       Fault fault,
@@ -70,6 +74,7 @@ public class Response {
     this.status = status;
     this.statusMessage = statusMessage;
     this.bodyStreamSource = bodyStreamSource;
+    this.bodyStreamed = bodyStreamed;
     this.headers = headers;
     this.configured = configured;
     this.fault = fault;
@@ -116,11 +121,27 @@ public class Response {
     return bodyStreamSource == null ? null : bodyStreamSource.getStream();
   }
 
+  public Optional<Path> getBodyFile() {
+    return bodyStreamSource == null ? Optional.empty() : bodyStreamSource.getFile();
+  }
+
   public boolean hasInlineBody() {
     return StreamSources.ByteArrayInputStreamSource.class.isAssignableFrom(
         bodyStreamSource.getClass());
   }
 
+  /**
+   * @return true if the body is generated as it's read, so should only be read once and not be
+   *     buffered
+   */
+  public boolean isBodyStreamed() {
+    return bodyStreamed;
+  }
+
+  StreamedBody getStreamedBody() {
+    return bodyStreamSource instanceof StreamedBody streamedBody ? streamedBody : null;
+  }
+
   public HttpHeaders getHeaders() {
     return headers;
   }
@@ -160,6 +181,7 @@ public class Response {
     private byte[] bodyBytes;
     private String bodyString;
     private InputStreamSource bodyStream;
+    private boolean bodyStreamed;
     private HttpHeaders headers = new HttpHeaders();
     private boolean configured = true;
     private Fault fault;
@@ -173,6 +195,7 @@ public class Response {
       responseBuilder.status = response.getStatus();
       responseBuilder.statusMessage = response.getStatusMessage();
       responseBuilder.bodyStream = response.bodyStreamSource;
+      responseBuilder.bodyStreamed = response.bodyStreamed;
       responseBuilder.headers = response.getHeaders();
       responseBuilder.configured = response.wasConfigured();
       responseBuilder.fault = response.getFault();
@@ -200,6 +223,7 @@ public class Response {
       this.bodyBytes = body;
       this.bodyString = null;
       this.bodyStream = null;
+      this.bodyStreamed = false;
       return this;
     }
 
@@ -207,6 +231,7 @@ public class Response {
       this.bodyBytes = null;
       this.bodyString = body;
       this.bodyStream = null;
+      this.bodyStreamed = false;
       return this;
     }
 
@@ -214,6 +239,14 @@ public class Response {
       this.bodyBytes = null;
       this.bodyString = null;
       this.bodyStream = bodySource;
+      this.bodyStreamed = false;
+      return this;
+    }
+
+    /** Sets a body that is generated as it's read, so won't be buffered for the request log. */
+    public Builder streamedBody(InputStreamSource bodySource) {
+      body(bodySource);
+      this.bodyStreamed = true;
       return this;
     }
 
@@ -301,6 +334,7 @@ public class Response {
           status,
           statusMessage,
           bodyStream,
+          bodyStreamed,
           headers,
           configured,
           fault,
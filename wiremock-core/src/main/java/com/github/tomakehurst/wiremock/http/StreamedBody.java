@@ -0,0 +1,97 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.http;
+
+import com.github.tomakehurst.wiremock.common.InputStreamSource;
+import com.github.tomakehurst.wiremock.common.Limit;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A body that is read from its source once, as it's sent, rather than being held in memory. Up to
+ * a limited number of bytes from the start of it are kept as they're read, before they're sent, so
+ * that the request journal never shows less of the body than the client has received. Streamed
+ * bodies can be any size, so if there's no limit only the first {@link #UNLIMITED_CAPTURE_BYTES}
+ * are kept.
+ */
+public class StreamedBody implements InputStreamSource {
+
+  public static final int UNLIMITED_CAPTURE_BYTES = 1024 * 1024;
+
+  private final AtomicReference<InputStreamSource> source;
+  private final Limit captureLimit;
+
+  private volatile ByteArrayOutputStream captured;
+
+  public StreamedBody(InputStreamSource source, Limit captureLimit) {
+    this.source = new AtomicReference<>(source);
+    this.captureLimit =
+        captureLimit.isUnlimited() ? new Limit(UNLIMITED_CAPTURE_BYTES) : captureLimit;
+  }
+
+  @Override
+  public InputStream getStream() {
+    InputStreamSource unread = source.getAndSet(null);
+    if (unread == null) {
+      throw new IllegalStateException("A streamed body can only be read once");
+    }
+    captured = new ByteArrayOutputStream();
+    return new CapturingInputStream(unread.getStream(), captured);
+  }
+
+  /**
+   * @return the bytes kept from the start of the body so far, or null if it hasn't been read
+   */
+  public byte[] getCaptured() {
+    ByteArrayOutputStream captured = this.captured;
+    return captured == null ? null : captured.toByteArray();
+  }
+
+  private class CapturingInputStream extends FilterInputStream {
+
+    private final ByteArrayOutputStream capture;
+
+    CapturingInputStream(InputStream in, ByteArrayOutputStream capture) {
+      super(in);
+      this.capture = capture;
+    }
+
+    @Override
+    public int read() throws IOException {
+      int b = super.read();
+      if (b != -1 && roomFor(1) > 0) {
+        capture.write(b);
+      }
+      return b;
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) throws IOException {
+      int count = super.read(bytes, offset, length);
+      if (count > 0) {
+        capture.write(bytes, offset, roomFor(count));
+      }
+      return count;
+    }
+
+    private int roomFor(int count) {
+      return Math.max(0, Math.min(count, captureLimit.getValue() - capture.size()));
+    }
+  }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2011-2025 Thomas Akehurst
+ * Copyright (C) 2011-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -74,14 +74,22 @@ public class StubResponseRenderer implements ResponseRenderer {
   }
 
   private Response buildResponse(ServeEvent serveEvent) {
-    if (serveEvent.getResponseDefinition().isProxyResponse()) {
-      return proxyResponseRenderer.render(serveEvent);
+    ResponseDefinition responseDefinition = serveEvent.getResponseDefinition();
+    if (responseDefinition.isProxyResponse()) {
+      return proxyResponseRenderer.render(serveEvent, !willBeTransformed(responseDefinition));
     } else {
       Response.Builder responseBuilder = renderDirectly(serveEvent);
       return responseBuilder.build();
     }
   }
 
+  private boolean willBeTransformed(ResponseDefinition responseDefinition) {
+    return responseTransformers.stream()
+            .anyMatch(t -> t.applyGlobally() || responseDefinition.hasTransformer(t))
+        || v2ResponseTransformers.stream()
+            .anyMatch(t -> t.applyGlobally() || responseDefinition.hasTransformer(t));
+  }
+
   private Response applyTransformations(
       Request request,
       ResponseDefinition responseDefinition,
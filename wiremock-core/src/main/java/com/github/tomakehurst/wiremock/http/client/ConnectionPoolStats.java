@@ -0,0 +1,78 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.http.client;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.Map;
+
+/** A snapshot of an HTTP client's connection pool, in total and for each host it connects to. */
+public class ConnectionPoolStats {
+
+  private final Usage total;
+  private final Map<String, Usage> routes;
+
+  public ConnectionPoolStats(
+      @JsonProperty("total") Usage total, @JsonProperty("routes") Map<String, Usage> routes) {
+    this.total = total;
+    this.routes = routes;
+  }
+
+  public Usage getTotal() {
+    return total;
+  }
+
+  public Map<String, Usage> getRoutes() {
+    return routes;
+  }
+
+  public static class Usage {
+
+    private final int leased;
+    private final int pending;
+    private final int available;
+    private final int max;
+
+    public Usage(
+        @JsonProperty("leased") int leased,
+        @JsonProperty("pending") int pending,
+        @JsonProperty("available") int available,
+        @JsonProperty("max") int max) {
+      this.leased = leased;
+      this.pending = pending;
+      this.available = available;
+      this.max = max;
+    }
+
+    /** Connections in use by a request. */
+    public int getLeased() {
+      return leased;
+    }
+
+    /** Requests waiting for a connection. */
+    public int getPending() {
+      return pending;
+    }
+
+    /** Idle connections kept for reuse. */
+    public int getAvailable() {
+      return available;
+    }
+
+    public int getMax() {
+      return max;
+    }
+  }
+}
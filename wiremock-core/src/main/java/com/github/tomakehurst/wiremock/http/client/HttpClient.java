@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2023-2025 Thomas Akehurst
+ * Copyright (C) 2023-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,8 +19,10 @@ import com.github.tomakehurst.wiremock.http.Request;
 import com.github.tomakehurst.wiremock.http.Response;
 import java.io.IOException;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
-public interface HttpClient {
+public interface HttpClient extends AutoCloseable {
 
   String USER_AGENT = "user-agent";
   String TRANSFER_ENCODING = "transfer-encoding";
@@ -35,4 +37,38 @@ public interface HttpClient {
   String ACCEPT_ENCODING_HEADER = "accept-encoding";
 
   Response execute(Request request) throws IOException;
+
+  /**
+   * Like {@link #execute(Request)}, but the response body may be read from the connection as it's
+   * read from the response, instead of into memory first. If it is, the response's body is {@link
+   * Response#isBodyStreamed() streamed}, so can only be read once, and its stream must be closed to
+   * release the connection.
+   */
+  default Response executeStreaming(Request request) throws IOException {
+    return execute(request);
+  }
+
+  /**
+   * Like {@link #execute(Request)}, but returns without waiting for the response. Clients backed by
+   * a non-blocking engine complete the future from their I/O threads, so callbacks attached to it
+   * shouldn't block. The default implementation executes the request before returning.
+   */
+  default CompletableFuture<Response> executeAsync(Request request) {
+    try {
+      return CompletableFuture.completedFuture(execute(request));
+    } catch (IOException | RuntimeException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  /**
+   * @return the current state of the client's connection pool, if it has one that it can report on
+   */
+  default Optional<ConnectionPoolStats> getConnectionPoolStats() {
+    return Optional.empty();
+  }
+
+  /** Releases the client's connections and threads. The default implementation does nothing. */
+  @Override
+  default void close() {}
 }
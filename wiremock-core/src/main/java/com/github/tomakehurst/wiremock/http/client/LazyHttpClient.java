@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2024-2025 Thomas Akehurst
+ * Copyright (C) 2024-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,22 +15,67 @@
  */
 package com.github.tomakehurst.wiremock.http.client;
 
-import com.github.tomakehurst.wiremock.common.Lazy;
 import com.github.tomakehurst.wiremock.http.Request;
 import com.github.tomakehurst.wiremock.http.Response;
 import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
 
+/**
+ * Builds its client when it's first used, and again on the next use after being closed, so that a
+ * stopped server can be started again.
+ */
 public class LazyHttpClient implements HttpClient {
 
-  private final Lazy<HttpClient> httpClientLazy;
+  private final Supplier<HttpClient> httpClientSupplier;
+  private volatile HttpClient httpClient;
 
   public LazyHttpClient(Supplier<HttpClient> httpClientSupplier) {
-    this.httpClientLazy = Lazy.lazy(httpClientSupplier);
+    this.httpClientSupplier = httpClientSupplier;
   }
 
   @Override
   public Response execute(Request request) throws IOException {
-    return httpClientLazy.get().execute(request);
+    return httpClient().execute(request);
+  }
+
+  @Override
+  public Response executeStreaming(Request request) throws IOException {
+    return httpClient().executeStreaming(request);
+  }
+
+  @Override
+  public CompletableFuture<Response> executeAsync(Request request) {
+    return httpClient().executeAsync(request);
+  }
+
+  /** Doesn't build the client if it hasn't been used yet. */
+  @Override
+  public Optional<ConnectionPoolStats> getConnectionPoolStats() {
+    final HttpClient current = httpClient;
+    return current != null ? current.getConnectionPoolStats() : Optional.empty();
+  }
+
+  @Override
+  public synchronized void close() {
+    if (httpClient != null) {
+      httpClient.close();
+      httpClient = null;
+    }
+  }
+
+  // Built under a lock, since a client that lost a race to be built would never be closed
+  private HttpClient httpClient() {
+    HttpClient current = httpClient;
+    if (current == null) {
+      synchronized (this) {
+        if (httpClient == null) {
+          httpClient = httpClientSupplier.get();
+        }
+        current = httpClient;
+      }
+    }
+    return current;
   }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2020-2025 Thomas Akehurst
+ * Copyright (C) 2020-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -46,7 +46,7 @@ public class CertificateAuthority {
   public static CertificateAuthority generateCertificateAuthority()
       throws CertificateGenerationUnsupportedException {
     try {
-      KeyPair pair = generateKeyPair("RSA");
+      KeyPair pair = generateKeyPair(CertificateKeyType.RSA);
       String sigAlg = "SHA256WithRSA";
       X509CertInfo info =
           makeX509CertInfo(
@@ -120,14 +120,14 @@ public class CertificateAuthority {
     return key;
   }
 
-  CertChainAndKey generateCertificate(String keyType, SNIHostName hostName)
+  CertChainAndKey generateCertificate(CertificateKeyType keyType, SNIHostName hostName)
       throws CertificateGenerationUnsupportedException {
     try {
       KeyPair pair = generateKeyPair(keyType);
-      String sigAlg = "SHA256With" + keyType;
+      // the certificate is signed with the CA's key, whatever the type of the generated key
       X509CertInfo info =
           makeX509CertInfo(
-              sigAlg,
+              certificateChain[0].getSigAlgName(),
               hostName.getAsciiName(),
               ZonedDateTime.now().minus(Period.ofDays(1)),
               Period.ofYears(1),
@@ -168,9 +168,10 @@ public class CertificateAuthority {
     return certificate;
   }
 
-  private static KeyPair generateKeyPair(String keyType) throws NoSuchAlgorithmException {
-    KeyPairGenerator keyGen = KeyPairGenerator.getInstance(keyType);
-    keyGen.initialize(2048, new SecureRandom());
+  private static KeyPair generateKeyPair(CertificateKeyType keyType)
+      throws NoSuchAlgorithmException {
+    KeyPairGenerator keyGen = KeyPairGenerator.getInstance(keyType.algorithm());
+    keyGen.initialize(keyType.keySize(), new SecureRandom());
     return keyGen.generateKeyPair();
   }
 
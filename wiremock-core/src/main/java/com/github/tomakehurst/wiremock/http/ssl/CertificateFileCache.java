@@ -0,0 +1,125 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.http.ssl;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.util.Arrays.stream;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyStore;
+import java.security.PrivateKey;
+import java.security.cert.Certificate;
+import java.security.cert.X509Certificate;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+
+/**
+ * Keeps generated certificates on disk, one PKCS12 file per alias, so they survive restarts.
+ * Certificates issued by a different certificate authority, or close to expiry, are ignored.
+ */
+class CertificateFileCache {
+
+  private static final Duration MINIMUM_REMAINING_VALIDITY = Duration.ofDays(1);
+
+  private final Path directory;
+  private final CertificateAuthority certificateAuthority;
+  private final char[] password;
+
+  CertificateFileCache(Path directory, CertificateAuthority certificateAuthority, char[] password) {
+    this.directory = requireNonNull(directory);
+    this.certificateAuthority = requireNonNull(certificateAuthority);
+    this.password = requireNonNull(password);
+  }
+
+  /**
+   * @return the cached certificate chain and key, or null if there's no usable one
+   */
+  CertChainAndKey load(String alias) {
+    Path file = fileFor(alias);
+    if (!Files.isRegularFile(file)) {
+      return null;
+    }
+
+    try (InputStream in = Files.newInputStream(file)) {
+      KeyStore keyStore = KeyStore.getInstance("PKCS12");
+      keyStore.load(in, password);
+      Key key = keyStore.getKey(alias, password);
+      Certificate[] chain = keyStore.getCertificateChain(alias);
+      if (key instanceof PrivateKey && chain != null && isUsable(chain)) {
+        return new CertChainAndKey(
+            stream(chain).map(X509Certificate.class::cast).toArray(X509Certificate[]::new),
+            (PrivateKey) key);
+      }
+      return null;
+    } catch (IOException | GeneralSecurityException | ClassCastException e) {
+      return null;
+    }
+  }
+
+  private boolean isUsable(Certificate[] chain) throws GeneralSecurityException {
+    X509Certificate issuer = certificateAuthority.certificateChain()[0];
+    if (chain.length < 2 || !issuer.equals(chain[1])) {
+      return false;
+    }
+
+    X509Certificate certificate = (X509Certificate) chain[0];
+    certificate.verify(issuer.getPublicKey());
+    certificate.checkValidity(Date.from(Instant.now().plus(MINIMUM_REMAINING_VALIDITY)));
+    return true;
+  }
+
+  /** Failures are ignored, as the certificate can always be generated again. */
+  void save(String alias, CertChainAndKey certChainAndKey) {
+    Path temp = null;
+    try {
+      KeyStore keyStore = KeyStore.getInstance("PKCS12");
+      keyStore.load(null, password);
+      keyStore.setKeyEntry(alias, certChainAndKey.key, password, certChainAndKey.certificateChain);
+
+      Files.createDirectories(directory);
+      temp = Files.createTempFile(directory, alias, ".tmp");
+      try (OutputStream out = Files.newOutputStream(temp)) {
+        keyStore.store(out, password);
+      }
+      Files.move(temp, fileFor(alias), REPLACE_EXISTING, ATOMIC_MOVE);
+    } catch (IOException | GeneralSecurityException e) {
+      deleteQuietly(temp);
+    }
+  }
+
+  private Path fileFor(String alias) {
+    return directory.resolve(alias + ".p12");
+  }
+
+  private static void deleteQuietly(Path file) {
+    if (file != null) {
+      try {
+        Files.deleteIfExists(file);
+      } catch (IOException ignored) {
+        // nothing more can be done
+      }
+    }
+  }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2020-2025 Thomas Akehurst
+ * Copyright (C) 2020-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,7 +21,6 @@ import static java.util.Objects.requireNonNull;
 
 import com.github.tomakehurst.wiremock.common.Notifier;
 import java.net.Socket;
-import java.security.KeyStoreException;
 import java.security.Principal;
 import java.security.PrivateKey;
 import java.security.cert.X509Certificate;
@@ -121,7 +120,8 @@ public class CertificateGeneratingX509ExtendedKeyManager extends DelegatingX509E
    */
   private String tryToChooseServerAlias(
       String keyType, String defaultAlias, ExtendedSSLSession handshakeSession) {
-    if (defaultAlias != null && handshakeSession != null) {
+    if (handshakeSession != null
+        && (defaultAlias != null || dynamicKeyStore.isPreferredKeyType(keyType))) {
       return chooseServerAlias(keyType, defaultAlias, handshakeSession);
     } else {
       return defaultAlias;
@@ -129,8 +129,8 @@ public class CertificateGeneratingX509ExtendedKeyManager extends DelegatingX509E
   }
 
   /**
-   * @param keyType non null, guaranteed to be valid
-   * @param defaultAlias non null, guaranteed to match a private key entry
+   * @param keyType non null
+   * @param defaultAlias nullable, if non null guaranteed to match a private key entry
    * @param handshakeSession non null
    */
   private String chooseServerAlias(
@@ -161,21 +161,20 @@ public class CertificateGeneratingX509ExtendedKeyManager extends DelegatingX509E
   }
 
   /**
-   * @param keyType non null, guaranteed to be valid
-   * @param defaultAlias non null, guaranteed to match a private key entry
+   * @param keyType non null
+   * @param defaultAlias nullable, if non null guaranteed to match a private key entry
    * @param requestedServerNames non null, non empty
    */
   private String chooseServerAlias(
       String keyType, String defaultAlias, List<SNIHostName> requestedServerNames) {
-    X509Certificate[] certificateChain = super.getCertificateChain(defaultAlias);
+    X509Certificate[] certificateChain =
+        defaultAlias != null ? super.getCertificateChain(defaultAlias) : null;
     if (certificateChain != null && matches(certificateChain[0], requestedServerNames)) {
       return defaultAlias;
     } else {
       try {
-        SNIHostName requestedServerName = requestedServerNames.get(0);
-        dynamicKeyStore.generateCertificateIfNecessary(keyType, requestedServerName);
-        return requestedServerName.getAsciiName();
-      } catch (KeyStoreException | CertificateGenerationUnsupportedException e) {
+        return dynamicKeyStore.generateCertificateIfNecessary(keyType, requestedServerNames.get(0));
+      } catch (CertificateGenerationUnsupportedException e) {
         notify(
             "certificates cannot be generated; perhaps the sun internal classes are not available?",
             e);
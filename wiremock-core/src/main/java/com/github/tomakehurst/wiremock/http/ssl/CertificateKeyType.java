@@ -0,0 +1,60 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.http.ssl;
+
+import static java.util.Arrays.stream;
+
+import java.util.Locale;
+
+/**
+ * The type of key pair generated for certificates issued when proxying HTTPS. EC keys are much
+ * cheaper to generate than RSA keys, so suit browser proxying of many hosts.
+ */
+public enum CertificateKeyType {
+  RSA(2048),
+  EC(256);
+
+  private final int keySize;
+
+  CertificateKeyType(int keySize) {
+    this.keySize = keySize;
+  }
+
+  /**
+   * @return the JCA key algorithm name, as passed to a key manager during a TLS handshake
+   */
+  public String algorithm() {
+    return name();
+  }
+
+  int keySize() {
+    return keySize;
+  }
+
+  String aliasFor(String hostName) {
+    return this == RSA ? hostName : hostName + "#" + name().toLowerCase(Locale.ROOT);
+  }
+
+  /**
+   * @return the matching key type, or null if certificates can't be generated for the algorithm
+   */
+  public static CertificateKeyType fromAlgorithm(String algorithm) {
+    return stream(values())
+        .filter(keyType -> keyType.algorithm().equalsIgnoreCase(algorithm))
+        .findFirst()
+        .orElse(null);
+  }
+}
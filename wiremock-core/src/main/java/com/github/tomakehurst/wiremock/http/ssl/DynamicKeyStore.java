@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2020-2025 Thomas Akehurst
+ * Copyright (C) 2020-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,51 +17,123 @@ package com.github.tomakehurst.wiremock.http.ssl;
 
 import static java.util.Objects.requireNonNull;
 
-import java.security.KeyStoreException;
+import java.nio.file.Path;
 import java.security.PrivateKey;
 import java.security.cert.X509Certificate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
 import javax.net.ssl.SNIHostName;
 
 public class DynamicKeyStore {
 
   private final X509KeyStore keyStore;
   private final CertificateAuthority existingCertificateAuthority;
+  private final CertificateKeyType preferredKeyType;
+  private final CertificateFileCache certificateFileCache;
+
+  private final Map<String, CertChainAndKey> generatedCertificates = new ConcurrentHashMap<>();
+  private final Map<String, ReentrantLock> generationLocks = new ConcurrentHashMap<>();
 
   public DynamicKeyStore(X509KeyStore keyStore) {
+    this(keyStore, CertificateKeyType.RSA, null);
+  }
+
+  /**
+   * @param preferredKeyType the type of key generated for handshakes that accept it, even if the
+   *     keystore holds no key of that type
+   * @param cacheDirectory nullable, a directory to keep generated certificates in across restarts
+   */
+  public DynamicKeyStore(
+      X509KeyStore keyStore, CertificateKeyType preferredKeyType, Path cacheDirectory) {
     this.keyStore = requireNonNull(keyStore);
     this.existingCertificateAuthority =
         requireNonNull(
             keyStore.getCertificateAuthority(),
             "Keystore does not contain a certificate that can act as a certificate authority");
+    this.preferredKeyType = requireNonNull(preferredKeyType);
+    this.certificateFileCache =
+        cacheDirectory != null
+            ? new CertificateFileCache(
+                cacheDirectory, existingCertificateAuthority, keyStore.getPassword())
+            : null;
   }
 
   PrivateKey getPrivateKey(String alias) {
-    return keyStore.getPrivateKey(alias);
+    CertChainAndKey generated = generatedCertificates.get(alias);
+    return generated != null ? generated.key : keyStore.getPrivateKey(alias);
   }
 
   X509Certificate[] getCertificateChain(String alias) {
-    return keyStore.getCertificateChain(alias);
+    CertChainAndKey generated = generatedCertificates.get(alias);
+    return generated != null ? generated.certificateChain : keyStore.getCertificateChain(alias);
   }
 
   /**
-   * @param keyType non null, guaranteed to be valid
-   * @param requestedServerName non null
+   * @param keyType non null
+   * @return true if certificates should be generated for handshakes wanting this key type
+   */
+  boolean isPreferredKeyType(String keyType) {
+    return preferredKeyType.algorithm().equals(keyType);
+  }
+
+  /**
+   * Generates certificates for the given host names up front, so the first handshakes for them
+   * don't have to wait.
    */
-  void generateCertificateIfNecessary(String keyType, SNIHostName requestedServerName)
-      throws CertificateGenerationUnsupportedException, KeyStoreException {
-    if (getPrivateKey(requestedServerName.getAsciiName()) == null) {
-      generateCertificate(keyType, requestedServerName);
+  public void preGenerateCertificates(List<String> hostNames)
+      throws CertificateGenerationUnsupportedException {
+    for (String hostName : hostNames) {
+      generateCertificateIfNecessary(preferredKeyType.algorithm(), new SNIHostName(hostName));
     }
   }
 
   /**
-   * @param keyType non null, guaranteed to be valid
+   * Concurrent calls for the same host name and key type generate a single certificate, which all
+   * callers then share.
+   *
+   * @param keyType non null
    * @param requestedServerName non null
+   * @return the alias of the certificate for the host name
    */
-  private void generateCertificate(String keyType, SNIHostName requestedServerName)
-      throws CertificateGenerationUnsupportedException, KeyStoreException {
+  String generateCertificateIfNecessary(String keyType, SNIHostName requestedServerName)
+      throws CertificateGenerationUnsupportedException {
+    CertificateKeyType certificateKeyType = CertificateKeyType.fromAlgorithm(keyType);
+    if (certificateKeyType == null) {
+      throw new CertificateGenerationUnsupportedException(
+          "Certificates cannot be generated for " + keyType + " keys", null);
+    }
+
+    String alias = certificateKeyType.aliasFor(requestedServerName.getAsciiName());
+    if (getPrivateKey(alias) == null) {
+      ReentrantLock lock = generationLocks.computeIfAbsent(alias, k -> new ReentrantLock());
+      lock.lock();
+      try {
+        if (getPrivateKey(alias) == null) {
+          generatedCertificates.put(
+              alias, loadOrGenerateCertificate(alias, certificateKeyType, requestedServerName));
+        }
+      } finally {
+        lock.unlock();
+      }
+    }
+    return alias;
+  }
+
+  private CertChainAndKey loadOrGenerateCertificate(
+      String alias, CertificateKeyType keyType, SNIHostName requestedServerName)
+      throws CertificateGenerationUnsupportedException {
+    CertChainAndKey cached = certificateFileCache != null ? certificateFileCache.load(alias) : null;
+    if (cached != null) {
+      return cached;
+    }
+
     CertChainAndKey newCertChainAndKey =
         existingCertificateAuthority.generateCertificate(keyType, requestedServerName);
-    keyStore.setKeyEntry(requestedServerName.getAsciiName(), newCertChainAndKey);
+    if (certificateFileCache != null) {
+      certificateFileCache.save(alias, newCertChainAndKey);
+    }
+    return newCertChainAndKey;
   }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2020-2025 Thomas Akehurst
+ * Copyright (C) 2020-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -99,8 +99,7 @@ public class X509KeyStore {
     return keyUsage != null && keyUsage.length > 5 && keyUsage[5];
   }
 
-  void setKeyEntry(String alias, CertChainAndKey newCertChainAndKey) throws KeyStoreException {
-    keyStore.setKeyEntry(
-        alias, newCertChainAndKey.key, password, newCertChainAndKey.certificateChain);
+  char[] getPassword() {
+    return password;
   }
 }
@@ -122,6 +122,11 @@ public class DslWrapper implements Admin, Stubbing {
     return admin.getServedStub(id);
   }
 
+  @Override
+  public VerificationResult countServeEvents(ServeEventQuery query) {
+    return admin.countServeEvents(query);
+  }
+
   @Override
   public VerificationResult countRequestsMatching(RequestPattern requestPattern) {
     return admin.countRequestsMatching(requestPattern);
@@ -183,6 +188,11 @@ public class DslWrapper implements Admin, Stubbing {
     admin.setScenarioState(name, state);
   }
 
+  @Override
+  public GetScenarioSessionsResult getScenarioSessions() {
+    return admin.getScenarioSessions();
+  }
+
   @Override
   public void updateGlobalSettings(GlobalSettings settings) {
     admin.updateGlobalSettings(settings);
@@ -268,6 +278,11 @@ public class DslWrapper implements Admin, Stubbing {
     return admin.getGlobalSettings();
   }
 
+  @Override
+  public GetConnectionPoolStatsResult getConnectionPoolStats() {
+    return admin.getConnectionPoolStats();
+  }
+
   @Override
   public StubMapping givenThat(MappingBuilder mappingBuilder) {
     return stubbing.givenThat(mappingBuilder);
@@ -0,0 +1,63 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.matching;
+
+import com.github.tomakehurst.wiremock.stubbing.SubEvent;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Defers computing a match result until it is first queried, so that an aggregate that stops at
+ * its first non-match never pays for the parts it didn't need to look at.
+ */
+class DeferredMatchResult extends MatchResult {
+
+  private final Supplier<MatchResult> matchResultSupplier;
+  private volatile MatchResult target;
+
+  DeferredMatchResult(Supplier<MatchResult> matchResultSupplier) {
+    this.matchResultSupplier = matchResultSupplier;
+  }
+
+  private MatchResult target() {
+    MatchResult result = target;
+    if (result == null) {
+      result = matchResultSupplier.get();
+      target = result;
+    }
+    return result;
+  }
+
+  @Override
+  public boolean isExactMatch() {
+    return target().isExactMatch();
+  }
+
+  @Override
+  public double getDistance() {
+    return target().getDistance();
+  }
+
+  @Override
+  public List<SubEvent> getSubEvents() {
+    return target().getSubEvents();
+  }
+
+  @Override
+  public List<DiffDescription> getDiffDescriptions() {
+    return target().getDiffDescriptions();
+  }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2016-2025 Thomas Akehurst
+ * Copyright (C) 2016-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,6 +20,9 @@ import java.util.List;
 
 public class EagerMatchResult extends MatchResult {
 
+  static final EagerMatchResult EXACT_MATCH = new EagerMatchResult(0);
+  static final EagerMatchResult NO_MATCH = new EagerMatchResult(1);
+
   private final double distance;
 
   EagerMatchResult(double distance) {
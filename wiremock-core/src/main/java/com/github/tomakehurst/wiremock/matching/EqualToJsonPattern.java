@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2016-2025 Thomas Akehurst
+ * Copyright (C) 2016-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,6 +21,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.github.tomakehurst.wiremock.common.Json;
 import com.github.tomakehurst.wiremock.common.JsonException;
+import com.github.tomakehurst.wiremock.common.RequestCache;
 import com.github.tomakehurst.wiremock.stubbing.SubEvent;
 import net.javacrumbs.jsonunit.core.Configuration;
 import net.javacrumbs.jsonunit.core.Option;
@@ -76,7 +77,7 @@ public class EqualToJsonPattern extends StringValuePattern {
     final JsonNode actual;
     final Diff diff;
     try {
-      actual = Json.read(value, JsonNode.class);
+      actual = RequestCache.getCurrent().getJsonNode(value);
       diff =
           Diff.create(
               expected, // JsonUnit knows how to work with JsonNode
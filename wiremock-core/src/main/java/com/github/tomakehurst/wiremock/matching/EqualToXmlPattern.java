@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2016-2025 Thomas Akehurst
+ * Copyright (C) 2016-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,6 +22,7 @@ import static org.xmlunit.diff.ComparisonType.*;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.github.tomakehurst.wiremock.common.RequestCache;
 import com.github.tomakehurst.wiremock.common.xml.Xml;
 import com.github.tomakehurst.wiremock.stubbing.SubEvent;
 import java.util.*;
@@ -171,7 +172,7 @@ public class EqualToXmlPattern extends StringValuePattern {
         try {
           DiffBuilder diffBuilder =
               DiffBuilder.compare(Input.from(expectedXmlDoc))
-                  .withTest(value)
+                  .withTest(testInput(value))
                   .withComparisonController(ComparisonControllers.StopWhenDifferent)
                   .ignoreWhitespace()
                   .withDifferenceEvaluator(diffEvaluator)
@@ -212,7 +213,7 @@ public class EqualToXmlPattern extends StringValuePattern {
         try {
           DiffBuilder diffBuilder =
               DiffBuilder.compare(Input.from(expectedValue))
-                  .withTest(value)
+                  .withTest(testInput(value))
                   .ignoreWhitespace()
                   .withDifferenceEvaluator(diffEvaluator)
                   .withComparisonListeners(
@@ -256,6 +257,16 @@ public class EqualToXmlPattern extends StringValuePattern {
   private static final DocumentBuilderFactory namespaceAware = newDocumentBuilderFactory(true);
   private static final DocumentBuilderFactory namespaceUnaware = newDocumentBuilderFactory(false);
 
+  // Shares the DOM parsed for the current request with other matchers. If the value can't be
+  // parsed, XMLUnit is given it as-is so that the failure is reported as before.
+  private Object testInput(String value) {
+    try {
+      return RequestCache.getCurrent().getXmlDom(value, documentBuilderFactory);
+    } catch (Exception e) {
+      return value;
+    }
+  }
+
   private static DocumentBuilderFactory getDocumentBuilderFactory(
       NamespaceAwareness namespaceAwareness) {
     if (namespaceAwareness == null || namespaceAwareness == NamespaceAwareness.STRICT) {
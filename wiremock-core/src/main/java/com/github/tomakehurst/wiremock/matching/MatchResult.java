@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2016-2025 Thomas Akehurst
+ * Copyright (C) 2016-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -26,12 +26,11 @@ import java.util.List;
 import java.util.Queue;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 import org.wiremock.annotations.Beta;
 
 public abstract class MatchResult implements Comparable<MatchResult> {
 
-  private final Queue<SubEvent> subEvents;
+  private volatile Queue<SubEvent> subEvents;
   private final List<DiffDescription> diffDescriptions;
 
   public MatchResult() {
@@ -47,16 +46,20 @@ public abstract class MatchResult implements Comparable<MatchResult> {
   }
 
   public MatchResult(List<SubEvent> subEvents, List<DiffDescription> diffDescriptions) {
-    this.subEvents = new LinkedBlockingQueue<>(subEvents);
+    this.subEvents = subEvents.isEmpty() ? null : new LinkedBlockingQueue<>(subEvents);
     this.diffDescriptions = diffDescriptions;
   }
 
-  protected void appendSubEvent(SubEvent subEvent) {
+  protected synchronized void appendSubEvent(SubEvent subEvent) {
+    if (subEvents == null) {
+      subEvents = new LinkedBlockingQueue<>();
+    }
     subEvents.add(subEvent);
   }
 
   public List<SubEvent> getSubEvents() {
-    return new ArrayList<>(subEvents);
+    final Queue<SubEvent> events = subEvents;
+    return events != null ? new ArrayList<>(events) : List.of();
   }
 
   public List<DiffDescription> getDiffDescriptions() {
@@ -81,7 +84,7 @@ public abstract class MatchResult implements Comparable<MatchResult> {
   }
 
   public static MatchResult exactMatch(List<SubEvent> subEvents) {
-    return new EagerMatchResult(0, subEvents);
+    return subEvents.isEmpty() ? EagerMatchResult.EXACT_MATCH : new EagerMatchResult(0, subEvents);
   }
 
   public static MatchResult noMatch(SubEvent... subEvents) {
@@ -89,7 +92,7 @@ public abstract class MatchResult implements Comparable<MatchResult> {
   }
 
   public static MatchResult noMatch(List<SubEvent> subEvents) {
-    return new EagerMatchResult(1, subEvents);
+    return subEvents.isEmpty() ? EagerMatchResult.NO_MATCH : new EagerMatchResult(1, subEvents);
   }
 
   public static MatchResult of(boolean isMatch, SubEvent... subEvents) {
@@ -101,12 +104,12 @@ public abstract class MatchResult implements Comparable<MatchResult> {
   }
 
   public static MatchResult aggregate(MatchResult... matches) {
-    return aggregate(asList(matches));
+    return new WeightedAggregateMatchResult(matches, null, matches.length);
   }
 
   public static MatchResult aggregate(final List<MatchResult> matchResults) {
-    return aggregateWeighted(
-        matchResults.stream().map(WeightedMatchResult::new).collect(Collectors.toList()));
+    return new WeightedAggregateMatchResult(
+        matchResults.toArray(new MatchResult[0]), null, matchResults.size());
   }
 
   public static MatchResult aggregateWeighted(WeightedMatchResult... matchResults) {
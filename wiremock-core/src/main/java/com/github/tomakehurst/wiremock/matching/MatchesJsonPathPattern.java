@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2016-2025 Thomas Akehurst
+ * Copyright (C) 2016-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -196,12 +196,13 @@ public class MatchesJsonPathPattern extends PathPattern {
 
     final RequestCache requestCache = RequestCache.getCurrent();
 
+    // Parsed with JsonPath's default provider rather than shared with the template helpers, which
+    // read numbers differently (e.g. 1.50 as 1.50 rather than 1.5)
     final DocumentContext documentContext =
-        requestCache.get(
-            keyFor(JsonNode.class, "parsedJson", value.hashCode()), () -> JsonPath.parse(value));
+        requestCache.get(keyFor(JsonNode.class, "parsedJson", value), () -> JsonPath.parse(value));
 
     return requestCache.get(
-        keyFor(JsonNode.class, "jsonPathResult", expectedValue, value.hashCode()),
+        keyFor(JsonNode.class, "jsonPathResult", expectedValue, value),
         () -> documentContext.read(jsonPath));
   }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2016-2025 Thomas Akehurst
+ * Copyright (C) 2016-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,6 +22,7 @@ import com.fasterxml.jackson.annotation.JsonGetter;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.github.tomakehurst.wiremock.common.ListOrSingle;
+import com.github.tomakehurst.wiremock.common.RequestCache;
 import com.github.tomakehurst.wiremock.common.xml.*;
 import com.github.tomakehurst.wiremock.stubbing.SubEvent;
 import java.util.*;
@@ -31,6 +32,7 @@ import java.util.stream.Collectors;
 public class MatchesXPathPattern extends PathPattern {
 
   private final Map<String, String> xpathNamespaces;
+  private final CompiledXPath compiledXPath;
 
   public MatchesXPathPattern(String xpath) {
     this(xpath, null, null);
@@ -50,6 +52,7 @@ public class MatchesXPathPattern extends PathPattern {
       @JsonProperty("valuePattern") StringValuePattern valuePattern) {
     super(xpath, valuePattern);
     xpathNamespaces = namespaces == null || namespaces.isEmpty() ? null : namespaces;
+    compiledXPath = new CompiledXPath(xpath, xpathNamespaces);
   }
 
   public MatchesXPathPattern withXPathNamespace(String name, String namespaceUri) {
@@ -111,8 +114,12 @@ public class MatchesXPathPattern extends PathPattern {
     }
 
     try {
-      XmlDocument xmlDocument = Xml.parse(value);
-      return new XmlNodeFindResult(xmlDocument.findNodes(expectedValue, xpathNamespaces));
+      final RequestCache requestCache = RequestCache.getCurrent();
+      XmlDocument xmlDocument =
+          compiledXPath.hasNamespaces()
+              ? requestCache.getNamespaceAwareXmlDocument(value)
+              : requestCache.getXmlDocument(value);
+      return new XmlNodeFindResult(xmlDocument.findNodes(compiledXPath));
     } catch (XmlException e) {
       final String message =
           String.format(
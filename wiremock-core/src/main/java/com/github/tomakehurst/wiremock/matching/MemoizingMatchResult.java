@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2020-2025 Thomas Akehurst
+ * Copyright (C) 2020-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,44 +16,41 @@
 package com.github.tomakehurst.wiremock.matching;
 
 import com.github.tomakehurst.wiremock.stubbing.SubEvent;
-import com.google.common.base.Supplier;
-import com.google.common.base.Suppliers;
 import java.util.List;
 
 public class MemoizingMatchResult extends MatchResult {
 
-  private final Supplier<Double> memoizedDistance =
-      Suppliers.memoize(
-          new Supplier<>() {
-            @Override
-            public Double get() {
-              return target.getDistance();
-            }
-          });
-
-  private final Supplier<Boolean> memoizedExactMatch =
-      Suppliers.memoize(
-          new Supplier<>() {
-            @Override
-            public Boolean get() {
-              return target.isExactMatch();
-            }
-          });
+  private static final byte NOT_EVALUATED = 0;
+  private static final byte EXACT_MATCH = 1;
+  private static final byte NOT_EXACT_MATCH = 2;
 
   private final MatchResult target;
 
+  private volatile byte exactMatch = NOT_EVALUATED;
+  private double distance;
+  private volatile boolean distanceEvaluated;
+
   public MemoizingMatchResult(MatchResult target) {
     this.target = target;
   }
 
   @Override
   public boolean isExactMatch() {
-    return memoizedExactMatch.get();
+    byte result = exactMatch;
+    if (result == NOT_EVALUATED) {
+      result = target.isExactMatch() ? EXACT_MATCH : NOT_EXACT_MATCH;
+      exactMatch = result;
+    }
+    return result == EXACT_MATCH;
   }
 
   @Override
   public double getDistance() {
-    return memoizedDistance.get();
+    if (!distanceEvaluated) {
+      distance = target.getDistance();
+      distanceEvaluated = true;
+    }
+    return distance;
   }
 
   @Override
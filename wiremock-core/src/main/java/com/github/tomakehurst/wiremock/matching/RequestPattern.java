@@ -21,7 +21,6 @@ import static com.github.tomakehurst.wiremock.common.ParameterUtils.getFirstNonN
 import static com.github.tomakehurst.wiremock.common.Strings.isEmpty;
 import static com.github.tomakehurst.wiremock.matching.RequestMatcherExtension.NEVER;
 import static com.github.tomakehurst.wiremock.matching.RequestPatternBuilder.newRequestPattern;
-import static com.github.tomakehurst.wiremock.matching.WeightedMatchResult.weight;
 import static java.util.stream.Collectors.toList;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -46,12 +45,18 @@ import java.util.*;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import org.jspecify.annotations.NonNull;
 import org.wiremock.url.Query;
 
 @JsonInclude(Include.NON_NULL)
 public class RequestPattern implements NamedValueMatcher<Request> {
 
+  /** Weightings of each request part, in the order they're matched. */
+  private static final double[] REQUEST_PART_WEIGHTINGS = {
+    3.0, 3.0, 10.0, 10.0, 3.0, 10.0, 1.0, 1.0, 1.0, 1.0, 1.0, 1.0, 1.0, 1.0
+  };
+
   private final String scheme;
   private final StringValuePattern host;
   private final Integer port;
@@ -151,43 +156,49 @@ public class RequestPattern implements NamedValueMatcher<Request> {
         new RequestMatcher() {
           @Override
           public MatchResult match(Request request) {
-            final List<WeightedMatchResult> requestPartMatchResults = new ArrayList<>(15);
-
-            requestPartMatchResults.add(weight(schemeMatches(request), 3.0));
-            requestPartMatchResults.add(weight(hostMatches(request), 10.0));
-            requestPartMatchResults.add(weight(portMatches(request), 10.0));
-            requestPartMatchResults.add(weight(clientIpMatches(request), 3.0));
-            requestPartMatchResults.add(
-                weight(
-                    RequestPattern.this.url.match(
-                        request.getPathAndQueryWithoutPrefix().toString()),
-                    10.0));
-            requestPartMatchResults.add(
-                weight(RequestPattern.this.method.match(request.getMethod()), 3.0));
-
-            MatchResult matchResult =
-                new MemoizingMatchResult(MatchResult.aggregateWeighted(requestPartMatchResults));
+            final MatchResult[] requestPartMatchResults =
+                new MatchResult[REQUEST_PART_WEIGHTINGS.length];
+            int parts = 0;
+
+            // Cheapest checks first. Exactness is evaluated in order and stops at the first
+            // non-match, so deferred parts are never computed for a request that fails earlier.
+            // Ordering doesn't affect the distance, which is a weighted mean of all parts.
+            requestPartMatchResults[parts++] =
+                RequestPattern.this.method.match(request.getMethod());
+            requestPartMatchResults[parts++] = schemeMatches(request);
+            requestPartMatchResults[parts++] = portMatches(request);
+            requestPartMatchResults[parts++] = deferred(() -> hostMatches(request));
+            requestPartMatchResults[parts++] = deferred(() -> clientIpMatches(request));
+            requestPartMatchResults[parts++] =
+                deferred(
+                    () ->
+                        RequestPattern.this.url.match(
+                            request.getPathAndQueryWithoutPrefix().toString()));
+
+            MatchResult matchResult = aggregateRequestParts(requestPartMatchResults, parts);
 
             if (!matchResult.isExactMatch()) {
               return matchResult;
             }
 
-            requestPartMatchResults.add(weight(allPathParamsMatch(request)));
-            requestPartMatchResults.add(weight(allHeadersMatchResult(request)));
-            requestPartMatchResults.add(weight(allQueryParamsMatch(request)));
-            requestPartMatchResults.add(weight(allFormParamsMatch(request)));
-            requestPartMatchResults.add(weight(allCookiesMatch(request)));
-            requestPartMatchResults.add(weight(allBodyPatternsMatch(request)));
-            requestPartMatchResults.add(weight(allMultipartPatternsMatch(request)));
-
-            matchResult =
-                new MemoizingMatchResult(MatchResult.aggregateWeighted(requestPartMatchResults));
+            // Deferred and in ascending order of cost, so that checking for an exact match bails
+            // out before parsing form parameters, multipart bodies or bodies. The distance used
+            // for near misses still evaluates every part.
+            requestPartMatchResults[parts++] = deferred(() -> allPathParamsMatch(request));
+            requestPartMatchResults[parts++] = deferred(() -> allQueryParamsMatch(request));
+            requestPartMatchResults[parts++] = deferred(() -> allHeadersMatchResult(request));
+            requestPartMatchResults[parts++] = deferred(() -> allCookiesMatch(request));
+            requestPartMatchResults[parts++] = deferred(() -> allFormParamsMatch(request));
+            requestPartMatchResults[parts++] = deferred(() -> allMultipartPatternsMatch(request));
+            requestPartMatchResults[parts++] = deferred(() -> allBodyPatternsMatch(request));
+
+            matchResult = aggregateRequestParts(requestPartMatchResults, parts);
             if (!matchResult.isExactMatch() || customMatcher == null) {
               return matchResult;
             }
 
-            requestPartMatchResults.add(weight(customMatcher.match(request)));
-            return new MemoizingMatchResult(MatchResult.aggregateWeighted(requestPartMatchResults));
+            requestPartMatchResults[parts++] = customMatcher.match(request);
+            return aggregateRequestParts(requestPartMatchResults, parts);
           }
 
           @Override
@@ -360,15 +371,19 @@ public class RequestPattern implements NamedValueMatcher<Request> {
           bodyPatterns.stream()
               .map(
                   (Function<ContentPattern, MatchResult>)
-                      pattern -> {
-                        if (StringValuePattern.class.isAssignableFrom(pattern.getClass())) {
-                          String body =
-                              isEmpty(request.getBodyAsString()) ? null : request.getBodyAsString();
-                          return pattern.match(body);
-                        }
-
-                        return pattern.match(request.getBody());
-                      })
+                      pattern ->
+                          deferred(
+                              () -> {
+                                if (StringValuePattern.class.isAssignableFrom(pattern.getClass())) {
+                                  String body =
+                                      isEmpty(request.getBodyAsString())
+                                          ? null
+                                          : request.getBodyAsString();
+                                  return pattern.match(body);
+                                }
+
+                                return pattern.match(request.getBody());
+                              }))
               .collect(toList()));
     }
 
@@ -381,12 +396,27 @@ public class RequestPattern implements NamedValueMatcher<Request> {
         return MatchResult.noMatch();
       }
       return MatchResult.aggregate(
-          multipartPatterns.stream().map(pattern -> pattern.match(request)).collect(toList()));
+          multipartPatterns.stream()
+              .map(pattern -> deferred(() -> pattern.match(request)))
+              .collect(toList()));
     }
 
     return MatchResult.exactMatch();
   }
 
+  /**
+   * Each aggregate only reads the parts before {@code parts}, so later aggregates can share the
+   * array as more parts are added to it.
+   */
+  private static MatchResult aggregateRequestParts(MatchResult[] matchResults, int parts) {
+    return new MemoizingMatchResult(
+        new WeightedAggregateMatchResult(matchResults, REQUEST_PART_WEIGHTINGS, parts));
+  }
+
+  private static MatchResult deferred(Supplier<MatchResult> matchResultSupplier) {
+    return new DeferredMatchResult(matchResultSupplier);
+  }
+
   public boolean isMatchedBy(Request request, Map<String, RequestMatcherExtension> customMatchers) {
     return match(request, customMatchers).isExactMatch();
   }
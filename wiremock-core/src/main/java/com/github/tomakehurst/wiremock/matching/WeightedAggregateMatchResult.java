@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2024-2025 Thomas Akehurst
+ * Copyright (C) 2024-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,52 +15,71 @@
  */
 package com.github.tomakehurst.wiremock.matching;
 
-import static com.github.tomakehurst.wiremock.common.Lazy.lazy;
-import static com.github.tomakehurst.wiremock.common.Pair.pair;
-
-import com.github.tomakehurst.wiremock.common.Lazy;
-import com.github.tomakehurst.wiremock.common.Pair;
 import com.github.tomakehurst.wiremock.stubbing.SubEvent;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 public class WeightedAggregateMatchResult extends MatchResult {
 
-  private final List<WeightedMatchResult> matchResults;
+  private static final int NOT_EVALUATED = -2;
+  private static final int ALL_MATCHED = -1;
+
+  private final MatchResult[] matchResults;
+  private final double[] weightings;
+  private final int size;
 
-  private final Lazy<Pair<Boolean, List<SubEvent>>> resultAndEvents;
+  private volatile int firstNonMatch = NOT_EVALUATED;
 
   public WeightedAggregateMatchResult(List<WeightedMatchResult> matchResults) {
+    this(
+        new MatchResult[matchResults.size()],
+        new double[matchResults.size()],
+        matchResults.size());
+    for (int i = 0; i < size; i++) {
+      this.matchResults[i] = matchResults.get(i).getMatchResult();
+      this.weightings[i] = matchResults.get(i).getWeighting();
+    }
+  }
+
+  /**
+   * Aggregates the first {@code size} results without copying them, so the arrays must not be
+   * changed afterwards. A null {@code weightings} weights every result equally.
+   */
+  WeightedAggregateMatchResult(MatchResult[] matchResults, double[] weightings, int size) {
     this.matchResults = matchResults;
-    resultAndEvents =
-        lazy(
-            () -> {
-              final List<SubEvent> subEvents = new ArrayList<>(matchResults.size());
-              return pair(
-                  matchResults.stream()
-                      .allMatch(
-                          weightedMatchResult -> {
-                            final boolean exactMatch = weightedMatchResult.isExactMatch();
-                            subEvents.addAll(weightedMatchResult.getMatchResult().getSubEvents());
-                            return exactMatch;
-                          }),
-                  subEvents);
-            });
+    this.weightings = weightings;
+    this.size = size;
   }
 
   @Override
   public boolean isExactMatch() {
-    return resultAndEvents.get().a;
+    return firstNonMatch() == ALL_MATCHED;
+  }
+
+  /** Stops at the first result that isn't an exact match, and remembers where that was. */
+  private int firstNonMatch() {
+    int index = firstNonMatch;
+    if (index == NOT_EVALUATED) {
+      index = ALL_MATCHED;
+      for (int i = 0; i < size; i++) {
+        if (!matchResults[i].isExactMatch()) {
+          index = i;
+          break;
+        }
+      }
+      firstNonMatch = index;
+    }
+    return index;
   }
 
   @Override
   public double getDistance() {
     double totalDistance = 0;
     double sizeWithWeighting = 0;
-    for (WeightedMatchResult matchResult : matchResults) {
-      totalDistance += matchResult.getDistance();
-      sizeWithWeighting += matchResult.getWeighting();
+    for (int i = 0; i < size; i++) {
+      final double weighting = weightings != null ? weightings[i] : 1.0;
+      totalDistance += weighting * matchResults[i].getDistance();
+      sizeWithWeighting += weighting;
     }
 
     return (totalDistance / sizeWithWeighting);
@@ -68,14 +87,27 @@ public class WeightedAggregateMatchResult extends MatchResult {
 
   @Override
   public List<SubEvent> getSubEvents() {
-    return resultAndEvents.get().b;
+    final int firstNonMatch = firstNonMatch();
+    final int evaluated = firstNonMatch == ALL_MATCHED ? size : firstNonMatch + 1;
+    List<SubEvent> subEvents = null;
+    for (int i = 0; i < evaluated; i++) {
+      final List<SubEvent> resultSubEvents = matchResults[i].getSubEvents();
+      if (!resultSubEvents.isEmpty()) {
+        if (subEvents == null) {
+          subEvents = new ArrayList<>();
+        }
+        subEvents.addAll(resultSubEvents);
+      }
+    }
+    return subEvents != null ? subEvents : List.of();
   }
 
   @Override
   public List<DiffDescription> getDiffDescriptions() {
-    return matchResults.stream()
-        .map(matchResult -> matchResult.getMatchResult().getDiffDescriptions())
-        .flatMap(List::stream)
-        .collect(Collectors.toList());
+    final List<DiffDescription> diffDescriptions = new ArrayList<>();
+    for (int i = 0; i < size; i++) {
+      diffDescriptions.addAll(matchResults[i].getDiffDescriptions());
+    }
+    return diffDescriptions;
   }
 }
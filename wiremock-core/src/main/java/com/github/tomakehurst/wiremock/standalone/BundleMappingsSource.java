@@ -0,0 +1,92 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.standalone;
+
+import com.github.tomakehurst.wiremock.message.MessageStubMappings;
+import com.github.tomakehurst.wiremock.stubbing.StubMapping;
+import com.github.tomakehurst.wiremock.stubbing.StubMappings;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Loads stubs from a {@link MappingsBundle} instead of the delegate's mapping files, falling back
+ * to the delegate if the bundle doesn't exist. Everything else is left to the delegate.
+ *
+ * <p>The bundle itself is never changed. Saved stubs are written by the delegate, and removing
+ * stubs that came from the bundle only lasts until the next restart.
+ */
+public class BundleMappingsSource implements MappingsSource {
+
+  private final Path bundleFile;
+  private final MappingsSource delegate;
+  private final Set<UUID> bundleStubIds = ConcurrentHashMap.newKeySet();
+
+  public BundleMappingsSource(Path bundleFile, MappingsSource delegate) {
+    this.bundleFile = bundleFile;
+    this.delegate = delegate;
+  }
+
+  @Override
+  public void loadMappingsInto(StubMappings stubMappings) {
+    if (!Files.isRegularFile(bundleFile)) {
+      delegate.loadMappingsInto(stubMappings);
+      return;
+    }
+
+    for (StubMapping mapping : MappingsBundle.read(bundleFile)) {
+      stubMappings.addMapping(mapping);
+      bundleStubIds.add(mapping.getId());
+    }
+  }
+
+  @Override
+  public void loadMessageMappingsInto(MessageStubMappings messageStubMappings) {
+    delegate.loadMessageMappingsInto(messageStubMappings);
+  }
+
+  @Override
+  public void save(List<StubMapping> stubMappings) {
+    for (StubMapping stubMapping : stubMappings) {
+      if (stubMapping != null) {
+        bundleStubIds.remove(stubMapping.getId());
+      }
+    }
+    delegate.save(stubMappings);
+  }
+
+  @Override
+  public void save(StubMapping stubMapping) {
+    bundleStubIds.remove(stubMapping.getId());
+    delegate.save(stubMapping);
+  }
+
+  @Override
+  public void remove(UUID stubMappingId) {
+    if (!bundleStubIds.remove(stubMappingId)) {
+      delegate.remove(stubMappingId);
+    }
+  }
+
+  @Override
+  public void removeAll() {
+    bundleStubIds.clear();
+    delegate.removeAll();
+  }
+}
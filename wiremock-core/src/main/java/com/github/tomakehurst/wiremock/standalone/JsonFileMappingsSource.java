@@ -121,20 +121,14 @@ public class JsonFileMappingsSource implements MappingsSource {
         mappingsFileSource.listFilesRecursively().stream()
             .filter(byFileExtension("json"))
             .collect(Collectors.toList());
-    for (TextFile mappingFile : mappingFiles) {
-      try {
-        StubMappingOrMappings stubCollection =
-            Json.read(mappingFile.readContents(), StubMappingOrMappings.class);
-        for (StubMapping mapping : stubCollection.getMappingOrMappings()) {
-          stubMappings.addMapping(mapping);
-          StubMappingFileMetadata fileMetadata =
-              new StubMappingFileMetadata(mappingFile.getPath(), stubCollection.isMulti());
-          fileNameMap.put(mapping.getId(), fileMetadata);
-        }
-      } catch (JsonException e) {
-        throw new MappingFileException(mappingFile.getPath(), e.getErrors().first().getDetail());
-      } catch (IOException e) {
-        throwUnchecked(e);
+    for (Pair<String, StubMappingOrMappings> file :
+        readAll(mappingFiles, StubMappingOrMappings.class)) {
+      StubMappingOrMappings stubCollection = file.b;
+      StubMappingFileMetadata fileMetadata =
+          new StubMappingFileMetadata(file.a, stubCollection.isMulti());
+      for (StubMapping mapping : stubCollection.getMappingOrMappings()) {
+        stubMappings.addMapping(mapping);
+        fileNameMap.put(mapping.getId(), fileMetadata);
       }
     }
   }
@@ -149,21 +143,37 @@ public class JsonFileMappingsSource implements MappingsSource {
         messageMappingsFileSource.listFilesRecursively().stream()
             .filter(byFileExtension("json"))
             .collect(Collectors.toList());
-    for (TextFile mappingFile : mappingFiles) {
-      try {
-        MessageStubMappingOrMappings stubCollection =
-            Json.read(mappingFile.readContents(), MessageStubMappingOrMappings.class);
-        for (MessageStubMapping mapping : stubCollection.getMappingOrMappings()) {
-          messageStubMappings.add(mapping);
-        }
-      } catch (JsonException e) {
-        throw new MappingFileException(mappingFile.getPath(), e.getErrors().first().getDetail());
-      } catch (IOException e) {
-        throwUnchecked(e);
+    for (Pair<String, MessageStubMappingOrMappings> file :
+        readAll(mappingFiles, MessageStubMappingOrMappings.class)) {
+      for (MessageStubMapping mapping : file.b.getMappingOrMappings()) {
+        messageStubMappings.add(mapping);
       }
     }
   }
 
+  /**
+   * Reading and parsing is where nearly all the loading time goes, so it's done in parallel. The
+   * results keep the order of the files, so mappings are added in the same order as they'd be if
+   * loaded one at a time.
+   *
+   * @return pairs of file path and contents
+   */
+  private static <T> List<Pair<String, T>> readAll(List<TextFile> files, Class<T> type) {
+    return files.parallelStream()
+        .map(file -> Pair.pair(file.getPath(), read(file, type)))
+        .collect(Collectors.toList());
+  }
+
+  private static <T> T read(TextFile mappingFile, Class<T> type) {
+    try {
+      return Json.read(mappingFile.readContents(), type);
+    } catch (JsonException e) {
+      throw new MappingFileException(mappingFile.getPath(), e.getErrors().first().getDetail());
+    } catch (IOException e) {
+      return throwUnchecked(e, type);
+    }
+  }
+
   private static class StubMappingFileMetadata {
     final String path;
     final boolean multi;
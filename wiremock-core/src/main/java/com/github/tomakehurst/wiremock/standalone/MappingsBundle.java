@@ -0,0 +1,172 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.standalone;
+
+import static com.github.tomakehurst.wiremock.common.Exceptions.throwUnchecked;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.util.Comparator.comparingLong;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.github.tomakehurst.wiremock.common.Json;
+import com.github.tomakehurst.wiremock.common.JsonException;
+import com.github.tomakehurst.wiremock.stubbing.StubMapping;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * A single file bundling a set of stub mappings as JSON, which saves listing and opening one file
+ * per stub at startup.
+ *
+ * <p>The file starts with a header and a table of record lengths, followed by one compact JSON
+ * record per stub, in insertion order. The table lets the records be located without scanning them,
+ * so they can be parsed in parallel. Nothing is precompiled: each record is parsed in full and its
+ * matchers are built exactly as they are for a mapping file.
+ */
+public class MappingsBundle {
+
+  static final int MAGIC = 0x574D424E;
+  static final int VERSION = 1;
+
+  private static final int HEADER_SIZE = 12;
+
+  private MappingsBundle() {}
+
+  public static void write(Collection<StubMapping> mappings, Path file) {
+    try {
+      Path parent = file.toAbsolutePath().getParent();
+      Files.createDirectories(parent);
+      Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+      try {
+        try (OutputStream out = Files.newOutputStream(temp)) {
+          write(mappings, out);
+        }
+        Files.move(temp, file, REPLACE_EXISTING, ATOMIC_MOVE);
+      } finally {
+        Files.deleteIfExists(temp);
+      }
+    } catch (IOException e) {
+      throwUnchecked(e);
+    }
+  }
+
+  public static byte[] toByteArray(Collection<StubMapping> mappings) {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try {
+      write(mappings, out);
+    } catch (IOException e) {
+      throwUnchecked(e);
+    }
+    return out.toByteArray();
+  }
+
+  private static void write(Collection<StubMapping> mappings, OutputStream out) throws IOException {
+    ObjectWriter writer = Json.getObjectMapper().writerWithView(Json.PrivateView.class);
+    List<StubMapping> inInsertionOrder = new ArrayList<>(mappings);
+    inInsertionOrder.sort(comparingLong(StubMapping::getInsertionIndex));
+    List<byte[]> records = new ArrayList<>(inInsertionOrder.size());
+    for (StubMapping mapping : inInsertionOrder) {
+      records.add(writer.writeValueAsBytes(mapping));
+    }
+
+    DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out));
+    data.writeInt(MAGIC);
+    data.writeInt(VERSION);
+    data.writeInt(records.size());
+    for (byte[] record : records) {
+      data.writeInt(record.length);
+    }
+    for (byte[] record : records) {
+      data.write(record);
+    }
+    data.flush();
+  }
+
+  /**
+   * @return the stub mappings in the order they were originally inserted
+   */
+  public static List<StubMapping> read(Path file) {
+    try (FileChannel channel = FileChannel.open(file)) {
+      if (channel.size() > Integer.MAX_VALUE) {
+        throw new MappingFileException(file.toString(), "Bundle is larger than 2GB");
+      }
+      return read(file, channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static List<StubMapping> read(Path file, ByteBuffer buffer) {
+    if (buffer.limit() < HEADER_SIZE || buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+      throw new MappingFileException(
+          file.toString(), "Not a version " + VERSION + " stub mappings bundle");
+    }
+
+    int count = buffer.getInt(8);
+    if (count < 0 || HEADER_SIZE + (long) count * Integer.BYTES > buffer.limit()) {
+      throw corrupt(file);
+    }
+
+    int[] offsets = new int[count];
+    int[] lengths = new int[count];
+    long offset = HEADER_SIZE + (long) count * Integer.BYTES;
+    for (int i = 0; i < count; i++) {
+      lengths[i] = buffer.getInt(HEADER_SIZE + i * Integer.BYTES);
+      offsets[i] = (int) offset;
+      offset += lengths[i];
+      if (lengths[i] < 0 || offset > buffer.limit()) {
+        throw corrupt(file);
+      }
+    }
+    if (offset != buffer.limit()) {
+      throw corrupt(file);
+    }
+
+    return IntStream.range(0, count)
+        .parallel()
+        .mapToObj(i -> readRecord(file, buffer, offsets[i], lengths[i]))
+        .collect(Collectors.toList());
+  }
+
+  private static StubMapping readRecord(Path file, ByteBuffer buffer, int offset, int length) {
+    byte[] record = new byte[length];
+    buffer.get(offset, record);
+    try {
+      return Json.read(record, StubMapping.class);
+    } catch (JsonException e) {
+      throw new MappingFileException(file.toString(), e.getErrors().first().getDetail());
+    } catch (IOException e) {
+      return throwUnchecked(e, StubMapping.class);
+    }
+  }
+
+  private static MappingFileException corrupt(Path file) {
+    return new MappingFileException(file.toString(), "Bundle is truncated or corrupt");
+  }
+}
@@ -40,10 +40,22 @@ public class DefaultStores implements Stores {
   private final Map<String, ObjectStore> objectStores;
 
   public DefaultStores(FileSource fileRoot) {
+    this(fileRoot, false);
+  }
+
+  public DefaultStores(FileSource fileRoot, boolean indexedStubMatching) {
+    this(fileRoot, indexedStubMatching, new InMemoryRequestJournalStore());
+  }
+
+  public DefaultStores(
+      FileSource fileRoot, boolean indexedStubMatching, RequestJournalStore requestJournalStore) {
     this.fileRoot = fileRoot;
 
-    this.stubMappingStore = new InMemoryStubMappingStore();
-    this.requestJournalStore = new InMemoryRequestJournalStore();
+    this.stubMappingStore =
+        indexedStubMatching
+            ? new IndexedInMemoryStubMappingStore()
+            : new InMemoryStubMappingStore();
+    this.requestJournalStore = requestJournalStore;
     this.settingsStore = new InMemorySettingsStore();
     this.scenariosStore = new InMemoryScenariosStore();
     this.messageChannelStore = new InMemoryMessageChannelStore();
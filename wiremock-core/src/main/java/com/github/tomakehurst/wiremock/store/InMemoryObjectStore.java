@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2024-2025 Thomas Akehurst
+ * Copyright (C) 2024-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,11 +18,11 @@ package com.github.tomakehurst.wiremock.store;
 import static com.github.tomakehurst.wiremock.common.LocalNotifier.notifier;
 
 import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Optional;
-import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -31,7 +31,10 @@ import java.util.stream.Stream;
 public class InMemoryObjectStore implements ObjectStore, StoreEventEmitter<String, Object> {
 
   private final ConcurrentHashMap<String, Object> cache;
-  private final Queue<String> keyUseOrder = new ConcurrentLinkedQueue<>();
+
+  // Access ordered, so touching, removing and finding the least recently used key are all O(1).
+  // Guarded by synchronizing on itself.
+  private final LinkedHashMap<String, Boolean> keyUseOrder = new LinkedHashMap<>(16, 0.75f, true);
   private final int maxItems;
   private final List<Consumer<? super StoreEvent<String, Object>>> listeners = new ArrayList<>();
 
@@ -81,7 +84,7 @@ public class InMemoryObjectStore implements ObjectStore, StoreEventEmitter<Strin
     if (result != null) {
       touchAndResize(key);
     } else {
-      keyUseOrder.remove(key);
+      untouch(key);
     }
     handleEvent(StoreEvent.set(key, previousValue.get(), result));
     return result;
@@ -90,7 +93,7 @@ public class InMemoryObjectStore implements ObjectStore, StoreEventEmitter<Strin
   @Override
   public void remove(String key) {
     Object previousValue = cache.remove(key);
-    keyUseOrder.remove(key);
+    untouch(key);
     if (previousValue != null) {
       handleEvent(StoreEvent.remove(key, previousValue));
     }
@@ -99,7 +102,9 @@ public class InMemoryObjectStore implements ObjectStore, StoreEventEmitter<Strin
   @Override
   public void clear() {
     cache.clear();
-    keyUseOrder.clear();
+    synchronized (keyUseOrder) {
+      keyUseOrder.clear();
+    }
   }
 
   @Override
@@ -118,19 +123,30 @@ public class InMemoryObjectStore implements ObjectStore, StoreEventEmitter<Strin
   }
 
   private void touchAndResize(String key) {
-    touch(key);
-    resize();
+    final List<String> keysToRemove = new ArrayList<>(1);
+    synchronized (keyUseOrder) {
+      keyUseOrder.put(key, Boolean.TRUE);
+
+      final Iterator<String> leastRecentlyUsed = keyUseOrder.keySet().iterator();
+      while (keyUseOrder.size() > maxItems) {
+        keysToRemove.add(leastRecentlyUsed.next());
+        leastRecentlyUsed.remove();
+      }
+    }
+
+    // Removed outside the lock, so that listeners don't run while holding it
+    keysToRemove.forEach(this::remove);
   }
 
   private void touch(String key) {
-    keyUseOrder.remove(key);
-    keyUseOrder.offer(key);
+    synchronized (keyUseOrder) {
+      keyUseOrder.get(key);
+    }
   }
 
-  private void resize() {
-    while (keyUseOrder.size() > maxItems) {
-      final String keyToRemove = keyUseOrder.poll();
-      remove(keyToRemove);
+  private void untouch(String key) {
+    synchronized (keyUseOrder) {
+      keyUseOrder.remove(key);
     }
   }
 }
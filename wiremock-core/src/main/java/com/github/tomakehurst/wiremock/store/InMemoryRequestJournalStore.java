@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2022-2025 Thomas Akehurst
+ * Copyright (C) 2022-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,6 +15,7 @@
  */
 package com.github.tomakehurst.wiremock.store;
 
+import com.github.tomakehurst.wiremock.matching.RequestPattern;
 import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
@@ -27,10 +28,12 @@ public class InMemoryRequestJournalStore implements RequestJournalStore {
 
   private final Deque<UUID> deque = new ConcurrentLinkedDeque<>();
   private final Map<UUID, ServeEvent> serveEvents = new ConcurrentHashMap<>();
+  private final ServeEventIndex index = new ServeEventIndex();
 
   @Override
   public void add(ServeEvent event) {
     serveEvents.put(event.getId(), event);
+    index.add(event);
     deque.addFirst(event.getId());
   }
 
@@ -39,14 +42,33 @@ public class InMemoryRequestJournalStore implements RequestJournalStore {
     return deque.stream().map(serveEvents::get).filter(Objects::nonNull);
   }
 
+  @Override
+  public Stream<ServeEvent> findAllCandidates(RequestPattern requestPattern) {
+    return index
+        .findCandidateIds(requestPattern)
+        .map(ids -> ids.map(serveEvents::get).filter(Objects::nonNull))
+        .orElseGet(this::getAll);
+  }
+
+  @Override
+  public Stream<ServeEvent> findAllServedBy(UUID stubMappingId) {
+    return index.findIdsForStub(stubMappingId).map(serveEvents::get).filter(Objects::nonNull);
+  }
+
   @Override
   public void removeLast() {
     final UUID id = deque.pollLast();
     if (id != null) {
       serveEvents.remove(id);
+      index.remove(id);
     }
   }
 
+  @Override
+  public long size() {
+    return serveEvents.size();
+  }
+
   @Override
   public Stream<UUID> getAllKeys() {
     return getAll().map(ServeEvent::getId);
@@ -59,8 +81,8 @@ public class InMemoryRequestJournalStore implements RequestJournalStore {
 
   @Override
   public void put(UUID id, ServeEvent event) {
-    if (deque.contains(id)) {
-      serveEvents.put(id, event);
+    if (serveEvents.replace(id, event) != null) {
+      index.update(event);
     }
   }
 
@@ -68,11 +90,13 @@ public class InMemoryRequestJournalStore implements RequestJournalStore {
   public void remove(UUID id) {
     deque.stream().filter(eventId -> eventId.equals(id)).forEach(deque::remove);
     serveEvents.remove(id);
+    index.remove(id);
   }
 
   @Override
   public void clear() {
     deque.clear();
     serveEvents.clear();
+    index.clear();
   }
 }
@@ -0,0 +1,78 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.store;
+
+import com.github.tomakehurst.wiremock.common.Pair;
+import com.github.tomakehurst.wiremock.http.Request;
+import com.github.tomakehurst.wiremock.matching.RequestMatcherExtension;
+import com.github.tomakehurst.wiremock.stubbing.StubMapping;
+import com.github.tomakehurst.wiremock.stubbing.SubEvent;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import org.wiremock.annotations.Beta;
+
+/**
+ * An in-memory stub store that maintains secondary indexes by request method and URL, so that
+ * only stubs that could plausibly match a request's method and URL are evaluated against it.
+ */
+@Beta(justification = "Externalized State API: https://github.com/wiremock/wiremock/issues/2144")
+public class IndexedInMemoryStubMappingStore extends InMemoryStubMappingStore {
+
+  private final StubMappingIndex index = new StubMappingIndex();
+
+  @Override
+  public Stream<StubMapping> findAllMatchingRequest(
+      Request request,
+      Map<String, RequestMatcherExtension> customMatchers,
+      Consumer<SubEvent> subEventConsumer) {
+    return index.findCandidates(request).stream()
+        .map(
+            stubMapping ->
+                Pair.pair(stubMapping, stubMapping.getRequest().match(request, customMatchers)))
+        .peek(stubAndMatchResult -> stubAndMatchResult.b.getSubEvents().forEach(subEventConsumer))
+        .filter(stubAndMatchResult -> stubAndMatchResult.b.isExactMatch())
+        .map(stubAndMatchResult -> stubAndMatchResult.a);
+  }
+
+  @Override
+  public StubMapping add(StubMapping mapping) {
+    final StubMapping added = super.add(mapping);
+    index.add(added);
+    return added;
+  }
+
+  @Override
+  public StubMapping replace(StubMapping existing, StubMapping updated) {
+    final StubMapping replacement = super.replace(existing, updated);
+    index.remove(existing);
+    index.add(replacement);
+    return replacement;
+  }
+
+  @Override
+  public void remove(UUID id) {
+    get(id).ifPresent(index::remove);
+    super.remove(id);
+  }
+
+  @Override
+  public void clear() {
+    super.clear();
+    index.clear();
+  }
+}
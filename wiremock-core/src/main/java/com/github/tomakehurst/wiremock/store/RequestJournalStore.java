@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2022-2025 Thomas Akehurst
+ * Copyright (C) 2022-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,6 +15,7 @@
  */
 package com.github.tomakehurst.wiremock.store;
 
+import com.github.tomakehurst.wiremock.matching.RequestPattern;
 import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
 import java.util.UUID;
 import java.util.stream.Stream;
@@ -28,4 +29,25 @@ public interface RequestJournalStore extends Store<UUID, ServeEvent> {
   void add(ServeEvent event);
 
   void removeLast();
+
+  default long size() {
+    return getAllKeys().count();
+  }
+
+  /**
+   * Returns, newest first, a superset of the events whose requests match the pattern. The default
+   * implementation returns every event.
+   */
+  default Stream<ServeEvent> findAllCandidates(RequestPattern requestPattern) {
+    return getAll();
+  }
+
+  /** Returns, newest first, the events served by the stub mapping with the given ID. */
+  default Stream<ServeEvent> findAllServedBy(UUID stubMappingId) {
+    return getAll()
+        .filter(
+            event ->
+                event.getStubMapping() != null
+                    && stubMappingId.equals(event.getStubMapping().getId()));
+  }
 }
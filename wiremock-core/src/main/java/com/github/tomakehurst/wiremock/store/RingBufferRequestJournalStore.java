@@ -0,0 +1,199 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.store;
+
+import com.github.tomakehurst.wiremock.matching.RequestPattern;
+import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import org.wiremock.annotations.Beta;
+
+/**
+ * A request journal store holding at most a fixed number of events in a lock-free ring buffer.
+ * Adding an event overwrites the oldest slot, so eviction, removal by ID and size are all constant
+ * time.
+ *
+ * <p>Unlike {@link InMemoryRequestJournalStore}, an event removed by ID leaves an empty slot
+ * rather than making room for an older event to be retained, so the store holds the most recent
+ * events received within its capacity.
+ */
+@Beta(justification = "Externalized State API: https://github.com/wiremock/wiremock/issues/2144")
+public class RingBufferRequestJournalStore implements RequestJournalStore {
+
+  private final int capacity;
+  private final AtomicReferenceArray<Entry> slots;
+  private final Map<UUID, Entry> entriesById = new ConcurrentHashMap<>();
+  private final AtomicLong nextSequence = new AtomicLong();
+  private final AtomicInteger size = new AtomicInteger();
+  private final ServeEventIndex index = new ServeEventIndex();
+
+  public RingBufferRequestJournalStore(int capacity) {
+    if (capacity < 1) {
+      throw new IllegalArgumentException("Capacity of request journal must be at least 1");
+    }
+
+    this.capacity = capacity;
+    this.slots = new AtomicReferenceArray<>(capacity);
+  }
+
+  @Override
+  public void add(ServeEvent event) {
+    final Entry entry = new Entry(nextSequence.getAndIncrement(), event);
+    final Entry previous = entriesById.put(event.getId(), entry);
+    if (previous == null) {
+      size.incrementAndGet();
+    } else {
+      slots.compareAndSet(slotOf(previous.sequence), previous, null);
+      index.remove(event.getId());
+    }
+    index.add(event);
+
+    final int slot = slotOf(entry.sequence);
+    while (true) {
+      final Entry current = slots.get(slot);
+      if (current != null && current.sequence > entry.sequence) {
+        // A newer event has already claimed the slot, so this one is evicted straight away
+        evict(entry);
+        return;
+      }
+
+      if (slots.compareAndSet(slot, current, entry)) {
+        if (current != null) {
+          evict(current);
+        }
+        return;
+      }
+    }
+  }
+
+  @Override
+  public Stream<ServeEvent> getAll() {
+    final long newest = nextSequence.get() - 1;
+    final long oldest = Math.max(0, newest - capacity + 1);
+    return LongStream.iterate(newest, sequence -> sequence >= oldest, sequence -> sequence - 1)
+        .mapToObj(this::liveEntryAt)
+        .filter(Objects::nonNull)
+        .map(entry -> entry.event);
+  }
+
+  @Override
+  public Stream<ServeEvent> findAllCandidates(RequestPattern requestPattern) {
+    return index
+        .findCandidateIds(requestPattern)
+        .map(ids -> ids.map(this::liveEventWithId).filter(Objects::nonNull))
+        .orElseGet(this::getAll);
+  }
+
+  @Override
+  public Stream<ServeEvent> findAllServedBy(UUID stubMappingId) {
+    return index.findIdsForStub(stubMappingId).map(this::liveEventWithId).filter(Objects::nonNull);
+  }
+
+  @Override
+  public void removeLast() {
+    final long newest = nextSequence.get() - 1;
+    for (long sequence = Math.max(0, newest - capacity + 1); sequence <= newest; sequence++) {
+      final Entry entry = liveEntryAt(sequence);
+      if (entry != null) {
+        remove(entry.event.getId());
+        return;
+      }
+    }
+  }
+
+  @Override
+  public long size() {
+    return size.get();
+  }
+
+  @Override
+  public Stream<UUID> getAllKeys() {
+    return getAll().map(ServeEvent::getId);
+  }
+
+  @Override
+  public Optional<ServeEvent> get(UUID id) {
+    return Optional.ofNullable(entriesById.get(id)).map(entry -> entry.event);
+  }
+
+  @Override
+  public void put(UUID id, ServeEvent event) {
+    final Entry entry = entriesById.get(id);
+    if (entry != null) {
+      entry.event = event;
+      index.update(event);
+    }
+  }
+
+  @Override
+  public void remove(UUID id) {
+    final Entry entry = entriesById.remove(id);
+    if (entry != null) {
+      size.decrementAndGet();
+      index.remove(id);
+      slots.compareAndSet(slotOf(entry.sequence), entry, null);
+    }
+  }
+
+  @Override
+  public void clear() {
+    for (int slot = 0; slot < capacity; slot++) {
+      final Entry entry = slots.getAndSet(slot, null);
+      if (entry != null) {
+        evict(entry);
+      }
+    }
+  }
+
+  private ServeEvent liveEventWithId(UUID id) {
+    final Entry entry = entriesById.get(id);
+    return entry != null ? entry.event : null;
+  }
+
+  private Entry liveEntryAt(long sequence) {
+    final Entry entry = slots.get(slotOf(sequence));
+    return entry != null && entry.sequence == sequence ? entry : null;
+  }
+
+  private void evict(Entry entry) {
+    if (entriesById.remove(entry.event.getId(), entry)) {
+      size.decrementAndGet();
+      index.remove(entry.event.getId());
+    }
+  }
+
+  private int slotOf(long sequence) {
+    return (int) (sequence % capacity);
+  }
+
+  private static class Entry {
+    final long sequence;
+    volatile ServeEvent event;
+
+    Entry(long sequence, ServeEvent event) {
+      this.sequence = sequence;
+      this.event = event;
+    }
+  }
+}
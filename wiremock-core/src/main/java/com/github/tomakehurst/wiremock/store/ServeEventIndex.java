@@ -0,0 +1,211 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.store;
+
+import static java.util.Comparator.reverseOrder;
+
+import com.github.tomakehurst.wiremock.http.RequestMethod;
+import com.github.tomakehurst.wiremock.matching.EqualToPattern;
+import com.github.tomakehurst.wiremock.matching.RequestPattern;
+import com.github.tomakehurst.wiremock.matching.UrlPathPattern;
+import com.github.tomakehurst.wiremock.matching.UrlPattern;
+import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import org.wiremock.url.IllegalPathAndQuery;
+import org.wiremock.url.PathAndQuery;
+
+/**
+ * Secondary indexes over the events in a request journal, keyed on request method, URL path and
+ * matched stub ID. Each index bucket holds event IDs newest first, i.e. in the same order as
+ * {@link RequestJournalStore#getAll()}.
+ */
+class ServeEventIndex {
+
+  private final AtomicLong nextSequence = new AtomicLong();
+  private final Map<UUID, List<Entry>> entriesById = new ConcurrentHashMap<>();
+
+  private final Map<String, NavigableMap<Long, UUID>> byMethod = new ConcurrentHashMap<>();
+  private final Map<String, NavigableMap<Long, UUID>> byPath = new ConcurrentHashMap<>();
+  private final Map<UUID, NavigableMap<Long, UUID>> byStubId = new ConcurrentHashMap<>();
+
+  /** Indexes the event. An event added more than once is indexed once per addition. */
+  void add(ServeEvent event) {
+    final Entry entry = new Entry(nextSequence.getAndIncrement(), event);
+    entriesById.compute(
+        entry.id,
+        (id, entries) -> {
+          final List<Entry> result = entries != null ? entries : new ArrayList<>(1);
+          result.add(entry);
+          return result;
+        });
+
+    addTo(byMethod, entry.method, entry);
+    addTo(byPath, entry.path, entry);
+    addTo(byStubId, entry.stubId, entry);
+  }
+
+  void update(ServeEvent event) {
+    entriesById.computeIfPresent(
+        event.getId(),
+        (id, entries) -> {
+          final List<Entry> result = new ArrayList<>(entries.size());
+          for (Entry existing : entries) {
+            final Entry updated = new Entry(existing.sequence, event);
+            if (!Objects.equals(existing.stubId, updated.stubId)) {
+              removeFrom(byStubId, existing.stubId, existing);
+              addTo(byStubId, updated.stubId, updated);
+            }
+            result.add(updated);
+          }
+          return result;
+        });
+  }
+
+  void remove(UUID id) {
+    final List<Entry> entries = entriesById.remove(id);
+    if (entries != null) {
+      entries.forEach(this::unindex);
+    }
+  }
+
+  void clear() {
+    entriesById.clear();
+    byMethod.clear();
+    byPath.clear();
+    byStubId.clear();
+  }
+
+  /**
+   * @return the IDs of events whose method and URL could match the pattern, newest first, or
+   *     empty if the pattern's method and URL can't be used to narrow the events down
+   */
+  Optional<Stream<UUID>> findCandidateIds(RequestPattern requestPattern) {
+    final String path = indexablePathOf(requestPattern.getUrlMatcher());
+    if (path != null) {
+      return Optional.of(idsIn(byPath, path));
+    }
+
+    final String method = indexableMethodOf(requestPattern.getMethod());
+    if (method != null) {
+      return Optional.of(idsIn(byMethod, method));
+    }
+
+    return Optional.empty();
+  }
+
+  /**
+   * @return the IDs of events served by the stub, newest first
+   */
+  Stream<UUID> findIdsForStub(UUID stubMappingId) {
+    return idsIn(byStubId, stubMappingId);
+  }
+
+  private void unindex(Entry entry) {
+    removeFrom(byMethod, entry.method, entry);
+    removeFrom(byPath, entry.path, entry);
+    removeFrom(byStubId, entry.stubId, entry);
+  }
+
+  private static <K> void addTo(Map<K, NavigableMap<Long, UUID>> index, K key, Entry entry) {
+    if (key != null) {
+      index.compute(
+          key,
+          (k, bucket) -> {
+            final NavigableMap<Long, UUID> result =
+                bucket != null ? bucket : new ConcurrentSkipListMap<>(reverseOrder());
+            result.put(entry.sequence, entry.id);
+            return result;
+          });
+    }
+  }
+
+  private static <K> void removeFrom(Map<K, NavigableMap<Long, UUID>> index, K key, Entry entry) {
+    if (key != null) {
+      index.computeIfPresent(
+          key,
+          (k, bucket) -> {
+            bucket.remove(entry.sequence, entry.id);
+            return bucket.isEmpty() ? null : bucket;
+          });
+    }
+  }
+
+  private static <K> Stream<UUID> idsIn(Map<K, NavigableMap<Long, UUID>> index, K key) {
+    final NavigableMap<Long, UUID> bucket = index.get(key);
+    return bucket != null ? bucket.values().stream() : Stream.empty();
+  }
+
+  private static String indexableMethodOf(RequestMethod method) {
+    return method != null
+            && method.getClass() == RequestMethod.class
+            && !method.equals(RequestMethod.ANY)
+        ? method.getName()
+        : null;
+  }
+
+  private static String indexablePathOf(UrlPattern urlMatcher) {
+    if (urlMatcher == null
+        || urlMatcher.getPattern().getClass() != EqualToPattern.class
+        || Boolean.TRUE.equals(((EqualToPattern) urlMatcher.getPattern()).getCaseInsensitive())) {
+      return null;
+    }
+
+    final String expected = urlMatcher.getExpected();
+    if (urlMatcher.getClass() == UrlPathPattern.class) {
+      return expected;
+    }
+
+    if (urlMatcher.getClass() == UrlPattern.class) {
+      try {
+        return pathOf(expected);
+      } catch (IllegalPathAndQuery e) {
+        return null;
+      }
+    }
+
+    return null;
+  }
+
+  private static String pathOf(String pathAndQuery) {
+    return PathAndQuery.parse(pathAndQuery).getPath().toString();
+  }
+
+  private static class Entry {
+    final long sequence;
+    final UUID id;
+    final String method;
+    final String path;
+    final UUID stubId;
+
+    Entry(long sequence, ServeEvent event) {
+      this.sequence = sequence;
+      this.id = event.getId();
+      this.method = event.getRequest().getMethod().getName();
+      this.path = pathOf(event.getRequest().getPathAndQueryWithoutPrefix().toString());
+      this.stubId = event.getStubMapping() != null ? event.getStubMapping().getId() : null;
+    }
+  }
+}
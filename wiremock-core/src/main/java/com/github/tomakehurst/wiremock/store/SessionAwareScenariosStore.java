@@ -15,107 +15,265 @@
  */
 package com.github.tomakehurst.wiremock.store;
 
+import static java.util.Comparator.comparingLong;
+
 import com.github.tomakehurst.wiremock.stubbing.Scenario;
 import com.github.tomakehurst.wiremock.stubbing.SessionId;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
 import java.util.stream.Stream;
 import org.wiremock.annotations.Beta;
 
+/**
+ * Holds the global scenarios, which act as templates, plus the scenario state of each session.
+ * Sessions that have been idle for longer than the idle timeout are expired, and the least recently
+ * used sessions are evicted once there are more than the maximum number of sessions. Both happen
+ * as sessions are used, so the cost is spread across requests rather than needing a sweeper
+ * thread. Each session is updated atomically on its own, so requests in different sessions don't
+ * contend with each other.
+ */
 @Beta(justification = "Session-aware Scenarios API")
 public class SessionAwareScenariosStore implements ScenariosStore {
 
-  private final ConcurrentHashMap<String, Scenario> scenarioMap = new ConcurrentHashMap<>();
-  private final Set<String> activeSessions = ConcurrentHashMap.newKeySet();
+  private static final String SEPARATOR = "::";
+
+  private final ConcurrentHashMap<String, Scenario> globalScenarios = new ConcurrentHashMap<>();
+
+  private final ConcurrentHashMap<String, Session> sessions = new ConcurrentHashMap<>();
+
+  // Expired sessions are only swept out of the map at most once per idle timeout, since that means
+  // visiting every session
+  private final AtomicLong nextSweepMillis = new AtomicLong();
+
+  // Orders accesses for least recently used eviction, since several can happen in the same
+  // millisecond
+  private final AtomicLong accessSequence = new AtomicLong();
+
+  private final long idleTimeoutMillis;
+  private final int maxSessions;
+  private final LongSupplier currentTimeMillis;
+
+  public SessionAwareScenariosStore() {
+    this(0, 0);
+  }
+
+  /**
+   * @param idleTimeoutMillis how long a session's scenario state is kept after it was last used,
+   *     or 0 to keep it indefinitely
+   * @param maxSessions the maximum number of sessions to keep scenario state for, or 0 for no limit
+   */
+  public SessionAwareScenariosStore(long idleTimeoutMillis, int maxSessions) {
+    this(idleTimeoutMillis, maxSessions, System::currentTimeMillis);
+  }
+
+  SessionAwareScenariosStore(
+      long idleTimeoutMillis, int maxSessions, LongSupplier currentTimeMillis) {
+    this.idleTimeoutMillis = idleTimeoutMillis;
+    this.maxSessions = maxSessions;
+    this.currentTimeMillis = currentTimeMillis;
+  }
 
   @Override
   public Stream<String> getAllKeys() {
-    return scenarioMap.keySet().stream();
+    return Stream.concat(
+        globalScenarios.keySet().stream(),
+        sessionsSnapshot().stream()
+            .flatMap(
+                session ->
+                    session.scenarios.keySet().stream()
+                        .map(name -> session.id + SEPARATOR + name)));
   }
 
   @Override
   public Stream<Scenario> getAll() {
-    return scenarioMap.values().stream();
+    return Stream.concat(
+        globalScenarios.values().stream(),
+        sessionsSnapshot().stream().flatMap(session -> session.scenarios.values().stream()));
   }
 
   public Stream<Scenario> getAllForSession(SessionId sessionId) {
-    String prefix = sessionId.isGlobal() ? "" : sessionId.getValue() + "::";
-    return scenarioMap.entrySet().stream()
-        .filter(
-            entry -> {
-              if (sessionId.isGlobal()) {
-                return !entry.getKey().contains("::");
-              } else {
-                return entry.getKey().startsWith(prefix);
-              }
-            })
-        .map(entry -> entry.getValue());
+    if (sessionId.isGlobal()) {
+      return globalScenarios.values().stream();
+    }
+
+    return findSession(sessionId.getValue())
+        .map(session -> session.scenarios.values().stream())
+        .orElse(Stream.empty());
   }
 
   @Override
   public Optional<Scenario> get(String key) {
-    return Optional.ofNullable(scenarioMap.get(key));
+    return get(sessionIdOf(key), scenarioNameOf(key));
   }
 
   public Optional<Scenario> get(SessionId sessionId, String scenarioName) {
-    String key = sessionId.buildScenarioKey(scenarioName);
-    return Optional.ofNullable(scenarioMap.get(key));
+    if (sessionId.isGlobal()) {
+      return Optional.ofNullable(globalScenarios.get(scenarioName));
+    }
+
+    return findSession(sessionId.getValue()).map(session -> session.scenarios.get(scenarioName));
   }
 
   @Override
   public void put(String key, Scenario content) {
-    scenarioMap.put(key, content);
-    extractSessionId(key).ifPresent(activeSessions::add);
+    put(sessionIdOf(key), scenarioNameOf(key), content);
   }
 
   public void put(SessionId sessionId, String scenarioName, Scenario content) {
-    String key = sessionId.buildScenarioKey(scenarioName);
-    scenarioMap.put(key, content);
-    if (!sessionId.isGlobal()) {
-      activeSessions.add(sessionId.getValue());
+    if (sessionId.isGlobal()) {
+      globalScenarios.put(scenarioName, content);
+    } else {
+      sessionFor(sessionId.getValue()).scenarios.put(scenarioName, content);
     }
   }
 
   @Override
   public void remove(String key) {
-    scenarioMap.remove(key);
+    remove(sessionIdOf(key), scenarioNameOf(key));
   }
 
   public void remove(SessionId sessionId, String scenarioName) {
-    String key = sessionId.buildScenarioKey(scenarioName);
-    scenarioMap.remove(key);
+    if (sessionId.isGlobal()) {
+      globalScenarios.remove(scenarioName);
+    } else {
+      findSession(sessionId.getValue())
+          .ifPresent(session -> session.scenarios.remove(scenarioName));
+    }
   }
 
   @Override
   public void clear() {
-    scenarioMap.clear();
-    activeSessions.clear();
+    globalScenarios.clear();
+    sessions.clear();
   }
 
   public void clearSession(SessionId sessionId) {
     if (sessionId.isGlobal()) {
-      scenarioMap.keySet().removeIf(key -> !key.contains("::"));
+      globalScenarios.clear();
     } else {
-      String prefix = sessionId.getValue() + "::";
-      scenarioMap.keySet().removeIf(key -> key.startsWith(prefix));
-      activeSessions.remove(sessionId.getValue());
+      sessions.remove(sessionId.getValue());
     }
   }
 
   public Set<String> getActiveSessions() {
-    return Set.copyOf(activeSessions);
+    return Set.copyOf(activeSessions().keySet());
+  }
+
+  public int getActiveSessionCount() {
+    return activeSessions().size();
   }
 
   public boolean hasSession(String sessionIdValue) {
-    return activeSessions.contains(sessionIdValue);
+    final Session session = sessions.get(sessionIdValue);
+    return session != null && !isExpired(session, currentTimeMillis.getAsLong());
+  }
+
+  private Optional<Session> findSession(String sessionIdValue) {
+    final long now = currentTimeMillis.getAsLong();
+    sweepExpiredSessionsIfDue(now);
+
+    return Optional.ofNullable(
+        sessions.computeIfPresent(
+            sessionIdValue, (id, session) -> isExpired(session, now) ? null : touch(session, now)));
+  }
+
+  private Session sessionFor(String sessionIdValue) {
+    final long now = currentTimeMillis.getAsLong();
+    sweepExpiredSessionsIfDue(now);
+
+    final Session session =
+        sessions.compute(
+            sessionIdValue,
+            (id, existing) ->
+                existing == null || isExpired(existing, now)
+                    ? touch(new Session(id), now)
+                    : touch(existing, now));
+    evictExcessSessions();
+    return session;
+  }
+
+  private Session touch(Session session, long now) {
+    session.lastAccessedMillis = now;
+    session.lastAccess = accessSequence.incrementAndGet();
+    return session;
+  }
+
+  private boolean isExpired(Session session, long now) {
+    return idleTimeoutMillis > 0 && now - session.lastAccessedMillis >= idleTimeoutMillis;
+  }
+
+  private Map<String, Session> activeSessions() {
+    sweepExpiredSessions(currentTimeMillis.getAsLong());
+    return sessions;
+  }
+
+  private void sweepExpiredSessionsIfDue(long now) {
+    final long due = nextSweepMillis.get();
+    if (idleTimeoutMillis > 0
+        && now >= due
+        && nextSweepMillis.compareAndSet(due, now + idleTimeoutMillis)) {
+      sweepExpiredSessions(now);
+    }
+  }
+
+  private void sweepExpiredSessions(long now) {
+    if (idleTimeoutMillis <= 0) {
+      return;
+    }
+
+    for (String id : sessions.keySet()) {
+      sessions.computeIfPresent(id, (key, session) -> isExpired(session, now) ? null : session);
+    }
+  }
+
+  private void evictExcessSessions() {
+    if (maxSessions <= 0) {
+      return;
+    }
+
+    // Finding the least recently used session means visiting them all, but only happens once the
+    // limit has been reached
+    while (sessions.size() > maxSessions) {
+      sessions.values().stream()
+          .min(comparingLong(session -> session.lastAccess))
+          .ifPresent(this::evictUnlessUsedSince);
+    }
+  }
+
+  private void evictUnlessUsedSince(Session candidate) {
+    final long lastAccess = candidate.lastAccess;
+    sessions.computeIfPresent(
+        candidate.id,
+        (id, session) -> session == candidate && session.lastAccess == lastAccess ? null : session);
   }
 
-  private Optional<String> extractSessionId(String key) {
-    int separatorIndex = key.indexOf("::");
-    if (separatorIndex > 0) {
-      return Optional.of(key.substring(0, separatorIndex));
+  private List<Session> sessionsSnapshot() {
+    return List.copyOf(activeSessions().values());
+  }
+
+  private static SessionId sessionIdOf(String key) {
+    int separatorIndex = key.indexOf(SEPARATOR);
+    return separatorIndex > 0 ? SessionId.of(key.substring(0, separatorIndex)) : SessionId.global();
+  }
+
+  private static String scenarioNameOf(String key) {
+    int separatorIndex = key.indexOf(SEPARATOR);
+    return separatorIndex > 0 ? key.substring(separatorIndex + SEPARATOR.length()) : key;
+  }
+
+  private static class Session {
+    final String id;
+    final ConcurrentHashMap<String, Scenario> scenarios = new ConcurrentHashMap<>();
+    volatile long lastAccessedMillis;
+    volatile long lastAccess;
+
+    Session(String id) {
+      this.id = id;
     }
-    return Optional.empty();
   }
 }
@@ -0,0 +1,247 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.store;
+
+import static com.github.tomakehurst.wiremock.common.SortedConcurrentPrioritisableSet.sortedByPriorityThenReverseInsertionOrder;
+
+import com.github.tomakehurst.wiremock.common.url.PathTemplate;
+import com.github.tomakehurst.wiremock.http.Request;
+import com.github.tomakehurst.wiremock.http.RequestMethod;
+import com.github.tomakehurst.wiremock.matching.EqualToPattern;
+import com.github.tomakehurst.wiremock.matching.MultiRequestMethodPattern;
+import com.github.tomakehurst.wiremock.matching.UrlPathPattern;
+import com.github.tomakehurst.wiremock.matching.UrlPathTemplatePattern;
+import com.github.tomakehurst.wiremock.matching.UrlPattern;
+import com.github.tomakehurst.wiremock.stubbing.StubMapping;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import org.wiremock.url.PathAndQuery;
+
+/**
+ * Secondary indexes over a set of stub mappings, keyed on the request method and URL. Looking up
+ * a request returns a superset of the stubs whose method and URL could match it, so that only
+ * those need to be evaluated with the full {@link
+ * com.github.tomakehurst.wiremock.matching.RequestPattern}.
+ *
+ * <p>Stubs whose URL matcher can't be indexed (regexes, case-insensitive comparisons, any URL)
+ * are held in a wildcard bucket that is always returned as a candidate.
+ */
+class StubMappingIndex {
+
+  private static final String ANY_METHOD = "*";
+
+  private final Map<String, UrlIndex> byMethod = new ConcurrentHashMap<>();
+
+  void add(StubMapping stub) {
+    for (String methodKey : methodKeysFor(stub)) {
+      byMethod.computeIfAbsent(methodKey, k -> new UrlIndex()).add(stub);
+    }
+  }
+
+  void remove(StubMapping stub) {
+    for (String methodKey : methodKeysFor(stub)) {
+      final UrlIndex urlIndex = byMethod.get(methodKey);
+      if (urlIndex != null) {
+        urlIndex.remove(stub);
+      }
+    }
+  }
+
+  void clear() {
+    byMethod.clear();
+  }
+
+  /**
+   * @return the candidate stubs for the request, in priority then reverse insertion order
+   */
+  List<StubMapping> findCandidates(Request request) {
+    final String pathAndQuery = request.getPathAndQueryWithoutPrefix().toString();
+    final String path = PathAndQuery.parse(pathAndQuery).getPath().toString();
+
+    final List<StubMapping> candidates = new ArrayList<>();
+    collectCandidates(request.getMethod().getName(), pathAndQuery, path, candidates);
+    collectCandidates(ANY_METHOD, pathAndQuery, path, candidates);
+
+    candidates.sort(sortedByPriorityThenReverseInsertionOrder());
+    return candidates;
+  }
+
+  private void collectCandidates(
+      String methodKey, String pathAndQuery, String path, List<StubMapping> candidates) {
+    final UrlIndex urlIndex = byMethod.get(methodKey);
+    if (urlIndex != null) {
+      urlIndex.collectCandidates(pathAndQuery, path, candidates);
+    }
+  }
+
+  private static List<String> methodKeysFor(StubMapping stub) {
+    final RequestMethod method = stub.getRequest().getMethod();
+    if (method.getClass() == RequestMethod.class && !method.equals(RequestMethod.ANY)) {
+      return List.of(method.getName());
+    }
+
+    if (method instanceof MultiRequestMethodPattern.IsOneOf) {
+      final Set<RequestMethod> methods = ((MultiRequestMethodPattern.IsOneOf) method).getMethods();
+      if (methods.stream().noneMatch(RequestMethod.ANY::equals)) {
+        return methods.stream().map(RequestMethod::getName).distinct().toList();
+      }
+    }
+
+    return List.of(ANY_METHOD);
+  }
+
+  private static class UrlIndex {
+
+    private final Map<String, Set<StubMapping>> byExactUrl = new ConcurrentHashMap<>();
+    private final Map<String, Set<StubMapping>> byExactPath = new ConcurrentHashMap<>();
+    private final PathTemplateTrie byPathTemplatePrefix = new PathTemplateTrie();
+    private final Set<StubMapping> wildcards = newBucket();
+
+    void add(StubMapping stub) {
+      bucketFor(stub, true).add(stub);
+    }
+
+    void remove(StubMapping stub) {
+      final Set<StubMapping> bucket = bucketFor(stub, false);
+      if (bucket != null) {
+        bucket.remove(stub);
+      }
+    }
+
+    void collectCandidates(String pathAndQuery, String path, List<StubMapping> candidates) {
+      addAll(byExactUrl.get(pathAndQuery), candidates);
+      addAll(byExactPath.get(path), candidates);
+      byPathTemplatePrefix.collectCandidates(path, candidates);
+      candidates.addAll(wildcards);
+    }
+
+    private Set<StubMapping> bucketFor(StubMapping stub, boolean create) {
+      final UrlPattern urlMatcher = stub.getRequest().getUrlMatcher();
+      final Class<?> urlMatcherClass = urlMatcher.getClass();
+
+      if (urlMatcherClass == UrlPathTemplatePattern.class) {
+        return byPathTemplatePrefix.bucketFor(urlMatcher.getPathTemplate(), create);
+      }
+
+      if (!isCaseSensitiveEquality(urlMatcher)) {
+        return wildcards;
+      }
+
+      final String expected = urlMatcher.getExpected();
+      if (urlMatcherClass == UrlPattern.class) {
+        return bucketFor(byExactUrl, expected, create);
+      }
+
+      if (urlMatcherClass == UrlPathPattern.class) {
+        return bucketFor(byExactPath, expected, create);
+      }
+
+      return wildcards;
+    }
+
+    private static boolean isCaseSensitiveEquality(UrlPattern urlMatcher) {
+      return urlMatcher.getPattern().getClass() == EqualToPattern.class
+          && !Boolean.TRUE.equals(((EqualToPattern) urlMatcher.getPattern()).getCaseInsensitive());
+    }
+
+    private static Set<StubMapping> bucketFor(
+        Map<String, Set<StubMapping>> buckets, String key, boolean create) {
+      return create ? buckets.computeIfAbsent(key, k -> newBucket()) : buckets.get(key);
+    }
+  }
+
+  /**
+   * Indexes path templates by the complete path segments preceding their first variable or
+   * wildcard, so e.g. <code>/things/{id}</code> and <code>/things/abc{id}</code> are both
+   * candidates for any path starting <code>/things/</code>.
+   */
+  private static class PathTemplateTrie {
+
+    private final Node root = new Node();
+
+    Set<StubMapping> bucketFor(PathTemplate pathTemplate, boolean create) {
+      final String staticPrefix = staticPrefixOf(pathTemplate.toString());
+
+      Node node = root;
+      int segmentStart = 0;
+      int slash;
+      while ((slash = staticPrefix.indexOf('/', segmentStart)) != -1) {
+        final String segment = staticPrefix.substring(segmentStart, slash);
+        node =
+            create
+                ? node.children.computeIfAbsent(segment, s -> new Node())
+                : node.children.get(segment);
+        if (node == null) {
+          return null;
+        }
+        segmentStart = slash + 1;
+      }
+
+      return node.stubs;
+    }
+
+    void collectCandidates(String path, List<StubMapping> candidates) {
+      Node node = root;
+      candidates.addAll(node.stubs);
+
+      int segmentStart = 0;
+      int slash;
+      while ((slash = path.indexOf('/', segmentStart)) != -1) {
+        node = node.children.get(path.substring(segmentStart, slash));
+        if (node == null) {
+          return;
+        }
+
+        candidates.addAll(node.stubs);
+        segmentStart = slash + 1;
+      }
+    }
+
+    private static String staticPrefixOf(String template) {
+      final int variableStart = template.indexOf('{');
+      final int wildcardStart = template.indexOf("**");
+      int end = template.length();
+      if (variableStart != -1) {
+        end = variableStart;
+      }
+      if (wildcardStart != -1 && wildcardStart < end) {
+        end = wildcardStart;
+      }
+
+      return template.substring(0, end);
+    }
+
+    private static class Node {
+      final Map<String, Node> children = new ConcurrentHashMap<>();
+      final Set<StubMapping> stubs = newBucket();
+    }
+  }
+
+  private static Set<StubMapping> newBucket() {
+    return new ConcurrentSkipListSet<>(sortedByPriorityThenReverseInsertionOrder());
+  }
+
+  private static void addAll(Collection<StubMapping> source, List<StubMapping> destination) {
+    if (source != null) {
+      destination.addAll(source);
+    }
+  }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2022-2025 Thomas Akehurst
+ * Copyright (C) 2022-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -23,6 +23,8 @@ import com.github.tomakehurst.wiremock.store.BlobStore;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Optional;
 import java.util.stream.Stream;
 import org.wiremock.annotations.Beta;
@@ -57,7 +59,7 @@ public class FileSourceBlobStore implements BlobStore, PathBased {
 
   @Override
   public InputStreamSource getStreamSource(String key) {
-    return StreamSources.forBlobStoreItem(this, key);
+    return new FileStreamSource(key);
   }
 
   @Override
@@ -106,4 +108,25 @@ public class FileSourceBlobStore implements BlobStore, PathBased {
   public String getPath() {
     return fileSource.getPath();
   }
+
+  private class FileStreamSource implements InputStreamSource {
+
+    private final String key;
+    private final InputStreamSource streamSource;
+
+    FileStreamSource(String key) {
+      this.key = key;
+      this.streamSource = StreamSources.forBlobStoreItem(FileSourceBlobStore.this, key);
+    }
+
+    @Override
+    public InputStream getStream() {
+      return streamSource.getStream();
+    }
+
+    @Override
+    public Optional<Path> getFile() {
+      return fileSource.getBinaryFileNamed(key).getFile().filter(Files::isRegularFile);
+    }
+  }
 }
@@ -40,6 +40,11 @@ public abstract class AbstractScenarios implements Scenarios {
     return store.getAll().collect(toList());
   }
 
+  @Override
+  public boolean hasScenarios() {
+    return store.getAll().findAny().isPresent();
+  }
+
   @Override
   public void onStubMappingAdded(StubMapping mapping) {
     if (mapping.isInScenario()) {
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2022-2025 Thomas Akehurst
+ * Copyright (C) 2022-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,6 +17,7 @@ package com.github.tomakehurst.wiremock.stubbing;
 
 import static com.github.tomakehurst.wiremock.common.LocalNotifier.notifier;
 import static com.github.tomakehurst.wiremock.common.Pair.pair;
+import static com.github.tomakehurst.wiremock.common.ParameterUtils.getFirstNonNull;
 import static com.github.tomakehurst.wiremock.extension.ServeEventListener.RequestPhase.AFTER_MATCH;
 import static com.github.tomakehurst.wiremock.extension.ServeEventListenerUtils.triggerListeners;
 import static com.github.tomakehurst.wiremock.http.ResponseDefinition.copyOf;
@@ -40,6 +41,7 @@ import com.github.tomakehurst.wiremock.store.StubMappingStore;
 import com.github.tomakehurst.wiremock.store.files.BlobStoreFileSource;
 import com.github.tomakehurst.wiremock.verification.LoggedRequest;
 import java.util.*;
+import java.util.function.Consumer;
 
 public abstract class AbstractStubMappings implements StubMappings {
 
@@ -81,22 +83,7 @@ public abstract class AbstractStubMappings implements StubMappings {
 
     final List<SubEvent> subEvents = new LinkedList<>();
 
-    List<StubMapping> matchingStubs =
-        store
-            .findAllMatchingRequest(request, customMatchers, subEvents::add)
-            .filter(
-                stubMapping ->
-                    stubMapping.isIndependentOfScenarioState()
-                        || scenarios.mappingMatchesScenarioState(sessionId, stubMapping))
-            .collect(toList());
-
-    // Prefer scenario-matched stubs over scenario-independent stubs
-    StubMapping matchingStub =
-        matchingStubs.stream()
-            .filter(stubMapping -> !stubMapping.isIndependentOfScenarioState())
-            .findFirst()
-            .or(() -> matchingStubs.stream().findFirst())
-            .orElse(StubMapping.NOT_CONFIGURED);
+    final StubMapping matchingStub = findMatchingStub(request, sessionId, subEvents::add);
 
     subEvents.forEach(initialServeEvent::appendSubEvent);
 
@@ -132,6 +119,35 @@ public abstract class AbstractStubMappings implements StubMappings {
     return serveEvent.withResponseDefinition(copyOf(responseDefinition));
   }
 
+  /**
+   * Finds the stub to serve, preferring scenario-matched stubs over scenario-independent ones.
+   * Stubs are pulled lazily from the store in priority order, so matching stops as soon as the
+   * winner is known: either the first scenario-matched stub, or the first scenario-independent
+   * stub when there are no scenarios that could outrank it.
+   */
+  private StubMapping findMatchingStub(
+      LoggedRequest request, SessionId sessionId, Consumer<SubEvent> subEventConsumer) {
+    final Iterator<StubMapping> matchingStubs =
+        store.findAllMatchingRequest(request, customMatchers, subEventConsumer).iterator();
+
+    StubMapping firstScenarioIndependentStub = null;
+    while (matchingStubs.hasNext()) {
+      final StubMapping stubMapping = matchingStubs.next();
+      if (!stubMapping.isIndependentOfScenarioState()) {
+        if (scenarios.mappingMatchesScenarioState(sessionId, stubMapping)) {
+          return stubMapping;
+        }
+      } else if (firstScenarioIndependentStub == null) {
+        firstScenarioIndependentStub = stubMapping;
+        if (!scenarios.hasScenarios()) {
+          break;
+        }
+      }
+    }
+
+    return getFirstNonNull(firstScenarioIndependentStub, StubMapping.NOT_CONFIGURED);
+  }
+
   private ResponseDefinition addSessionIdToResponse(
       ResponseDefinition responseDefinition, SessionId sessionId) {
     String setCookieValue =
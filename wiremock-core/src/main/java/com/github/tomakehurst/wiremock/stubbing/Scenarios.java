@@ -23,6 +23,10 @@ public interface Scenarios {
 
   List<Scenario> getAll();
 
+  default boolean hasScenarios() {
+    return !getAll().isEmpty();
+  }
+
   void onStubMappingAdded(StubMapping mapping);
 
   void onStubMappingUpdated(StubMapping oldMapping, StubMapping newMapping);
@@ -78,6 +82,10 @@ public interface Scenarios {
     return Set.of();
   }
 
+  default int getActiveSessionCount() {
+    return getActiveSessions().size();
+  }
+
   default boolean isSessionAware() {
     return false;
   }
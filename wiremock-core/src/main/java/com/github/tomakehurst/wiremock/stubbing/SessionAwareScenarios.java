@@ -55,6 +55,11 @@ public class SessionAwareScenarios implements Scenarios {
     return store.getAll().collect(toList());
   }
 
+  @Override
+  public boolean hasScenarios() {
+    return store.getAll().findAny().isPresent();
+  }
+
   @Override
   public List<Scenario> getAllForSession(SessionId sessionId) {
     return store.getAllForSession(sessionId).collect(toList());
@@ -129,7 +134,7 @@ public class SessionAwareScenarios implements Scenarios {
   public void onStubServed(SessionId sessionId, StubMapping mapping) {
     if (mapping.isInScenario()) {
       final String scenarioName = mapping.getScenarioName();
-      Scenario scenario = getOrInitializeScenario(sessionId, scenarioName);
+      Scenario scenario = getScenario(sessionId, scenarioName);
 
       if (mapping.modifiesScenarioState()
           && (mapping.getRequiredScenarioState() == null
@@ -140,25 +145,28 @@ public class SessionAwareScenarios implements Scenarios {
     }
   }
 
-  private Scenario getOrInitializeScenario(SessionId sessionId, String scenarioName) {
+  /**
+   * Sessions start out with the global scenario's stubs in the started state. That copy is only
+   * stored once the session changes the scenario's state, so sessions that never do take up no
+   * space.
+   */
+  private Scenario getScenario(SessionId sessionId, String scenarioName) {
     return store
         .get(sessionId, scenarioName)
         .orElseGet(
             () -> {
-              // Initialize from global template or create new
               Scenario globalScenario =
                   store
                       .get(SessionId.global(), scenarioName)
                       .orElse(Scenario.inStartedState(scenarioName));
-              Scenario sessionScenario =
-                  new Scenario(
+              return sessionId.isGlobal()
+                  ? globalScenario
+                  : new Scenario(
                       globalScenario.getId(),
                       null,
                       Scenario.STARTED,
                       null,
                       globalScenario.getMappings());
-              store.put(sessionId, scenarioName, sessionScenario);
-              return sessionScenario;
             });
   }
 
@@ -200,7 +208,7 @@ public class SessionAwareScenarios implements Scenarios {
 
   private void setSingleScenarioState(
       SessionId sessionId, String name, java.util.function.Function<Scenario, Scenario> fn) {
-    Scenario scenario = getOrInitializeScenario(sessionId, name);
+    Scenario scenario = getScenario(sessionId, name);
     store.put(sessionId, name, fn.apply(scenario));
   }
 
@@ -221,7 +229,7 @@ public class SessionAwareScenarios implements Scenarios {
 
   @Override
   public boolean mappingMatchesScenarioState(SessionId sessionId, StubMapping mapping) {
-    Scenario scenario = getOrInitializeScenario(sessionId, mapping.getScenarioName());
+    Scenario scenario = getScenario(sessionId, mapping.getScenarioName());
     String currentScenarioState = scenario.getState();
     return mapping.getRequiredScenarioState().equals(currentScenarioState);
   }
@@ -230,4 +238,9 @@ public class SessionAwareScenarios implements Scenarios {
   public Set<String> getActiveSessions() {
     return store.getActiveSessions();
   }
+
+  @Override
+  public int getActiveSessionCount() {
+    return store.getActiveSessionCount();
+  }
 }
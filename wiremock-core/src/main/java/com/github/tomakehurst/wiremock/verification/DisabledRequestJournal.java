@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2013-2025 Thomas Akehurst
+ * Copyright (C) 2013-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -39,6 +39,11 @@ public class DisabledRequestJournal implements RequestJournal {
     throw new RequestJournalDisabledException();
   }
 
+  @Override
+  public List<ServeEvent> getServeEventsForStub(UUID stubMappingId) {
+    throw new RequestJournalDisabledException();
+  }
+
   @Override
   public Optional<ServeEvent> getServeEvent(UUID id) {
     throw new RequestJournalDisabledException();
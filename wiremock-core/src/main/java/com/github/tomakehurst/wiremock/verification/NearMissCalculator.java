@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2016-2025 Thomas Akehurst
+ * Copyright (C) 2016-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,17 +15,15 @@
  */
 package com.github.tomakehurst.wiremock.verification;
 
-import static java.lang.Math.min;
-
 import com.github.tomakehurst.wiremock.matching.MatchResult;
 import com.github.tomakehurst.wiremock.matching.MemoizingMatchResult;
 import com.github.tomakehurst.wiremock.matching.RequestMatcherExtension;
 import com.github.tomakehurst.wiremock.matching.RequestPattern;
 import com.github.tomakehurst.wiremock.stubbing.*;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 public class NearMissCalculator {
 
@@ -55,20 +53,17 @@ public class NearMissCalculator {
   }
 
   public List<NearMiss> findNearestTo(final LoggedRequest request) {
-    List<StubMapping> allMappings = stubMappings.getAll();
-
-    return sortAndTruncate(
-        allMappings.stream()
-            .map(
-                stubMapping -> {
-                  MatchResult matchResult =
-                      new MemoizingMatchResult(
-                          stubMapping.getRequest().match(request, customMatchers));
-                  String actualScenarioState = getScenarioStateOrNull(stubMapping);
-                  return new NearMiss(request, stubMapping, matchResult, actualScenarioState);
-                })
-            .collect(Collectors.toList()),
-        allMappings.size());
+    final NearestMisses nearest = new NearestMisses();
+    for (StubMapping stubMapping : stubMappings.getAll()) {
+      MatchResult matchResult =
+          new MemoizingMatchResult(stubMapping.getRequest().match(request, customMatchers));
+      if (nearest.wouldKeep(matchResult)) {
+        String actualScenarioState = getScenarioStateOrNull(stubMapping);
+        nearest.add(new NearMiss(request, stubMapping, matchResult, actualScenarioState));
+      }
+    }
+
+    return nearest.get();
   }
 
   private String getScenarioStateOrNull(StubMapping stubMapping) {
@@ -81,22 +76,45 @@ public class NearMissCalculator {
   }
 
   public List<NearMiss> findNearestTo(final RequestPattern requestPattern) {
-    List<ServeEvent> serveEvents = requestJournal.getAllServeEvents();
-    return sortAndTruncate(
-        serveEvents.stream()
-            .map(
-                serveEvent -> {
-                  MatchResult matchResult =
-                      new MemoizingMatchResult(
-                          requestPattern.match(serveEvent.getRequest(), customMatchers));
-                  return new NearMiss(serveEvent.getRequest(), requestPattern, matchResult);
-                })
-            .collect(Collectors.toList()),
-        serveEvents.size());
+    final NearestMisses nearest = new NearestMisses();
+    for (ServeEvent serveEvent : requestJournal.getAllServeEvents()) {
+      MatchResult matchResult =
+          new MemoizingMatchResult(requestPattern.match(serveEvent.getRequest(), customMatchers));
+      if (nearest.wouldKeep(matchResult)) {
+        nearest.add(new NearMiss(serveEvent.getRequest(), requestPattern, matchResult));
+      }
+    }
+
+    return nearest.get();
   }
 
-  private static List<NearMiss> sortAndTruncate(List<NearMiss> nearMisses, int originalSize) {
-    nearMisses.sort(NEAR_MISS_ASCENDING_COMPARATOR);
-    return nearMisses.subList(0, min(NEAR_MISS_COUNT, originalSize));
+  /**
+   * The {@link #NEAR_MISS_COUNT} nearest misses seen so far, nearest first. Anything further away
+   * than all of them is discarded straight away, rather than every candidate being kept and sorted.
+   * Of equally near misses, the one seen first comes first.
+   */
+  private static class NearestMisses {
+
+    private final List<NearMiss> nearest = new ArrayList<>(NEAR_MISS_COUNT + 1);
+
+    boolean wouldKeep(MatchResult matchResult) {
+      return nearest.size() < NEAR_MISS_COUNT
+          || matchResult.compareTo(nearest.get(nearest.size() - 1).getMatchResult()) > 0;
+    }
+
+    void add(NearMiss nearMiss) {
+      int index = nearest.size();
+      while (index > 0 && nearMiss.compareTo(nearest.get(index - 1)) < 0) {
+        index--;
+      }
+      nearest.add(index, nearMiss);
+      if (nearest.size() > NEAR_MISS_COUNT) {
+        nearest.remove(NEAR_MISS_COUNT);
+      }
+    }
+
+    List<NearMiss> get() {
+      return nearest;
+    }
   }
 }
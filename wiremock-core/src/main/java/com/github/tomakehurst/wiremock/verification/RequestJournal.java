@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2011-2025 Thomas Akehurst
+ * Copyright (C) 2011-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -30,6 +30,8 @@ public interface RequestJournal {
 
   List<ServeEvent> getAllServeEvents();
 
+  List<ServeEvent> getServeEventsForStub(UUID stubMappingId);
+
   Optional<ServeEvent> getServeEvent(UUID id);
 
   void reset();
@@ -0,0 +1,108 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.verification.notmatched;
+
+import static com.github.tomakehurst.wiremock.common.ContentTypes.CONTENT_TYPE;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+import com.github.tomakehurst.wiremock.core.Admin;
+import com.github.tomakehurst.wiremock.http.ResponseDefinition;
+import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
+import com.github.tomakehurst.wiremock.verification.LoggedRequest;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.RateLimiter;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limits how often the delegate renderer is asked to diagnose unmatched requests, since finding the
+ * nearest misses means matching the request against every stub.
+ *
+ * <p>Over the limit, a request gets the response most recently rendered for another request with
+ * the same method, URL, headers, cookies and body, if there is one, and otherwise a short response
+ * pointing to the near misses admin API, which finds them on demand. Requests are compared by a
+ * SHA-256 hash of all of these, so the cache doesn't hold on to request bodies.
+ */
+public class RateLimitedNotMatchedRenderer extends NotMatchedRenderer {
+
+  static final String DIAGNOSTICS_SKIPPED_MESSAGE =
+      "Request was not matched. Near miss diagnostics were skipped as too many unmatched requests"
+          + " are being received. GET /__admin/requests/unmatched/near-misses to find them.";
+
+  private static final ResponseDefinition DIAGNOSTICS_SKIPPED =
+      ResponseDefinitionBuilder.responseDefinition()
+          .withStatus(404)
+          .withHeader(CONTENT_TYPE, "text/plain")
+          .withBody(DIAGNOSTICS_SKIPPED_MESSAGE)
+          .build();
+
+  private final NotMatchedRenderer delegate;
+  private final RateLimiter rateLimiter;
+  private final Cache<HashCode, ResponseDefinition> recentResponses =
+      CacheBuilder.newBuilder().maximumSize(1000).expireAfterWrite(10, TimeUnit.SECONDS).build();
+
+  public RateLimitedNotMatchedRenderer(NotMatchedRenderer delegate, double maxPerSecond) {
+    this(delegate, RateLimiter.create(maxPerSecond));
+  }
+
+  RateLimitedNotMatchedRenderer(NotMatchedRenderer delegate, RateLimiter rateLimiter) {
+    this.delegate = delegate;
+    this.rateLimiter = rateLimiter;
+  }
+
+  @Override
+  protected ResponseDefinition render(Admin admin, ServeEvent serveEvent) {
+    HashCode shape = shapeOf(serveEvent.getRequest());
+    if (rateLimiter.tryAcquire()) {
+      ResponseDefinition responseDefinition = delegate.render(admin, serveEvent);
+      recentResponses.put(shape, responseDefinition);
+      return responseDefinition;
+    }
+
+    ResponseDefinition recent = recentResponses.getIfPresent(shape);
+    return recent != null ? recent : DIAGNOSTICS_SKIPPED;
+  }
+
+  private static HashCode shapeOf(LoggedRequest request) {
+    Hasher hasher = Hashing.sha256().newHasher();
+    putString(hasher, request.getMethod().getName());
+    putString(hasher, request.getUrl());
+
+    hasher.putInt(request.getHeaders().size());
+    request.getHeaders().all().forEach(header -> putValues(hasher, header.key(), header.values()));
+    hasher.putInt(request.getCookies().size());
+    request.getCookies().forEach((name, cookie) -> putValues(hasher, name, cookie.getValues()));
+
+    byte[] body = request.getBody() != null ? request.getBody() : new byte[0];
+    return hasher.putInt(body.length).putBytes(body).hash();
+  }
+
+  private static void putValues(Hasher hasher, String name, List<String> values) {
+    putString(hasher, name);
+    hasher.putInt(values.size());
+    values.forEach(value -> putString(hasher, value));
+  }
+
+  // Each string is preceded by its length, so that moving text between fields changes the hash
+  private static void putString(Hasher hasher, String value) {
+    hasher.putInt(value.length()).putString(value, UTF_8);
+  }
+}
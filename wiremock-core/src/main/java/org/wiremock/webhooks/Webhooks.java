@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2021-2025 Thomas Akehurst
+ * Copyright (C) 2021-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -33,12 +33,15 @@ import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
 import com.github.tomakehurst.wiremock.stubbing.SubEvent;
 import com.github.tomakehurst.wiremock.verification.LoggedRequest;
 import java.util.*;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ScheduledExecutorService;
 
 @SuppressWarnings("deprecation") // maintaining PostServeAction for backwards compatibility
 public class Webhooks extends PostServeAction implements ServeEventListener {
 
   private final ScheduledExecutorService scheduler;
+  private final Executor dispatcher;
   private final HttpClient httpClient;
   private final List<WebhookTransformer> transformers;
   private final TemplateEngine templateEngine;
@@ -48,8 +51,21 @@ public class Webhooks extends PostServeAction implements ServeEventListener {
       WireMockServices wireMockServices,
       ScheduledExecutorService scheduler,
       List<WebhookTransformer> transformers) {
+    this(wireMockServices, scheduler, Runnable::run, transformers);
+  }
+
+  /**
+   * @param dispatcher runs each webhook call once its delay has elapsed, so that slow calls needn't
+   *     occupy the scheduler's threads
+   */
+  public Webhooks(
+      WireMockServices wireMockServices,
+      ScheduledExecutorService scheduler,
+      Executor dispatcher,
+      List<WebhookTransformer> transformers) {
 
     this.scheduler = scheduler;
+    this.dispatcher = dispatcher;
     this.httpClient = wireMockServices.getDefaultHttpClient();
     this.transformers = transformers;
     this.templateEngine = wireMockServices.getTemplateEngine();
@@ -94,43 +110,62 @@ public class Webhooks extends PostServeAction implements ServeEventListener {
     }
 
     final WebhookDefinition finalDefinition = definition;
+    final Runnable call =
+        () ->
+            httpClient
+                .executeAsync(request)
+                .thenAccept(response -> onResponse(notifier, serveEvent, finalDefinition, response))
+                .exceptionally(
+                    failure -> {
+                      onFailure(notifier, serveEvent, finalDefinition, unwrap(failure));
+                      return null;
+                    });
+
     scheduler.schedule(
-        () -> {
-          try {
-            Response response = httpClient.execute(request);
-            notifier.info(
-                String.format(
-                    "Webhook %s request to %s returned status %s\n\n%s",
-                    finalDefinition.getMethod(),
-                    finalDefinition.getUrl(),
-                    response.getStatus(),
-                    response.getBodyAsString()));
-            serveEvent.appendSubEvent(
-                "WEBHOOK_RESPONSE",
-                LoggedResponse.from(
-                    response, this.dataTruncationSettings.getMaxResponseBodySize()));
-          } catch (ProhibitedNetworkAddressException e) {
-            final String msg =
-                String.format(
-                    "The target webhook address %s specified by stub %s is denied in WireMock's configuration.",
-                    finalDefinition.getUrl(),
-                    getFirstNonNull(
-                        serveEvent.getStubMapping().getName(),
-                        serveEvent.getStubMapping().getId(),
-                        "<no name or id>"));
-            notifier.error(msg);
-            serveEvent.appendSubEvent(SubEvent.error(msg));
-          } catch (Exception e) {
-            final String msg =
-                String.format(
-                    "Failed to fire webhook %s %s",
-                    finalDefinition.getMethod(), finalDefinition.getUrl());
-            notifier.error(msg, e);
-            serveEvent.appendSubEvent(SubEvent.error(msg + ": " + e.getMessage()));
-          }
-        },
-        finalDefinition.getDelaySampleMillis(),
-        MILLISECONDS);
+        () -> dispatcher.execute(call), finalDefinition.getDelaySampleMillis(), MILLISECONDS);
+  }
+
+  private void onResponse(
+      Notifier notifier, ServeEvent serveEvent, WebhookDefinition definition, Response response) {
+    notifier.info(
+        String.format(
+            "Webhook %s request to %s returned status %s\n\n%s",
+            definition.getMethod(),
+            definition.getUrl(),
+            response.getStatus(),
+            response.getBodyAsString()));
+    serveEvent.appendSubEvent(
+        "WEBHOOK_RESPONSE",
+        LoggedResponse.from(response, this.dataTruncationSettings.getMaxResponseBodySize()));
+  }
+
+  private static void onFailure(
+      Notifier notifier, ServeEvent serveEvent, WebhookDefinition definition, Throwable failure) {
+    final String msg;
+    if (failure instanceof ProhibitedNetworkAddressException) {
+      msg =
+          String.format(
+              "The target webhook address %s specified by stub %s is denied in WireMock's configuration.",
+              definition.getUrl(),
+              getFirstNonNull(
+                  serveEvent.getStubMapping().getName(),
+                  serveEvent.getStubMapping().getId(),
+                  "<no name or id>"));
+      notifier.error(msg);
+      serveEvent.appendSubEvent(SubEvent.error(msg));
+    } else {
+      msg =
+          String.format(
+              "Failed to fire webhook %s %s", definition.getMethod(), definition.getUrl());
+      notifier.error(msg, failure);
+      serveEvent.appendSubEvent(SubEvent.error(msg + ": " + failure.getMessage()));
+    }
+  }
+
+  private static Throwable unwrap(Throwable failure) {
+    return failure instanceof CompletionException && failure.getCause() != null
+        ? failure.getCause()
+        : failure;
   }
 
   private WebhookDefinition applyTemplating(
@@ -0,0 +1,255 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.http.client.apache5;
+
+import static com.github.tomakehurst.wiremock.common.Exceptions.throwUnchecked;
+import static com.github.tomakehurst.wiremock.http.client.apache5.ApacheBackedHttpClient.headersToSend;
+import static com.github.tomakehurst.wiremock.http.client.apache5.ApacheBackedHttpClient.safelyToUri;
+import static com.github.tomakehurst.wiremock.http.client.apache5.ApacheBackedHttpClient.toWireMockHttpResponseBuilder;
+import static java.util.Objects.requireNonNull;
+
+import com.github.tomakehurst.wiremock.common.Gzip;
+import com.github.tomakehurst.wiremock.http.Request;
+import com.github.tomakehurst.wiremock.http.Response;
+import com.github.tomakehurst.wiremock.http.client.ConnectionPoolStats;
+import com.github.tomakehurst.wiremock.http.client.HttpClient;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+import org.apache.hc.client5.http.async.methods.SimpleResponseConsumer;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.ClassicHttpResponse;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpEntity;
+import org.apache.hc.core5.http.message.BasicHttpRequest;
+import org.apache.hc.core5.http.nio.AsyncEntityProducer;
+import org.apache.hc.core5.http.nio.AsyncRequestProducer;
+import org.apache.hc.core5.http.nio.entity.BasicAsyncEntityProducer;
+import org.apache.hc.core5.http.nio.support.BasicRequestProducer;
+import org.apache.hc.core5.http.nio.support.classic.ClassicToAsyncResponseConsumer;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.pool.ConnPoolControl;
+
+/**
+ * An {@link HttpClient} backed by the Apache async client, whose I/O runs on a few reactor threads
+ * however many requests are in flight. Response bodies are read into memory before the returned
+ * future completes, except by {@link #executeStreaming(Request)}.
+ */
+public class ApacheAsyncBackedHttpClient implements HttpClient {
+
+  // Connection specific headers, which HTTP/2 forbids
+  private static final List<String> HOP_BY_HOP_HEADERS =
+      List.of("keep-alive", "proxy-connection", "te");
+
+  private final CloseableHttpAsyncClient apacheHttpClient;
+  private final boolean preserveUserAgentProxyHeader;
+  private final ConnPoolControl<HttpRoute> connectionPool;
+
+  public ApacheAsyncBackedHttpClient(
+      CloseableHttpAsyncClient apacheHttpClient, boolean preserveUserAgentProxyHeader) {
+    this(apacheHttpClient, preserveUserAgentProxyHeader, null);
+  }
+
+  public ApacheAsyncBackedHttpClient(
+      CloseableHttpAsyncClient apacheHttpClient,
+      boolean preserveUserAgentProxyHeader,
+      ConnPoolControl<HttpRoute> connectionPool) {
+    this.apacheHttpClient = apacheHttpClient;
+    this.preserveUserAgentProxyHeader = preserveUserAgentProxyHeader;
+    this.connectionPool = connectionPool;
+  }
+
+  @Override
+  public Response execute(Request request) throws IOException {
+    try {
+      return executeAsync(request).get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException(
+          "Interrupted while waiting for " + request.getTypedAbsoluteUrl());
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof IOException ioException) {
+        throw ioException;
+      }
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new IOException(e.getCause());
+    }
+  }
+
+  /**
+   * Returns once the response headers have arrived. The body is then read from the connection as
+   * it's read from the response, through a small buffer that the reactor fills. Closing the body
+   * before reaching its end cancels the exchange, rather than reading the rest.
+   */
+  @Override
+  public Response executeStreaming(Request request) throws IOException {
+    final ClassicToAsyncResponseConsumer responseConsumer =
+        new ClassicToAsyncResponseConsumer(null);
+    final Future<Void> exchange =
+        apacheHttpClient.execute(createRequestProducer(request), responseConsumer, null);
+
+    final ClassicHttpResponse apacheResponse;
+    try {
+      apacheResponse = responseConsumer.blockWaiting();
+    } catch (InterruptedException e) {
+      exchange.cancel(true);
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException(
+          "Interrupted while waiting for " + request.getTypedAbsoluteUrl());
+    }
+
+    final Response.Builder responseBuilder = toWireMockHttpResponseBuilder(apacheResponse);
+    final HttpEntity entity = apacheResponse.getEntity();
+    if (entity != null) {
+      responseBuilder.streamedBody(() -> openEntityStream(entity, exchange));
+    }
+    return responseBuilder.build();
+  }
+
+  @Override
+  public CompletableFuture<Response> executeAsync(Request request) {
+    final CompletableFuture<Response> future = new CompletableFuture<>();
+    try {
+      apacheHttpClient.execute(
+          createRequestProducer(request),
+          SimpleResponseConsumer.create(),
+          new FutureCallback<>() {
+            @Override
+            public void completed(SimpleHttpResponse apacheResponse) {
+              future.complete(toWireMockHttpResponse(apacheResponse));
+            }
+
+            @Override
+            public void failed(Exception e) {
+              future.completeExceptionally(e);
+            }
+
+            @Override
+            public void cancelled() {
+              future.completeExceptionally(new CancellationException());
+            }
+          });
+    } catch (RuntimeException e) {
+      future.completeExceptionally(e);
+    }
+    return future;
+  }
+
+  @Override
+  public Optional<ConnectionPoolStats> getConnectionPoolStats() {
+    return Optional.ofNullable(connectionPool).map(ApacheBackedHttpClient::toConnectionPoolStats);
+  }
+
+  /** Stops the client's I/O reactor threads and closes its connections. */
+  @Override
+  public void close() {
+    apacheHttpClient.close(CloseMode.GRACEFUL);
+  }
+
+  private static InputStream openEntityStream(HttpEntity entity, Future<Void> exchange) {
+    try {
+      return new FilterInputStream(entity.getContent()) {
+        private boolean ended;
+
+        @Override
+        public int read() throws IOException {
+          return ended(super.read());
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) throws IOException {
+          return ended(super.read(bytes, offset, length));
+        }
+
+        @Override
+        public void close() throws IOException {
+          if (ended) {
+            super.close();
+          } else {
+            exchange.cancel(true);
+          }
+        }
+
+        private int ended(int result) {
+          ended = ended || result == -1;
+          return result;
+        }
+      };
+    } catch (IOException e) {
+      exchange.cancel(true);
+      return throwUnchecked(e, InputStream.class);
+    }
+  }
+
+  private AsyncRequestProducer createRequestProducer(Request request) {
+    final BasicHttpRequest apacheRequest =
+        new BasicHttpRequest(
+            request.getMethod().getName(),
+            safelyToUri(requireNonNull(request.getTypedAbsoluteUrl())));
+    apacheRequest.setHeaders(
+        Arrays.stream(headersToSend(request, preserveUserAgentProxyHeader))
+            .filter(header -> !HOP_BY_HOP_HEADERS.contains(header.getName().toLowerCase()))
+            .toArray(Header[]::new));
+
+    AsyncEntityProducer entity = null;
+    if (request.getBody() != null) {
+      final ContentType contentType =
+          request.contentTypeHeader().isPresent()
+              ? ContentType.parse(request.contentTypeHeader().firstValue())
+              : null;
+      final boolean chunked =
+          request.containsHeader(TRANSFER_ENCODING)
+              && request.header(TRANSFER_ENCODING).firstValue().equals("chunked");
+      entity = new BasicAsyncEntityProducer(bodyToSend(request), contentType, chunked);
+    }
+
+    return new BasicRequestProducer(apacheRequest, entity);
+  }
+
+  private static byte[] bodyToSend(Request request) {
+    if (request.containsHeader(CONTENT_ENCODING)
+        && request.header(CONTENT_ENCODING).firstValue().contains("gzip")) {
+      return Gzip.gzip(request.getBody());
+    }
+
+    return request.getBody();
+  }
+
+  private static Response toWireMockHttpResponse(SimpleHttpResponse apacheResponse) {
+    final Response.Builder responseBuilder = toWireMockHttpResponseBuilder(apacheResponse);
+
+    final byte[] body = apacheResponse.getBodyBytes();
+    if (body != null) {
+      responseBuilder.body(body);
+    }
+
+    return responseBuilder.build();
+  }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.http.client.apache5;
+
+import com.github.tomakehurst.wiremock.core.Options;
+import com.github.tomakehurst.wiremock.http.client.HttpClient;
+import com.github.tomakehurst.wiremock.http.client.HttpClientFactory;
+import java.util.List;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManager;
+
+/**
+ * Builds clients on the Apache async client, which negotiate HTTP/2 with TLS origins and don't tie
+ * up a thread per request in flight. Not registered as a service, so has to be chosen with {@link
+ * com.github.tomakehurst.wiremock.core.WireMockConfiguration#httpClientFactory(HttpClientFactory)}.
+ */
+public class ApacheAsyncHttpClientFactory implements HttpClientFactory {
+
+  @Override
+  public HttpClient buildHttpClient(
+      Options options,
+      boolean trustAllCertificates,
+      List<String> trustedHosts,
+      boolean useSystemProperties) {
+    final PoolingAsyncClientConnectionManager connectionManager =
+        StaticApacheHttpClientFactory.createAsyncConnectionManager(
+            options.getMaxHttpClientConnections(),
+            options.getMaxHttpClientConnectionsPerRoute(),
+            options.httpsSettings().trustStore(),
+            trustAllCertificates,
+            trustedHosts,
+            options.getProxyTargetRules());
+    final CloseableHttpAsyncClient apacheClient =
+        StaticApacheHttpClientFactory.createAsyncClient(
+            connectionManager,
+            options.proxyTimeout(),
+            options.proxyVia(),
+            useSystemProperties,
+            options.getDisableConnectionReuse(),
+            null,
+            options.getHttpClientIdleConnectionTimeoutMillis(),
+            options.getHttpClientKeepAliveMillis());
+    apacheClient.start();
+
+    return new ApacheAsyncBackedHttpClient(
+        apacheClient, options.shouldPreserveUserAgentProxyHeader(), connectionManager);
+  }
+}
@@ -15,6 +15,7 @@
  */
 package com.github.tomakehurst.wiremock.http.client.apache5;
 
+import static com.github.tomakehurst.wiremock.common.Exceptions.throwUnchecked;
 import static com.github.tomakehurst.wiremock.http.Response.response;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Objects.requireNonNull;
@@ -25,12 +26,20 @@ import com.github.tomakehurst.wiremock.http.HttpHeader;
 import com.github.tomakehurst.wiremock.http.HttpHeaders;
 import com.github.tomakehurst.wiremock.http.Request;
 import com.github.tomakehurst.wiremock.http.Response;
+import com.github.tomakehurst.wiremock.http.client.ConnectionPoolStats;
+import com.github.tomakehurst.wiremock.http.client.ConnectionPoolStats.Usage;
 import com.github.tomakehurst.wiremock.http.client.HttpClient;
 import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import org.apache.hc.client5.http.HttpRoute;
 import org.apache.hc.client5.http.entity.GzipCompressingEntity;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 import org.apache.hc.core5.http.*;
@@ -39,6 +48,9 @@ import org.apache.hc.core5.http.io.entity.EntityUtils;
 import org.apache.hc.core5.http.io.entity.InputStreamEntity;
 import org.apache.hc.core5.http.io.support.ClassicRequestBuilder;
 import org.apache.hc.core5.http.message.BasicHeader;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.pool.ConnPoolControl;
+import org.apache.hc.core5.pool.PoolStats;
 import org.jspecify.annotations.NonNull;
 import org.wiremock.url.AbsoluteUrl;
 
@@ -46,11 +58,20 @@ public class ApacheBackedHttpClient implements HttpClient {
 
   private final CloseableHttpClient apacheHttpClient;
   private final boolean preserveUserAgentProxyHeader;
+  private final ConnPoolControl<HttpRoute> connectionPool;
 
   public ApacheBackedHttpClient(
       CloseableHttpClient apacheHttpClient, boolean preserveUserAgentProxyHeader) {
+    this(apacheHttpClient, preserveUserAgentProxyHeader, null);
+  }
+
+  public ApacheBackedHttpClient(
+      CloseableHttpClient apacheHttpClient,
+      boolean preserveUserAgentProxyHeader,
+      ConnPoolControl<HttpRoute> connectionPool) {
     this.apacheHttpClient = apacheHttpClient;
     this.preserveUserAgentProxyHeader = preserveUserAgentProxyHeader;
+    this.connectionPool = connectionPool;
   }
 
   @Override
@@ -59,6 +80,76 @@ public class ApacheBackedHttpClient implements HttpClient {
     return apacheHttpClient.execute(apacheRequest, ApacheBackedHttpClient::toWireMockHttpResponse);
   }
 
+  @Override
+  public Response executeStreaming(Request request) throws IOException {
+    ClassicHttpRequest apacheRequest = createApacheRequest(request, preserveUserAgentProxyHeader);
+    ClassicHttpResponse apacheResponse = apacheHttpClient.executeOpen(null, apacheRequest, null);
+    try {
+      final Response.Builder responseBuilder = toWireMockHttpResponseBuilder(apacheResponse);
+      final HttpEntity entity = apacheResponse.getEntity();
+      if (entity == null) {
+        apacheResponse.close();
+      } else {
+        responseBuilder.streamedBody(() -> openEntityStream(apacheResponse, entity));
+      }
+      return responseBuilder.build();
+    } catch (RuntimeException e) {
+      apacheResponse.close();
+      throw e;
+    }
+  }
+
+  @Override
+  public Optional<ConnectionPoolStats> getConnectionPoolStats() {
+    return Optional.ofNullable(connectionPool).map(ApacheBackedHttpClient::toConnectionPoolStats);
+  }
+
+  @Override
+  public void close() {
+    apacheHttpClient.close(CloseMode.GRACEFUL);
+  }
+
+  // Keyed by the whole route, so direct and proxied connections to the same host stay apart
+  static ConnectionPoolStats toConnectionPoolStats(ConnPoolControl<HttpRoute> connectionPool) {
+    final Map<String, Usage> routes = new TreeMap<>();
+    for (HttpRoute route : connectionPool.getRoutes()) {
+      routes.put(route.toString(), toUsage(connectionPool.getStats(route)));
+    }
+    return new ConnectionPoolStats(toUsage(connectionPool.getTotalStats()), routes);
+  }
+
+  private static Usage toUsage(PoolStats poolStats) {
+    return new Usage(
+        poolStats.getLeased(),
+        poolStats.getPending(),
+        poolStats.getAvailable(),
+        poolStats.getMax());
+  }
+
+  /** Closes the whole response along with the stream, which releases the connection. */
+  private static InputStream openEntityStream(
+      ClassicHttpResponse apacheResponse, HttpEntity entity) {
+    try {
+      return new FilterInputStream(entity.getContent()) {
+        @Override
+        public void close() throws IOException {
+          apacheResponse.close();
+        }
+      };
+    } catch (IOException e) {
+      closeQuietly(apacheResponse);
+      return throwUnchecked(e, InputStream.class);
+    }
+  }
+
+  private static void closeQuietly(ClassicHttpResponse apacheResponse) {
+    try {
+      apacheResponse.close();
+    } catch (IOException ignored) {
+      // the connection is discarded anyway
+    }
+  }
+
   private static ClassicHttpRequest createApacheRequest(
       Request request, boolean preserveUserAgentProxyHeader) {
     ContentType contentType =
@@ -70,18 +161,7 @@ public class ApacheBackedHttpClient implements HttpClient {
     final ClassicRequestBuilder requestBuilder =
         ClassicRequestBuilder.create(request.getMethod().getName())
             .setUri(uri)
-            .setHeaders(
-                request.getHeaders().all().stream()
-                    .filter(
-                        header ->
-                            !FORBIDDEN_REQUEST_HEADERS.contains(header.key().toLowerCase())
-                                || (preserveUserAgentProxyHeader
-                                    && header.key().equalsIgnoreCase(USER_AGENT)))
-                    .flatMap(
-                        header ->
-                            header.values().stream()
-                                .map(headerValue -> new BasicHeader(header.key(), headerValue)))
-                    .toArray(Header[]::new));
+            .setHeaders(headersToSend(request, preserveUserAgentProxyHeader));
 
     if (request.getBody() != null) {
       HttpEntity entity =
@@ -97,7 +177,20 @@ public class ApacheBackedHttpClient implements HttpClient {
     return requestBuilder.build();
   }
 
-  private static @NonNull URI safelyToUri(@NonNull AbsoluteUrl absoluteUrl) {
+  static Header[] headersToSend(Request request, boolean preserveUserAgentProxyHeader) {
+    return request.getHeaders().all().stream()
+        .filter(
+            header ->
+                !FORBIDDEN_REQUEST_HEADERS.contains(header.key().toLowerCase())
+                    || (preserveUserAgentProxyHeader && header.key().equalsIgnoreCase(USER_AGENT)))
+        .flatMap(
+            header ->
+                header.values().stream()
+                    .map(headerValue -> new BasicHeader(header.key(), headerValue)))
+        .toArray(Header[]::new);
+  }
+
+  static @NonNull URI safelyToUri(@NonNull AbsoluteUrl absoluteUrl) {
     try {
       return absoluteUrl.toJavaUri();
     } catch (IllegalArgumentException e) {
@@ -117,6 +210,17 @@ public class ApacheBackedHttpClient implements HttpClient {
 
   private static Response toWireMockHttpResponse(ClassicHttpResponse apacheResponse)
       throws IOException {
+    final Response.Builder responseBuilder = toWireMockHttpResponseBuilder(apacheResponse);
+
+    final HttpEntity entity = apacheResponse.getEntity();
+    if (entity != null) {
+      responseBuilder.body(EntityUtils.toByteArray(entity));
+    }
+
+    return responseBuilder.build();
+  }
+
+  static Response.Builder toWireMockHttpResponseBuilder(HttpResponse apacheResponse) {
     final List<HttpHeader> headers =
         Arrays.stream(apacheResponse.getHeaders())
             .collect(groupingBy(NameValuePair::getName))
@@ -137,15 +241,10 @@ public class ApacheBackedHttpClient implements HttpClient {
             .headers(new HttpHeaders(headers))
             .protocol(apacheResponse.getVersion().toString());
 
-    final HttpEntity entity = apacheResponse.getEntity();
-    if (entity != null) {
-      responseBuilder.body(EntityUtils.toByteArray(entity));
-    }
-
     if (apacheResponse.getReasonPhrase() != null) {
       responseBuilder.statusMessage(apacheResponse.getReasonPhrase());
     }
 
-    return responseBuilder.build();
+    return responseBuilder;
   }
 }
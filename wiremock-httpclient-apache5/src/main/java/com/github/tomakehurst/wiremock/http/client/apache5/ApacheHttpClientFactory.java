@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2023-2025 Thomas Akehurst
+ * Copyright (C) 2023-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -27,6 +27,7 @@ import com.github.tomakehurst.wiremock.http.client.HttpClientFactory;
 import java.util.Collections;
 import java.util.List;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
 
 public class ApacheHttpClientFactory implements HttpClientFactory {
 
@@ -36,20 +37,27 @@ public class ApacheHttpClientFactory implements HttpClientFactory {
       boolean trustAllCertificates,
       List<String> trustedHosts,
       boolean useSystemProperties) {
-    final CloseableHttpClient apacheClient =
-        createClient(
+    final PoolingHttpClientConnectionManager connectionManager =
+        StaticApacheHttpClientFactory.createConnectionManager(
             options.getMaxHttpClientConnections(),
-            options.proxyTimeout(),
-            options.proxyVia(),
+            options.getMaxHttpClientConnectionsPerRoute(),
             options.httpsSettings().trustStore(),
             trustAllCertificates,
             trustedHosts,
+            options.getProxyTargetRules());
+    final CloseableHttpClient apacheClient =
+        StaticApacheHttpClientFactory.createClient(
+            connectionManager,
+            options.proxyTimeout(),
+            options.proxyVia(),
             useSystemProperties,
-            options.getProxyTargetRules(),
             options.getDisableConnectionReuse(),
-            null);
+            null,
+            options.getHttpClientIdleConnectionTimeoutMillis(),
+            options.getHttpClientKeepAliveMillis());
 
-    return new ApacheBackedHttpClient(apacheClient, options.shouldPreserveUserAgentProxyHeader());
+    return new ApacheBackedHttpClient(
+        apacheClient, options.shouldPreserveUserAgentProxyHeader(), connectionManager);
   }
 
   public static CloseableHttpClient createClient() {
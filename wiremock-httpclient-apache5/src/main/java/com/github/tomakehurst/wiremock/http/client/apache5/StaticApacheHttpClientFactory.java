@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2011-2025 Thomas Akehurst
+ * Copyright (C) 2011-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -32,18 +32,31 @@ import java.util.List;
 import javax.net.ssl.SSLContext;
 import org.apache.hc.client5.http.auth.AuthScope;
 import org.apache.hc.client5.http.auth.UsernamePasswordCredentials;
+import org.apache.hc.client5.http.config.ConnectionConfig;
 import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.config.TlsConfig;
 import org.apache.hc.client5.http.impl.DefaultAuthenticationStrategy;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClientBuilder;
 import org.apache.hc.client5.http.impl.auth.BasicCredentialsProvider;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
 import org.apache.hc.client5.http.impl.io.ManagedHttpClientConnectionFactory;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
 import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManager;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.io.HttpClientConnectionManager;
+import org.apache.hc.client5.http.nio.AsyncClientConnectionManager;
 import org.apache.hc.client5.http.socket.LayeredConnectionSocketFactory;
+import org.apache.hc.client5.http.ssl.ClientTlsStrategyBuilder;
+import org.apache.hc.client5.http.ssl.HostnameVerificationPolicy;
 import org.apache.hc.client5.http.ssl.NoopHostnameVerifier;
 import org.apache.hc.client5.http.ssl.SSLConnectionSocketFactory;
 import org.apache.hc.core5.http.HttpHost;
 import org.apache.hc.core5.http.config.CharCodingConfig;
+import org.apache.hc.core5.http.nio.ssl.TlsStrategy;
+import org.apache.hc.core5.http2.HttpVersionPolicy;
 import org.apache.hc.core5.util.TextUtils;
 import org.apache.hc.core5.util.TimeValue;
 import org.apache.hc.core5.util.Timeout;
@@ -61,9 +74,57 @@ class StaticApacheHttpClientFactory {
       NetworkAddressRules networkAddressRules,
       boolean disableConnectionReuse,
       String userAgent) {
+    return createClient(
+        createConnectionManager(
+            maxConnections,
+            maxConnections,
+            trustStoreSettings,
+            trustAllCertificates,
+            trustedHosts,
+            networkAddressRules),
+        timeoutMilliseconds,
+        proxySettings,
+        useSystemProperties,
+        disableConnectionReuse,
+        userAgent,
+        0,
+        0);
+  }
 
-    NetworkAddressRulesAdheringDnsResolver dnsResolver =
-        new NetworkAddressRulesAdheringDnsResolver(networkAddressRules);
+  static PoolingHttpClientConnectionManager createConnectionManager(
+      int maxConnections,
+      int maxConnectionsPerRoute,
+      KeyStoreSettings trustStoreSettings,
+      boolean trustAllCertificates,
+      List<String> trustedHosts,
+      NetworkAddressRules networkAddressRules) {
+    final SSLContext sslContext =
+        buildSslContext(trustStoreSettings, trustAllCertificates, trustedHosts);
+    LayeredConnectionSocketFactory sslSocketFactory = buildSslConnectionSocketFactory(sslContext);
+    return PoolingHttpClientConnectionManagerBuilder.create()
+        .setSSLSocketFactory(sslSocketFactory)
+        .setDnsResolver(new NetworkAddressRulesAdheringDnsResolver(networkAddressRules))
+        .setMaxConnPerRoute(maxConnectionsPerRoute)
+        .setMaxConnTotal(maxConnections)
+        .setDefaultConnectionConfig(
+            ConnectionConfig.custom()
+                .setValidateAfterInactivity(TimeValue.ofSeconds(5)) // TODO Verify duration
+                .build())
+        .setConnectionFactory(
+            new ManagedHttpClientConnectionFactory(
+                null, CharCodingConfig.custom().setCharset(UTF_8).build(), null))
+        .build();
+  }
+
+  static CloseableHttpClient createClient(
+      HttpClientConnectionManager connectionManager,
+      int timeoutMilliseconds,
+      ProxySettings proxySettings,
+      boolean useSystemProperties,
+      boolean disableConnectionReuse,
+      String userAgent,
+      long idleConnectionTimeoutMillis,
+      long keepAliveMillis) {
 
     HttpClientBuilder builder =
         HttpClientBuilder.create()
@@ -76,6 +137,7 @@ class StaticApacheHttpClientFactory {
                 RequestConfig.custom()
                     .setResponseTimeout(Timeout.ofMilliseconds(timeoutMilliseconds))
                     .setProtocolUpgradeEnabled(false)
+                    .setConnectionKeepAlive(keepAlive(keepAliveMillis))
                     .build());
 
     String effectiveUserAgent =
@@ -88,6 +150,12 @@ class StaticApacheHttpClientFactory {
           .setKeepAliveStrategy((response, context) -> TimeValue.ZERO_MILLISECONDS);
     }
 
+    if (idleConnectionTimeoutMillis > 0) {
+      builder
+          .evictIdleConnections(TimeValue.ofMilliseconds(idleConnectionTimeoutMillis))
+          .evictExpiredConnections();
+    }
+
     if (useSystemProperties) {
       builder.useSystemProperties();
     }
@@ -106,24 +174,107 @@ class StaticApacheHttpClientFactory {
       }
     }
 
-    final SSLContext sslContext =
-        buildSslContext(trustStoreSettings, trustAllCertificates, trustedHosts);
-    LayeredConnectionSocketFactory sslSocketFactory = buildSslConnectionSocketFactory(sslContext);
-    builder.setConnectionManager(
-        PoolingHttpClientConnectionManagerBuilder.create()
-            .setSSLSocketFactory(sslSocketFactory)
-            .setDnsResolver(dnsResolver)
-            .setMaxConnPerRoute(maxConnections)
-            .setMaxConnTotal(maxConnections)
-            .setValidateAfterInactivity(TimeValue.ofSeconds(5)) // TODO Verify duration
-            .setConnectionFactory(
-                new ManagedHttpClientConnectionFactory(
-                    null, CharCodingConfig.custom().setCharset(UTF_8).build(), null))
-            .build());
+    builder.setConnectionManager(connectionManager);
 
     return builder.build();
   }
 
+  static PoolingAsyncClientConnectionManager createAsyncConnectionManager(
+      int maxConnections,
+      int maxConnectionsPerRoute,
+      KeyStoreSettings trustStoreSettings,
+      boolean trustAllCertificates,
+      List<String> trustedHosts,
+      NetworkAddressRules networkAddressRules) {
+    TlsStrategy tlsStrategy =
+        ClientTlsStrategyBuilder.create()
+            .setSslContext(buildSslContext(trustStoreSettings, trustAllCertificates, trustedHosts))
+            .setTlsVersions(split(System.getProperty("https.protocols")))
+            .setCiphers(split(System.getProperty("https.cipherSuites")))
+            .setHostVerificationPolicy(HostnameVerificationPolicy.BUILTIN)
+            .setHostnameVerifier(NoopHostnameVerifier.INSTANCE)
+            .buildAsync();
+
+    // HTTP/2 is negotiated with TLS origins, and its connections are shared by concurrent requests
+    return PoolingAsyncClientConnectionManagerBuilder.create()
+        .setTlsStrategy(tlsStrategy)
+        .setDnsResolver(new NetworkAddressRulesAdheringDnsResolver(networkAddressRules))
+        .setMaxConnPerRoute(maxConnectionsPerRoute)
+        .setMaxConnTotal(maxConnections)
+        .setDefaultConnectionConfig(
+            ConnectionConfig.custom().setValidateAfterInactivity(TimeValue.ofSeconds(5)).build())
+        .setDefaultTlsConfig(
+            TlsConfig.custom().setVersionPolicy(HttpVersionPolicy.NEGOTIATE).build())
+        .setMessageMultiplexing(true)
+        .build();
+  }
+
+  static CloseableHttpAsyncClient createAsyncClient(
+      AsyncClientConnectionManager connectionManager,
+      int timeoutMilliseconds,
+      ProxySettings proxySettings,
+      boolean useSystemProperties,
+      boolean disableConnectionReuse,
+      String userAgent,
+      long idleConnectionTimeoutMillis,
+      long keepAliveMillis) {
+
+    HttpAsyncClientBuilder builder =
+        HttpAsyncClientBuilder.create()
+            .disableAuthCaching()
+            .disableAutomaticRetries()
+            .disableCookieManagement()
+            .disableRedirectHandling()
+            .disableContentCompression()
+            .setDefaultRequestConfig(
+                RequestConfig.custom()
+                    .setResponseTimeout(Timeout.ofMilliseconds(timeoutMilliseconds))
+                    .setProtocolUpgradeEnabled(false)
+                    .setConnectionKeepAlive(keepAlive(keepAliveMillis))
+                    .build());
+
+    builder.setUserAgent(
+        userAgent != null ? userAgent : "WireMock " + Version.getCurrentVersion());
+
+    if (disableConnectionReuse) {
+      builder
+          .setConnectionReuseStrategy((request, response, context) -> false)
+          .setKeepAliveStrategy((response, context) -> TimeValue.ZERO_MILLISECONDS);
+    }
+
+    if (idleConnectionTimeoutMillis > 0) {
+      builder
+          .evictIdleConnections(TimeValue.ofMilliseconds(idleConnectionTimeoutMillis))
+          .evictExpiredConnections();
+    }
+
+    if (useSystemProperties) {
+      builder.useSystemProperties();
+    }
+
+    if (proxySettings != NO_PROXY) {
+      builder.setProxy(new HttpHost(proxySettings.host(), proxySettings.port()));
+      if (isNotEmpty(proxySettings.getUsername()) && isNotEmpty(proxySettings.getPassword())) {
+        builder.setProxyAuthenticationStrategy(new DefaultAuthenticationStrategy());
+        BasicCredentialsProvider credentialsProvider = new BasicCredentialsProvider();
+        credentialsProvider.setCredentials(
+            new AuthScope(proxySettings.host(), proxySettings.port()),
+            new UsernamePasswordCredentials(
+                proxySettings.getUsername(), proxySettings.getPassword().toCharArray()));
+        builder.setDefaultCredentialsProvider(credentialsProvider);
+      }
+    }
+
+    builder.setConnectionManager(connectionManager);
+
+    return builder.build();
+  }
+
+  // Null leaves Apache's default, used when a response doesn't say how long to keep alive for
+  private static TimeValue keepAlive(long keepAliveMillis) {
+    return keepAliveMillis > 0 ? TimeValue.ofMilliseconds(keepAliveMillis) : null;
+  }
+
   private static LayeredConnectionSocketFactory buildSslConnectionSocketFactory(
       final SSLContext sslContext) {
     final String[] supportedProtocols = split(System.getProperty("https.protocols"));
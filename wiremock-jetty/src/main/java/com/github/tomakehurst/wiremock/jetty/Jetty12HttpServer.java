@@ -20,6 +20,7 @@ import static com.github.tomakehurst.wiremock.core.WireMockApp.ADMIN_CONTEXT_ROO
 import static com.github.tomakehurst.wiremock.jetty.JettyUtils.createHttpConfig;
 import static com.github.tomakehurst.wiremock.jetty.ssl.SslContexts.buildManInTheMiddleSslContextFactory;
 import static java.util.concurrent.Executors.newScheduledThreadPool;
+import static java.util.concurrent.Executors.newSingleThreadScheduledExecutor;
 
 import com.github.tomakehurst.wiremock.common.AsynchronousResponseSettings;
 import com.github.tomakehurst.wiremock.common.FileSource;
@@ -359,7 +360,13 @@ public class Jetty12HttpServer extends JettyHttpServer {
       mockServiceContext.setAttribute(
           WireMockHandlerDispatchingServlet.ASYNCHRONOUS_RESPONSE_EXECUTOR,
           scheduledExecutorService);
+    } else {
+      // Only times dribbled chunks, which are written without holding a thread between them. Its
+      // thread isn't started until the first dribbled response.
+      scheduledExecutorService = newSingleThreadScheduledExecutor();
     }
+    mockServiceContext.setAttribute(
+        WireMockHandlerDispatchingServlet.CHUNKED_DRIBBLE_EXECUTOR, scheduledExecutorService);
 
     servletHolder.getRegistration().setMultipartConfig(buildMultipartRequestConfigurer().build());
 
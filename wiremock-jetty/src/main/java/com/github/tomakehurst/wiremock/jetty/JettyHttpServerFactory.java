@@ -15,6 +15,7 @@
  */
 package com.github.tomakehurst.wiremock.jetty;
 
+import com.github.tomakehurst.wiremock.common.VirtualThreads;
 import com.github.tomakehurst.wiremock.core.Options;
 import com.github.tomakehurst.wiremock.http.*;
 import com.github.tomakehurst.wiremock.message.MessageStubRequestHandler;
@@ -47,7 +48,24 @@ public class JettyHttpServerFactory implements HttpServerFactory, DefaultFactory
         adminRequestHandler,
         stubRequestHandler,
         settings,
-        new QueuedThreadPool(options.containerThreads()),
+        buildThreadPool(options),
         messageStubRequestHandler);
   }
+
+  private static QueuedThreadPool buildThreadPool(Options options) {
+    final QueuedThreadPool threadPool = new QueuedThreadPool(options.containerThreads());
+    if (options.getVirtualThreadsEnabled()) {
+      VirtualThreads.newVirtualThreadPerTaskExecutor()
+          .ifPresentOrElse(
+              threadPool::setVirtualThreadsExecutor,
+              () ->
+                  options
+                      .notifier()
+                      .info(
+                          "Virtual threads are not supported by this JVM, so requests will be"
+                              + " handled on platform threads"));
+    }
+
+    return threadPool;
+  }
 }
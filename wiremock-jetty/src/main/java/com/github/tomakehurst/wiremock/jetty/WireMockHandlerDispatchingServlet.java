@@ -26,6 +26,7 @@ import static com.github.tomakehurst.wiremock.stubbing.ServeEvent.ORIGINAL_SERVE
 import static java.net.HttpURLConnection.HTTP_NOT_FOUND;
 import static java.net.URLDecoder.decode;
 import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.READ;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
 import com.github.tomakehurst.wiremock.common.LocalNotifier;
@@ -45,20 +46,29 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.eclipse.jetty.ee11.servlet.HttpOutput;
 
 public class WireMockHandlerDispatchingServlet extends HttpServlet {
 
   public static final String SHOULD_FORWARD_TO_FILES_CONTEXT = "shouldForwardToFilesContext";
   public static final String ASYNCHRONOUS_RESPONSE_EXECUTOR =
       WireMockHandlerDispatchingServlet.class.getSimpleName() + ".asynchronousResponseExecutor";
+  public static final String CHUNKED_DRIBBLE_EXECUTOR =
+      WireMockHandlerDispatchingServlet.class.getSimpleName() + ".chunkedDribbleExecutor";
   public static final String MAPPED_UNDER_KEY = "mappedUnder";
 
   private static final long serialVersionUID = -6602042274260495538L;
 
   private ScheduledExecutorService scheduledExecutorService;
+  private ScheduledExecutorService chunkedDribbleExecutor;
 
   private RequestHandler requestHandler;
   private FaultInjectorFactory faultHandlerFactory;
@@ -80,6 +90,11 @@ public class WireMockHandlerDispatchingServlet extends HttpServlet {
 
     scheduledExecutorService =
         (ScheduledExecutorService) context.getAttribute(ASYNCHRONOUS_RESPONSE_EXECUTOR);
+    chunkedDribbleExecutor =
+        (ScheduledExecutorService) context.getAttribute(CHUNKED_DRIBBLE_EXECUTOR);
+    if (chunkedDribbleExecutor == null) {
+      chunkedDribbleExecutor = scheduledExecutorService;
+    }
 
     String handlerClassName = config.getInitParameter(RequestHandler.HANDLER_CLASS_KEY);
     String faultInjectorFactoryClassName =
@@ -186,7 +201,11 @@ public class WireMockHandlerDispatchingServlet extends HttpServlet {
 
     private void respondSync(Request request, Response response) {
       delayIfRequired(response.getInitialDelay());
-      respondTo(request, response);
+      if (canDribbleWithoutBlocking(response)) {
+        respondInAsyncContext(request, response, httpServletRequest.startAsync());
+      } else {
+        respondTo(request, response, null);
+      }
     }
 
     private void delayIfRequired(long delayMillis) {
@@ -206,24 +225,40 @@ public class WireMockHandlerDispatchingServlet extends HttpServlet {
       return response.getInitialDelay() > 0 || response.shouldAddChunkedDribbleDelay();
     }
 
+    private boolean canDribbleWithoutBlocking(Response response) {
+      return response.shouldAddChunkedDribbleDelay()
+          && chunkedDribbleExecutor != null
+          && httpServletRequest.isAsyncSupported();
+    }
+
     private void respondAsync(final Request request, final Response response) {
       final AsyncContext asyncContext = httpServletRequest.startAsync();
       scheduledExecutorService.schedule(
-          () -> {
-            try {
-              respondTo(request, response);
-            } finally {
-              asyncContext.complete();
-            }
-          },
+          () -> respondInAsyncContext(request, response, asyncContext),
           response.getInitialDelay(),
           MILLISECONDS);
     }
 
-    private void respondTo(Request request, Response response) {
+    private void respondInAsyncContext(
+        Request request, Response response, AsyncContext asyncContext) {
+      boolean completesLater = false;
+      try {
+        completesLater = respondTo(request, response, asyncContext);
+      } finally {
+        if (!completesLater) {
+          asyncContext.complete();
+        }
+      }
+    }
+
+    /**
+     * @return true if the response body is still being written, in which case the async context
+     *     will be completed once it has been
+     */
+    private boolean respondTo(Request request, Response response, AsyncContext asyncContext) {
       try {
         if (response.wasConfigured()) {
-          applyResponse(response, httpServletRequest, httpServletResponse);
+          return applyResponse(response, httpServletRequest, httpServletResponse, asyncContext);
         } else if (request.getMethod().equals(GET) && shouldForwardToFilesContext) {
           forwardToFilesContext(httpServletRequest, httpServletResponse, request);
         } else {
@@ -232,6 +267,8 @@ public class WireMockHandlerDispatchingServlet extends HttpServlet {
       } catch (Exception e) {
         throwUnchecked(e);
       }
+
+      return false;
     }
   }
 
@@ -239,12 +276,20 @@ public class WireMockHandlerDispatchingServlet extends HttpServlet {
       Response response,
       HttpServletRequest httpServletRequest,
       HttpServletResponse httpServletResponse) {
+    applyResponse(response, httpServletRequest, httpServletResponse, null);
+  }
+
+  private boolean applyResponse(
+      Response response,
+      HttpServletRequest httpServletRequest,
+      HttpServletResponse httpServletResponse,
+      AsyncContext asyncContext) {
     Fault fault = response.getFault();
     if (fault != null) {
       FaultInjector faultInjector = buildFaultInjector(httpServletRequest, httpServletResponse);
       fault.apply(faultInjector);
       httpServletResponse.addHeader(Fault.class.getName(), fault.name());
-      return;
+      return false;
     }
 
     httpServletResponse.setStatus(response.getStatus());
@@ -255,18 +300,42 @@ public class WireMockHandlerDispatchingServlet extends HttpServlet {
       }
     }
 
-    if ((chunkedEncodingPolicy == NEVER
-            || (chunkedEncodingPolicy == BODY_FILE && response.hasInlineBody()))
-        && httpServletResponse.getHeader(CONTENT_LENGTH) == null) {
+    final boolean sendContentLength =
+        (chunkedEncodingPolicy == NEVER
+                || (chunkedEncodingPolicy == BODY_FILE && response.hasInlineBody()))
+            && httpServletResponse.getHeader(CONTENT_LENGTH) == null
+            && !response.isBodyStreamed();
+
+    // Jetty needs to know the length up front to send a file, so chunked bodies are streamed
+    final FileChannel bodyFile =
+        sendContentLength || httpServletResponse.getHeader(CONTENT_LENGTH) != null
+            ? openBodyFile(response)
+            : null;
+    if (bodyFile != null) {
+      writeFileAndTranslateExceptions(httpServletResponse, bodyFile, sendContentLength);
+      return false;
+    }
+
+    if (sendContentLength) {
       httpServletResponse.setContentLength(response.getBody().length);
     }
 
     if (response.shouldAddChunkedDribbleDelay()) {
+      if (asyncContext != null) {
+        return writeAndTranslateExceptionsWithScheduledChunkedDribbleDelay(
+            httpServletResponse,
+            response.getBodyStream(),
+            response.getChunkedDribbleDelay(),
+            asyncContext);
+      }
+
       writeAndTranslateExceptionsWithChunkedDribbleDelay(
           httpServletResponse, response.getBodyStream(), response.getChunkedDribbleDelay());
     } else {
       writeAndTranslateExceptions(httpServletResponse, response.getBodyStream());
     }
+
+    return false;
   }
 
   private FaultInjector buildFaultInjector(
@@ -290,6 +359,45 @@ public class WireMockHandlerDispatchingServlet extends HttpServlet {
     }
   }
 
+  private static FileChannel openBodyFile(Response response) {
+    if (response.shouldAddChunkedDribbleDelay()) {
+      return null;
+    }
+
+    final Optional<Path> bodyFile = response.getBodyFile();
+    try {
+      return bodyFile.isPresent() ? FileChannel.open(bodyFile.get(), READ) : null;
+    } catch (IOException e) {
+      // Fall back to streaming the body, which reports missing files in the usual way
+      return null;
+    }
+  }
+
+  /**
+   * Hands Jetty the file's channel, which it reads straight into its pooled output buffers rather
+   * than through a byte array on the heap. Any Content-Length is taken from the file's size rather
+   * than by reading it first. Body files can be edited while they're being served, so they aren't
+   * memory-mapped.
+   */
+  private static void writeFileAndTranslateExceptions(
+      HttpServletResponse httpServletResponse, FileChannel file, boolean sendContentLength) {
+    try (file;
+        ServletOutputStream out = httpServletResponse.getOutputStream()) {
+      if (sendContentLength) {
+        httpServletResponse.setContentLengthLong(file.size());
+      }
+
+      if (out instanceof HttpOutput) {
+        ((HttpOutput) out).sendContent(file);
+      } else {
+        Channels.newInputStream(file).transferTo(out);
+        out.flush();
+      }
+    } catch (IOException e) {
+      throwUnchecked(e);
+    }
+  }
+
   private void writeAndTranslateExceptionsWithChunkedDribbleDelay(
       HttpServletResponse httpServletResponse,
       InputStream bodyStream,
@@ -321,6 +429,105 @@ public class WireMockHandlerDispatchingServlet extends HttpServlet {
     }
   }
 
+  private boolean writeAndTranslateExceptionsWithScheduledChunkedDribbleDelay(
+      HttpServletResponse httpServletResponse,
+      InputStream bodyStream,
+      ChunkedDribbleDelay chunkedDribbleDelay,
+      AsyncContext asyncContext) {
+    try (bodyStream) {
+      ServletOutputStream out = httpServletResponse.getOutputStream();
+      byte[] body = bodyStream.readAllBytes();
+
+      if (body.length < 1) {
+        notifier.error("Cannot chunk dribble delay when no body set");
+        out.flush();
+        return false;
+      }
+
+      byte[][] chunkedBody = BodyChunker.chunkBody(body, chunkedDribbleDelay.getNumberOfChunks());
+      int chunkInterval = chunkedDribbleDelay.getTotalDuration() / chunkedBody.length;
+
+      out.setWriteListener(new ScheduledChunkWriter(out, asyncContext, chunkedBody, chunkInterval));
+      return true;
+    } catch (IOException e) {
+      return throwUnchecked(e, Boolean.class);
+    }
+  }
+
+  /**
+   * Writes each chunk once its interval has elapsed and the output stream is ready for it, so that
+   * no thread is held while waiting for either. As on the blocking path, the first chunk is also
+   * written one interval after the headers.
+   *
+   * <p>A chunk timer is only scheduled while the stream is ready, and the container only calls back
+   * once {@link ServletOutputStream#isReady()} has returned false, so the timer and the container
+   * never run the write loop at the same time.
+   */
+  private class ScheduledChunkWriter implements WriteListener {
+
+    private final ServletOutputStream out;
+    private final AsyncContext asyncContext;
+    private final byte[][] chunks;
+    private final long chunkIntervalMillis;
+    private final AtomicBoolean completed = new AtomicBoolean();
+
+    private volatile int nextChunk;
+    private volatile boolean chunkDue;
+    private volatile boolean flushPending;
+
+    ScheduledChunkWriter(
+        ServletOutputStream out,
+        AsyncContext asyncContext,
+        byte[][] chunks,
+        long chunkIntervalMillis) {
+      this.out = out;
+      this.asyncContext = asyncContext;
+      this.chunks = chunks;
+      this.chunkIntervalMillis = chunkIntervalMillis;
+    }
+
+    @Override
+    public void onWritePossible() throws IOException {
+      while (!completed.get() && out.isReady()) {
+        if (flushPending) {
+          flushPending = false;
+          out.flush();
+        } else if (nextChunk == chunks.length) {
+          complete();
+          return;
+        } else if (!chunkDue) {
+          chunkedDribbleExecutor.schedule(this::onChunkDue, chunkIntervalMillis, MILLISECONDS);
+          return;
+        } else {
+          chunkDue = false;
+          out.write(chunks[nextChunk++]);
+          flushPending = true;
+        }
+      }
+    }
+
+    private void onChunkDue() {
+      chunkDue = true;
+      try {
+        onWritePossible();
+      } catch (IOException | RuntimeException e) {
+        onError(e);
+      }
+    }
+
+    @Override
+    public void onError(Throwable t) {
+      // Most likely the client timing out, which is a completely valid outcome
+      complete();
+    }
+
+    private void complete() {
+      if (completed.compareAndSet(false, true)) {
+        asyncContext.complete();
+      }
+    }
+  }
+
   private void forwardToFilesContext(
       HttpServletRequest httpServletRequest,
       HttpServletResponse httpServletResponse,
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2012-2025 Thomas Akehurst
+ * Copyright (C) 2012-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -50,5 +50,11 @@ public class WireMockWebContextListener implements ServletContextListener {
   }
 
   @Override
-  public void contextDestroyed(ServletContextEvent sce) {}
+  public void contextDestroyed(ServletContextEvent sce) {
+    WireMockApp wireMockApp =
+        (WireMockApp) sce.getServletContext().getAttribute(APP_CONTEXT_KEY);
+    if (wireMockApp != null) {
+      wireMockApp.closeHttpClients();
+    }
+  }
 }
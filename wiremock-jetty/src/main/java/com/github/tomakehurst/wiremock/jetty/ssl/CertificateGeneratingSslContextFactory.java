@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2020-2025 Thomas Akehurst
+ * Copyright (C) 2020-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,11 +18,14 @@ package com.github.tomakehurst.wiremock.jetty.ssl;
 import static java.util.Arrays.stream;
 import static java.util.Objects.requireNonNull;
 
+import com.github.tomakehurst.wiremock.common.BrowserProxySettings;
 import com.github.tomakehurst.wiremock.common.Notifier;
 import com.github.tomakehurst.wiremock.http.ssl.ApacheHttpHostNameMatcher;
 import com.github.tomakehurst.wiremock.http.ssl.CertificateGeneratingX509ExtendedKeyManager;
+import com.github.tomakehurst.wiremock.http.ssl.CertificateGenerationUnsupportedException;
 import com.github.tomakehurst.wiremock.http.ssl.DynamicKeyStore;
 import com.github.tomakehurst.wiremock.http.ssl.X509KeyStore;
+import java.nio.file.Paths;
 import java.security.KeyStore;
 import javax.net.ssl.KeyManager;
 import javax.net.ssl.X509ExtendedKeyManager;
@@ -31,23 +34,27 @@ import org.eclipse.jetty.util.ssl.SslContextFactory;
 class CertificateGeneratingSslContextFactory extends SslContextFactory.Server {
 
   private final X509KeyStore x509KeyStore;
+  private final BrowserProxySettings browserProxySettings;
   private final Notifier notifier;
 
-  CertificateGeneratingSslContextFactory(X509KeyStore x509KeyStore, Notifier notifier) {
+  CertificateGeneratingSslContextFactory(
+      X509KeyStore x509KeyStore, BrowserProxySettings browserProxySettings, Notifier notifier) {
     this.x509KeyStore = requireNonNull(x509KeyStore);
+    this.browserProxySettings = requireNonNull(browserProxySettings);
     this.notifier = requireNonNull(notifier);
   }
 
   @Override
   protected KeyManager[] getKeyManagers(KeyStore keyStore) throws Exception {
     KeyManager[] managers = super.getKeyManagers(keyStore);
+    DynamicKeyStore dynamicKeyStore = buildDynamicKeyStore();
     return stream(managers)
         .map(
             manager -> {
               if (manager instanceof X509ExtendedKeyManager) {
                 return new CertificateGeneratingX509ExtendedKeyManager(
                     (X509ExtendedKeyManager) manager,
-                    new DynamicKeyStore(x509KeyStore),
+                    dynamicKeyStore,
                     new ApacheHttpHostNameMatcher(),
                     notifier);
               } else {
@@ -56,4 +63,19 @@ class CertificateGeneratingSslContextFactory extends SslContextFactory.Server {
             })
         .toArray(KeyManager[]::new);
   }
+
+  private DynamicKeyStore buildDynamicKeyStore() {
+    String cacheDirectory = browserProxySettings.certificateCacheDirectory();
+    DynamicKeyStore dynamicKeyStore =
+        new DynamicKeyStore(
+            x509KeyStore,
+            browserProxySettings.certificateKeyType(),
+            cacheDirectory != null ? Paths.get(cacheDirectory) : null);
+    try {
+      dynamicKeyStore.preGenerateCertificates(browserProxySettings.preGeneratedCertificateHosts());
+    } catch (CertificateGenerationUnsupportedException e) {
+      notifier.error("Unable to generate certificates at startup", e);
+    }
+    return dynamicKeyStore;
+  }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2019-2025 Thomas Akehurst
+ * Copyright (C) 2019-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -56,9 +56,8 @@ public class SslContexts {
       HttpsSettings httpsSettings,
       BrowserProxySettings browserProxySettings,
       final Notifier notifier) {
-    KeyStoreSettings browserProxyCaKeyStore = browserProxySettings.caKeyStore();
     SslContextFactory.Server sslContextFactory =
-        buildSslContextFactory(notifier, browserProxyCaKeyStore, httpsSettings.keyStore());
+        buildSslContextFactory(notifier, browserProxySettings, httpsSettings.keyStore());
     setupClientAuth(sslContextFactory, httpsSettings);
     return sslContextFactory;
   }
@@ -74,17 +73,17 @@ public class SslContexts {
 
   private static SslContextFactory.Server buildSslContextFactory(
       Notifier notifier,
-      KeyStoreSettings browserProxyCaKeyStore,
+      BrowserProxySettings browserProxySettings,
       KeyStoreSettings defaultHttpsKeyStore) {
+    KeyStoreSettings browserProxyCaKeyStore = browserProxySettings.caKeyStore();
     if (browserProxyCaKeyStore.exists()) {
       X509KeyStore existingKeyStore = toX509KeyStore(browserProxyCaKeyStore);
       return certificateGeneratingSslContextFactory(
-          notifier, browserProxyCaKeyStore, existingKeyStore);
+          notifier, browserProxySettings, existingKeyStore);
     } else {
       try {
         X509KeyStore newKeyStore = buildKeyStore(browserProxyCaKeyStore);
-        return certificateGeneratingSslContextFactory(
-            notifier, browserProxyCaKeyStore, newKeyStore);
+        return certificateGeneratingSslContextFactory(notifier, browserProxySettings, newKeyStore);
       } catch (Exception e) {
         notifier.error("Unable to generate a certificate authority", e);
         return defaultSslContextFactory(defaultHttpsKeyStore);
@@ -100,9 +99,10 @@ public class SslContexts {
   }
 
   private static SslContextFactory.Server certificateGeneratingSslContextFactory(
-      Notifier notifier, KeyStoreSettings browserProxyCaKeyStore, X509KeyStore newKeyStore) {
+      Notifier notifier, BrowserProxySettings browserProxySettings, X509KeyStore newKeyStore) {
+    KeyStoreSettings browserProxyCaKeyStore = browserProxySettings.caKeyStore();
     SslContextFactory.Server sslContextFactory =
-        new CertificateGeneratingSslContextFactory(newKeyStore, notifier);
+        new CertificateGeneratingSslContextFactory(newKeyStore, browserProxySettings, notifier);
     setupKeyStore(sslContextFactory, browserProxyCaKeyStore);
     // Unlike the default one, we can insist that the keystore password is the keystore password
     sslContextFactory.setKeyStorePassword(browserProxyCaKeyStore.password());